@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.script.ScriptModule;
+import org.opensearch.script.ScriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a bulk body of small, similarly shaped log documents and maps every document, as an indexing thread does for a
+ * bulk shard request. The cold variant parses each bulk with a fresh {@link DocumentMapper}, so mapper lookups cannot be
+ * reused from previous bulks and are only shared between the documents of the same bulk.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class BulkDocumentParsingBenchmark {
+
+    private static final String INDEX = "logs";
+
+    @Param({ "100", "1000" })
+    private int bulkSize;
+
+    @Param({ "mapped", "dynamic_false" })
+    private String mode;
+
+    private MapperService mapperService;
+    private BytesArray bulkBody;
+
+    @Setup
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder(INDEX).settings(settings).build(), Settings.EMPTY);
+        IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        ScriptModule scriptModule = new ScriptModule(Settings.EMPTY, Collections.emptyList());
+        ScriptService scriptService = new ScriptService(Settings.EMPTY, scriptModule.engines, scriptModule.contexts);
+        mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, scriptService, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> {
+                throw new UnsupportedOperationException();
+            },
+            () -> true,
+            scriptService
+        );
+        mapperService.merge(MapperService.SINGLE_MAPPING_NAME, new CompressedXContent(mapping()), MapperService.MergeReason.MAPPING_UPDATE);
+        bulkBody = new BytesArray(bulkBody(new Random(42)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String mapping() {
+        // with dynamic=false only the first fields are mapped and the remaining ones are looked up and skipped
+        boolean allMapped = mode.equals("mapped");
+        return "{\"_doc\":{\"dynamic\":" + (allMapped ? "\"strict\"" : "false") + ",\"properties\":{"
+            + "\"@timestamp\":{\"type\":\"date\"},"
+            + "\"message\":{\"type\":\"text\"},"
+            + "\"log\":{\"properties\":{\"level\":{\"type\":\"keyword\"},\"logger\":{\"type\":\"keyword\"}}},"
+            + "\"host\":{\"properties\":{\"name\":{\"type\":\"keyword\"},\"ip\":{\"type\":\"ip\"}}}"
+            + (allMapped
+                ? ",\"http\":{\"properties\":{\"method\":{\"type\":\"keyword\"},\"status\":{\"type\":\"integer\"},"
+                    + "\"bytes\":{\"type\":\"long\"},\"duration\":{\"type\":\"float\"}}},"
+                    + "\"url\":{\"properties\":{\"path\":{\"type\":\"keyword\"}}},"
+                    + "\"tags\":{\"type\":\"keyword\"}"
+                : "")
+            + "}}}";
+    }
+
+    private String bulkBody(Random random) {
+        String[] levels = { "INFO", "WARN", "ERROR", "DEBUG" };
+        String[] methods = { "GET", "POST", "PUT", "DELETE" };
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < bulkSize; i++) {
+            body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n");
+            body.append("{\"@timestamp\":\"2024-05-0")
+                .append(1 + random.nextInt(9))
+                .append("T12:")
+                .append(10 + random.nextInt(50))
+                .append(":00Z\",\"message\":\"request served in ")
+                .append(random.nextInt(1000))
+                .append(" ms\",\"log.level\":\"")
+                .append(levels[random.nextInt(levels.length)])
+                .append("\",\"log.logger\":\"org.example.Server\",\"host\":{\"name\":\"node-")
+                .append(random.nextInt(16))
+                .append("\",\"ip\":\"10.0.0.")
+                .append(random.nextInt(255))
+                .append("\"},\"http\":{\"method\":\"")
+                .append(methods[random.nextInt(methods.length)])
+                .append("\",\"status\":")
+                .append(200 + random.nextInt(300))
+                .append(",\"bytes\":")
+                .append(random.nextInt(100_000))
+                .append(",\"duration\":")
+                .append(random.nextFloat())
+                .append("},\"url\":{\"path\":\"/api/v1/items/")
+                .append(random.nextInt(10_000))
+                .append("\"},\"tags\":[\"web\",\"prod\"]}\n");
+        }
+        return body.toString();
+    }
+
+    @Benchmark
+    public void parseBulk(Blackhole bh) throws IOException {
+        parse(mapperService.documentMapper(), bh);
+    }
+
+    @Benchmark
+    public void parseBulkWithColdLookupCache(Blackhole bh) throws IOException {
+        DocumentMapper current = mapperService.documentMapper();
+        parse(new DocumentMapper(mapperService, current.mapping()), bh);
+    }
+
+    private void parse(DocumentMapper documentMapper, Blackhole bh) throws IOException {
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.add(bulkBody, INDEX, MediaTypeRegistry.JSON);
+        for (DocWriteRequest<?> request : bulkRequest.requests()) {
+            IndexRequest indexRequest = (IndexRequest) request;
+            bh.consume(
+                documentMapper.parse(new SourceToParse(INDEX, indexRequest.id(), indexRequest.source(), indexRequest.getContentType()))
+            );
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.seqno;
+
+import org.opensearch.index.seqno.LocalCheckpointTracker;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks sequence numbers as processed and persisted from many threads at once, as the write threads of a primary shard do for
+ * the operations they index. Each operation takes a sequence number and marks it, so sequence numbers complete slightly out of
+ * order and every thread competes to advance the checkpoints. Use {@code -t} to benchmark other thread counts.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@Threads(32)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LocalCheckpointTrackerBenchmark {
+
+    private LocalCheckpointTracker tracker;
+
+    @Setup
+    public void setup() {
+        tracker = new LocalCheckpointTracker(SequenceNumbers.NO_OPS_PERFORMED, SequenceNumbers.NO_OPS_PERFORMED);
+    }
+
+    @Benchmark
+    public long markProcessed() {
+        final long seqNo = tracker.generateSeqNo();
+        tracker.markSeqNoAsProcessed(seqNo);
+        return tracker.getProcessedCheckpoint();
+    }
+
+    @Benchmark
+    public long markProcessedAndPersisted() {
+        final long seqNo = tracker.generateSeqNo();
+        tracker.markSeqNoAsProcessed(seqNo);
+        tracker.markSeqNoAsPersisted(seqNo);
+        return tracker.getPersistedCheckpoint();
+    }
+}
@@ -129,7 +129,11 @@ public class AllocationBenchmark {
 
         "       50|      60|       1|     100|    100|      6|",
         "       50|      60|       1|     100|     40|      6|",
-        "       50|      60|       1|      40|    100|      6|" })
+        "       50|      60|       1|      40|    100|      6|",
+
+        // 100k shards
+        "    10000|       5|       1|     100|    100|     12|",
+        "     2000|      25|       1|     100|     40|     12|" })
     public String indicesShardsReplicasSourceTargetRecoveries = "10|1|0|1|1|1";
 
     public int numTags = 2;
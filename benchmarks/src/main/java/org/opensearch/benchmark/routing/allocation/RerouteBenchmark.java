@@ -48,6 +48,7 @@ import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
 public class RerouteBenchmark {
     @Param({
         // indices| nodes
+        "     5000|  100|",
         "    10000|  500|", })
     public String indicesNodes = "1|1";
     public int numIndices;
@@ -57,6 +58,7 @@ public class RerouteBenchmark {
 
     private AllocationService allocationService;
     private ClusterState initialClusterState;
+    private ClusterState balancedClusterState;
 
     @Setup
     public void setUp() throws Exception {
@@ -87,12 +89,31 @@ public class RerouteBenchmark {
             .routingTable(routingTable)
             .nodes(setUpClusterNodes(numNodes))
             .build();
+        final AllocationService setupAllocationService = createAllocationService();
+        balancedClusterState = allocateAllShards(setupAllocationService, initialClusterState);
+        // start the relocations of the rebalancing until the cluster is balanced
+        while (balancedClusterState.routingTable().shardsWithState(INITIALIZING).isEmpty() == false) {
+            balancedClusterState = startInitializingShardsAndReroute(setupAllocationService, balancedClusterState);
+        }
     }
 
     @Benchmark
     public ClusterState measureShardAllocationEmptyCluster() throws Exception {
-        ClusterState clusterState = initialClusterState;
-        allocationService = Allocators.createAllocationService(
+        allocationService = createAllocationService();
+        return allocateAllShards(allocationService, initialClusterState);
+    }
+
+    /**
+     * A reroute of a cluster whose shards are all started and balanced, which is what most reroutes of a large cluster look like.
+     */
+    @Benchmark
+    public ClusterState measureRerouteBalancedCluster() throws Exception {
+        allocationService = createAllocationService();
+        return allocationService.reroute(balancedClusterState, "reroute");
+    }
+
+    private AllocationService createAllocationService() {
+        return Allocators.createAllocationService(
             Settings.builder()
                 .put("cluster.routing.allocation.awareness.attributes", "zone")
                 .put("cluster.routing.allocation.load_awareness.provisioned_capacity", numNodes)
@@ -100,6 +121,9 @@ public class RerouteBenchmark {
                 .put("cluster.routing.allocation.node_concurrent_recoveries", "2")
                 .build()
         );
+    }
+
+    private static ClusterState allocateAllShards(AllocationService allocationService, ClusterState clusterState) {
         clusterState = allocationService.reroute(clusterState, "reroute");
         while (clusterState.getRoutingNodes().hasUnassignedShards()) {
             clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
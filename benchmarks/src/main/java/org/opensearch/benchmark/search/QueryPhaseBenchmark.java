@@ -0,0 +1,470 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.env.Environment;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.node.InternalSettingsPreparer;
+import org.opensearch.node.Node;
+import org.opensearch.plugins.PluginInfo;
+import org.opensearch.search.RescoreDocIds;
+import org.opensearch.search.SearchPhaseResult;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.ShardFetchSearchRequest;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.transport.Netty4ModulePlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the query and the fetch phase of a single shard end to end, through {@link SearchService} and the
+ * {@code DefaultSearchContext} it creates, against an index built in-process by a single node. The index is filled with
+ * synthetic documents of a typical logs, metrics or e-commerce shape and is split into several segments, so that the
+ * query phase can be compared with concurrent segment search on and off.
+ * <p>
+ * {@link #query()} and {@link #fetch()} measure the phases separately, {@link #queryAndFetch()} measures them as a
+ * search on a single shard index executes them. Both run against a point in time so that every invocation sees the same
+ * segments. Run with {@code -prof gc} to report the allocation rate of each phase, for example
+ * {@code ./gradlew -p benchmarks run --args 'QueryPhaseBenchmark -prof gc'}.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class QueryPhaseBenchmark {
+
+    private static final String INDEX = "benchmark";
+    private static final int SEGMENTS = 8;
+    private static final long START_MILLIS = 1_700_000_000_000L;
+    private static final long INTERVAL_MILLIS = 1_000L;
+
+    @Param({ "logs", "metrics", "ecommerce" })
+    private String shape;
+
+    @Param({ "none", "all" })
+    private String concurrentSegmentSearch;
+
+    @Param({ "200000" })
+    private int docCount;
+
+    private final AtomicLong taskIds = new AtomicLong();
+
+    private Path home;
+    private Node node;
+    private SearchService searchService;
+    private ShardId shardId;
+    private ShardSearchContextId pointInTime;
+    private SearchRequest searchRequest;
+    private List<Integer> docIdsToFetch;
+
+    @Setup
+    public void setup() throws Exception {
+        final Shape shape = Shape.valueOf(this.shape.toUpperCase(Locale.ROOT));
+        home = Files.createTempDirectory("query-phase-benchmark");
+        node = new BenchmarkNode(
+            Settings.builder()
+                .put(Environment.PATH_HOME_SETTING.getKey(), home.toString())
+                .put("node.name", "benchmark")
+                .put("discovery.type", "single-node")
+                .put("network.host", "127.0.0.1")
+                .put("cluster.routing.allocation.disk.threshold_enabled", false)
+                .build()
+        );
+        node.start();
+
+        node.client()
+            .admin()
+            .indices()
+            .prepareCreate(INDEX)
+            .setSettings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.MINUS_ONE)
+                    .put(IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_MODE.getKey(), concurrentSegmentSearch)
+            )
+            .setMapping(shape.mapping())
+            .get();
+        node.client().admin().cluster().prepareHealth(INDEX).setWaitForGreenStatus().get();
+        index(shape);
+
+        searchService = node.injector().getInstance(SearchService.class);
+        shardId = new ShardId(node.injector().getInstance(ClusterService.class).state().metadata().index(INDEX).getIndex(), 0);
+        final PlainActionFuture<ShardSearchContextId> pit = new PlainActionFuture<>();
+        searchService.createPitReaderContext(shardId, TimeValue.timeValueHours(1), pit);
+        pointInTime = pit.actionGet();
+        searchRequest = new SearchRequest(INDEX).source(shape.source()).requestCache(false);
+
+        final QuerySearchResult result = (QuerySearchResult) executeQuery(2);
+        docIdsToFetch = new ArrayList<>();
+        for (ScoreDoc scoreDoc : result.topDocs().topDocs.scoreDocs) {
+            docIdsToFetch.add(scoreDoc.doc);
+        }
+        if (docIdsToFetch.isEmpty()) {
+            throw new IllegalStateException("query of shape [" + shape + "] matched no documents");
+        }
+    }
+
+    private void index(Shape shape) {
+        final Random random = new Random(42);
+        final int docsPerSegment = docCount / SEGMENTS;
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            for (int from = 0; from < docsPerSegment; from += 1000) {
+                final BulkRequestBuilder bulk = node.client().prepareBulk();
+                for (int i = from; i < Math.min(from + 1000, docsPerSegment); i++) {
+                    bulk.add(node.client().prepareIndex(INDEX).setSource(shape.document(random, segment * docsPerSegment + i)));
+                }
+                if (bulk.get().hasFailures()) {
+                    throw new IllegalStateException("failed to index documents of shape [" + shape + "]");
+                }
+            }
+            // each refresh writes a segment, the default merge policy leaves this few segments alone
+            node.client().admin().indices().prepareRefresh(INDEX).get();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (searchService != null && pointInTime != null) {
+            searchService.freeReaderContext(pointInTime);
+        }
+        if (node != null) {
+            node.close();
+        }
+        IOUtils.rm(home);
+    }
+
+    /**
+     * The query phase alone, as it executes on a shard of an index with more than one shard.
+     */
+    @Benchmark
+    public SearchPhaseResult query() {
+        return executeQuery(2);
+    }
+
+    /**
+     * The fetch phase alone, loading the top hits of the query.
+     */
+    @Benchmark
+    public FetchSearchResult fetch() {
+        final PlainActionFuture<FetchSearchResult> future = new PlainActionFuture<>();
+        searchService.executeFetchPhase(
+            new ShardFetchSearchRequest(
+                OriginalIndices.NONE,
+                pointInTime,
+                shardRequest(2),
+                docIdsToFetch,
+                null,
+                RescoreDocIds.EMPTY,
+                null
+            ),
+            newTask(),
+            future
+        );
+        return future.actionGet();
+    }
+
+    /**
+     * Both phases, executed in one go like the search of an index with a single shard does.
+     */
+    @Benchmark
+    public SearchPhaseResult queryAndFetch() {
+        return executeQuery(1);
+    }
+
+    private SearchPhaseResult executeQuery(int numberOfShards) {
+        final PlainActionFuture<SearchPhaseResult> future = new PlainActionFuture<>();
+        searchService.executeQueryPhase(shardRequest(numberOfShards), false, newTask(), future);
+        return future.actionGet();
+    }
+
+    private ShardSearchRequest shardRequest(int numberOfShards) {
+        return new ShardSearchRequest(
+            OriginalIndices.NONE,
+            searchRequest,
+            shardId,
+            numberOfShards,
+            AliasFilter.EMPTY,
+            1.0f,
+            START_MILLIS + docCount * INTERVAL_MILLIS,
+            null,
+            null,
+            pointInTime,
+            TimeValue.timeValueHours(1)
+        );
+    }
+
+    private SearchShardTask newTask() {
+        return new SearchShardTask(taskIds.incrementAndGet(), "transport", "benchmark", "benchmark", TaskId.EMPTY_TASK_ID, Map.of());
+    }
+
+    /**
+     * The shape of the documents of the index and the search that is run against them.
+     */
+    enum Shape {
+        LOGS {
+            @Override
+            String mapping() {
+                return "{\"properties\":{"
+                    + "\"@timestamp\":{\"type\":\"date\"},"
+                    + "\"message\":{\"type\":\"text\"},"
+                    + "\"log\":{\"properties\":{\"level\":{\"type\":\"keyword\"}}},"
+                    + "\"host\":{\"properties\":{\"name\":{\"type\":\"keyword\"}}},"
+                    + "\"http\":{\"properties\":{\"status\":{\"type\":\"integer\"},\"bytes\":{\"type\":\"long\"}}}"
+                    + "}}";
+            }
+
+            @Override
+            Map<String, Object> document(Random random, int i) {
+                return Map.of(
+                    "@timestamp",
+                    START_MILLIS + i * INTERVAL_MILLIS,
+                    "message",
+                    words(random, LOG_WORDS, 8),
+                    "log",
+                    Map.of("level", LEVELS[skewed(random, LEVELS.length)]),
+                    "host",
+                    Map.of("name", "host-" + random.nextInt(50)),
+                    "http",
+                    Map.of("status", STATUSES[skewed(random, STATUSES.length)], "bytes", random.nextInt(100_000))
+                );
+            }
+
+            @Override
+            SearchSourceBuilder source() {
+                return new SearchSourceBuilder().query(
+                    QueryBuilders.boolQuery()
+                        .must(QueryBuilders.matchQuery("message", "error timeout"))
+                        .filter(QueryBuilders.rangeQuery("@timestamp").gte("now-1d"))
+                )
+                    .sort("@timestamp", SortOrder.DESC)
+                    .size(20)
+                    .aggregation(AggregationBuilders.terms("levels").field("log.level"))
+                    .aggregation(AggregationBuilders.terms("statuses").field("http.status"));
+            }
+        },
+        METRICS {
+            @Override
+            String mapping() {
+                return "{\"properties\":{"
+                    + "\"@timestamp\":{\"type\":\"date\"},"
+                    + "\"host\":{\"properties\":{\"name\":{\"type\":\"keyword\"}}},"
+                    + "\"cpu\":{\"type\":\"double\"},"
+                    + "\"memory\":{\"type\":\"long\"},"
+                    + "\"disk\":{\"type\":\"double\"}"
+                    + "}}";
+            }
+
+            @Override
+            Map<String, Object> document(Random random, int i) {
+                return Map.of(
+                    "@timestamp",
+                    START_MILLIS + i * INTERVAL_MILLIS,
+                    "host",
+                    Map.of("name", "host-" + random.nextInt(200)),
+                    "cpu",
+                    random.nextDouble() * 100,
+                    "memory",
+                    random.nextInt(64 << 10),
+                    "disk",
+                    random.nextDouble()
+                );
+            }
+
+            @Override
+            SearchSourceBuilder source() {
+                return new SearchSourceBuilder().query(QueryBuilders.rangeQuery("@timestamp").gte("now-12h"))
+                    .sort("@timestamp", SortOrder.DESC)
+                    .size(10)
+                    .aggregation(
+                        AggregationBuilders.terms("hosts")
+                            .field("host.name")
+                            .size(20)
+                            .subAggregation(AggregationBuilders.avg("cpu").field("cpu"))
+                            .subAggregation(AggregationBuilders.max("memory").field("memory"))
+                    );
+            }
+        },
+        ECOMMERCE {
+            @Override
+            String mapping() {
+                return "{\"properties\":{"
+                    + "\"title\":{\"type\":\"text\"},"
+                    + "\"category\":{\"type\":\"keyword\"},"
+                    + "\"brand\":{\"type\":\"keyword\"},"
+                    + "\"price\":{\"type\":\"double\"},"
+                    + "\"in_stock\":{\"type\":\"boolean\"}"
+                    + "}}";
+            }
+
+            @Override
+            Map<String, Object> document(Random random, int i) {
+                return Map.of(
+                    "title",
+                    words(random, PRODUCT_WORDS, 5),
+                    "category",
+                    CATEGORIES[skewed(random, CATEGORIES.length)],
+                    "brand",
+                    "brand-" + random.nextInt(500),
+                    "price",
+                    Math.round(random.nextDouble() * 50_000) / 100.0,
+                    "in_stock",
+                    random.nextInt(10) != 0
+                );
+            }
+
+            @Override
+            SearchSourceBuilder source() {
+                return new SearchSourceBuilder().query(
+                    QueryBuilders.boolQuery()
+                        .must(QueryBuilders.matchQuery("title", "blue cotton shirt"))
+                        .filter(QueryBuilders.termQuery("category", "clothing"))
+                        .filter(QueryBuilders.termQuery("in_stock", true))
+                )
+                    .size(10)
+                    .aggregation(
+                        AggregationBuilders.terms("brands").field("brand").subAggregation(AggregationBuilders.avg("price").field("price"))
+                    );
+            }
+        };
+
+        private static final String[] LEVELS = { "INFO", "DEBUG", "WARN", "ERROR", "TRACE" };
+        private static final Integer[] STATUSES = { 200, 304, 404, 500, 503 };
+        private static final String[] CATEGORIES = { "clothing", "electronics", "home", "toys", "books", "garden" };
+        private static final String[] LOG_WORDS = {
+            "request",
+            "completed",
+            "user",
+            "session",
+            "error",
+            "timeout",
+            "connection",
+            "reset",
+            "cache",
+            "miss",
+            "retry",
+            "upstream",
+            "slow",
+            "query",
+            "started",
+            "finished" };
+        private static final String[] PRODUCT_WORDS = {
+            "blue",
+            "red",
+            "cotton",
+            "shirt",
+            "wireless",
+            "headphones",
+            "wooden",
+            "table",
+            "lamp",
+            "kids",
+            "puzzle",
+            "garden",
+            "hose",
+            "leather",
+            "jacket" };
+
+        abstract String mapping();
+
+        abstract Map<String, Object> document(Random random, int i);
+
+        abstract SearchSourceBuilder source();
+
+        private static String words(Random random, String[] vocabulary, int count) {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    builder.append(' ');
+                }
+                builder.append(vocabulary[skewed(random, vocabulary.length)]);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * A random index that picks the first values more often, like the values of real fields.
+         */
+        private static int skewed(Random random, int bound) {
+            return Math.min(bound - 1, (int) Math.floor(-Math.log(1 - random.nextDouble()) * bound / 4));
+        }
+    }
+
+    /**
+     * A node with the transport module on its classpath, which is all the node needs to start.
+     */
+    private static class BenchmarkNode extends Node {
+        BenchmarkNode(Settings settings) {
+            super(
+                InternalSettingsPreparer.prepareEnvironment(settings, Collections.emptyMap(), null, () -> "benchmark"),
+                Collections.singletonList(
+                    new PluginInfo(
+                        Netty4ModulePlugin.class.getName(),
+                        "classpath plugin",
+                        "NA",
+                        Version.CURRENT,
+                        "1.8",
+                        Netty4ModulePlugin.class.getName(),
+                        null,
+                        Collections.emptyList(),
+                        false
+                    )
+                ),
+                true
+            );
+        }
+    }
+}
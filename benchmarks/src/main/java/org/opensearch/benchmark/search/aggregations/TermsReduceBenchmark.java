@@ -134,6 +134,12 @@ public class TermsReduceBenchmark {
         @Param({ "1", "10", "100" })
         int cardinalityFactor;
 
+        /**
+         * The order of the terms, the reduce of terms ordered by key only reduces the buckets that make it into the response.
+         */
+        @Param({ "count", "key" })
+        String order;
+
         List<InternalAggregations> aggsList;
 
         @Setup
@@ -170,7 +176,7 @@ public class TermsReduceBenchmark {
             return new StringTerms(
                 "terms",
                 BucketOrder.key(true),
-                BucketOrder.count(false),
+                order.equals("key") ? BucketOrder.key(true) : BucketOrder.count(false),
                 Collections.emptyMap(),
                 DocValueFormat.RAW,
                 numShards,
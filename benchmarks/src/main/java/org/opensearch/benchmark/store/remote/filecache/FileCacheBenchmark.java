@@ -12,9 +12,11 @@ import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -28,13 +30,17 @@ import org.openjdk.jmh.infra.Blackhole;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
- * of keys, which is very simple but unlikely to be representative of any real life
- * workload.
+ * Simple benchmark test of {@link FileCache}. The basic operations use a uniform random
+ * distribution of keys, which is very simple but unlikely to be representative of any
+ * real life workload. The zipfian and scan-mixed benchmarks access keys the way a search
+ * workload does, getting the file and putting it into the cache on a miss, and report the
+ * hits and misses so that the hit ratio of the eviction policies can be compared.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -67,6 +73,47 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    @Benchmark
+    public void zipfian(CacheParameters parameters, HitCounters counters, Blackhole blackhole) {
+        access(parameters, zipfianKey(parameters), counters, blackhole);
+    }
+
+    /**
+     * Interleaves the zipfian workload with a scan that reads every file once, like a query over cold data running next to the
+     * queries over the hot data.
+     */
+    @Benchmark
+    public void scanMixed(CacheParameters parameters, HitCounters counters, Blackhole blackhole) {
+        final Path key = ThreadLocalRandom.current().nextInt(100) < parameters.scanPercent
+            ? Paths.get("scan", Long.toString(parameters.scanPosition.getAndIncrement()))
+            : zipfianKey(parameters);
+        access(parameters, key, counters, blackhole);
+    }
+
+    private static void access(CacheParameters parameters, Path key, HitCounters counters, Blackhole blackhole) {
+        CachedIndexInput indexInput = parameters.fileCache.get(key);
+        if (indexInput == null) {
+            counters.misses++;
+            parameters.fileCache.put(key, INDEX_INPUT);
+        } else {
+            counters.hits++;
+        }
+        parameters.fileCache.decRef(key);
+        blackhole.consume(indexInput);
+    }
+
+    /**
+     * Picks one of twice as many keys as fit into the cache, with a probability that falls with the rank of the key.
+     */
+    private static Path zipfianKey(CacheParameters parameters) {
+        final double[] cumulative = parameters.zipfianCumulativeProbabilities;
+        int i = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        if (i < 0) {
+            i = Math.min(-i - 1, cumulative.length - 1);
+        }
+        return Paths.get(Integer.toString(i));
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -85,19 +132,58 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "lru", "tinylfu" })
+        String evictionPolicy;
+
+        @Param({ "0.99" })
+        double zipfianExponent;
+
+        @Param({ "20" })
+        int scanPercent;
+
         FileCache fileCache;
 
+        double[] zipfianCumulativeProbabilities;
+
+        final AtomicLong scanPosition = new AtomicLong();
+
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
-                (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel
-            );
+            final long capacity = (long) maximumNumberOfEntries * INDEX_INPUT.length();
+            fileCache = "tinylfu".equals(evictionPolicy)
+                ? FileCacheFactory.createConcurrentTinyLFUFileCache(capacity, concurrencyLevel)
+                : FileCacheFactory.createConcurrentLRUFileCache(capacity, concurrencyLevel);
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
                 fileCache.put(key, INDEX_INPUT);
                 fileCache.decRef(key);
             }
+
+            zipfianCumulativeProbabilities = new double[maximumNumberOfEntries * 2];
+            double sum = 0;
+            for (int i = 0; i < zipfianCumulativeProbabilities.length; i++) {
+                sum += 1 / Math.pow(i + 1, zipfianExponent);
+                zipfianCumulativeProbabilities[i] = sum;
+            }
+            for (int i = 0; i < zipfianCumulativeProbabilities.length; i++) {
+                zipfianCumulativeProbabilities[i] /= sum;
+            }
+        }
+    }
+
+    /**
+     * The hits and misses of the zipfian and scan-mixed benchmarks, reported per thread by JMH.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HitCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
         }
     }
 
@@ -210,6 +210,15 @@ public abstract class StreamOutput extends OutputStream {
         bytes.writeTo(this);
     }
 
+    /**
+     * Writes the bytes reference, including a length header, like {@link #writeBytesReference(BytesReference)}. Streams that buffer
+     * their output may keep a reference to the given bytes instead of copying them, so the bytes must neither be modified nor released
+     * until the bytes of this stream were consumed. Use this for large, immutable bytes such as the source of a document.
+     */
+    public void writeSharedBytesReference(@Nullable BytesReference bytes) throws IOException {
+        writeBytesReference(bytes);
+    }
+
     /**
      * Writes an optional bytes reference including a length header. Use this if you need to differentiate between null and empty bytes
      * references. Use {@link #writeBytesReference(BytesReference)} and {@link StreamInput#readBytesReference()} if you do not.
@@ -557,7 +557,15 @@ public class PercolateQueryBuilder extends AbstractQueryBuilder<PercolateQueryBu
         PercolatorFieldMapper.configureContext(percolateShardContext, pft.mapUnmappedFieldsAsText);
         PercolateQuery.QueryStore queryStore = createStore(pft.queryBuilderField, percolateShardContext);
 
-        return pft.percolateQuery(name, queryStore, documents, docSearcher, excludeNestedDocuments, context.indexVersionCreated());
+        return pft.percolateQuery(
+            name,
+            queryStore,
+            documents,
+            docSearcher,
+            excludeNestedDocuments,
+            context.indexVersionCreated(),
+            field -> RequiredTerms.analysisIdentity(percolateShardContext, field)
+        );
     }
 
     public String getField() {
@@ -99,6 +99,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
@@ -122,6 +123,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
     static final String QUERY_BUILDER_FIELD_NAME = "query_builder_field";
     static final String RANGE_FIELD_NAME = "range_field";
     static final String MINIMUM_SHOULD_MATCH_FIELD_NAME = "minimum_should_match_field";
+    static final String REQUIRED_TERMS_FIELD_NAME = "required_terms_signature";
 
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
@@ -154,6 +156,8 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             fieldType.extractionResultField = extractionResultField.fieldType();
             BinaryFieldMapper queryBuilderField = createQueryBuilderFieldBuilder(context);
             fieldType.queryBuilderField = queryBuilderField.fieldType();
+            BinaryFieldMapper requiredTermsField = createRequiredTermsFieldBuilder(context);
+            fieldType.requiredTermsField = requiredTermsField.fieldType();
             // Range field is of type ip, because that matches closest with BinaryRange field. Otherwise we would
             // have to introduce a new field type...
             RangeFieldMapper rangeFieldMapper = createExtractedRangeFieldBuilder(RANGE_FIELD_NAME, RangeType.IP, context);
@@ -172,6 +176,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
                 extractedTermsField,
                 extractionResultField,
                 queryBuilderField,
+                requiredTermsField,
                 rangeFieldMapper,
                 minimumShouldMatchFieldMapper,
                 getMapUnmappedFieldAsText(context.indexSettings())
@@ -193,6 +198,11 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             return builder.build(context);
         }
 
+        static BinaryFieldMapper createRequiredTermsFieldBuilder(BuilderContext context) {
+            BinaryFieldMapper.Builder builder = new BinaryFieldMapper.Builder(REQUIRED_TERMS_FIELD_NAME, true);
+            return builder.build(context);
+        }
+
         static RangeFieldMapper createExtractedRangeFieldBuilder(String name, RangeType rangeType, BuilderContext context) {
             RangeFieldMapper.Builder builder = new RangeFieldMapper.Builder(
                 name,
@@ -228,6 +238,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         MappedFieldType queryTermsField;
         MappedFieldType extractionResultField;
         MappedFieldType queryBuilderField;
+        MappedFieldType requiredTermsField;
         MappedFieldType minimumShouldMatchField;
 
         RangeFieldMapper.RangeFieldType rangeField;
@@ -259,9 +270,26 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             IndexSearcher searcher,
             boolean excludeNestedDocuments,
             Version indexVersion
+        ) throws IOException {
+            // without a shard context the analysis of the fields is unknown, so no candidate is rejected by its signature
+            return percolateQuery(name, queryStore, documents, searcher, excludeNestedDocuments, indexVersion, field -> null);
+        }
+
+        /**
+         * @param analysisIdentities the current identity of the analysis of a field, see {@link RequiredTerms#analysisIdentity}
+         */
+        Query percolateQuery(
+            String name,
+            PercolateQuery.QueryStore queryStore,
+            List<BytesReference> documents,
+            IndexSearcher searcher,
+            boolean excludeNestedDocuments,
+            Version indexVersion,
+            Function<String, Integer> analysisIdentities
         ) throws IOException {
             IndexReader indexReader = searcher.getIndexReader();
-            Tuple<BooleanQuery, Boolean> t = createCandidateQuery(indexReader, indexVersion);
+            Tuple<List<BytesRef>, Map<String, List<byte[]>>> termsAndRanges = extractTermsAndRanges(indexReader);
+            Tuple<BooleanQuery, Boolean> t = createCandidateQuery(termsAndRanges);
             Query candidateQuery = t.v1();
             boolean canUseMinimumShouldMatchField = t.v2();
 
@@ -280,11 +308,21 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             if (excludeNestedDocuments) {
                 filter = Queries.newNonNestedFilter();
             }
-            return new PercolateQuery(name, queryStore, documents, candidateQuery, searcher, filter, verifiedMatchesQuery);
+            // reject candidates that require a term none of the documents contain before parsing them
+            PercolateQuery.QueryStore filteredQueryStore = RequiredTerms.filter(
+                queryStore,
+                requiredTermsField.name(),
+                RequiredTerms.hashes(termsAndRanges.v1()),
+                analysisIdentities
+            );
+            return new PercolateQuery(name, filteredQueryStore, documents, candidateQuery, searcher, filter, verifiedMatchesQuery);
         }
 
         Tuple<BooleanQuery, Boolean> createCandidateQuery(IndexReader indexReader, Version indexVersion) throws IOException {
-            Tuple<List<BytesRef>, Map<String, List<byte[]>>> t = extractTermsAndRanges(indexReader);
+            return createCandidateQuery(extractTermsAndRanges(indexReader));
+        }
+
+        private Tuple<BooleanQuery, Boolean> createCandidateQuery(Tuple<List<BytesRef>, Map<String, List<byte[]>>> t) {
             List<BytesRef> extractedTerms = t.v1();
             Map<String, List<byte[]>> encodedPointValuesByField = t.v2();
             // `1 + ` is needed to take into account the EXTRACTION_FAILED should clause
@@ -358,6 +396,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
     private final KeywordFieldMapper queryTermsField;
     private final KeywordFieldMapper extractionResultField;
     private final BinaryFieldMapper queryBuilderField;
+    private final BinaryFieldMapper requiredTermsField;
     private final NumberFieldMapper minimumShouldMatchFieldMapper;
     private final RangeFieldMapper rangeFieldMapper;
     private final boolean mapUnmappedFieldsAsText;
@@ -371,6 +410,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         KeywordFieldMapper queryTermsField,
         KeywordFieldMapper extractionResultField,
         BinaryFieldMapper queryBuilderField,
+        BinaryFieldMapper requiredTermsField,
         RangeFieldMapper rangeFieldMapper,
         NumberFieldMapper minimumShouldMatchFieldMapper,
         boolean mapUnmappedFieldsAsText
@@ -380,6 +420,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         this.queryTermsField = queryTermsField;
         this.extractionResultField = extractionResultField;
         this.queryBuilderField = queryBuilderField;
+        this.requiredTermsField = requiredTermsField;
         this.minimumShouldMatchFieldMapper = minimumShouldMatchFieldMapper;
         this.rangeFieldMapper = rangeFieldMapper;
         this.mapUnmappedFieldsAsText = mapUnmappedFieldsAsText;
@@ -411,6 +452,10 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         QueryBuilder queryBuilderForProcessing = queryBuilder.rewrite(new QueryShardContext(queryShardContext));
         Query query = queryBuilderForProcessing.toQuery(queryShardContext);
         processQuery(query, context);
+        byte[] requiredTermsSignature = RequiredTerms.signature(query, field -> RequiredTerms.analysisIdentity(queryShardContext, field));
+        if (requiredTermsSignature != null) {
+            requiredTermsField.parse(context.createExternalValueContext(requiredTermsSignature));
+        }
     }
 
     static void createQueryBuilderField(Version indexVersion, BinaryFieldMapper qbField, QueryBuilder queryBuilder, ParseContext context)
@@ -503,6 +548,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             queryTermsField,
             extractionResultField,
             queryBuilderField,
+            requiredTermsField,
             minimumShouldMatchFieldMapper,
             rangeFieldMapper
         ).iterator();
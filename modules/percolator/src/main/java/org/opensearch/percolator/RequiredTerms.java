@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.percolator;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.ReloadableCustomAnalyzer;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.TextSearchInfo;
+import org.opensearch.index.query.QueryShardContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A signature of the terms a percolator query requires to match, which rejects candidate queries before they are parsed and verified
+ * against the {@link org.apache.lucene.index.memory.MemoryIndex} when the document misses one of them.
+ * <p>
+ * The candidate query only requires a document to contain the number of extracted terms given by the minimum should match field, and
+ * not even that once the document has more terms than the maximum clause count. The signature instead holds hashes of terms the query
+ * can't match without, the terms of term and phrase queries that are reachable from the top of the query through required clauses only.
+ * Hash collisions only let candidates through, so the signature never rejects a query that matches.
+ * <p>
+ * The terms of a query depend on how the query is analyzed, which may change after the query was indexed: the mapping of a field may
+ * get another search analyzer, or the analysis settings of the index may change. The signature therefore holds the identity of the
+ * analysis of every field it has terms of, see {@link #analysisIdentity}, and candidates whose fields are analyzed differently by now
+ * are let through. Search analyzers can also be reloaded without any change to the mapping or settings, for example to pick up new
+ * synonyms, so the terms of fields with reloadable search analyzers are left out of the signature.
+ *
+ * @opensearch.internal
+ */
+final class RequiredTerms {
+
+    /**
+     * The maximum number of required terms in a signature, the longest terms are kept as they tend to be the rarest.
+     */
+    static final int MAX_TERMS = 16;
+
+    private static final String ANALYSIS_SETTINGS_PREFIX = "index.analysis.";
+
+    private RequiredTerms() {}
+
+    /**
+     * Encodes the signature of the given query, or returns {@code null} if the query doesn't require any particular term. Terms of
+     * fields without an analysis identity are left out.
+     *
+     * @param analysisIdentities the identity of the analysis of a field, see {@link #analysisIdentity}
+     */
+    static byte[] signature(Query query, Function<String, Integer> analysisIdentities) throws IOException {
+        Map<String, Integer> fieldIdentities = new HashMap<>();
+        Set<Term> terms = new HashSet<>();
+        query.visit(new QueryVisitor() {
+            @Override
+            public QueryVisitor getSubVisitor(Occur occur, Query parent) {
+                return occur == Occur.MUST || occur == Occur.FILTER ? this : QueryVisitor.EMPTY_VISITOR;
+            }
+
+            @Override
+            public void consumeTerms(Query query, Term... queryTerms) {
+                // other queries may consume terms of which any one suffices to match
+                if (query instanceof TermQuery || query instanceof PhraseQuery) {
+                    for (Term term : queryTerms) {
+                        terms.add(term);
+                    }
+                }
+            }
+        });
+        List<Term> selected = new ArrayList<>();
+        for (Term term : terms) {
+            if (fieldIdentities.computeIfAbsent(term.field(), analysisIdentities) != null) {
+                selected.add(term);
+            }
+        }
+        if (selected.isEmpty()) {
+            return null;
+        }
+        selected.sort(Comparator.comparingInt((Term term) -> term.field().length() + term.bytes().length).reversed());
+        selected = selected.subList(0, Math.min(MAX_TERMS, selected.size()));
+        SortedSet<String> fields = new TreeSet<>();
+        List<BytesRef> fieldsAndTerms = new ArrayList<>();
+        for (Term term : selected) {
+            fields.add(term.field());
+            fieldsAndTerms.add(fieldAndTerm(term.field(), term.bytes()));
+        }
+        ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        out.writeVInt(fields.size());
+        for (String field : fields) {
+            out.writeString(field);
+            out.writeInt(fieldIdentities.get(field));
+        }
+        int[] hashes = hashes(fieldsAndTerms);
+        out.writeVInt(hashes.length);
+        for (int hash : hashes) {
+            out.writeInt(hash);
+        }
+        return out.toArrayCopy();
+    }
+
+    /**
+     * Identifies how queries on the given field are analyzed: by the type of the field, its search analyzers and the analysis settings
+     * of the index. Returns {@code null} if the analysis may change without changing the identity, like with reloadable search
+     * analyzers, or if the field isn't mapped.
+     */
+    static Integer analysisIdentity(QueryShardContext context, String field) {
+        MappedFieldType fieldType = context.fieldMapper(field);
+        if (fieldType == null) {
+            return null;
+        }
+        TextSearchInfo textSearchInfo = fieldType.getTextSearchInfo();
+        NamedAnalyzer searchAnalyzer = textSearchInfo.getSearchAnalyzer();
+        NamedAnalyzer searchQuoteAnalyzer = textSearchInfo.getSearchQuoteAnalyzer();
+        if (isReloadable(searchAnalyzer) || isReloadable(searchQuoteAnalyzer)) {
+            return null;
+        }
+        String identity = fieldType.typeName()
+            + '/'
+            + (searchAnalyzer == null ? null : searchAnalyzer.name())
+            + '/'
+            + (searchQuoteAnalyzer == null ? null : searchQuoteAnalyzer.name())
+            + '/'
+            + context.getIndexSettings().getSettings().getByPrefix(ANALYSIS_SETTINGS_PREFIX);
+        return StringHelper.murmurhash3_x86_32(new BytesRef(identity), 0);
+    }
+
+    private static boolean isReloadable(NamedAnalyzer analyzer) {
+        return analyzer != null && analyzer.analyzer() instanceof ReloadableCustomAnalyzer;
+    }
+
+    /**
+     * The sorted distinct hashes of the given terms, which are encoded like the extracted terms, see {@link #fieldAndTerm}.
+     */
+    static int[] hashes(Collection<BytesRef> terms) {
+        int[] hashes = new int[terms.size()];
+        int i = 0;
+        for (BytesRef term : terms) {
+            hashes[i++] = StringHelper.murmurhash3_x86_32(term, 0);
+        }
+        Arrays.sort(hashes);
+        return Arrays.stream(hashes).distinct().toArray();
+    }
+
+    /**
+     * Whether a document with the given sorted term hashes may contain all terms of the given signature. Also returns {@code true} if
+     * one of the fields of the signature is analyzed differently than when the query was indexed, since the query may require other
+     * terms now. The signature is stored via {@link org.opensearch.index.mapper.BinaryFieldMapper}, which prefixes it with the number
+     * of values and the length of the value.
+     */
+    static boolean mayMatch(BytesRef storedSignature, int[] documentHashes, Function<String, Integer> analysisIdentities) {
+        ByteArrayDataInput in = new ByteArrayDataInput(storedSignature.bytes, storedSignature.offset, storedSignature.length);
+        int numValues = in.readVInt();
+        assert numValues == 1;
+        in.readVInt();
+        int numFields = in.readVInt();
+        for (int i = 0; i < numFields; i++) {
+            String field = in.readString();
+            if (Integer.valueOf(in.readInt()).equals(analysisIdentities.apply(field)) == false) {
+                return true;
+            }
+        }
+        int count = in.readVInt();
+        int from = 0;
+        // the hashes of the signature are sorted as well, so a single pass over the document hashes finds all of them
+        for (int i = 0; i < count; i++) {
+            int index = Arrays.binarySearch(documentHashes, from, documentHashes.length, in.readInt());
+            if (index < 0) {
+                return false;
+            }
+            from = index + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Wraps the given store so that it returns no query for candidates whose signature the document doesn't match, before the query is
+     * parsed. Candidates without a signature, like those indexed before signatures existed, are passed through.
+     *
+     * @param analysisIdentities the current identity of the analysis of a field, see {@link #analysisIdentity}
+     */
+    static PercolateQuery.QueryStore filter(
+        PercolateQuery.QueryStore queryStore,
+        String signatureField,
+        int[] documentHashes,
+        Function<String, Integer> analysisIdentities
+    ) {
+        // a signature only has a few fields, which many candidates share
+        Map<String, Optional<Integer>> identities = new ConcurrentHashMap<>();
+        Function<String, Integer> cachedIdentities = field -> identities.computeIfAbsent(
+            field,
+            f -> Optional.ofNullable(analysisIdentities.apply(f))
+        ).orElse(null);
+        return ctx -> {
+            CheckedFunction<Integer, Query, IOException> queries = queryStore.getQueries(ctx);
+            BinaryDocValues signatures = ctx.reader().getBinaryDocValues(signatureField);
+            if (signatures == null) {
+                return queries;
+            }
+            return docId -> {
+                if (signatures.advanceExact(docId) && mayMatch(signatures.binaryValue(), documentHashes, cachedIdentities) == false) {
+                    return null;
+                }
+                return queries.apply(docId);
+            };
+        };
+    }
+
+    static BytesRef fieldAndTerm(String field, BytesRef term) {
+        BytesRefBuilder builder = new BytesRefBuilder();
+        builder.append(new BytesRef(field));
+        builder.append(PercolatorFieldMapper.FIELD_VALUE_SEPARATOR);
+        builder.append(term);
+        return builder.toBytesRef();
+    }
+}
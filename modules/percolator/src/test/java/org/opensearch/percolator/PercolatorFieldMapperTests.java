@@ -32,6 +32,7 @@
 
 package org.opensearch.percolator;
 
+import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.FloatPoint;
@@ -72,6 +73,9 @@ import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalysisMode;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.TokenFilterFactory;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.DocumentMapperParser;
 import org.opensearch.index.mapper.MapperParsingException;
@@ -94,9 +98,11 @@ import org.opensearch.index.query.functionscore.FunctionScoreQueryBuilder;
 import org.opensearch.index.query.functionscore.RandomScoreFunctionBuilder;
 import org.opensearch.index.query.functionscore.ScriptScoreFunctionBuilder;
 import org.opensearch.indices.TermsLookup;
+import org.opensearch.indices.analysis.AnalysisModule.AnalysisProvider;
 import org.opensearch.join.ParentJoinModulePlugin;
 import org.opensearch.join.query.HasChildQueryBuilder;
 import org.opensearch.join.query.HasParentQueryBuilder;
+import org.opensearch.plugins.AnalysisPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.script.MockScriptPlugin;
 import org.opensearch.script.Script;
@@ -148,7 +154,8 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
             InternalSettingsPlugin.class,
             PercolatorModulePlugin.class,
             FoolMeScriptPlugin.class,
-            ParentJoinModulePlugin.class
+            ParentJoinModulePlugin.class,
+            ReloadableFilterPlugin.class
         );
     }
 
@@ -566,6 +573,7 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
         assertThat(doc.rootDoc().getFields(fieldType.queryBuilderField.name()).length, equalTo(1));
         assertThat(doc.rootDoc().getFields(fieldType.extractionResultField.name()).length, equalTo(1));
         assertThat(doc.rootDoc().getFields(fieldType.extractionResultField.name())[0].stringValue(), equalTo(EXTRACTION_COMPLETE));
+        assertThat(doc.rootDoc().getFields(fieldType.requiredTermsField.name()).length, equalTo(1));
         BytesRef qbSource = doc.rootDoc().getFields(fieldType.queryBuilderField.name())[0].binaryValue();
         assertQueryBuilder(qbSource, queryBuilder);
 
@@ -583,6 +591,7 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
         assertThat(doc.rootDoc().getFields(fieldType.extractionResultField.name()).length, equalTo(1));
         assertThat(doc.rootDoc().getFields(fieldType.extractionResultField.name())[0].stringValue(), equalTo(EXTRACTION_FAILED));
         assertThat(doc.rootDoc().getFields(fieldType.queryTermsField.name()).length, equalTo(0));
+        assertThat(doc.rootDoc().getFields(fieldType.requiredTermsField.name()).length, equalTo(0));
         assertThat(doc.rootDoc().getFields(fieldType.queryBuilderField.name()).length, equalTo(1));
         qbSource = doc.rootDoc().getFields(fieldType.queryBuilderField.name())[0].binaryValue();
         assertQueryBuilder(qbSource, queryBuilder);
@@ -601,6 +610,78 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
         assertThat(doc.rootDoc().getFields(fieldType.extractionResultField.name())[0].stringValue(), equalTo(EXTRACTION_FAILED));
     }
 
+    public void testNoRequiredTermsOfFieldsWithReloadableSearchAnalyzers() throws Exception {
+        Settings settings = Settings.builder()
+            .put("index.analysis.analyzer.reloadable_analyzer.type", "custom")
+            .put("index.analysis.analyzer.reloadable_analyzer.tokenizer", "standard")
+            .putList("index.analysis.analyzer.reloadable_analyzer.filter", "reloadable_filter")
+            .build();
+        IndexService reloadableIndexService = createIndex("reloadable", settings);
+        MapperService reloadableMapperService = reloadableIndexService.mapperService();
+        String mapping = XContentFactory.jsonBuilder()
+            .startObject()
+            .startObject("properties")
+            .startObject("field")
+            .field("type", "text")
+            .endObject()
+            .startObject("reloadable_field")
+            .field("type", "text")
+            .field("analyzer", "standard")
+            .field("search_analyzer", "reloadable_analyzer")
+            .endObject()
+            .startObject("query")
+            .field("type", "percolator")
+            .endObject()
+            .endObject()
+            .endObject()
+            .toString();
+        reloadableMapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(mapping),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+        PercolatorFieldMapper.PercolatorFieldType queryFieldType = (PercolatorFieldMapper.PercolatorFieldType) reloadableMapperService
+            .fieldType("query");
+
+        QueryBuilder queryBuilder = boolQuery().must(matchQuery("field", "value")).must(matchQuery("reloadable_field", "synonym"));
+        ParsedDocument doc = parseQuery(reloadableMapperService, queryBuilder);
+        IndexableField[] signatures = doc.rootDoc().getFields(queryFieldType.requiredTermsField.name());
+        assertThat(signatures.length, equalTo(1));
+        // the term of the reloadable field is not required, a reload may give the query another term
+        QueryShardContext context = reloadableIndexService.newQueryShardContext(0, null, () -> 0L, null);
+        Function<String, Integer> identities = field -> RequiredTerms.analysisIdentity(context, field);
+        int[] documentHashes = RequiredTerms.hashes(List.of(RequiredTerms.fieldAndTerm("field", new BytesRef("value"))));
+        assertTrue(RequiredTerms.mayMatch(signatures[0].binaryValue(), documentHashes, identities));
+
+        doc = parseQuery(reloadableMapperService, matchQuery("reloadable_field", "synonym"));
+        assertThat(doc.rootDoc().getFields(queryFieldType.requiredTermsField.name()).length, equalTo(0));
+
+        Integer fieldIdentity = RequiredTerms.analysisIdentity(context, "field");
+        assertNotNull(fieldIdentity);
+        assertNull(RequiredTerms.analysisIdentity(context, "reloadable_field"));
+        List<String> reloadedAnalyzers = reloadableMapperService.reloadSearchAnalyzers(getInstanceFromNode(AnalysisRegistry.class));
+        assertThat(reloadedAnalyzers, equalTo(List.of("reloadable_analyzer")));
+        QueryShardContext reloadedContext = reloadableIndexService.newQueryShardContext(0, null, () -> 0L, null);
+        assertThat(RequiredTerms.analysisIdentity(reloadedContext, "field"), equalTo(fieldIdentity));
+        assertNull(RequiredTerms.analysisIdentity(reloadedContext, "reloadable_field"));
+        doc = parseQuery(reloadableMapperService, queryBuilder);
+        signatures = doc.rootDoc().getFields(queryFieldType.requiredTermsField.name());
+        assertThat(signatures.length, equalTo(1));
+        assertTrue(RequiredTerms.mayMatch(signatures[0].binaryValue(), documentHashes, identities));
+    }
+
+    private static ParsedDocument parseQuery(MapperService mapperService, QueryBuilder queryBuilder) throws IOException {
+        return mapperService.documentMapper()
+            .parse(
+                new SourceToParse(
+                    "reloadable",
+                    "1",
+                    BytesReference.bytes(XContentFactory.jsonBuilder().startObject().field("query", queryBuilder).endObject()),
+                    MediaTypeRegistry.JSON
+                )
+            );
+    }
+
     public void testStoringQueries() throws Exception {
         addQueryFieldMappings();
         QueryBuilder[] queries = new QueryBuilder[] {
@@ -759,7 +840,7 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
                     MediaTypeRegistry.JSON
                 )
             );
-        assertThat(doc.rootDoc().getFields().size(), equalTo(16)); // also includes all other meta fields
+        assertThat(doc.rootDoc().getFields().size(), equalTo(18)); // also includes all other meta fields
         BytesRef queryBuilderAsBytes = doc.rootDoc().getField("query_field1.query_builder_field").binaryValue();
         assertQueryBuilder(queryBuilderAsBytes, queryBuilder);
 
@@ -800,7 +881,7 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
                     MediaTypeRegistry.JSON
                 )
             );
-        assertThat(doc.rootDoc().getFields().size(), equalTo(12)); // also includes all other meta fields
+        assertThat(doc.rootDoc().getFields().size(), equalTo(13)); // also includes all other meta fields
         IndexableField queryBuilderField = doc.rootDoc().getField("object_field.query_field.query_builder_field");
         assertTrue(queryBuilderField.fieldType().omitNorms());
         IndexableField extractionResultField = doc.rootDoc().getField("object_field.query_field.extraction_result");
@@ -825,7 +906,7 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
                     MediaTypeRegistry.JSON
                 )
             );
-        assertThat(doc.rootDoc().getFields().size(), equalTo(12)); // also includes all other meta fields
+        assertThat(doc.rootDoc().getFields().size(), equalTo(13)); // also includes all other meta fields
         queryBuilderAsBytes = doc.rootDoc().getField("object_field.query_field.query_builder_field").binaryValue();
         assertQueryBuilder(queryBuilderAsBytes, queryBuilder);
 
@@ -1172,4 +1253,28 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public static final class ReloadableFilterPlugin extends Plugin implements AnalysisPlugin {
+
+        @Override
+        public Map<String, AnalysisProvider<TokenFilterFactory>> getTokenFilters() {
+            return Collections.singletonMap("reloadable_filter", (indexSettings, environment, name, settings) -> new TokenFilterFactory() {
+
+                @Override
+                public String name() {
+                    return "reloadable_filter";
+                }
+
+                @Override
+                public TokenStream create(TokenStream tokenStream) {
+                    return tokenStream;
+                }
+
+                @Override
+                public AnalysisMode getAnalysisMode() {
+                    return AnalysisMode.SEARCH_TIME;
+                }
+            });
+        }
+    }
+
 }
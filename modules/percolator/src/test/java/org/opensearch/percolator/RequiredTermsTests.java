@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.percolator;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class RequiredTermsTests extends OpenSearchTestCase {
+
+    public void testTermQuery() throws IOException {
+        Query query = new TermQuery(new Term("field", "value"));
+        assertTrue(mayMatch(query, "field", "value", "field", "other"));
+        assertFalse(mayMatch(query, "field", "other"));
+        assertFalse(mayMatch(query, "other_field", "value"));
+    }
+
+    public void testConjunctionRequiresAllClauses() throws IOException {
+        Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("field", "a")), Occur.MUST)
+            .add(new ConstantScoreQuery(new TermQuery(new Term("field", "b"))), Occur.FILTER)
+            .add(new TermQuery(new Term("field", "c")), Occur.MUST_NOT)
+            .build();
+        assertTrue(mayMatch(query, "field", "a", "field", "b"));
+        assertFalse(mayMatch(query, "field", "a"));
+        assertFalse(mayMatch(query, "field", "b", "field", "c"));
+    }
+
+    public void testDisjunctionRequiresNothing() throws IOException {
+        Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("field", "a")), Occur.SHOULD)
+            .add(new TermQuery(new Term("field", "b")), Occur.SHOULD)
+            .setMinimumNumberShouldMatch(1)
+            .build();
+        assertNull(RequiredTerms.signature(query, field -> 1));
+        assertNull(RequiredTerms.signature(new TermInSetQuery("field", List.of(new BytesRef("a"), new BytesRef("b"))), field -> 1));
+        assertNull(RequiredTerms.signature(new MatchAllDocsQuery(), field -> 1));
+    }
+
+    public void testRequiredClausesOfDisjunction() throws IOException {
+        Query disjunction = new BooleanQuery.Builder().add(new TermQuery(new Term("field", "b")), Occur.SHOULD)
+            .add(new TermQuery(new Term("field", "c")), Occur.SHOULD)
+            .build();
+        Query query = new BooleanQuery.Builder().add(new BoostQuery(new TermQuery(new Term("field", "a")), 2f), Occur.MUST)
+            .add(disjunction, Occur.MUST)
+            .build();
+        assertTrue(mayMatch(query, "field", "a", "field", "c"));
+        assertFalse(mayMatch(query, "field", "b", "field", "c"));
+    }
+
+    public void testPhraseQueryRequiresAllTerms() throws IOException {
+        Query query = new PhraseQuery(2, "field", "quick", "fox");
+        assertTrue(mayMatch(query, "field", "brown", "field", "fox", "field", "quick"));
+        assertFalse(mayMatch(query, "field", "quick"));
+    }
+
+    public void testKeepsLongestTerms() throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        List<String> documentTerms = new ArrayList<>();
+        for (int i = 0; i < RequiredTerms.MAX_TERMS * 2; i++) {
+            String term = randomAlphaOfLength(i + 1);
+            builder.add(new TermQuery(new Term("field", term)), Occur.MUST);
+            if (i >= RequiredTerms.MAX_TERMS) {
+                documentTerms.add("field");
+                documentTerms.add(term);
+            }
+        }
+        // only the longest terms are in the signature, so the document matches it although it misses the shorter terms
+        assertTrue(mayMatch(builder.build(), documentTerms.toArray(new String[0])));
+    }
+
+    public void testLeavesOutFieldsWithoutAnalysisIdentity() throws IOException {
+        Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("field", "a")), Occur.MUST)
+            .add(new TermQuery(new Term("reloadable_field", "b")), Occur.MUST)
+            .build();
+        Function<String, Integer> identities = field -> field.equals("field") ? 1 : null;
+        assertTrue(mayMatch(query, identities, identities, "field", "a"));
+        assertFalse(mayMatch(query, identities, identities, "reloadable_field", "b"));
+        assertNull(RequiredTerms.signature(new TermQuery(new Term("reloadable_field", "b")), identities));
+    }
+
+    public void testChangedAnalysisIdentityLetsCandidatesThrough() throws IOException {
+        Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("field1", "a")), Occur.MUST)
+            .add(new TermQuery(new Term("field2", "b")), Occur.MUST)
+            .build();
+        Function<String, Integer> identities = field -> 1;
+        assertFalse(mayMatch(query, identities, identities, "field1", "a"));
+        // the query may require other terms of a field whose analysis changed, or that is no longer mapped
+        assertTrue(mayMatch(query, identities, field -> field.equals("field2") ? 2 : 1, "field1", "a"));
+        assertTrue(mayMatch(query, identities, field -> field.equals("field2") ? null : 1, "field1", "a"));
+    }
+
+    private static boolean mayMatch(Query query, String... documentFieldsAndTerms) throws IOException {
+        return mayMatch(query, field -> 1, field -> 1, documentFieldsAndTerms);
+    }
+
+    private static boolean mayMatch(
+        Query query,
+        Function<String, Integer> indexedIdentities,
+        Function<String, Integer> currentIdentities,
+        String... documentFieldsAndTerms
+    ) throws IOException {
+        List<BytesRef> documentTerms = new ArrayList<>();
+        for (int i = 0; i < documentFieldsAndTerms.length; i += 2) {
+            documentTerms.add(RequiredTerms.fieldAndTerm(documentFieldsAndTerms[i], new BytesRef(documentFieldsAndTerms[i + 1])));
+        }
+        byte[] signature = RequiredTerms.signature(query, indexedIdentities);
+        assertNotNull(signature);
+        // prefix the signature like BinaryFieldMapper does when storing it
+        byte[] stored = new byte[signature.length + 10];
+        ByteArrayDataOutput out = new ByteArrayDataOutput(stored);
+        out.writeVInt(1);
+        out.writeVInt(signature.length);
+        out.writeBytes(signature, signature.length);
+        return RequiredTerms.mayMatch(new BytesRef(stored, 0, out.getPosition()), RequiredTerms.hashes(documentTerms), currentIdentities);
+    }
+}
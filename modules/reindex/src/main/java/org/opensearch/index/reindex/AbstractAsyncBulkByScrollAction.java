@@ -68,10 +68,12 @@ import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.ParentTaskAssigningClient;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -81,6 +83,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
@@ -123,6 +126,33 @@ public abstract class AbstractAsyncBulkByScrollAction<
     private final ActionListener<BulkByScrollResponse> listener;
     private final Retry bulkRetry;
     private final ScrollableHitSource scrollSource;
+    /**
+     * Set once the request starts to finish, so that no more bulk requests are sent.
+     */
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    /**
+     * Sizes the bulk requests when more than one of them may be in flight, see {@link AbstractBulkByScrollRequest#getMaxInFlightBulks()}.
+     */
+    private final AdaptiveBulkSize bulkSize;
+    private final Object pipelineMutex = new Object();
+    // the following fields are guarded by pipelineMutex
+    private final Deque<BulkRequest> pendingBulks = new ArrayDeque<>();
+    private int inFlightBulks;
+    private Runnable onBatchSent;
+    private boolean scrollExhausted;
+    private boolean allBulksDone;
+    /*
+     * Once the pipeline stops, because the scroll is exhausted, a request failed or timed out or the task was cancelled, the failures
+     * are collected here until the bulk requests still in flight complete, and the request finishes once with all of them.
+     */
+    private boolean pipelineStopping;
+    private boolean pipelineDrained;
+    private Exception pipelineFailure;
+    private final List<Failure> pipelineIndexingFailures = new ArrayList<>();
+    private final List<SearchFailure> pipelineSearchFailures = new ArrayList<>();
+    private boolean pipelineTimedOut;
 
     /**
      * This BiFunction is used to apply various changes depending of the Reindex action and  the search hit,
@@ -186,8 +216,11 @@ public abstract class AbstractAsyncBulkByScrollAction<
         this.mainRequest = mainRequest;
         this.listener = listener;
         this.interceptor = interceptor;
+        final SearchSourceBuilder sourceBuilder = mainRequest.getSearchRequest().source();
+        final int scrollSize = sourceBuilder.size() > 0 ? sourceBuilder.size() : AbstractBulkByScrollRequest.DEFAULT_SCROLL_SIZE;
+        bulkSize = new AdaptiveBulkSize(scrollSize, mainRequest.getMaxInFlightBulks());
         BackoffPolicy backoffPolicy = buildBackoffPolicy();
-        bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, worker::countBulkRetry), threadPool);
+        bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, this::onBulkRejection), threadPool);
         scrollSource = buildScrollableResultSource(backoffPolicy);
         scriptApplier = Objects.requireNonNull(buildScriptApplier(), "script applier must not be null");
         /*
@@ -195,7 +228,6 @@ public abstract class AbstractAsyncBulkByScrollAction<
          * them and if we add _doc as the first sort by default then sorts will never work.... So we add it here, only if there isn't
          * another sort.
          */
-        final SearchSourceBuilder sourceBuilder = mainRequest.getSearchRequest().source();
         List<SortBuilder<?>> sorts = sourceBuilder.sorts();
         if (sorts == null || sorts.isEmpty()) {
             sourceBuilder.sort(fieldSort("_doc"));
@@ -382,7 +414,11 @@ public abstract class AbstractAsyncBulkByScrollAction<
             return;
         }
         if (response.getHits().isEmpty()) {
-            refreshAndFinish(emptyList(), emptyList(), false);
+            if (isPipelined()) {
+                onScrollExhausted();
+            } else {
+                refreshAndFinish(emptyList(), emptyList(), false);
+            }
             return;
         }
         worker.countBatch();
@@ -404,27 +440,209 @@ public abstract class AbstractAsyncBulkByScrollAction<
         }
         request.timeout(mainRequest.getTimeout());
         request.waitForActiveShards(mainRequest.getWaitForActiveShards());
+        if (isPipelined()) {
+            sendPipelined(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
+            return;
+        }
         sendBulkRequest(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
     }
 
+    /**
+     * Whether this action keeps more than one bulk request in flight and fetches the next scroll batch while they are. Limiting the
+     * number of documents requires the number of successfully processed documents before every batch, so it always runs one bulk request
+     * at a time.
+     */
+    boolean isPipelined() {
+        return mainRequest.getMaxInFlightBulks() > 1 && mainRequest.getMaxDocs() == MAX_DOCS_ALL_MATCHES;
+    }
+
+    /**
+     * Splits the bulk request of a scroll batch into bulk requests of the adaptive size and sends them, no more than
+     * {@link AbstractBulkByScrollRequest#getMaxInFlightBulks()} at a time. Once the last of them is sent, which is before it completes,
+     * onBatchSent fetches the next scroll batch.
+     */
+    void sendPipelined(BulkRequest batch, Runnable onBatchSent) {
+        final List<BulkRequest> bulks = new ArrayList<>();
+        final int size = bulkSize.size();
+        final List<DocWriteRequest<?>> requests = batch.requests();
+        for (int from = 0; from < requests.size(); from += size) {
+            if (from == 0 && requests.size() <= size) {
+                bulks.add(batch);
+                break;
+            }
+            BulkRequest bulk = buildBulkRequest();
+            for (DocWriteRequest<?> request : requests.subList(from, min(from + size, requests.size()))) {
+                bulk.add(request);
+            }
+            bulk.timeout(batch.timeout());
+            bulk.waitForActiveShards(batch.waitForActiveShards());
+            bulks.add(bulk);
+        }
+        synchronized (pipelineMutex) {
+            if (pipelineStopping) {
+                // a scroll batch that was fetched before the pipeline stopped
+                return;
+            }
+            assert this.onBatchSent == null : "fetched a scroll batch before the bulk requests of the previous one were sent";
+            pendingBulks.addAll(bulks);
+            this.onBatchSent = onBatchSent;
+        }
+        dispatchPendingBulks();
+    }
+
+    private void onScrollExhausted() {
+        synchronized (pipelineMutex) {
+            scrollExhausted = true;
+        }
+        dispatchPendingBulks();
+    }
+
+    /**
+     * Sends pending bulk requests while there is room in flight, fetches the next scroll batch once all bulk requests of the current one
+     * are sent and finishes once the scroll is exhausted and the last bulk request completed.
+     */
+    private void dispatchPendingBulks() {
+        if (stopped.get()) {
+            finishPipelineIfDrained();
+            return;
+        }
+        final List<BulkRequest> toSend = new ArrayList<>();
+        Runnable batchSent = null;
+        boolean done = false;
+        synchronized (pipelineMutex) {
+            while (inFlightBulks < mainRequest.getMaxInFlightBulks() && pendingBulks.isEmpty() == false) {
+                toSend.add(pendingBulks.poll());
+                inFlightBulks++;
+            }
+            if (pendingBulks.isEmpty() && onBatchSent != null) {
+                batchSent = onBatchSent;
+                onBatchSent = null;
+            }
+            if (scrollExhausted && inFlightBulks == 0 && pendingBulks.isEmpty() && allBulksDone == false) {
+                allBulksDone = true;
+                done = true;
+            }
+        }
+        for (BulkRequest bulk : toSend) {
+            sendPipelinedBulk(bulk);
+        }
+        if (batchSent != null) {
+            batchSent.run();
+        }
+        if (done) {
+            refreshAndFinish(emptyList(), emptyList(), false);
+        }
+    }
+
+    /**
+     * Sends one of the bulk requests of the pipeline. Its documents and failures are accounted for even if the pipeline stopped while
+     * it was in flight, and the pipeline only finishes once it completed.
+     */
+    private void sendPipelinedBulk(BulkRequest bulk) {
+        if (task.isCancelled()) {
+            onPipelinedBulkCompleted(null, emptyList());
+            return;
+        }
+        final long startNanos = System.nanoTime();
+        executeBulk(bulk, new ActionListener<BulkResponse>() {
+            @Override
+            public void onResponse(BulkResponse response) {
+                bulkSize.onBulkCompleted(bulk.requests().size(), System.nanoTime() - startNanos);
+                final List<Failure> failures;
+                try {
+                    failures = countBulkResponse(response);
+                } catch (Exception e) {
+                    onPipelinedBulkCompleted(e, emptyList());
+                    return;
+                }
+                onPipelinedBulkCompleted(null, failures);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onPipelinedBulkCompleted(e, emptyList());
+            }
+        });
+    }
+
+    private void onPipelinedBulkCompleted(@Nullable Exception failure, List<Failure> indexingFailures) {
+        synchronized (pipelineMutex) {
+            inFlightBulks--;
+        }
+        if (failure != null) {
+            finishHim(failure);
+        } else if (false == indexingFailures.isEmpty()) {
+            refreshAndFinish(unmodifiableList(indexingFailures), emptyList(), false);
+        } else if (task.isCancelled()) {
+            logger.debug("[{}]: finishing early because the task was cancelled", task.getId());
+            finishHim(null);
+        } else {
+            dispatchPendingBulks();
+        }
+    }
+
+    /**
+     * Stops sending bulk requests and finishes the request with the given failures once the bulk requests still in flight completed.
+     * The failures of those bulk requests are merged in and a catastrophic failure takes precedence over all others.
+     */
+    private void stopPipeline(
+        @Nullable Exception failure,
+        List<Failure> indexingFailures,
+        List<SearchFailure> searchFailures,
+        boolean timedOut
+    ) {
+        stopped.set(true);
+        synchronized (pipelineMutex) {
+            pipelineStopping = true;
+            pendingBulks.clear();
+            onBatchSent = null;
+            if (failure != null) {
+                if (pipelineFailure == null) {
+                    pipelineFailure = failure;
+                } else if (pipelineFailure != failure) {
+                    pipelineFailure.addSuppressed(failure);
+                }
+            }
+            pipelineIndexingFailures.addAll(indexingFailures);
+            pipelineSearchFailures.addAll(searchFailures);
+            pipelineTimedOut |= timedOut;
+        }
+        finishPipelineIfDrained();
+    }
+
+    private void finishPipelineIfDrained() {
+        final Exception failure;
+        final List<Failure> indexingFailures;
+        final List<SearchFailure> searchFailures;
+        final boolean timedOut;
+        synchronized (pipelineMutex) {
+            if (pipelineStopping == false || inFlightBulks > 0 || pipelineDrained) {
+                return;
+            }
+            pipelineDrained = true;
+            failure = pipelineFailure;
+            indexingFailures = unmodifiableList(new ArrayList<>(pipelineIndexingFailures));
+            searchFailures = unmodifiableList(new ArrayList<>(pipelineSearchFailures));
+            timedOut = pipelineTimedOut;
+        }
+        if (failure != null) {
+            logger.debug(() -> new ParameterizedMessage("[{}]: finishing with a catastrophic failure", task.getId()), failure);
+            finishHim(failure, emptyList(), emptyList(), false);
+        } else {
+            refreshAndFinishNow(indexingFailures, searchFailures, timedOut);
+        }
+    }
+
     /**
      * Send a bulk request, handling retries.
      */
     void sendBulkRequest(BulkRequest request, Runnable onSuccess) {
-        if (logger.isDebugEnabled()) {
-            logger.debug(
-                "[{}]: sending [{}] entry, [{}] bulk request",
-                task.getId(),
-                request.requests().size(),
-                new ByteSizeValue(request.estimatedSizeInBytes())
-            );
-        }
         if (task.isCancelled()) {
             logger.debug("[{}]: finishing early because the task was cancelled", task.getId());
             finishHim(null);
             return;
         }
-        bulkRetry.withBackoff(client::bulk, request, new ActionListener<BulkResponse>() {
+        executeBulk(request, new ActionListener<BulkResponse>() {
             @Override
             public void onResponse(BulkResponse response) {
                 onBulkResponse(response, onSuccess);
@@ -437,37 +655,29 @@ public abstract class AbstractAsyncBulkByScrollAction<
         });
     }
 
+    private void executeBulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                "[{}]: sending [{}] entry, [{}] bulk request",
+                task.getId(),
+                request.requests().size(),
+                new ByteSizeValue(request.estimatedSizeInBytes())
+            );
+        }
+        bulkRetry.withBackoff(client::bulk, request, listener);
+    }
+
+    private void onBulkRejection() {
+        worker.countBulkRetry();
+        bulkSize.onRejection();
+    }
+
     /**
      * Processes bulk responses, accounting for failures.
      */
     void onBulkResponse(BulkResponse response, Runnable onSuccess) {
         try {
-            List<Failure> failures = new ArrayList<>();
-            Set<String> destinationIndicesThisBatch = new HashSet<>();
-            for (BulkItemResponse item : response) {
-                if (item.isFailed()) {
-                    recordFailure(item.getFailure(), failures);
-                    continue;
-                }
-                switch (item.getOpType()) {
-                    case CREATE:
-                    case INDEX:
-                        if (item.getResponse().getResult() == DocWriteResponse.Result.CREATED) {
-                            worker.countCreated();
-                        } else {
-                            worker.countUpdated();
-                        }
-                        break;
-                    case UPDATE:
-                        worker.countUpdated();
-                        break;
-                    case DELETE:
-                        worker.countDeleted();
-                        break;
-                }
-                // Track the indexes we've seen so we can refresh them if requested
-                destinationIndicesThisBatch.add(item.getIndex());
-            }
+            List<Failure> failures = countBulkResponse(response);
 
             if (task.isCancelled()) {
                 logger.debug("[{}]: Finishing early because the task was cancelled", task.getId());
@@ -475,8 +685,6 @@ public abstract class AbstractAsyncBulkByScrollAction<
                 return;
             }
 
-            addDestinationIndices(destinationIndicesThisBatch);
-
             if (false == failures.isEmpty()) {
                 refreshAndFinish(unmodifiableList(failures), emptyList(), false);
                 return;
@@ -494,6 +702,40 @@ public abstract class AbstractAsyncBulkByScrollAction<
         }
     }
 
+    /**
+     * Counts the documents of a bulk response and tracks the indices it wrote to, returning the failures that abort the request.
+     */
+    private List<Failure> countBulkResponse(BulkResponse response) {
+        List<Failure> failures = new ArrayList<>();
+        Set<String> destinationIndicesThisBatch = new HashSet<>();
+        for (BulkItemResponse item : response) {
+            if (item.isFailed()) {
+                recordFailure(item.getFailure(), failures);
+                continue;
+            }
+            switch (item.getOpType()) {
+                case CREATE:
+                case INDEX:
+                    if (item.getResponse().getResult() == DocWriteResponse.Result.CREATED) {
+                        worker.countCreated();
+                    } else {
+                        worker.countUpdated();
+                    }
+                    break;
+                case UPDATE:
+                    worker.countUpdated();
+                    break;
+                case DELETE:
+                    worker.countDeleted();
+                    break;
+            }
+            // Track the indexes we've seen so we can refresh them if requested
+            destinationIndicesThisBatch.add(item.getIndex());
+        }
+        addDestinationIndices(destinationIndicesThisBatch);
+        return failures;
+    }
+
     void notifyDone(long thisBatchStartTimeNS, ScrollableHitSource.AsyncResponse asyncResponse, int batchSize) {
         if (task.isCancelled()) {
             logger.debug("[{}]: finishing early because the task was cancelled", task.getId());
@@ -516,9 +758,17 @@ public abstract class AbstractAsyncBulkByScrollAction<
 
     /**
      * Start terminating a request that finished non-catastrophically by refreshing the modified indices and then proceeding to
-     * {@link #finishHim(Exception, List, List, boolean)}.
+     * {@link #finishHim(Exception, List, List, boolean)}. Pipelined requests first wait for the bulk requests still in flight.
      */
     void refreshAndFinish(List<Failure> indexingFailures, List<SearchFailure> searchFailures, boolean timedOut) {
+        if (isPipelined()) {
+            stopPipeline(null, indexingFailures, searchFailures, timedOut);
+            return;
+        }
+        refreshAndFinishNow(indexingFailures, searchFailures, timedOut);
+    }
+
+    private void refreshAndFinishNow(List<Failure> indexingFailures, List<SearchFailure> searchFailures, boolean timedOut) {
         if (task.isCancelled() || false == mainRequest.isRefresh() || destinationIndices.isEmpty()) {
             finishHim(null, indexingFailures, searchFailures, timedOut);
             return;
@@ -534,7 +784,9 @@ public abstract class AbstractAsyncBulkByScrollAction<
 
             @Override
             public void onFailure(Exception e) {
-                finishHim(e);
+                // not finishHim(e): a pipelined request has already drained its pipeline and would wait for it forever
+                logger.debug(() -> new ParameterizedMessage("[{}]: finishing with a catastrophic failure", task.getId()), e);
+                finishHim(e, emptyList(), emptyList(), false);
             }
         });
     }
@@ -545,6 +797,10 @@ public abstract class AbstractAsyncBulkByScrollAction<
      * @param failure if non null then the request failed catastrophically with this exception
      */
     protected void finishHim(Exception failure) {
+        if (isPipelined()) {
+            stopPipeline(failure, emptyList(), emptyList(), false);
+            return;
+        }
         logger.debug(() -> new ParameterizedMessage("[{}]: finishing with a catastrophic failure", task.getId()), failure);
         finishHim(failure, emptyList(), emptyList(), false);
     }
@@ -557,6 +813,11 @@ public abstract class AbstractAsyncBulkByScrollAction<
      * @param timedOut have any of the sub-requests timed out?
      */
     protected void finishHim(Exception failure, List<Failure> indexingFailures, List<SearchFailure> searchFailures, boolean timedOut) {
+        stopped.set(true);
+        if (finished.compareAndSet(false, true) == false) {
+            logger.debug(() -> new ParameterizedMessage("[{}]: already finished", task.getId()), failure);
+            return;
+        }
         logger.debug("[{}]: finishing without any catastrophic failures", task.getId());
         scrollSource.close(() -> {
             if (failure == null) {
@@ -113,6 +113,10 @@ public abstract class AbstractBaseReindexRestHandler<
             request.setRequestsPerSecond(requestsPerSecond);
         }
 
+        if (restRequest.hasParam("max_in_flight_bulks")) {
+            request.setMaxInFlightBulks(restRequest.paramAsInt("max_in_flight_bulks", request.getMaxInFlightBulks()));
+        }
+
         if (restRequest.hasParam("max_docs")) {
             setMaxDocsValidateIdentical(request, restRequest.paramAsInt("max_docs", -1));
         }
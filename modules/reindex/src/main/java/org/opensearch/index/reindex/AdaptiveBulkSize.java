@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+/**
+ * Sizes the bulk requests of a slice that keeps more than one bulk request in flight. The size grows while the latency per document of
+ * the bulk requests stays close to the lowest latency per document seen so far, meaning the cluster keeps up, and shrinks when the latency
+ * per document climbs or a bulk request is rejected. The lowest latency slowly drifts upwards so that it follows a cluster that became
+ * slower for good instead of shrinking the bulk requests forever.
+ *
+ * @opensearch.internal
+ */
+final class AdaptiveBulkSize {
+
+    /**
+     * The smallest bulk request size, below which the per request overhead dominates.
+     */
+    static final int MIN_SIZE = 10;
+
+    private static final double GROW_BELOW = 1.25;
+    private static final double SHRINK_ABOVE = 2.0;
+    private static final double BASELINE_DRIFT = 1.01;
+
+    private final int maxSize;
+    private int size;
+    private double baselineNanosPerDoc = Double.POSITIVE_INFINITY;
+
+    /**
+     * @param maxSize the largest bulk request size, the size of a scroll batch
+     * @param maxInFlightBulks the number of bulk requests that may be in flight, the initial size spreads a scroll batch over all of them
+     */
+    AdaptiveBulkSize(int maxSize, int maxInFlightBulks) {
+        this.maxSize = Math.max(MIN_SIZE, maxSize);
+        this.size = Math.max(MIN_SIZE, (this.maxSize + maxInFlightBulks - 1) / maxInFlightBulks);
+    }
+
+    /**
+     * The number of documents to put into the next bulk request.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Records that a bulk request was rejected and is retried.
+     */
+    synchronized void onRejection() {
+        size = Math.max(MIN_SIZE, size / 2);
+    }
+
+    /**
+     * Records that a bulk request of the given number of documents completed after the given time, including the time spent retrying it.
+     */
+    synchronized void onBulkCompleted(int docs, long tookNanos) {
+        if (docs == 0) {
+            return;
+        }
+        final double nanosPerDoc = (double) tookNanos / docs;
+        baselineNanosPerDoc = Math.min(nanosPerDoc, baselineNanosPerDoc * BASELINE_DRIFT);
+        if (nanosPerDoc > baselineNanosPerDoc * SHRINK_ABOVE) {
+            size = Math.max(MIN_SIZE, size - size / 4);
+        } else if (nanosPerDoc <= baselineNanosPerDoc * GROW_BELOW) {
+            size = Math.min(maxSize, size + Math.max(1, size / 10));
+        }
+    }
+}
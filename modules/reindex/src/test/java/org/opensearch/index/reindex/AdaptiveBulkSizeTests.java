@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class AdaptiveBulkSizeTests extends OpenSearchTestCase {
+
+    public void testInitialSizeSpreadsBatchOverInFlightBulks() {
+        assertEquals(250, new AdaptiveBulkSize(1000, 4).size());
+        assertEquals(1000, new AdaptiveBulkSize(1000, 1).size());
+        assertEquals(AdaptiveBulkSize.MIN_SIZE, new AdaptiveBulkSize(1000, 1000).size());
+        assertEquals(AdaptiveBulkSize.MIN_SIZE, new AdaptiveBulkSize(1, 1).size());
+    }
+
+    public void testGrowsWhileLatencyStaysLow() {
+        AdaptiveBulkSize bulkSize = new AdaptiveBulkSize(1000, 10);
+        for (int i = 0; i < 100; i++) {
+            int size = bulkSize.size();
+            bulkSize.onBulkCompleted(size, size * 1000L);
+        }
+        assertEquals(1000, bulkSize.size());
+    }
+
+    public void testShrinksWhenLatencyClimbs() {
+        AdaptiveBulkSize bulkSize = new AdaptiveBulkSize(1000, 2);
+        bulkSize.onBulkCompleted(500, 500 * 1000L);
+        int before = bulkSize.size();
+        bulkSize.onBulkCompleted(before, before * 5000L);
+        assertThat(bulkSize.size(), lessThan(before));
+    }
+
+    public void testHalvesOnRejection() {
+        AdaptiveBulkSize bulkSize = new AdaptiveBulkSize(1000, 2);
+        bulkSize.onRejection();
+        assertEquals(250, bulkSize.size());
+        for (int i = 0; i < 10; i++) {
+            bulkSize.onRejection();
+        }
+        assertEquals(AdaptiveBulkSize.MIN_SIZE, bulkSize.size());
+    }
+
+    public void testFollowsClusterThatBecameSlower() {
+        AdaptiveBulkSize bulkSize = new AdaptiveBulkSize(1000, 10);
+        bulkSize.onBulkCompleted(100, 100 * 1000L);
+        // the cluster is three times slower for good, the size first shrinks and then grows again once the baseline caught up
+        for (int i = 0; i < 200; i++) {
+            int size = bulkSize.size();
+            bulkSize.onBulkCompleted(size, size * 3000L);
+        }
+        assertThat(bulkSize.size(), greaterThan(100));
+    }
+}
@@ -120,6 +120,7 @@ import static java.util.Collections.emptySet;
 import static java.util.Collections.newSetFromMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
 import static java.util.Collections.synchronizedSet;
 import static org.opensearch.action.bulk.BackoffPolicy.constantBackoff;
 import static org.opensearch.common.unit.TimeValue.timeValueMillis;
@@ -619,6 +620,132 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
         assertEquals(defaultBackoffBeforeFailing, millis);
     }
 
+    /**
+     * Pipelined actions split a scroll batch into bulk requests, keep no more than the maximum number of them in flight and fetch the next
+     * scroll batch once the last of them was sent.
+     */
+    public void testPipelinedBulksAreBoundedInFlight() throws Exception {
+        testRequest.setMaxInFlightBulks(2);
+        firstSearchRequest.source().size(2 * AdaptiveBulkSize.MIN_SIZE);
+        client.holdBulks = true;
+        DummyAsyncBulkByScrollAction action = new DummyAsyncBulkByScrollAction();
+        assertTrue(action.isPipelined());
+        BulkRequest batch = new BulkRequest();
+        for (int i = 0; i < 4 * AdaptiveBulkSize.MIN_SIZE; i++) {
+            batch.add(new IndexRequest("index").id("id" + i));
+        }
+        AtomicBoolean batchSent = new AtomicBoolean();
+        action.sendPipelined(batch, () -> assertTrue(batchSent.compareAndSet(false, true)));
+        assertThat(client.heldBulks, hasSize(2));
+        assertEquals(AdaptiveBulkSize.MIN_SIZE, client.heldBulks.get(0).request.requests().size());
+        assertFalse(batchSent.get());
+
+        client.releaseBulk(0);
+        assertThat(client.heldBulks, hasSize(3));
+        assertFalse(batchSent.get());
+        client.releaseBulk(1);
+        assertThat(client.heldBulks, hasSize(4));
+        // the next batch is fetched while the last two bulks of this one are in flight
+        assertTrue(batchSent.get());
+
+        // the scroll is exhausted, but the action waits for the bulks in flight before finishing
+        action.prepareBulkRequest(System.nanoTime(), new ScrollableHitSource.AsyncResponse() {
+            @Override
+            public ScrollableHitSource.Response response() {
+                return new ScrollableHitSource.Response(false, emptyList(), 0, emptyList(), null);
+            }
+
+            @Override
+            public void done(TimeValue extraKeepAlive) {
+                fail();
+            }
+        });
+        client.releaseBulk(2);
+        assertFalse(listener.isDone());
+        client.releaseBulk(3);
+        assertNotNull(listener.get());
+    }
+
+    /**
+     * A failing bulk request stops a pipelined action from sending more bulk requests, but it only finishes once the bulk requests that
+     * are still in flight completed, with their failures and documents accounted for.
+     */
+    public void testPipelinedBulkFailureWaitsForBulksInFlight() throws Exception {
+        startPipelinedBulks();
+        client.respondToBulk(0, true);
+        assertFalse(listener.isDone());
+        client.respondToBulk(1, true);
+        assertFalse(listener.isDone());
+        client.respondToBulk(2, false);
+        BulkByScrollResponse response = listener.get();
+        assertThat(response.getBulkFailures(), hasSize(2 * AdaptiveBulkSize.MIN_SIZE));
+        assertEquals(AdaptiveBulkSize.MIN_SIZE, response.getCreated());
+        // the pending bulk request is never sent
+        assertThat(client.heldBulks, hasSize(3));
+    }
+
+    public void testPipelinedCatastrophicFailureWaitsForBulksInFlight() throws Exception {
+        DummyAsyncBulkByScrollAction action = startPipelinedBulks();
+        client.heldBulks.get(1).listener.onFailure(new RuntimeException("bulk failed"));
+        assertFalse(listener.isDone());
+        // a scroll failure while bulk requests are in flight is merged in too
+        action.finishHim(new RuntimeException("scroll failed"));
+        client.respondToBulk(0, false);
+        assertFalse(listener.isDone());
+        client.respondToBulk(2, true);
+        ExecutionException e = expectThrows(ExecutionException.class, () -> listener.get());
+        assertEquals("bulk failed", e.getCause().getMessage());
+        assertEquals("scroll failed", e.getCause().getSuppressed()[0].getMessage());
+        assertEquals(AdaptiveBulkSize.MIN_SIZE, testTask.getStatus().getCreated());
+        assertThat(client.heldBulks, hasSize(3));
+    }
+
+    public void testPipelinedTimeoutWaitsForBulksInFlight() throws Exception {
+        DummyAsyncBulkByScrollAction action = startPipelinedBulks();
+        action.refreshAndFinish(emptyList(), emptyList(), true);
+        client.respondToBulk(0, false);
+        client.respondToBulk(1, false);
+        assertFalse(listener.isDone());
+        client.respondToBulk(2, true);
+        BulkByScrollResponse response = listener.get();
+        assertTrue(response.isTimedOut());
+        assertThat(response.getBulkFailures(), hasSize(AdaptiveBulkSize.MIN_SIZE));
+        assertEquals(2 * AdaptiveBulkSize.MIN_SIZE, response.getCreated());
+    }
+
+    public void testPipelinedRefreshFailureFinishes() throws Exception {
+        testRequest.setRefresh(true);
+        DummyAsyncBulkByScrollAction action = startPipelinedBulks();
+        action.addDestinationIndices(singleton("foo"));
+        client.refreshFailure = new RuntimeException("refresh failed");
+        action.refreshAndFinish(emptyList(), emptyList(), false);
+        client.respondToBulk(0, false);
+        client.respondToBulk(1, false);
+        assertNull("No refresh was attempted", client.lastRefreshRequest.get());
+        client.respondToBulk(2, false);
+        assertArrayEquals(new String[] { "foo" }, client.lastRefreshRequest.get().indices());
+        ExecutionException e = expectThrows(ExecutionException.class, () -> listener.get());
+        assertEquals("refresh failed", e.getCause().getMessage());
+    }
+
+    /**
+     * Sends a scroll batch that is split into four bulk requests with three of them held in flight.
+     */
+    private DummyAsyncBulkByScrollAction startPipelinedBulks() {
+        testRequest.setMaxInFlightBulks(3);
+        firstSearchRequest.source().size(3 * AdaptiveBulkSize.MIN_SIZE);
+        client.holdBulks = true;
+        DummyAsyncBulkByScrollAction action = new DummyAsyncBulkByScrollAction();
+        assertTrue(action.isPipelined());
+        BulkRequest batch = new BulkRequest();
+        for (int i = 0; i < 4 * AdaptiveBulkSize.MIN_SIZE; i++) {
+            batch.add(new IndexRequest("index").id("id" + i));
+        }
+        action.sendPipelined(batch, () -> fail("the next scroll batch is only fetched once the last bulk request is sent"));
+        assertThat(client.heldBulks, hasSize(3));
+        return action;
+    }
+
     public void testRefreshIsFalseByDefault() throws Exception {
         refreshTestCase(null, true, false);
     }
@@ -864,6 +991,15 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
         private final Set<SearchScrollRequest> usedScolls = synchronizedSet(newSetFromMap(new IdentityHashMap<>()));
 
         private int bulksToReject = 0;
+        /**
+         * Keep bulk requests in {@link #heldBulks} until the test releases them instead of responding right away.
+         */
+        private boolean holdBulks = false;
+        private final List<RequestAndListener<BulkRequest, BulkResponse>> heldBulks = synchronizedList(new ArrayList<>());
+        /**
+         * Fail refresh requests with this exception if set.
+         */
+        private Exception refreshFailure;
         private int searchesToReject = 0;
         private int scrollsToReject = 0;
 
@@ -892,7 +1028,11 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
             }
             if (request instanceof RefreshRequest) {
                 lastRefreshRequest.set((RefreshRequest) request);
-                listener.onResponse(null);
+                if (refreshFailure != null) {
+                    listener.onFailure(refreshFailure);
+                } else {
+                    listener.onResponse(null);
+                }
                 return;
             }
             if (request instanceof SearchRequest) {
@@ -920,6 +1060,10 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
                 listener.onResponse((Response) new ClearScrollResponse(true, clearScroll.getScrollIds().size()));
                 return;
             }
+            if (request instanceof BulkRequest && holdBulks) {
+                heldBulks.add(new RequestAndListener<>((BulkRequest) request, (ActionListener<BulkResponse>) listener));
+                return;
+            }
             if (request instanceof BulkRequest) {
                 BulkRequest bulk = (BulkRequest) request;
                 int toReject;
@@ -982,6 +1126,32 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
             super.doExecute(action, request, listener);
         }
 
+        private void releaseBulk(int index) {
+            heldBulks.get(index).listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+        }
+
+        /**
+         * Responds to a held bulk request with either a failure or a created document for each of its items.
+         */
+        private void respondToBulk(int index, boolean fail) {
+            RequestAndListener<BulkRequest, BulkResponse> held = heldBulks.get(index);
+            BulkItemResponse[] responses = new BulkItemResponse[held.request.requests().size()];
+            for (int i = 0; i < responses.length; i++) {
+                DocWriteRequest<?> item = held.request.requests().get(i);
+                if (fail) {
+                    responses[i] = new BulkItemResponse(
+                        i,
+                        item.opType(),
+                        new Failure(item.index(), item.id(), new IllegalArgumentException("item failed"))
+                    );
+                } else {
+                    ShardId shardId = new ShardId(new Index(item.index(), "uuid"), 0);
+                    responses[i] = new BulkItemResponse(i, item.opType(), new IndexResponse(shardId, item.id(), 0, 1, 1, true));
+                }
+            }
+            held.listener.onResponse(new BulkResponse(responses, 1));
+        }
+
         private Exception wrappedRejectedException() {
             Exception e = new OpenSearchRejectedExecutionException();
             int wraps = randomIntBetween(0, 4);
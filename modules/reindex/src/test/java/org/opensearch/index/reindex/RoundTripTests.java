@@ -142,6 +142,7 @@ public class RoundTripTests extends OpenSearchTestCase {
         request.setTimeout(TimeValue.parseTimeValue(randomTimeValue(), null, "test"));
         request.setWaitForActiveShards(randomIntBetween(0, 10));
         request.setRequestsPerSecond(between(0, Integer.MAX_VALUE));
+        request.setMaxInFlightBulks(between(1, 16));
 
         int slices = ReindexTestCase.randomSlices(1, Integer.MAX_VALUE);
         request.setSlices(slices);
@@ -167,6 +168,7 @@ public class RoundTripTests extends OpenSearchTestCase {
         assertEquals(request.getRetryBackoffInitialTime(), tripped.getRetryBackoffInitialTime());
         assertEquals(request.getMaxRetries(), tripped.getMaxRetries());
         assertEquals(request.getRequestsPerSecond(), tripped.getRequestsPerSecond(), 0d);
+        assertEquals(request.getMaxInFlightBulks(), tripped.getMaxInFlightBulks());
     }
 
     public void testRethrottleRequest() throws IOException {
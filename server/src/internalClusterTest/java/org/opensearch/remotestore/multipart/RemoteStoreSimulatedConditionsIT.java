@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.remotestore.multipart;
+
+import org.opensearch.action.admin.cluster.remotestore.stats.RemoteStoreStats;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.remote.RemoteSegmentTransferTracker;
+import org.opensearch.index.remote.RemoteTranslogTransferTracker;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.remotestore.RemoteStoreBaseIntegTestCase;
+import org.opensearch.remotestore.multipart.mocks.MockFsRepository;
+import org.opensearch.remotestore.multipart.mocks.MockFsRepositoryPlugin;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.REMOTE_STORE_REPOSITORY_SETTINGS_ATTRIBUTE_KEY_PREFIX;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Indexes into a remote store that models the latency and bandwidth of an object store, and reports the distribution of the time taken
+ * by translog uploads and of the lag between a refresh and the upload of its segments, so that changes to the upload path can be compared
+ * without an object store. All settings are fixed so that runs are comparable.
+ */
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class RemoteStoreSimulatedConditionsIT extends RemoteStoreBaseIntegTestCase {
+
+    private static final String INDEX_NAME = "remote-store-test-idx-1";
+    private static final TimeValue REQUEST_LATENCY = TimeValue.timeValueMillis(20);
+    private static final int UPLOAD_PARTS = 4;
+    private static final int ROUNDS = 10;
+    private static final int DOCS_PER_ROUND = 10;
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Stream.concat(super.nodePlugins().stream(), Stream.of(MockFsRepositoryPlugin.class)).collect(Collectors.toList());
+    }
+
+    @Override
+    protected Settings remoteStoreRepoSettings() {
+        Settings.Builder settings = Settings.builder()
+            .put(
+                remoteStoreClusterSettings(
+                    REPOSITORY_NAME,
+                    segmentRepoPath,
+                    MockFsRepositoryPlugin.TYPE,
+                    REPOSITORY_2_NAME,
+                    translogRepoPath,
+                    MockFsRepositoryPlugin.TYPE
+                )
+            );
+        for (String repository : List.of(REPOSITORY_NAME, REPOSITORY_2_NAME)) {
+            String prefix = String.format(Locale.ROOT, "node.attr." + REMOTE_STORE_REPOSITORY_SETTINGS_ATTRIBUTE_KEY_PREFIX, repository);
+            settings.put(prefix + MockFsRepository.REQUEST_LATENCY.getKey(), REQUEST_LATENCY.getStringRep())
+                .put(prefix + MockFsRepository.MAX_BYTES_PER_SEC.getKey(), "10mb")
+                .put(prefix + MockFsRepository.UPLOAD_PARTS.getKey(), UPLOAD_PARTS);
+        }
+        return settings.build();
+    }
+
+    public void testTranslogUploadTimeAndRefreshToUploadLag() throws Exception {
+        internalCluster().startClusterManagerOnlyNode();
+        String dataNode = internalCluster().startDataOnlyNode();
+        createIndex(INDEX_NAME, remoteStoreIndexSettings(0));
+        ensureGreen(INDEX_NAME);
+
+        long[] translogUploadMillis = new long[ROUNDS * DOCS_PER_ROUND];
+        long[] refreshToUploadNanos = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < DOCS_PER_ROUND; i++) {
+                RemoteTranslogTransferTracker.Stats before = remoteStoreStats(dataNode).getTranslogStats();
+                indexSingleDoc(INDEX_NAME);
+                RemoteTranslogTransferTracker.Stats after = remoteStoreStats(dataNode).getTranslogStats();
+                // every request syncs the translog to the remote store before it returns
+                long uploads = after.totalUploadsSucceeded - before.totalUploadsSucceeded;
+                assertThat(uploads, greaterThan(0L));
+                long uploadMillis = after.totalUploadTimeInMillis - before.totalUploadTimeInMillis;
+                translogUploadMillis[round * DOCS_PER_ROUND + i] = uploadMillis / uploads;
+            }
+
+            // the segments of the initial commit and of earlier refreshes are already uploaded, so wait for this refresh's upload
+            RemoteSegmentTransferTracker.Stats before = remoteStoreStats(dataNode).getSegmentStats();
+            long refreshStart = System.nanoTime();
+            refresh(INDEX_NAME);
+            long deadline = refreshStart + TimeValue.timeValueSeconds(60).nanos();
+            while (true) {
+                RemoteSegmentTransferTracker.Stats stats = remoteStoreStats(dataNode).getSegmentStats();
+                if (stats.uploadBytesStarted > before.uploadBytesStarted
+                    && stats.uploadBytesSucceeded > before.uploadBytesSucceeded
+                    && stats.uploadBytesSucceeded == stats.uploadBytesStarted) {
+                    break;
+                }
+                assertThat("segments of the refresh weren't uploaded in time", System.nanoTime(), lessThan(deadline));
+                Thread.sleep(1);
+            }
+            refreshToUploadNanos[round] = System.nanoTime() - refreshStart;
+        }
+
+        MockFsRepository repository = (MockFsRepository) internalCluster().getInstance(RepositoriesService.class, dataNode)
+            .repository(REPOSITORY_NAME);
+        assertThat(repository.conditions().requests(), greaterThan(0L));
+        assertThat(Arrays.stream(translogUploadMillis).min().getAsLong(), greaterThanOrEqualTo(REQUEST_LATENCY.millis()));
+        logger.info(
+            "--> with request latency [{}] and [{}] upload parts: translog upload time {}, refresh to upload lag {}",
+            REQUEST_LATENCY,
+            UPLOAD_PARTS,
+            distribution(Arrays.stream(translogUploadMillis).map(TimeUnit.MILLISECONDS::toNanos).toArray()),
+            distribution(refreshToUploadNanos)
+        );
+        assertHitCount(client().prepareSearch(INDEX_NAME).setSize(0).get(), ROUNDS * DOCS_PER_ROUND);
+    }
+
+    private RemoteStoreStats remoteStoreStats(String nodeName) {
+        RemoteStoreStats[] stats = client(nodeName).admin()
+            .cluster()
+            .prepareRemoteStoreStats(INDEX_NAME, "0")
+            .setLocal(true)
+            .get()
+            .getRemoteStoreStats();
+        assertThat(stats.length, equalTo(1));
+        return stats[0];
+    }
+
+    private static String distribution(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format(
+            Locale.ROOT,
+            "[min=%s, p50=%s, p90=%s, max=%s]",
+            TimeValue.timeValueNanos(sorted[0]),
+            TimeValue.timeValueNanos(sorted[sorted.length / 2]),
+            TimeValue.timeValueNanos(sorted[(int) Math.ceil(sorted.length * 0.9) - 1]),
+            TimeValue.timeValueNanos(sorted[sorted.length - 1])
+        );
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.MergePolicyProvider;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.functionscore.ScoreFunctionBuilders;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.script.MockScriptPlugin;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptType;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
+import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_ALL;
+import static org.opensearch.search.aggregations.AggregationBuilders.max;
+import static org.opensearch.search.aggregations.AggregationBuilders.stats;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 1)
+public class LeafAggregationCacheIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX = "index";
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Collections.singleton(CustomScriptPlugin.class);
+    }
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal) {
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal))
+            .put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE.getKey(), CONCURRENT_SEGMENT_SEARCH_MODE_ALL)
+            .build();
+    }
+
+    public static class CustomScriptPlugin extends MockScriptPlugin {
+        @Override
+        protected Map<String, Function<Map<String, Object>, Object>> pluginScripts() {
+            return Collections.singletonMap("_score", vars -> ((Number) vars.get("_score")).doubleValue());
+        }
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        assertAcked(
+            prepareCreate(INDEX).setSettings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+            ).setMapping("tag", "type=keyword", "value", "type=long", "text", "type=text")
+        );
+        // several segments, one per refresh
+        for (int segment = 0; segment < 4; segment++) {
+            indexDocs(randomIntBetween(5, 20));
+        }
+    }
+
+    public void testSameResultsWithAndWithoutCache() {
+        final QueryBuilder query = QueryBuilders.rangeQuery("value").gte(randomIntBetween(0, 20));
+        final TermsAggregationBuilder aggregation = terms("tags").field("tag")
+            .order(BucketOrder.key(randomBoolean()))
+            .subAggregation(sum("sum").field("value"))
+            .subAggregation(stats("stats").field("value"));
+
+        final String uncached = aggregate(query, aggregation);
+        setCacheEnabled(true);
+        assertEquals(uncached, aggregate(query, aggregation));
+        assertThat(leafCacheCount(), greaterThan(0));
+        // served from the cache now
+        assertEquals(uncached, aggregate(query, aggregation));
+
+        // only the new segment is collected, the others are served from the cache
+        indexDocs(randomIntBetween(5, 20));
+        final String cached = aggregate(query, aggregation);
+        setCacheEnabled(false);
+        assertEquals(aggregate(query, aggregation), cached);
+    }
+
+    public void testScoreDependentAggregationBypassesCache() {
+        final QueryBuilder query = QueryBuilders.matchQuery("text", "quick fox");
+        final TermsAggregationBuilder aggregation = terms("tags").field("tag")
+            .order(BucketOrder.key(true))
+            .subAggregation(max("max_score").script(new Script(ScriptType.INLINE, CustomScriptPlugin.NAME, "_score", Map.of())));
+
+        final String uncached = aggregate(query, aggregation);
+        setCacheEnabled(true);
+        assertEquals(uncached, aggregate(query, aggregation));
+        assertEquals(0, leafCacheCount());
+        // scores change with the term statistics of the new segment for all segments
+        indexDocs(randomIntBetween(5, 20));
+        final String cached = aggregate(query, aggregation);
+        assertEquals(0, leafCacheCount());
+        setCacheEnabled(false);
+        assertEquals(aggregate(query, aggregation), cached);
+    }
+
+    public void testMinScoreQueryBypassesCache() {
+        final QueryBuilder query = QueryBuilders.functionScoreQuery(
+            QueryBuilders.matchQuery("text", "quick fox"),
+            ScoreFunctionBuilders.fieldValueFactorFunction("value").missing(1)
+        ).setMinScore(randomIntBetween(1, 20));
+        final TermsAggregationBuilder aggregation = terms("tags").field("tag")
+            .order(BucketOrder.key(true))
+            .subAggregation(sum("sum").field("value"));
+
+        final String uncached = aggregate(query, aggregation);
+        setCacheEnabled(true);
+        assertEquals(uncached, aggregate(query, aggregation));
+        assertEquals(0, leafCacheCount());
+    }
+
+    public void testQueryMissingFromAllowlistBypassesCache() {
+        // picks its terms by their document frequency in the whole reader
+        final QueryBuilder query = QueryBuilders.moreLikeThisQuery(new String[] { "text" }, new String[] { "quick fox" }, null)
+            .minTermFreq(1)
+            .minDocFreq(1);
+        final TermsAggregationBuilder aggregation = terms("tags").field("tag").order(BucketOrder.key(true));
+
+        final String uncached = aggregate(query, aggregation);
+        setCacheEnabled(true);
+        assertEquals(uncached, aggregate(query, aggregation));
+        assertEquals(0, leafCacheCount());
+    }
+
+    public void testCountOrderedTermsBypassCache() {
+        // the top buckets of every segment would be cut to shard_size before they are reduced
+        final TermsAggregationBuilder aggregation = terms("tags").field("tag").shardSize(2);
+
+        final String uncached = aggregate(QueryBuilders.matchAllQuery(), aggregation);
+        setCacheEnabled(true);
+        assertEquals(uncached, aggregate(QueryBuilders.matchAllQuery(), aggregation));
+        assertEquals(0, leafCacheCount());
+    }
+
+    private String aggregate(QueryBuilder query, AggregationBuilder aggregation) {
+        // bypass the shard request cache, which would otherwise serve the repeated requests
+        final SearchRequestBuilder request = client().prepareSearch(INDEX)
+            .setQuery(query)
+            .setSize(0)
+            .setRequestCache(false)
+            .addAggregation(aggregation);
+        final SearchResponse response = request.get();
+        assertSearchResponse(response);
+        return Strings.toString(MediaTypeRegistry.JSON, response.getAggregations());
+    }
+
+    private void indexDocs(int numDocs) {
+        final String[] words = { "quick", "brown", "fox", "lazy", "dog" };
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex(INDEX)
+                .setSource(
+                    "tag",
+                    "tag-" + randomIntBetween(0, 5),
+                    "value",
+                    randomIntBetween(0, 100),
+                    "text",
+                    randomFrom(words) + " " + randomFrom(words) + " " + randomFrom(words)
+                )
+                .get();
+        }
+        refresh(INDEX);
+    }
+
+    private void setCacheEnabled(boolean enabled) {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder().put(LeafAggregationCache.SEARCH_LEAF_AGGREGATION_CACHE_ENABLED.getKey(), enabled)
+                )
+        );
+    }
+
+    private int leafCacheCount() {
+        return internalCluster().getDataNodeInstance(SearchService.class).getLeafAggregationCache().count();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(LeafAggregationCache.SEARCH_LEAF_AGGREGATION_CACHE_ENABLED.getKey()))
+        );
+        super.tearDown();
+    }
+}
@@ -22,6 +22,7 @@ import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequestBuilder;
 import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.block.ClusterBlockException;
@@ -43,11 +44,16 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.node.Node;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.RepositoryData;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.repositories.fs.FsRepository;
+import org.opensearch.search.SearchHit;
 import org.opensearch.transport.client.Client;
 import org.hamcrest.MatcherAssert;
 import org.junit.After;
@@ -57,6 +63,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -74,11 +81,17 @@ import static org.opensearch.test.NodeRoles.dataNode;
 import static org.opensearch.test.NodeRoles.onlyRole;
 import static org.opensearch.test.NodeRoles.onlyRoles;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 
 @ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
@@ -273,6 +286,131 @@ public final class SearchableSnapshotIT extends AbstractSnapshotIntegTestCase {
         assertDocCount(restoredIndexName, 1000L);
     }
 
+    /**
+     * Snapshots an index into a repository that splits files into content-defined chunks, restores and mounts it and verifies that
+     * deleting snapshots keeps the chunks that remaining snapshots share and removes the others.
+     */
+    public void testChunkDeduplicationRoundTrip() throws Exception {
+        final String indexName = "test-idx";
+        final String repoName = "test-repo";
+        final Client client = client();
+        final Path repoPath = randomRepoPath();
+        internalCluster().ensureAtLeastNumWarmAndDataNodes(1);
+        createIndex(
+            indexName,
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), IndexModule.Type.FS.getSettingsKey())
+                .build()
+        );
+        ensureGreen();
+        createRepositoryWithSettings(
+            Settings.builder()
+                .put("location", repoPath)
+                .put("compress", randomBoolean())
+                .put(BlobStoreRepository.CHUNK_DEDUPLICATION_SETTING.getKey(), true)
+                .put(BlobStoreRepository.CHUNK_DEDUPLICATION_AVERAGE_SIZE_SETTING.getKey(), "64kb"),
+            repoName
+        );
+
+        // the stored fields of these documents are large enough to be chunked
+        indexLargeDocs(indexName, 0, 1000);
+        takeSnapshot(client, "snap-1", repoName, indexName);
+        final Set<String> firstChunks = chunkBlobs(repoPath);
+        assertThat(firstChunks, not(empty()));
+        assertEquals(referencedChunks(repoName, indexName, "snap-1"), firstChunks);
+
+        // the second snapshot reuses the chunks of the unchanged segment
+        indexLargeDocs(indexName, 1000, 10);
+        takeSnapshot(client, "snap-2", repoName, indexName);
+        assertThat(referencedChunks(repoName, indexName, "snap-2"), hasItems(firstChunks.toArray(new String[0])));
+
+        // the merged segment is chunked anew, it only shares the chunks whose contents the merge copied over
+        assertNoFailures(client.admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).setFlush(true).get());
+        takeSnapshot(client, "snap-3", repoName, indexName);
+        final Set<String> lastChunks = referencedChunks(repoName, indexName, "snap-3");
+
+        // the chunks of the first snapshot are all shared with the second one
+        assertAcked(client.admin().cluster().prepareDeleteSnapshot(repoName, "snap-1").get());
+        final Set<String> secondAndLastChunks = new HashSet<>(referencedChunks(repoName, indexName, "snap-2"));
+        secondAndLastChunks.addAll(lastChunks);
+        assertEquals(secondAndLastChunks, chunkBlobs(repoPath));
+
+        // the chunks that only the second snapshot used are removed, at least the ones with the headers of the unmerged segments
+        assertAcked(client.admin().cluster().prepareDeleteSnapshot(repoName, "snap-2").get());
+        assertThat(lastChunks.size(), lessThan(secondAndLastChunks.size()));
+        assertEquals(lastChunks, chunkBlobs(repoPath));
+
+        deleteIndicesAndEnsureGreen(client, indexName);
+        client.admin()
+            .cluster()
+            .prepareRestoreSnapshot(repoName, "snap-3")
+            .setRenamePattern("(.+)")
+            .setRenameReplacement("$1-restored")
+            .setWaitForCompletion(true)
+            .get();
+        ensureGreen();
+        assertLargeDocs(indexName + "-restored", 1010);
+
+        // searchable snapshots read the chunks of a file through the blocks they are cached in
+        restoreSnapshotAndEnsureGreen(client, "snap-3", repoName);
+        assertRemoteSnapshotIndexSettings(client, indexName + "-copy");
+        assertLargeDocs(indexName + "-copy", 1010);
+
+        deleteIndicesAndEnsureGreen(client, indexName + "-copy");
+        assertAcked(client.admin().cluster().prepareDeleteSnapshot(repoName, "snap-3").get());
+        assertThat(chunkBlobs(repoPath), empty());
+    }
+
+    private void indexLargeDocs(String indexName, int from, int numDocs) {
+        for (int i = from; i < from + numDocs; i++) {
+            client().prepareIndex(indexName).setId(Integer.toString(i)).setSource("id", i, "text", randomAlphaOfLength(1000)).get();
+        }
+        assertNoFailures(client().admin().indices().prepareFlush(indexName).setForce(true).get());
+    }
+
+    private void assertLargeDocs(String indexName, int numDocs) {
+        final SearchResponse response = client().prepareSearch(indexName).setSize(numDocs).get();
+        assertHitCount(response, numDocs);
+        for (SearchHit hit : response.getHits()) {
+            assertEquals(1000, ((String) hit.getSourceAsMap().get("text")).length());
+        }
+    }
+
+    private static Set<String> chunkBlobs(Path repoPath) throws IOException {
+        try (Stream<Path> files = Files.walk(repoPath)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith("__chunk-"))
+                .collect(Collectors.toSet());
+        }
+    }
+
+    private Set<String> referencedChunks(String repoName, String indexName, String snapshotName) {
+        final BlobStoreRepository repository = (BlobStoreRepository) internalCluster().getCurrentClusterManagerNodeInstance(
+            RepositoriesService.class
+        ).repository(repoName);
+        final RepositoryData repositoryData = getRepositoryData(repository);
+        final SnapshotId snapshotId = repositoryData.getSnapshotIds()
+            .stream()
+            .filter(id -> id.getName().equals(snapshotName))
+            .findFirst()
+            .orElseThrow();
+        final BlobStoreIndexShardSnapshot shardSnapshot = (BlobStoreIndexShardSnapshot) repository.loadShardSnapshot(
+            repository.shardContainer(repositoryData.resolveIndexId(indexName), 0),
+            snapshotId
+        );
+        final Set<String> chunks = new HashSet<>();
+        for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : shardSnapshot.indexFiles()) {
+            if (fileInfo.chunks() != null) {
+                for (BlobStoreIndexShardSnapshot.Chunk chunk : fileInfo.chunks()) {
+                    chunks.add(chunk.name());
+                }
+            }
+        }
+        return chunks;
+    }
+
     /**
      * Tests the functionality of remote shard allocation to
      * ensure it can assign remote shards to a node with local shards given it has the
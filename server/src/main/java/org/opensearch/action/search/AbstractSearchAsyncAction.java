@@ -46,6 +46,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.core.action.ActionListener;
@@ -63,6 +64,7 @@ import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanCreationContext;
 import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -77,6 +79,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -122,6 +125,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final boolean throttleConcurrentRequests;
     private final SearchRequestContext searchRequestContext;
     private final Tracer tracer;
+    private HedgedRequests hedgedRequests;
 
     private SearchPhase currentPhase;
     private boolean currentPhaseHasLifecycle;
@@ -187,6 +191,13 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         this.tracer = tracer;
     }
 
+    /**
+     * Enables hedged requests for the initial phase of this action, must be called before the action is started.
+     */
+    void setHedgedRequests(HedgedRequests hedgedRequests) {
+        this.hedgedRequests = hedgedRequests;
+    }
+
     @Override
     public void addReleasable(Releasable releasable) {
         releasables.add(releasable);
@@ -294,18 +305,29 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                 : null;
             Runnable r = () -> {
                 final Thread thread = Thread.currentThread();
+                HedgedShardRequest hedgedRequest = null;
                 try {
                     final SearchPhase phase = this;
-                    SearchActionListener<Result> listener = createShardActionListener(
-                        shard,
-                        shardIndex,
-                        shardIt,
-                        phase,
-                        pendingExecutions,
-                        thread
-                    );
+                    SearchActionListener<Result> listener;
+                    if (hedgedRequests != null && shardIt.remaining() > 0) {
+                        hedgedRequest = new HedgedShardRequest(
+                            shardIndex,
+                            shardIt,
+                            shard,
+                            target -> createShardActionListener(target, shardIndex, shardIt, phase, pendingExecutions, thread)
+                        );
+                        listener = hedgedRequest.start();
+                    } else {
+                        listener = createShardActionListener(shard, shardIndex, shardIt, phase, pendingExecutions, thread);
+                    }
                     executePhaseOnShard(shardIt, shard, listener);
+                    if (hedgedRequest != null) {
+                        hedgedRequest.onSent();
+                    }
                 } catch (final Exception e) {
+                    if (hedgedRequest != null) {
+                        hedgedRequest.cancel();
+                    }
                     try {
                         /*
                          * It is possible to run into connection exceptions here because we are getting the connection early and might
@@ -334,6 +356,217 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    /**
+     * Tracks the requests sent for a single shard when hedging is enabled. The first request is sent to the first copy of the
+     * shard as usual; if no response arrived after the delay given by {@link HedgedRequests}, the same request is sent to the
+     * next copy the shard would fail over to, skipping the copies that are weighed away. Like any other request to a node,
+     * the hedged request waits for a permit if the node has too many requests in flight. The first response is passed to the
+     * listener of the shard, the other one is dropped and its search context released. A failure is only passed on
+     * once no other request is in flight, in which case the shard fails over to the remaining copies as usual. The listener of
+     * the shard is only created once the shard completes, for the copy whose response or last failure completes it.
+     * <p>
+     * Every copy taken from the shard iterator must be counted exactly once in {@link #totalOps}: the listener of the shard
+     * counts the copy whose response or last failure it receives, a failure of a request while the other is still in flight
+     * is recorded and counted right away unless a response already won, and the request that is still in flight when the
+     * winning response arrives is counted before the response is passed on.
+     */
+    private final class HedgedShardRequest {
+        private final int shardIndex;
+        private final SearchShardIterator shardIt;
+        private final SearchShardTarget shard;
+        private final Function<SearchShardTarget, SearchActionListener<Result>> listenerFactory;
+        private int inFlight = 1;
+        private boolean sent;
+        private boolean done;
+        private boolean hedged;
+        private boolean hedgeDue;
+        private Scheduler.Cancellable timer;
+
+        HedgedShardRequest(
+            int shardIndex,
+            SearchShardIterator shardIt,
+            SearchShardTarget shard,
+            Function<SearchShardTarget, SearchActionListener<Result>> listenerFactory
+        ) {
+            this.shardIndex = shardIndex;
+            this.shardIt = shardIt;
+            this.shard = shard;
+            this.listenerFactory = listenerFactory;
+        }
+
+        /**
+         * Schedules the hedged request and returns the listener for the request to the first copy.
+         */
+        SearchActionListener<Result> start() {
+            final TimeValue delay = hedgedRequests.delay(shard.getNodeId());
+            final Scheduler.Cancellable cancellable = hedgedRequests.schedule(() -> fork(this::hedge), delay);
+            synchronized (this) {
+                if (done) {
+                    cancellable.cancel();
+                } else {
+                    timer = cancellable;
+                }
+            }
+            // the permit of the first request is released by its own listener
+            return attemptListener(shard, () -> {});
+        }
+
+        /**
+         * Called once the first request was sent, the request is only hedged afterwards.
+         */
+        void onSent() {
+            final boolean hedgeNow;
+            synchronized (this) {
+                sent = true;
+                hedgeNow = hedgeDue;
+            }
+            if (hedgeNow) {
+                // the delay passed while the first request was being sent
+                fork(this::hedge);
+            }
+        }
+
+        /**
+         * Called if sending the first request failed, the failure is handled by the caller.
+         */
+        synchronized void cancel() {
+            done = true;
+            if (timer != null) {
+                timer.cancel();
+            }
+        }
+
+        private void hedge() {
+            final SearchShardTarget hedgeShard;
+            synchronized (this) {
+                if (done || hedged) {
+                    return;
+                }
+                if (sent == false) {
+                    hedgeDue = true;
+                    return;
+                }
+                // copies that are skipped are counted right away, like when failing over to the next copy
+                hedgeShard = FailAwareWeightedRouting.getInstance().findNext(shardIt, clusterState, null, () -> totalOps.incrementAndGet());
+                if (hedgeShard == null) {
+                    return;
+                }
+                hedged = true;
+                inFlight++;
+            }
+            logger.trace("{}: no response from [{}] yet, hedging request to [{}]", shardIt.shardId(), shard.getNodeId(), hedgeShard);
+            final PendingExecutions pendingExecutions = throttleConcurrentRequests
+                ? pendingExecutionsPerNode.computeIfAbsent(hedgeShard.getNodeId(), n -> new PendingExecutions(maxConcurrentRequestsPerNode))
+                : null;
+            final Runnable r = () -> {
+                final Thread thread = Thread.currentThread();
+                final Runnable releasePermit = () -> executeNext(pendingExecutions, thread);
+                synchronized (this) {
+                    if (done) {
+                        // the hedged request waited for a permit until the shard completed, it was counted already
+                        releasePermit.run();
+                        return;
+                    }
+                }
+                final SearchActionListener<Result> hedgeListener = attemptListener(hedgeShard, releasePermit);
+                try {
+                    executePhaseOnShard(shardIt, hedgeShard, hedgeListener);
+                } catch (Exception e) {
+                    hedgeListener.onFailure(e);
+                }
+            };
+            if (throttleConcurrentRequests) {
+                pendingExecutions.tryRun(r);
+            } else {
+                r.run();
+            }
+        }
+
+        /**
+         * @param onCompleted called once the request to the given target completed, whichever way it completed
+         */
+        private SearchActionListener<Result> attemptListener(SearchShardTarget target, Runnable onCompleted) {
+            return new SearchActionListener<Result>(target, shardIndex) {
+                @Override
+                protected void innerOnResponse(Result result) {
+                    try {
+                        onAttemptResponse(result);
+                    } finally {
+                        onCompleted.run();
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    try {
+                        onAttemptFailure(e);
+                    } finally {
+                        onCompleted.run();
+                    }
+                }
+
+                private void onAttemptResponse(Result result) {
+                    final int uncounted;
+                    synchronized (HedgedShardRequest.this) {
+                        if (done) {
+                            releaseLoser(result);
+                            return;
+                        }
+                        done = true;
+                        uncounted = inFlight - 1;
+                        if (timer != null) {
+                            timer.cancel();
+                        }
+                    }
+                    if (uncounted > 0) {
+                        // the request that lost the race will not be counted once it completes
+                        totalOps.addAndGet(uncounted);
+                    }
+                    // the shard target of the result was set by this listener already
+                    listenerFactory.apply(target).innerOnResponse(result);
+                }
+
+                private void onAttemptFailure(Exception e) {
+                    synchronized (HedgedShardRequest.this) {
+                        if (done) {
+                            // a response won or the shard failed over already
+                            return;
+                        }
+                        inFlight--;
+                        if (inFlight > 0) {
+                            // recorded under the lock, so that a winning response only clears the failure once it was recorded
+                            logger.trace(
+                                () -> new ParameterizedMessage("{}: request to [{}] failed while hedging", shardIt.shardId(), target),
+                                e
+                            );
+                            onShardFailure(shardIndex, target, e);
+                            totalOps.incrementAndGet();
+                            return;
+                        }
+                        // no other request in flight, stop hedging before the failure moves on to the next copy
+                        done = true;
+                        if (timer != null) {
+                            timer.cancel();
+                        }
+                    }
+                    listenerFactory.apply(target).onFailure(e);
+                }
+            };
+        }
+
+        private void releaseLoser(Result result) {
+            if (result.getContextId() != null && request.pointInTimeBuilder() == null) {
+                final SearchShardTarget target = result.getSearchShardTarget();
+                try {
+                    final Transport.Connection connection = getConnection(target.getClusterAlias(), target.getNodeId());
+                    sendReleaseSearchContext(result.getContextId(), connection, target.getOriginalIndices());
+                } catch (Exception e) {
+                    logger.trace("failed to release context of hedged request", e);
+                }
+            }
+        }
+    }
+
     /**
      * Extension point to create the appropriate action listener for shard execution.
      * Override this method to provide custom listener implementations (e.g., streaming listeners).
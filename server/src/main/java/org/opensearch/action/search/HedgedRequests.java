@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.OptionalDouble;
+
+/**
+ * Decides when {@link AbstractSearchAsyncAction} sends a hedged request for a shard, that is a duplicate of the request of its
+ * initial phase to the next copy of the shard, whose response is used if it arrives before the response of the first copy.
+ * The request is hedged once the node of the first copy took longer than the configured percentile of its recent response
+ * times, see {@link ResponseCollectorService#RESPONSE_TIME_PERCENTILE_SETTING}, but never earlier than the minimum delay.
+ *
+ * @opensearch.internal
+ */
+class HedgedRequests {
+
+    private final ThreadPool threadPool;
+    private final ResponseCollectorService responseCollectorService;
+    private final TimeValue minDelay;
+
+    HedgedRequests(ThreadPool threadPool, ResponseCollectorService responseCollectorService, TimeValue minDelay) {
+        this.threadPool = threadPool;
+        this.responseCollectorService = responseCollectorService;
+        this.minDelay = minDelay;
+    }
+
+    /**
+     * The time to wait for a response of the given node before hedging its request
+     */
+    TimeValue delay(String nodeId) {
+        final OptionalDouble percentile = responseCollectorService.getResponseTimePercentile(nodeId);
+        if (percentile.isPresent() && percentile.getAsDouble() > minDelay.nanos()) {
+            return TimeValue.timeValueNanos((long) percentile.getAsDouble());
+        }
+        return minDelay;
+    }
+
+    Scheduler.Cancellable schedule(Runnable command, TimeValue delay) {
+        return threadPool.schedule(command, delay, ThreadPool.Names.SAME);
+    }
+}
@@ -170,6 +170,27 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether the requests of the initial search phase are hedged, see {@link HedgedRequests}
+     */
+    public static final Setting<Boolean> SEARCH_HEDGED_REQUESTS_ENABLED = Setting.boolSetting(
+        "search.hedged_requests.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The minimum time to wait for the response of a shard copy before hedging the request
+     */
+    public static final Setting<TimeValue> SEARCH_HEDGED_REQUESTS_MIN_DELAY = Setting.timeSetting(
+        "search.hedged_requests.min_delay",
+        TimeValue.timeValueMillis(50),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -1371,6 +1392,18 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
             }
+            // scroll and point in time searches keep the readers of the copy they opened, so they are never hedged
+            if (clusterService.getClusterSettings().get(SEARCH_HEDGED_REQUESTS_ENABLED)
+                && searchRequest.scroll() == null
+                && searchRequest.pointInTimeBuilder() == null) {
+                searchAsyncAction.setHedgedRequests(
+                    new HedgedRequests(
+                        threadPool,
+                        searchService.getResponseCollectorService(),
+                        clusterService.getClusterSettings().get(SEARCH_HEDGED_REQUESTS_MIN_DELAY)
+                    )
+                );
+            }
             return searchAsyncAction;
         }
     }
@@ -72,6 +72,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.cluster.coordination.Coordinator.ZEN1_BWC_TERM;
@@ -906,6 +907,11 @@ public class ClusterState implements ToXContentFragment, Diffable<ClusterState>
 
         @Override
         public ClusterState apply(ClusterState state) {
+            return apply(state, Runnable::run);
+        }
+
+        @Override
+        public ClusterState apply(ClusterState state, Executor executor) {
             Builder builder = new Builder(clusterName);
             if (toUuid.equals(state.stateUUID)) {
                 // no need to read the rest - cluster state didn't change
@@ -918,7 +924,7 @@ public class ClusterState implements ToXContentFragment, Diffable<ClusterState>
             builder.version(toVersion);
             builder.routingTable(routingTable.apply(state.routingTable));
             builder.nodes(nodes.apply(state.nodes));
-            builder.metadata(metadata.apply(state.metadata));
+            builder.metadata(metadata.apply(state.metadata, executor));
             builder.blocks(blocks.apply(state.blocks));
             builder.customs(customs.apply(state.customs));
             builder.minimumClusterManagerNodesOnPublishingClusterManager(minimumClusterManagerNodesOnPublishingClusterManager);
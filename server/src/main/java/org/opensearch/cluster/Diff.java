@@ -35,6 +35,8 @@ package org.opensearch.cluster;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.Writeable;
 
+import java.util.concurrent.Executor;
+
 /**
  * Represents difference between states of cluster state parts
  *
@@ -47,4 +49,12 @@ public interface Diff<T> extends Writeable {
      * Applies difference to the specified part and returns the resulted part
      */
     T apply(T part);
+
+    /**
+     * Applies difference to the specified part and returns the resulted part, independent parts of the difference may be applied
+     * in parallel on the given executor. Applies the difference on the calling thread by default.
+     */
+    default T apply(T part, Executor executor) {
+        return apply(part);
+    }
 }
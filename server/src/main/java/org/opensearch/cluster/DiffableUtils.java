@@ -46,6 +46,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Utility class for a diffable
@@ -55,6 +60,12 @@ import java.util.Set;
 public final class DiffableUtils {
     private DiffableUtils() {}
 
+    /**
+     * The minimum number of map entry diffs for a task that applies them in parallel to the diffs applied by other tasks, see
+     * {@link Diff#apply(Object, Executor)}.
+     */
+    public static final int MIN_DIFFS_PER_TASK = 64;
+
     /**
      * Returns a map key serializer for String keys
      */
@@ -178,6 +189,80 @@ public final class DiffableUtils {
             }
             return builder;
         }
+
+        @Override
+        public Map<K, T> apply(Map<K, T> map, Executor executor) {
+            if (diffs.size() < MIN_DIFFS_PER_TASK * 2) {
+                return apply(map);
+            }
+            Map<K, T> builder = new HashMap<>(map);
+
+            for (K part : deletes) {
+                builder.remove(part);
+            }
+
+            builder.putAll(applyDiffs(builder, diffs, executor));
+
+            for (Map.Entry<K, T> upsert : upserts.entrySet()) {
+                builder.put(upsert.getKey(), upsert.getValue());
+            }
+            return builder;
+        }
+    }
+
+    /**
+     * Applies the given diffs to the values of the given map, which must not change until the diffs are applied, and returns the
+     * resulting values. The diffs are spread over the calling thread and tasks forked to the given executor, the calling thread keeps
+     * applying diffs until none is left so the diffs are all applied even if the executor doesn't run the tasks in time or rejects them.
+     */
+    private static <K, T> Map<K, T> applyDiffs(Map<K, T> map, Map<K, Diff<T>> diffs, Executor executor) {
+        final List<Map.Entry<K, Diff<T>>> entries = new ArrayList<>(diffs.entrySet());
+        final List<T> applied = new ArrayList<>(Collections.nCopies(entries.size(), null));
+        final AtomicInteger next = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(entries.size());
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Runnable task = () -> {
+            for (int i = next.getAndIncrement(); i < entries.size(); i = next.getAndIncrement()) {
+                try {
+                    final Map.Entry<K, Diff<T>> entry = entries.get(i);
+                    applied.set(i, entry.getValue().apply(map.get(entry.getKey())));
+                } catch (RuntimeException e) {
+                    failure.accumulateAndGet(e, (first, other) -> {
+                        if (first == null) {
+                            return other;
+                        }
+                        first.addSuppressed(other);
+                        return first;
+                    });
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+        final int forks = Math.min(Runtime.getRuntime().availableProcessors(), entries.size() / MIN_DIFFS_PER_TASK) - 1;
+        for (int i = 0; i < forks; i++) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        task.run();
+        try {
+            // the diffs that are left are being applied by forked tasks at this point
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while applying diffs", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        final Map<K, T> result = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            result.put(entries.get(i).getKey(), applied.get(i));
+        }
+        return result;
     }
 
     /**
@@ -63,6 +63,7 @@ import org.opensearch.transport.TransportService;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -207,7 +208,9 @@ public class PublicationTransportHandler {
                         try (StreamInput input = in) {
                             diff = ClusterState.readDiffFrom(input, lastSeen.nodes().getLocalNode());
                         }
-                        incomingState = diff.apply(lastSeen); // might throw IncompatibleClusterStateVersionException
+                        // the index metadata diffs are independent, so they are applied in parallel on the generic thread pool
+                        final Executor executor = transportService.getThreadPool().generic();
+                        incomingState = diff.apply(lastSeen, executor); // might throw IncompatibleClusterStateVersionException
                     } catch (IncompatibleClusterStateVersionException e) {
                         incompatibleClusterStateDiffReceivedCount.incrementAndGet();
                         throw e;
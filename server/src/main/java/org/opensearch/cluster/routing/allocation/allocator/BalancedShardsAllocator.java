@@ -868,9 +868,5 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         protected int comparePivot(int j) {
             return Float.compare(pivotWeight, weights[j]);
         }
-
-        public float delta() {
-            return weights[weights.length - 1] - weights[0];
-        }
     }
 }
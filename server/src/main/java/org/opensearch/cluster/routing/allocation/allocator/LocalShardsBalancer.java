@@ -76,6 +76,10 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private final Set<RoutingNode> inEligibleTargetNode;
     private final Supplier<Boolean> timedOutFunc;
     private int totalShardCount = 0;
+    /**
+     * Counts the relocations applied to the model by {@link #tryRelocateShard}, to tell whether weights computed earlier are stale.
+     */
+    private long modelChanges = 0;
 
     public LocalShardsBalancer(
         Logger logger,
@@ -349,7 +353,10 @@ public class LocalShardsBalancer extends ShardsBalancer {
         final AllocationDeciders deciders = allocation.deciders();
         final BalancedShardsAllocator.ModelNode[] modelNodes = sorter.modelNodes;
         final float[] weights = sorter.weights;
-        for (String index : buildWeightOrderedIndices()) {
+        final WeightOrderedIndices weightOrderedIndices = buildWeightOrderedIndices();
+        final long modelChangesWhenOrdered = modelChanges;
+        for (int indexOrd = 0; indexOrd < weightOrderedIndices.indices().length; indexOrd++) {
+            final String index = weightOrderedIndices.indices()[indexOrd];
             // Terminate if the time allocated to the balanced shards allocator has elapsed
             if (timedOutFunc != null && timedOutFunc.get()) {
                 logger.info(
@@ -358,6 +365,16 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 );
                 return;
             }
+
+            // The delta between any two nodes is at most the delta over all nodes, so if that is below the threshold no shard of
+            // this index can be relocated below. Skip the index before asking the deciders which nodes are relevant, which is most
+            // of the work on large balanced clusters. The delta only needs to be recomputed if a relocation changed the model.
+            final float indexDelta = modelChanges == modelChangesWhenOrdered
+                ? weightOrderedIndices.deltas()[indexOrd]
+                : weightDelta(modelNodes, index);
+            if (lessThan(indexDelta, threshold)) {
+                continue;
+            }
             IndexMetadata indexMetadata = metadata.index(index);
 
             // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
@@ -495,7 +512,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
      * average. To re-balance we need to move shards back eventually likely
      * to the nodes we relocated them from.
      */
-    private String[] buildWeightOrderedIndices() {
+    private WeightOrderedIndices buildWeightOrderedIndices() {
 
         final List<String> localIndices = new ArrayList<>();
         for (String index : allocation.routingTable().indicesRouting().keySet().toArray(new String[0])) {
@@ -506,9 +523,10 @@ public class LocalShardsBalancer extends ShardsBalancer {
         final String[] indices = localIndices.toArray(new String[0]);
 
         final float[] deltas = new float[indices.length];
+        final BalancedShardsAllocator.ModelNode[] modelNodes = sorter.modelNodes;
+        // compute the weight delta of every index once, instead of on every comparison of the sort
         for (int i = 0; i < deltas.length; i++) {
-            sorter.reset(indices[i]);
-            deltas[i] = sorter.delta();
+            deltas[i] = weightDelta(modelNodes, indices[i]);
         }
         new IntroSorter() {
 
@@ -540,7 +558,27 @@ public class LocalShardsBalancer extends ShardsBalancer {
             }
         }.sort(0, deltas.length);
 
-        return indices;
+        return new WeightOrderedIndices(indices, deltas);
+    }
+
+    /**
+     * Indices ordered by decreasing delta between the highest and the lowest weight of the index over all nodes.
+     */
+    private record WeightOrderedIndices(String[] indices, float[] deltas) {
+    }
+
+    /**
+     * The delta between the highest and the lowest weight of the given index over the given nodes.
+     */
+    private float weightDelta(BalancedShardsAllocator.ModelNode[] modelNodes, String index) {
+        float min = Float.POSITIVE_INFINITY;
+        float max = Float.NEGATIVE_INFINITY;
+        for (BalancedShardsAllocator.ModelNode node : modelNodes) {
+            final float nodeWeight = weight.weightWithRebalanceConstraints(this, node, index);
+            min = Math.min(min, nodeWeight);
+            max = Math.max(max, nodeWeight);
+        }
+        return max - min;
     }
 
     /**
@@ -1099,6 +1137,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 final Decision decision = new Decision.Multi().add(allocationDecision).add(rebalanceDecision);
                 maxNode.removeShard(shard);
                 --totalShardCount;
+                ++modelChanges;
                 long shardSize = allocation.clusterInfo().getShardSize(shard, ShardRouting.UNAVAILABLE_EXPECTED_SHARD_SIZE);
 
                 if (decision.type() == Decision.Type.YES) {
@@ -0,0 +1,475 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.SLAB_SIZE_KEY;
+
+/**
+ * A cache which keeps serialized values outside of the java heap. Keys stay on heap and point into fixed-size direct
+ * memory slabs which are filled sequentially. Each segment owns a ring of slabs; when the ring is full, the oldest
+ * slab is reclaimed as a whole and every live entry stored in it is evicted. This avoids fragmentation and keeps the
+ * bookkeeping per entry small, at the cost of approximating LRU with FIFO-by-slab eviction.
+ *
+ * Values are serialized with the value serializer from the {@link CacheConfig}, e.g. {@link
+ * org.opensearch.common.cache.serializer.BytesReferenceSerializer}, so a hit costs one copy from direct memory but no
+ * GC pressure while the entry is resident.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+public class OpenSearchOffHeapCache<K, V> implements ICache<K, V> {
+
+    private static final int DEFAULT_NUMBER_OF_SEGMENTS = 16;
+
+    private final List<Segment<K>> segments;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final long maximumWeight;
+    private final int slabSize;
+
+    public OpenSearchOffHeapCache(Builder<K, V> builder) {
+        this.maximumWeight = builder.getMaxWeightInBytes();
+        this.slabSize = builder.slabSize;
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (slabSize <= 0) {
+            throw new IllegalArgumentException("Slab size should be greater than 0");
+        }
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OpenSearchOffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+        int numberOfSegments = builder.getNumberOfSegments() > 0 ? builder.getNumberOfSegments() : DEFAULT_NUMBER_OF_SEGMENTS;
+        long bytesPerSegment = maximumWeight / numberOfSegments;
+        // Every segment gets at least one slab so small caches still work, even if that overshoots the configured size.
+        int slabsPerSegment = (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytesPerSegment / slabSize));
+        this.segments = new ArrayList<>(numberOfSegments);
+        for (int i = 0; i < numberOfSegments; i++) {
+            segments.add(new Segment<>(slabsPerSegment, slabSize));
+        }
+    }
+
+    // pkg-private for testing
+    long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    // pkg-private for testing
+    int getSlabSize() {
+        return this.slabSize;
+    }
+
+    private Segment<K> segmentFor(ICacheKey<K> key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments.get(Math.floorMod(h, segments.size()));
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to off-heap cache was null.");
+        }
+        byte[] bytes = segmentFor(key).read(key);
+        if (bytes != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+            return valueSerializer.deserialize(bytes);
+        }
+        cacheStatsHolder.incrementMisses(key.dimensions);
+        return null;
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        byte[] bytes = valueSerializer.serialize(value);
+        if (bytes == null) {
+            return;
+        }
+        long weight = weigher.applyAsLong(key, value);
+        List<Entry<K>> removed = new ArrayList<>();
+        Entry<K> replaced;
+        boolean stored;
+        Segment<K> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            replaced = segment.remove(key);
+            stored = segment.write(key, bytes, weight, removed);
+        } finally {
+            segment.lock.unlock();
+        }
+        if (replaced != null) {
+            notifyRemoval(replaced, RemovalReason.REPLACED);
+        }
+        for (Entry<K> evicted : removed) {
+            notifyRemoval(evicted, RemovalReason.EVICTED);
+        }
+        if (stored) {
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, weight);
+        }
+    }
+
+    /**
+     * Concurrent misses on the same key may load the value more than once; the last writer wins. Callers needing
+     * single-flight loading, such as the {@code TieredSpilloverCache}, already de-duplicate loads before reaching a tier.
+     */
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        byte[] bytes = segmentFor(key).read(key);
+        if (bytes != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+            return valueSerializer.deserialize(bytes);
+        }
+        V value = loader.load(key);
+        if (value == null) {
+            throw new NullPointerException("loader returned a null value");
+        }
+        cacheStatsHolder.incrementMisses(key.dimensions);
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            Entry<K> removed;
+            Segment<K> segment = segmentFor(key);
+            segment.lock.lock();
+            try {
+                removed = segment.remove(key);
+            } finally {
+                segment.lock.unlock();
+            }
+            if (removed != null) {
+                notifyRemoval(removed, RemovalReason.INVALIDATED);
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Segment<K> segment : segments) {
+            List<Entry<K>> removed;
+            segment.lock.lock();
+            try {
+                removed = segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+            for (Entry<K> entry : removed) {
+                removalListener.onRemoval(
+                    new RemovalNotification<>(entry.key, valueSerializer.deserialize(entry.value), RemovalReason.INVALIDATED)
+                );
+            }
+        }
+        cacheStatsHolder.reset();
+    }
+
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        List<ICacheKey<K>> keys = new ArrayList<>();
+        for (Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                keys.addAll(segment.entries.keySet());
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                count += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void refresh() {}
+
+    @Override
+    public void close() {
+        for (Segment<K> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.clear();
+                segment.release();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private void notifyRemoval(Entry<K> entry, RemovalReason reason) {
+        removalListener.onRemoval(new RemovalNotification<>(entry.key, valueSerializer.deserialize(entry.value), reason));
+        cacheStatsHolder.decrementItems(entry.key.dimensions);
+        cacheStatsHolder.decrementSizeInBytes(entry.key.dimensions, entry.weight);
+        if (reason == RemovalReason.EVICTED) {
+            cacheStatsHolder.incrementEvictions(entry.key.dimensions);
+        }
+    }
+
+    /**
+     * Location of a serialized value inside a segment. {@code value} is only populated once the entry leaves the
+     * cache, so that removal listeners can be notified after the slab it lived in has been reused.
+     */
+    private static final class Entry<K> {
+        private final ICacheKey<K> key;
+        private final int slab;
+        private final int offset;
+        private final int length;
+        private final long weight;
+        private byte[] value;
+
+        private Entry(ICacheKey<K> key, int slab, int offset, int length, long weight) {
+            this.key = key;
+            this.slab = slab;
+            this.offset = offset;
+            this.length = length;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A ring of direct memory slabs guarded by a single lock. Slabs are allocated lazily.
+     */
+    private static final class Segment<K> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int slabSize;
+        private final Map<ICacheKey<K>, Entry<K>> entries = new HashMap<>();
+        private final ByteBuffer[] slabs;
+        private final List<List<Entry<K>>> slabEntries;
+        private int writeSlab = -1;
+        private int writeOffset;
+
+        private Segment(int numberOfSlabs, int slabSize) {
+            this.slabSize = slabSize;
+            this.slabs = new ByteBuffer[numberOfSlabs];
+            this.slabEntries = new ArrayList<>(numberOfSlabs);
+            for (int i = 0; i < numberOfSlabs; i++) {
+                slabEntries.add(new ArrayList<>());
+            }
+        }
+
+        private byte[] read(ICacheKey<K> key) {
+            lock.lock();
+            try {
+                Entry<K> entry = entries.get(key);
+                return entry == null ? null : copyOut(entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private byte[] copyOut(Entry<K> entry) {
+            byte[] bytes = new byte[entry.length];
+            slabs[entry.slab].get(entry.offset, bytes, 0, entry.length);
+            return bytes;
+        }
+
+        /**
+         * Copies {@code bytes} into the current slab, advancing to (and reclaiming) the next one if needed. Entries evicted
+         * to make room are added to {@code evicted}. Returns false if the value is larger than a slab.
+         */
+        private boolean write(ICacheKey<K> key, byte[] bytes, long weight, List<Entry<K>> evicted) {
+            assert lock.isHeldByCurrentThread();
+            if (bytes.length > slabSize) {
+                return false;
+            }
+            if (writeSlab < 0 || writeOffset + bytes.length > slabSize) {
+                advance(evicted);
+            }
+            slabs[writeSlab].put(writeOffset, bytes, 0, bytes.length);
+            Entry<K> entry = new Entry<>(key, writeSlab, writeOffset, bytes.length, weight);
+            writeOffset += bytes.length;
+            entries.put(key, entry);
+            slabEntries.get(writeSlab).add(entry);
+            return true;
+        }
+
+        private void advance(List<Entry<K>> evicted) {
+            writeSlab = (writeSlab + 1) % slabs.length;
+            writeOffset = 0;
+            if (slabs[writeSlab] == null) {
+                slabs[writeSlab] = ByteBuffer.allocateDirect(slabSize);
+                return;
+            }
+            List<Entry<K>> stored = slabEntries.get(writeSlab);
+            for (Entry<K> entry : stored) {
+                // entries that were replaced or invalidated since are no longer referenced from the index
+                if (entries.get(entry.key) == entry) {
+                    entries.remove(entry.key);
+                    entry.value = copyOut(entry);
+                    evicted.add(entry);
+                }
+            }
+            stored.clear();
+        }
+
+        private Entry<K> remove(ICacheKey<K> key) {
+            assert lock.isHeldByCurrentThread();
+            Entry<K> entry = entries.remove(key);
+            if (entry != null) {
+                entry.value = copyOut(entry);
+            }
+            return entry;
+        }
+
+        private List<Entry<K>> clear() {
+            assert lock.isHeldByCurrentThread();
+            List<Entry<K>> removed = new ArrayList<>(entries.size());
+            for (Entry<K> entry : entries.values()) {
+                entry.value = copyOut(entry);
+                removed.add(entry);
+            }
+            entries.clear();
+            for (List<Entry<K>> stored : slabEntries) {
+                stored.clear();
+            }
+            writeSlab = -1;
+            writeOffset = 0;
+            return removed;
+        }
+
+        private void release() {
+            assert lock.isHeldByCurrentThread();
+            // direct buffers are freed once they become unreachable
+            for (int i = 0; i < slabs.length; i++) {
+                slabs[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Factory to create OpenSearchOffHeap cache.
+     */
+    public static class OpenSearchOffHeapCacheFactory implements Factory {
+
+        public static final String NAME = "opensearch_offheap";
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializer outputs byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OpenSearchOffHeapCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+            Serializer<V, byte[]> valueSerializer;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OpenSearchOffHeapCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+            Builder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames())
+                .setValueSerializer(valueSerializer)
+                .setSlabSize((int) ((ByteSizeValue) settingList.get(SLAB_SIZE_KEY).get(settings)).getBytes());
+            builder.setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener())
+                .setSettings(settings);
+            long maxSizeInBytes = ((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes();
+            // Use the cache config value if present, as passed down by the TieredSpilloverCache.
+            if (config.getMaxSizeInBytes() > 0) {
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(maxSizeInBytes);
+            }
+            builder.setNumberOfSegments(config.getSegmentCount() > 0 ? config.getSegmentCount() : -1);
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private List<String> dimensionNames;
+        private Serializer<V, byte[]> valueSerializer;
+        private int slabSize = (int) new ByteSizeValue(1, ByteSizeUnit.MB).getBytes();
+
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        public Builder<K, V> setSlabSize(int slabSize) {
+            this.slabSize = slabSize;
+            return this;
+        }
+
+        @Override
+        public ICache<K, V> build() {
+            return new OpenSearchOffHeapCache<K, V>(this);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store.settings;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.store.OpenSearchOffHeapCache;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings for OpenSearchOffHeap
+ */
+public class OpenSearchOffHeapCacheSettings {
+
+    /**
+     * Setting to define the maximum number of off-heap bytes the cache may allocate for serialized values.
+     * If this cache is used as a tier in a TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, new ByteSizeValue(100, ByteSizeUnit.MB), NodeScope)
+    );
+
+    /**
+     * Setting to define the size of a single off-heap slab. Values larger than a slab are not cached, and eviction
+     * reclaims memory one slab at a time.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.slab_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> SLAB_SIZE_SETTING = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".slab_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            new ByteSizeValue(4, ByteSizeUnit.KB),
+            new ByteSizeValue(1, ByteSizeUnit.GB),
+            NodeScope
+        )
+    );
+
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+    public static final String SLAB_SIZE_KEY = "slab_size";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES,
+        SLAB_SIZE_KEY,
+        SLAB_SIZE_SETTING
+    );
+
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME
+                    + " associated with "
+                    + "cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Builds the global ordinals of a new reader in the background once the reader was refreshed, instead of blocking the refresh
+ * like {@code eager_global_ordinals} does or leaving the build to the first aggregation that needs them. Enabled per index with
+ * {@link #INDEX_BACKGROUND_GLOBAL_ORDINALS_WARMING_SETTING}.
+ * <p>
+ * Fields with {@code eager_global_ordinals} are built first, followed by the fields that searches of any shard of the index
+ * accessed the field data of most frequently. Every access counts, whether it is for an aggregation, a sort, a script or fetching
+ * doc values, since only some of them go on to use global ordinals but the field data service can't tell which. The access counts
+ * are halved every {@link #ACCESS_COUNT_HALF_LIFE}, independent of how often the shards refresh, so that the priorities follow the
+ * recent search load. Fields are only built for the latest reader of a shard, and only as long as the memory used by the
+ * field data circuit breaker stays below the node wide {@link #GLOBAL_ORDINALS_WARMING_BUDGET_SETTING}. Searches that need
+ * global ordinals before they are built wait for the build in progress rather than starting a second one.
+ * <p>
+ * The global ordinals of the previous reader cannot be served in the meantime: they map the segment ordinals of exactly the
+ * segments of the reader they were built for, and their field data cache entries are dropped once that reader is closed.
+ *
+ * @opensearch.internal
+ */
+public final class GlobalOrdinalsWarmer implements IndexWarmer.Listener {
+
+    public static final Setting<Boolean> INDEX_BACKGROUND_GLOBAL_ORDINALS_WARMING_SETTING = Setting.boolSetting(
+        "index.warmer.background_global_ordinals",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> GLOBAL_ORDINALS_WARMING_BUDGET_SETTING = Setting.memorySizeSetting(
+        "indices.fielddata.global_ordinals.warming_budget",
+        "10%",
+        Property.NodeScope
+    );
+
+    /**
+     * The time after which an access to the field data of a field weighs half as much on the order of the fields.
+     */
+    static final TimeValue ACCESS_COUNT_HALF_LIFE = TimeValue.timeValueMinutes(1);
+
+    private final IndexSettings indexSettings;
+    private final ThreadPool threadPool;
+    private final Executor executor;
+    private final IndexFieldDataService indexFieldDataService;
+    private final CircuitBreakerService circuitBreakerService;
+    private final long budgetInBytes;
+    private final ConcurrentMap<String, LongAdder> accessCounts = ConcurrentCollections.newConcurrentMap();
+    private final ConcurrentMap<ShardId, AtomicLong> readerGenerations = ConcurrentCollections.newConcurrentMap();
+    private final AtomicLong lastDecayMillis;
+
+    GlobalOrdinalsWarmer(
+        IndexSettings indexSettings,
+        ThreadPool threadPool,
+        IndexFieldDataService indexFieldDataService,
+        CircuitBreakerService circuitBreakerService
+    ) {
+        this.indexSettings = indexSettings;
+        this.threadPool = threadPool;
+        this.executor = threadPool.executor(ThreadPool.Names.GLOBAL_ORDINALS_WARMER);
+        this.indexFieldDataService = indexFieldDataService;
+        this.circuitBreakerService = circuitBreakerService;
+        this.budgetInBytes = GLOBAL_ORDINALS_WARMING_BUDGET_SETTING.get(indexSettings.getNodeSettings()).getBytes();
+        this.lastDecayMillis = new AtomicLong(threadPool.relativeTimeInMillis());
+    }
+
+    /**
+     * Records that a search accessed the field data of the given field.
+     */
+    void onFieldDataAccess(String fieldName) {
+        if (indexSettings.isBackgroundGlobalOrdinalsWarming()) {
+            accessCounts.computeIfAbsent(fieldName, f -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public IndexWarmer.TerminationHandle warmReader(IndexShard indexShard, OpenSearchDirectoryReader reader) {
+        if (indexSettings.isBackgroundGlobalOrdinalsWarming() == false || reader.leaves().size() <= 1) {
+            // a single segment has global ordinals already
+            return IndexWarmer.TerminationHandle.NO_WAIT;
+        }
+        final AtomicLong generation = readerGenerations.computeIfAbsent(indexShard.shardId(), s -> new AtomicLong());
+        final long readerGeneration = generation.incrementAndGet();
+        final MapperService mapperService = indexShard.mapperService();
+        final List<MappedFieldType> fields = fieldsToWarm(mapperService.fieldTypes(), currentAccessCounts(mapperService));
+        // the reader is closed once the next refresh replaced it, keep it open until the build stopped
+        if (fields.isEmpty() == false && reader.tryIncRef()) {
+            executor.execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    warm(indexShard, reader, fields, generation, readerGeneration);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    indexShard.warmerService().logger().debug("failed to warm-up global ordinals in the background", e);
+                }
+
+                @Override
+                public void onAfter() {
+                    try {
+                        reader.decRef();
+                    } catch (IOException e) {
+                        indexShard.warmerService().logger().debug("failed to release reader after warming global ordinals", e);
+                    }
+                }
+            });
+        }
+        // never block the refresh
+        return IndexWarmer.TerminationHandle.NO_WAIT;
+    }
+
+    /**
+     * Stops warming the readers of the given shard once it was closed.
+     */
+    void onShardClosed(ShardId shardId) {
+        final AtomicLong generation = readerGenerations.remove(shardId);
+        if (generation != null) {
+            // the build in progress, if any, stops before the next field
+            generation.incrementAndGet();
+        }
+    }
+
+    private void warm(
+        IndexShard indexShard,
+        OpenSearchDirectoryReader reader,
+        List<MappedFieldType> fields,
+        AtomicLong generation,
+        long readerGeneration
+    ) {
+        final CircuitBreaker breaker = circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA);
+        for (MappedFieldType fieldType : fields) {
+            if (generation.get() != readerGeneration || indexShard.state() == IndexShardState.CLOSED) {
+                // a newer reader will be warmed instead
+                return;
+            }
+            if (fieldType.eagerGlobalOrdinals() == false && breaker.getUsed() >= budgetInBytes) {
+                indexShard.warmerService()
+                    .logger()
+                    .trace("stopped warming global ordinals at [{}], field data uses [{}]", fieldType.name(), breaker.getUsed());
+                return;
+            }
+            try {
+                final long start = System.nanoTime();
+                final IndexFieldData<?> fieldData = indexFieldDataService.getForField(
+                    fieldType,
+                    indexFieldDataService.index().getName(),
+                    () -> { throw new UnsupportedOperationException("search lookup not available when warming an index"); }
+                );
+                if (fieldData instanceof IndexOrdinalsFieldData ordinalsFieldData) {
+                    ordinalsFieldData.loadGlobal(reader);
+                    if (indexShard.warmerService().logger().isTraceEnabled()) {
+                        indexShard.warmerService()
+                            .logger()
+                            .trace(
+                                "warmed global ordinals for [{}] in the background, took [{}]",
+                                fieldType.name(),
+                                TimeValue.timeValueNanos(System.nanoTime() - start)
+                            );
+                    }
+                }
+            } catch (AlreadyClosedException e) {
+                // the reader was replaced and closed in the meantime
+                return;
+            } catch (Exception e) {
+                indexShard.warmerService()
+                    .logger()
+                    .debug(
+                        () -> new ParameterizedMessage("failed to warm-up global ordinals for [{}] in the background", fieldType.name()),
+                        e
+                    );
+            }
+        }
+    }
+
+    /**
+     * Returns the current access counts of the mapped fields without resetting them, since the other shards of the index read them
+     * too. Fields that were not accessed for a while or are no longer mapped are dropped.
+     */
+    private Map<String, Long> currentAccessCounts(MapperService mapperService) {
+        maybeDecayAccessCounts();
+        final Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : accessCounts.entrySet()) {
+            final long count = entry.getValue().sum();
+            if (count > 0 && mapperService.fieldType(entry.getKey()) != null) {
+                counts.put(entry.getKey(), count);
+            } else {
+                accessCounts.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Halves the access counts once for every half-life that passed since they were last halved. Only one of the shards that
+     * refresh concurrently does so.
+     */
+    private void maybeDecayAccessCounts() {
+        final long lastDecay = lastDecayMillis.get();
+        final long halvings = (threadPool.relativeTimeInMillis() - lastDecay) / ACCESS_COUNT_HALF_LIFE.millis();
+        if (halvings <= 0 || lastDecayMillis.compareAndSet(lastDecay, lastDecay + halvings * ACCESS_COUNT_HALF_LIFE.millis()) == false) {
+            return;
+        }
+        for (LongAdder count : accessCounts.values()) {
+            // subtract rather than reset, so that accesses racing with the decay are kept in full
+            final long sum = count.sum();
+            count.add((sum >> Math.min(halvings, Long.SIZE - 1)) - sum);
+        }
+    }
+
+    // pkg-private for testing
+    Map<String, Long> accessCounts() {
+        final Map<String, Long> counts = new HashMap<>();
+        accessCounts.forEach((field, count) -> counts.put(field, count.sum()));
+        return counts;
+    }
+
+    /**
+     * The fields whose global ordinals should be built in the order they should be built in: the fields with eager global ordinals
+     * first, then the accessed fields that support global ordinals by decreasing access count.
+     */
+    static List<MappedFieldType> fieldsToWarm(Iterable<MappedFieldType> fieldTypes, Map<String, Long> accessCounts) {
+        final List<MappedFieldType> eager = new ArrayList<>();
+        final List<MappedFieldType> accessed = new ArrayList<>();
+        for (MappedFieldType fieldType : fieldTypes) {
+            if (fieldType.eagerGlobalOrdinals()) {
+                eager.add(fieldType);
+            } else if (accessCounts.containsKey(fieldType.name()) && fieldType.isAggregatable()) {
+                accessed.add(fieldType);
+            }
+        }
+        accessed.sort(Comparator.comparingLong((MappedFieldType f) -> accessCounts.get(f.name())).reversed());
+        eager.addAll(accessed);
+        return eager;
+    }
+}
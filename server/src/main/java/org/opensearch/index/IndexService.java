@@ -78,8 +78,10 @@ import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineConfigFactory;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.engine.MergedSegmentWarmerFactory;
+import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.SearchIndexNameMatcher;
@@ -115,6 +117,7 @@ import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
+import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -169,6 +172,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final EngineFactory engineFactory;
     private final EngineConfigFactory engineConfigFactory;
     private final IndexWarmer warmer;
+    private final GlobalOrdinalsWarmer globalOrdinalsWarmer;
     private volatile Map<Integer, IndexShard> shards = emptyMap();
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final AtomicBoolean deleted = new AtomicBoolean(false);
@@ -302,7 +306,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             }
             indexFieldData.setListener(new FieldDataCacheListener(this));
             this.bitsetFilterCache = new BitsetFilterCache(indexSettings, new BitsetCacheListener(this));
-            this.warmer = new IndexWarmer(threadPool, indexFieldData, bitsetFilterCache.createListener(threadPool));
+            this.globalOrdinalsWarmer = new GlobalOrdinalsWarmer(indexSettings, threadPool, indexFieldData, circuitBreakerService);
+            this.warmer = new IndexWarmer(threadPool, indexFieldData, bitsetFilterCache.createListener(threadPool), globalOrdinalsWarmer);
             this.indexCache = new IndexCache(indexSettings, queryCache, bitsetFilterCache);
         } else {
             assert indexAnalyzers == null;
@@ -310,6 +315,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             this.indexFieldData = null;
             this.indexSortSupplier = () -> null;
             this.bitsetFilterCache = null;
+            this.globalOrdinalsWarmer = null;
             this.warmer = null;
             this.indexCache = null;
         }
@@ -930,6 +936,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                         // ignore
                     }
                 }
+                if (globalOrdinalsWarmer != null) {
+                    globalOrdinalsWarmer.onShardClosed(sId);
+                }
                 // call this before we close the store, so we can release resources for it
                 listener.afterIndexShardClosed(sId, indexShard, indexSettings);
             }
@@ -1017,7 +1026,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             indexSettings,
             bigArrays,
             indexCache.bitsetFilterCache(),
-            indexFieldData::getForField,
+            this::getFieldDataForSearch,
             mapperService(),
             similarityService(),
             scriptService,
@@ -1051,6 +1060,16 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         return newQueryShardContext(shardId, searcher, nowInMillis, clusterAlias, validate, false);
     }
 
+    private IndexFieldData<?> getFieldDataForSearch(
+        MappedFieldType fieldType,
+        String fullyQualifiedIndexName,
+        Supplier<SearchLookup> searchLookup
+    ) {
+        // counts every access, not only those of aggregations that use global ordinals
+        globalOrdinalsWarmer.onFieldDataAccess(fieldType.name());
+        return indexFieldData.getForField(fieldType, fullyQualifiedIndexName, searchLookup);
+    }
+
     /**
      * The {@link ThreadPool} to use for this index.
      */
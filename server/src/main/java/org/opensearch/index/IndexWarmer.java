@@ -152,6 +152,10 @@ public final class IndexWarmer {
 
         @Override
         public TerminationHandle warmReader(final IndexShard indexShard, final OpenSearchDirectoryReader reader) {
+            if (indexShard.indexSettings().isBackgroundGlobalOrdinalsWarming()) {
+                // the global ordinals are built by the GlobalOrdinalsWarmer without blocking the refresh
+                return TerminationHandle.NO_WAIT;
+            }
             final MapperService mapperService = indexShard.mapperService();
             final Map<String, MappedFieldType> warmUpGlobalOrdinals = new HashMap<>();
             for (MappedFieldType fieldType : mapperService.fieldTypes()) {
@@ -33,6 +33,7 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -57,6 +58,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private long bypassCount;
 
     public QueryCacheStats() {}
 
@@ -71,6 +73,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         this.missCount = builder.missCount;
         this.cacheCount = builder.cacheCount;
         this.cacheSize = builder.cacheSize;
+        this.bypassCount = builder.bypassCount;
     }
 
     public QueryCacheStats(StreamInput in) throws IOException {
@@ -79,6 +82,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            bypassCount = in.readLong();
+        }
     }
 
     /**
@@ -103,6 +109,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        bypassCount += stats.bypassCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -148,6 +155,14 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheSize;
     }
 
+    /**
+     * The number of lookups in the cache that missed and were not cached because the filter was too cheap to evaluate for the memory
+     * its {@link DocIdSet} would take.
+     */
+    public long getBypassCount() {
+        return bypassCount;
+    }
+
     /**
      * The number of {@link DocIdSet}s that have been evicted from the cache.
      */
@@ -165,6 +180,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         private long missCount = 0;
         private long cacheCount = 0;
         private long cacheSize = 0;
+        private long bypassCount = 0;
 
         public Builder() {}
 
@@ -193,6 +209,11 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder bypassCount(long count) {
+            this.bypassCount = count;
+            return this;
+        }
+
         /**
          * Creates a {@link QueryCacheStats} object from the builder's current state.
          * @return A new QueryCacheStats instance.
@@ -209,6 +230,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeLong(bypassCount);
+        }
     }
 
     @Override
@@ -221,6 +245,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        builder.field(Fields.BYPASS_COUNT, getBypassCount());
         builder.endObject();
         return builder;
     }
@@ -240,6 +265,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String BYPASS_COUNT = "bypass_count";
     }
 
 }
@@ -247,6 +247,16 @@ public final class EngineConfig {
         Property.IndexScope
     );
 
+    /**
+     * Keeps the versions of recently indexed documents in primitive arrays rather than one object per document. This reduces the
+     * heap used by the version map of update heavy indices, see {@code LiveVersionMap}. Only read when the engine is created.
+     */
+    public static final Setting<Boolean> INDEX_PACKED_VERSION_MAP_ENABLED = Setting.boolSetting(
+        "index.engine.packed_version_map.enabled",
+        false,
+        Property.IndexScope
+    );
+
     private final TranslogConfig translogConfig;
 
     private final TranslogFactory translogFactory;
@@ -555,6 +565,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_USE_COMPOUND_FILE);
     }
 
+    /**
+     * Returns <code>true</code> if the version map should store its values packed in primitive arrays.
+     */
+    public boolean usePackedVersionMap() {
+        return indexSettings.getValue(INDEX_PACKED_VERSION_MAP_ENABLED);
+    }
+
     /**
      * Returns the underlying startedPrimarySupplier.
      * @return the primary mode supplier.
@@ -163,7 +163,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -237,6 +237,7 @@ public class InternalEngine extends Engine {
         TranslogEventListener translogEventListener
     ) {
         super(engineConfig);
+        this.versionMap = new LiveVersionMap(engineConfig.usePackedVersionMap());
         this.maxDocs = maxDocs;
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
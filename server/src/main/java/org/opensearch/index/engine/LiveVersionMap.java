@@ -48,6 +48,10 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Maps _uid value to its version information.
+ * <p>
+ * The versions of indexed documents are either kept as objects in concurrent hash maps or, if {@code packed} is set, in a
+ * {@link PackedVersionMap} that stores them in primitive arrays, which uses a fraction of the heap and creates far fewer
+ * long-lived objects for indices with many updates. Delete tombstones always use a concurrent hash map.
  *
  * @opensearch.internal
  */
@@ -55,6 +59,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
 
+    private final boolean packed;
+
     /**
      * Looks up document version
      *
@@ -68,7 +74,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         final AtomicLong ramBytesUsed = new AtomicLong();
 
         private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
+        // exactly one of map and packedMap is set
         private final Map<BytesRef, VersionValue> map;
+        private final PackedVersionMap packedMap;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -88,22 +96,53 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
         private VersionLookup(Map<BytesRef, VersionValue> map) {
             this.map = map;
+            this.packedMap = null;
+        }
+
+        private VersionLookup(PackedVersionMap packedMap) {
+            this.map = null;
+            this.packedMap = packedMap;
+        }
+
+        static VersionLookup create(boolean packed, int expectedSize) {
+            if (packed) {
+                return new VersionLookup(new PackedVersionMap());
+            }
+            return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return map != null ? map.get(key) : packedMap.get(key);
         }
 
         VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+            if (map != null) {
+                return map.put(key, value);
+            }
+            assert value instanceof IndexVersionValue : "only index versions are kept in the live maps but got " + value;
+            return packedMap.put(key, (IndexVersionValue) value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return map != null ? map.isEmpty() : packedMap.isEmpty();
         }
 
         int size() {
-            return map.size();
+            return map != null ? map.size() : packedMap.size();
+        }
+
+        /**
+         * RAM used by an entry of this lookup for the given uid and value.
+         */
+        long ramBytesUsed(BytesRef uid, VersionValue value) {
+            if (map != null) {
+                return BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            }
+            return PackedVersionMap.ramBytesUsed(uid);
+        }
+
+        Map<BytesRef, VersionValue> asMap() {
+            return map != null ? map : packedMap.toMap();
         }
 
         boolean isUnsafe() {
@@ -115,7 +154,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+            return map != null ? map.remove(uid) : packedMap.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -142,15 +181,17 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // have the volatile read of the Maps reference to make it visible even across threads.
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
+        final boolean packed;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess, boolean packed) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.packed = packed;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(boolean packed) {
+            this(VersionLookup.create(packed, 16), VersionLookup.EMPTY, false, packed);
         }
 
         boolean isSafeAccessMode() {
@@ -168,25 +209,20 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(VersionLookup.create(packed, current.size()), current, shouldInheritSafeAccess(), packed);
         }
 
         /**
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, packed);
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
+            long ramAccounting = current.ramBytesUsed(uid, version);
             VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            ramAccounting += previousValue == null ? 0 : -current.ramBytesUsed(uid, previousValue);
             adjustRam(ramAccounting);
         }
 
@@ -201,8 +237,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             VersionValue previousValue = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
             if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+                adjustRam(-current.ramBytesUsed(uid, previousValue));
             }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
@@ -219,10 +254,23 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
+
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param packed whether to keep the versions of indexed documents in a {@link PackedVersionMap}
+     */
+    LiveVersionMap(boolean packed) {
+        this.packed = packed;
+        this.maps = new Maps(packed);
+        this.unsafeKeysMap = new Maps(packed);
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -443,7 +491,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(packed);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -482,7 +530,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -0,0 +1,313 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A map from uid to {@link IndexVersionValue} that stores its entries in primitive arrays instead of one
+ * {@link BytesRef}, one {@link IndexVersionValue} and one {@link Translog.Location} object per document.
+ * <p>
+ * The map is split into lock-striped segments selected by the hash of the uid. Each segment is a chained hash table: a bucket
+ * array points to the first entry of its chain, and the entries are rows in parallel arrays holding the uid hash, the offset and
+ * length of the uid bytes in a shared byte pool, the next entry in the chain and the packed version, seqNo, term and translog
+ * location. Removed rows are recycled through a free list; the uid bytes they used are reclaimed once they make up half of the
+ * byte pool. Values are materialized on {@link #get(BytesRef)}, so only short-lived objects are allocated per lookup.
+ *
+ * @opensearch.internal
+ */
+final class PackedVersionMap {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_KEYS_SIZE = INITIAL_CAPACITY * 32;
+
+    // longs per entry: version, seqNo, term, translog generation, translog location, translog size (-1 without location)
+    private static final int VALUE_STRIDE = 6;
+    private static final int NO_ENTRY = -1;
+
+    /**
+     * Bytes used per entry, not counting the uid bytes: the four int columns and the packed values plus two bucket slots,
+     * since the bucket array is kept at most half full.
+     */
+    static final long BYTES_PER_ENTRY = 4 * Integer.BYTES + VALUE_STRIDE * Long.BYTES + 2 * Integer.BYTES;
+
+    private final Segment[] segments;
+    private final AtomicInteger size = new AtomicInteger();
+
+    PackedVersionMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    PackedVersionMap(int numberOfSegments) {
+        if (Integer.bitCount(numberOfSegments) != 1) {
+            throw new IllegalArgumentException("number of segments must be a power of two but was [" + numberOfSegments + "]");
+        }
+        segments = new Segment[numberOfSegments];
+        for (int i = 0; i < numberOfSegments; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * RAM accounted for the given uid, see {@link #BYTES_PER_ENTRY}.
+     */
+    static long ramBytesUsed(BytesRef uid) {
+        return BYTES_PER_ENTRY + uid.length;
+    }
+
+    IndexVersionValue get(BytesRef uid) {
+        final int hash = hash(uid);
+        return segmentFor(hash).get(uid, hash);
+    }
+
+    /**
+     * Associates the value with the uid, returning the previous value or <code>null</code>.
+     */
+    IndexVersionValue put(BytesRef uid, IndexVersionValue value) {
+        final int hash = hash(uid);
+        final IndexVersionValue previous = segmentFor(hash).put(uid, hash, value);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        return previous;
+    }
+
+    IndexVersionValue remove(BytesRef uid) {
+        final int hash = hash(uid);
+        final IndexVersionValue previous = segmentFor(hash).remove(uid, hash);
+        if (previous != null) {
+            size.decrementAndGet();
+        }
+        return previous;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Returns a point in time copy of all entries.
+     */
+    Map<BytesRef, VersionValue> toMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(map);
+        }
+        return map;
+    }
+
+    private Segment segmentFor(int hash) {
+        // the low bits pick the bucket within a segment, use the high ones to pick the segment
+        return segments[(hash >>> 24) & (segments.length - 1)];
+    }
+
+    private static int hash(BytesRef uid) {
+        // BytesRef hashes with murmur3, so both the high and the low bits are well distributed
+        return uid.hashCode();
+    }
+
+    /**
+     * A single chained hash table, all accesses are synchronized on the segment.
+     */
+    private static final class Segment {
+        private int[] buckets = newBuckets(INITIAL_CAPACITY * 2);
+        private int[] hashes = new int[INITIAL_CAPACITY];
+        private int[] next = new int[INITIAL_CAPACITY];
+        private int[] keyOffsets = new int[INITIAL_CAPACITY];
+        private int[] keyLengths = new int[INITIAL_CAPACITY];
+        private long[] values = new long[INITIAL_CAPACITY * VALUE_STRIDE];
+        private byte[] keys = new byte[INITIAL_KEYS_SIZE];
+        private int keysUsed;
+        private int keysGarbage;
+        private int entriesUsed;
+        private int freeHead = NO_ENTRY;
+        private int count;
+
+        synchronized IndexVersionValue get(BytesRef uid, int hash) {
+            final int entry = find(uid, hash);
+            return entry == NO_ENTRY ? null : valueAt(entry);
+        }
+
+        synchronized IndexVersionValue put(BytesRef uid, int hash, IndexVersionValue value) {
+            int entry = find(uid, hash);
+            if (entry != NO_ENTRY) {
+                final IndexVersionValue previous = valueAt(entry);
+                setValue(entry, value);
+                return previous;
+            }
+            if ((count + 1) * 2 > buckets.length) {
+                rehash(buckets.length * 2);
+            }
+            entry = allocateEntry();
+            hashes[entry] = hash;
+            keyOffsets[entry] = appendKey(uid);
+            keyLengths[entry] = uid.length;
+            setValue(entry, value);
+            final int bucket = hash & (buckets.length - 1);
+            next[entry] = buckets[bucket];
+            buckets[bucket] = entry;
+            count++;
+            return null;
+        }
+
+        synchronized IndexVersionValue remove(BytesRef uid, int hash) {
+            final int bucket = hash & (buckets.length - 1);
+            int previousEntry = NO_ENTRY;
+            for (int entry = buckets[bucket]; entry != NO_ENTRY; previousEntry = entry, entry = next[entry]) {
+                if (hashes[entry] == hash && keyEquals(entry, uid)) {
+                    final IndexVersionValue previous = valueAt(entry);
+                    if (previousEntry == NO_ENTRY) {
+                        buckets[bucket] = next[entry];
+                    } else {
+                        next[previousEntry] = next[entry];
+                    }
+                    keysGarbage += keyLengths[entry];
+                    next[entry] = freeHead;
+                    freeHead = entry;
+                    count--;
+                    if (keysGarbage > INITIAL_KEYS_SIZE && keysGarbage * 2 > keysUsed) {
+                        rehash(buckets.length);
+                    }
+                    return previous;
+                }
+            }
+            return null;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> map) {
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                for (int entry = buckets[bucket]; entry != NO_ENTRY; entry = next[entry]) {
+                    map.put(BytesRef.deepCopyOf(new BytesRef(keys, keyOffsets[entry], keyLengths[entry])), valueAt(entry));
+                }
+            }
+        }
+
+        private int find(BytesRef uid, int hash) {
+            for (int entry = buckets[hash & (buckets.length - 1)]; entry != NO_ENTRY; entry = next[entry]) {
+                if (hashes[entry] == hash && keyEquals(entry, uid)) {
+                    return entry;
+                }
+            }
+            return NO_ENTRY;
+        }
+
+        private boolean keyEquals(int entry, BytesRef uid) {
+            final int offset = keyOffsets[entry];
+            return Arrays.equals(keys, offset, offset + keyLengths[entry], uid.bytes, uid.offset, uid.offset + uid.length);
+        }
+
+        private IndexVersionValue valueAt(int entry) {
+            final int base = entry * VALUE_STRIDE;
+            final long size = values[base + 5];
+            final Translog.Location location = size < 0 ? null : new Translog.Location(values[base + 3], values[base + 4], (int) size);
+            return new IndexVersionValue(location, values[base], values[base + 1], values[base + 2]);
+        }
+
+        private void setValue(int entry, IndexVersionValue value) {
+            final int base = entry * VALUE_STRIDE;
+            values[base] = value.version;
+            values[base + 1] = value.seqNo;
+            values[base + 2] = value.term;
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                values[base + 3] = 0;
+                values[base + 4] = 0;
+                values[base + 5] = -1;
+            } else {
+                values[base + 3] = location.generation;
+                values[base + 4] = location.translogLocation;
+                values[base + 5] = location.size;
+            }
+        }
+
+        private int allocateEntry() {
+            if (freeHead != NO_ENTRY) {
+                final int entry = freeHead;
+                freeHead = next[entry];
+                return entry;
+            }
+            if (entriesUsed == hashes.length) {
+                final int newLength = ArrayUtil.oversize(entriesUsed + 1, Integer.BYTES);
+                hashes = ArrayUtil.growExact(hashes, newLength);
+                next = ArrayUtil.growExact(next, newLength);
+                keyOffsets = ArrayUtil.growExact(keyOffsets, newLength);
+                keyLengths = ArrayUtil.growExact(keyLengths, newLength);
+                values = ArrayUtil.growExact(values, newLength * VALUE_STRIDE);
+            }
+            return entriesUsed++;
+        }
+
+        private int appendKey(BytesRef uid) {
+            keys = ArrayUtil.grow(keys, keysUsed + uid.length);
+            System.arraycopy(uid.bytes, uid.offset, keys, keysUsed, uid.length);
+            final int offset = keysUsed;
+            keysUsed += uid.length;
+            return offset;
+        }
+
+        /**
+         * Rebuilds the table with the given number of buckets, compacting the live entries and their uid bytes.
+         */
+        private void rehash(int numberOfBuckets) {
+            final int[] oldBuckets = buckets;
+            final int[] oldHashes = hashes;
+            final int[] oldNext = next;
+            final int[] oldKeyOffsets = keyOffsets;
+            final int[] oldKeyLengths = keyLengths;
+            final long[] oldValues = values;
+            final byte[] oldKeys = keys;
+            final int capacity = Math.max(INITIAL_CAPACITY, numberOfBuckets / 2);
+
+            buckets = newBuckets(numberOfBuckets);
+            hashes = new int[capacity];
+            next = new int[capacity];
+            keyOffsets = new int[capacity];
+            keyLengths = new int[capacity];
+            values = new long[capacity * VALUE_STRIDE];
+            keys = new byte[Math.max(INITIAL_KEYS_SIZE, keysUsed - keysGarbage)];
+            keysUsed = 0;
+            keysGarbage = 0;
+            entriesUsed = 0;
+            freeHead = NO_ENTRY;
+
+            for (int bucket = 0; bucket < oldBuckets.length; bucket++) {
+                for (int oldEntry = oldBuckets[bucket]; oldEntry != NO_ENTRY; oldEntry = oldNext[oldEntry]) {
+                    final int entry = entriesUsed++;
+                    final int hash = oldHashes[oldEntry];
+                    hashes[entry] = hash;
+                    keyOffsets[entry] = appendKey(new BytesRef(oldKeys, oldKeyOffsets[oldEntry], oldKeyLengths[oldEntry]));
+                    keyLengths[entry] = oldKeyLengths[oldEntry];
+                    System.arraycopy(oldValues, oldEntry * VALUE_STRIDE, values, entry * VALUE_STRIDE, VALUE_STRIDE);
+                    final int newBucket = hash & (numberOfBuckets - 1);
+                    next[entry] = buckets[newBucket];
+                    buckets[newBucket] = entry;
+                }
+            }
+            assert entriesUsed == count : "rehashed " + entriesUsed + " entries but expected " + count;
+        }
+
+        private static int[] newBuckets(int numberOfBuckets) {
+            final int[] buckets = new int[numberOfBuckets];
+            Arrays.fill(buckets, NO_ENTRY);
+            return buckets;
+        }
+    }
+}
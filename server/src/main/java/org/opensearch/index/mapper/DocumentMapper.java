@@ -237,6 +237,10 @@ public class DocumentMapper implements ToXContentFragment {
         return mappers().hasNested();
     }
 
+    MapperLookupCache mapperLookupCache() {
+        return documentParser.mapperLookupCache();
+    }
+
     public MappingLookup mappers() {
         return this.fieldMappers;
     }
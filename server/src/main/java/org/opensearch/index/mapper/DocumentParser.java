@@ -71,11 +71,17 @@ final class DocumentParser {
     private final IndexSettings indexSettings;
     private final DocumentMapperParser docMapperParser;
     private final DocumentMapper docMapper;
+    private final MapperLookupCache mapperLookupCache;
 
     DocumentParser(IndexSettings indexSettings, DocumentMapperParser docMapperParser, DocumentMapper docMapper) {
         this.indexSettings = indexSettings;
         this.docMapperParser = docMapperParser;
         this.docMapper = docMapper;
+        this.mapperLookupCache = new MapperLookupCache(docMapper);
+    }
+
+    MapperLookupCache mapperLookupCache() {
+        return mapperLookupCache;
     }
 
     ParsedDocument parseDocument(SourceToParse source, MetadataFieldMapper[] metadataFieldsMappers) throws MapperParsingException {
@@ -206,6 +212,10 @@ final class DocumentParser {
         return new MapperParsingException("failed to parse", e);
     }
 
+    private static String[] splitAndValidatePath(ParseContext context, String fullFieldPath) {
+        return context.docMapper().mapperLookupCache().splitPath(fullFieldPath, DocumentParser::splitAndValidatePath);
+    }
+
     private static String[] splitAndValidatePath(String fullFieldPath) {
         if (fullFieldPath.contains(".")) {
             String[] parts = fullFieldPath.split("\\.");
@@ -442,7 +452,7 @@ final class DocumentParser {
             while (token != XContentParser.Token.END_OBJECT) {
                 if (token == XContentParser.Token.FIELD_NAME) {
                     currentFieldName = parser.currentName();
-                    paths = splitAndValidatePath(currentFieldName);
+                    paths = splitAndValidatePath(context, currentFieldName);
                     if (containsDisabledObjectMapper(mapper, paths)) {
                         parser.nextToken();
                         parser.skipChildren();
@@ -718,7 +728,7 @@ final class DocumentParser {
                 )
             );
         }
-        final String[] paths = splitAndValidatePath(lastFieldName);
+        final String[] paths = splitAndValidatePath(context, lastFieldName);
         while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
             if (token == XContentParser.Token.START_OBJECT) {
                 parseObject(context, mapper, lastFieldName, paths);
@@ -1001,7 +1011,7 @@ final class DocumentParser {
             // The path of the dest field might be completely different from the current one so we need to reset it
             context = context.overridePath(new ContentPath(0));
 
-            final String[] paths = splitAndValidatePath(field);
+            final String[] paths = splitAndValidatePath(context, field);
             final String fieldName = paths[paths.length - 1];
             Tuple<Integer, ObjectMapper> parentMapperTuple = getDynamicParentMapper(context, paths, null);
             ObjectMapper objectMapper = parentMapperTuple.v2();
@@ -1107,8 +1117,17 @@ final class DocumentParser {
         return dynamic;
     }
 
-    // looks up a child mapper, but takes into account field names that expand to objects
+    // looks up a child mapper, reusing the resolution made for previous documents parsed with the same mapping
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        final Mapper mapper = context.docMapper()
+            .mapperLookupCache()
+            .getMapper(objectMapper, fieldName, name -> resolveMapper(context, objectMapper, name, subfields));
+        assert mapper == resolveMapper(context, objectMapper, fieldName, subfields) : "cached mapper for [" + fieldName + "] is stale";
+        return mapper;
+    }
+
+    // looks up a child mapper, but takes into account field names that expand to objects
+    private static Mapper resolveMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Remembers, across the documents parsed with the same {@link DocumentMapper}, which {@link Mapper} a field name resolves
+ * to under a given object mapper, as well as the validated split of dotted field names.
+ * <p>
+ * Bulk requests typically carry many documents with the same shape, for which {@link DocumentParser} would otherwise
+ * rebuild the full field path, check it against the metadata mappers and walk the object mappers again for every field
+ * of every document. Mappers are immutable and a mapping update creates a new {@link DocumentMapper}, hence a new cache,
+ * so entries never need to be invalidated. Only object mappers that are part of the mapping are cached, the ones created
+ * dynamically while parsing a document are not. The number of entries is bounded so that documents with arbitrary keys
+ * cannot grow the cache indefinitely; once full, lookups are simply not cached anymore.
+ *
+ * @opensearch.internal
+ */
+final class MapperLookupCache {
+
+    static final int MAX_ENTRIES = 10_000;
+
+    // marks a field name that does not resolve to any mapper, since concurrent maps cannot hold null values
+    private static final Object NO_MAPPER = new Object();
+
+    private final DocumentMapper docMapper;
+    private final Map<ObjectMapper, Map<String, Object>> mappersByParent = new ConcurrentHashMap<>();
+    private final Map<String, String[]> paths = new ConcurrentHashMap<>();
+    private final AtomicInteger entries = new AtomicInteger();
+
+    MapperLookupCache(DocumentMapper docMapper) {
+        this.docMapper = docMapper;
+    }
+
+    /**
+     * Returns the split of the given field name, computing and caching it on first use.
+     */
+    String[] splitPath(String fieldName, Function<String, String[]> splitter) {
+        String[] split = paths.get(fieldName);
+        if (split == null) {
+            split = splitter.apply(fieldName);
+            if (reserve()) {
+                paths.putIfAbsent(fieldName, split);
+            }
+        }
+        return split;
+    }
+
+    /**
+     * Returns the mapper the given field name resolves to under the given object mapper, computing and caching it on first
+     * use. Exceptions thrown by the resolver are propagated and nothing is cached.
+     */
+    Mapper getMapper(ObjectMapper parent, String fieldName, Function<String, Mapper> resolver) {
+        Map<String, Object> mappers = mappersByParent.get(parent);
+        if (mappers == null) {
+            if (isPartOfMapping(parent) == false) {
+                return resolver.apply(fieldName);
+            }
+            mappers = mappersByParent.computeIfAbsent(parent, p -> new ConcurrentHashMap<>());
+        }
+        Object mapper = mappers.get(fieldName);
+        if (mapper == null) {
+            Mapper resolved = resolver.apply(fieldName);
+            if (reserve()) {
+                mappers.putIfAbsent(fieldName, resolved == null ? NO_MAPPER : resolved);
+            }
+            return resolved;
+        }
+        return mapper == NO_MAPPER ? null : (Mapper) mapper;
+    }
+
+    int size() {
+        return entries.get();
+    }
+
+    private boolean isPartOfMapping(ObjectMapper objectMapper) {
+        return objectMapper == docMapper.root() || docMapper.objectMappers().get(objectMapper.fullPath()) == objectMapper;
+    }
+
+    private boolean reserve() {
+        if (entries.get() >= MAX_ENTRIES) {
+            return false;
+        }
+        return entries.incrementAndGet() <= MAX_ENTRIES;
+    }
+}
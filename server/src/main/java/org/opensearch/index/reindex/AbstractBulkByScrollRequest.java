@@ -32,6 +32,7 @@
 
 package org.opensearch.index.reindex;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.search.SearchRequest;
@@ -72,6 +73,7 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
     public static final int AUTO_SLICES = 0;
     public static final String AUTO_SLICES_VALUE = "auto";
     private static final int DEFAULT_SLICES = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BULKS = 1;
 
     /**
      * The search to be executed.
@@ -132,6 +134,13 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
      */
     private int slices = DEFAULT_SLICES;
 
+    /**
+     * The number of bulk requests each slice may have outstanding at the same time. Defaults to 1 meaning each slice alternates between
+     * fetching a scroll batch and indexing it. Higher values fetch the next scroll batch while the bulk requests of the current one are in
+     * flight.
+     */
+    private int maxInFlightBulks = DEFAULT_MAX_IN_FLIGHT_BULKS;
+
     public AbstractBulkByScrollRequest(StreamInput in) throws IOException {
         super(in);
         searchRequest = new SearchRequest(in);
@@ -144,6 +153,9 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         maxRetries = in.readVInt();
         requestsPerSecond = in.readFloat();
         slices = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            maxInFlightBulks = in.readVInt();
+        }
     }
 
     /**
@@ -442,6 +454,27 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         return slices;
     }
 
+    /**
+     * The number of bulk requests each slice may have outstanding at the same time. Defaults to 1 meaning each slice alternates between
+     * fetching a scroll batch and indexing it.
+     */
+    public int getMaxInFlightBulks() {
+        return maxInFlightBulks;
+    }
+
+    /**
+     * Set the number of bulk requests each slice may have outstanding at the same time. Values greater than 1 fetch the next scroll batch
+     * while the bulk requests of the current one are in flight and split scroll batches into bulk requests sized from the observed bulk
+     * latency and rejections.
+     */
+    public Self setMaxInFlightBulks(int maxInFlightBulks) {
+        if (maxInFlightBulks < 1) {
+            throw new IllegalArgumentException("[max_in_flight_bulks] must be at least 1 but was [" + maxInFlightBulks + "]");
+        }
+        this.maxInFlightBulks = maxInFlightBulks;
+        return self();
+    }
+
     /**
      * Build a new request for a slice of the parent request.
      */
@@ -461,6 +494,8 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
             .setWaitForActiveShards(activeShardCount)
             .setRetryBackoffInitialTime(retryBackoffInitialTime)
             .setMaxRetries(maxRetries)
+            // Every slice gets its own in-flight bulks, like it gets its own scroll
+            .setMaxInFlightBulks(maxInFlightBulks)
             // Parent task will store result
             .setShouldStoreResult(false)
             // Split requests per second between all slices
@@ -496,6 +531,9 @@ public abstract class AbstractBulkByScrollRequest<Self extends AbstractBulkByScr
         out.writeVInt(maxRetries);
         out.writeFloat(requestsPerSecond);
         out.writeVInt(slices);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeVInt(maxInFlightBulks);
+        }
     }
 
     /**
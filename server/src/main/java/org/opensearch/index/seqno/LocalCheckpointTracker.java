@@ -32,48 +32,64 @@
 
 package org.opensearch.index.seqno;
 
-import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class generates sequences numbers and keeps track of the so-called "local checkpoint" which is the highest number for which all
  * previous sequence numbers have been processed (inclusive).
+ * <p>
+ * Marking sequence numbers does not lock, see {@link SeqNoRing}; only threads waiting in {@link #waitForProcessedOpsToComplete(long)}
+ * block on the monitor of the tracker.
  *
  * @opensearch.internal
  */
 public class LocalCheckpointTracker {
 
     /**
-     * We keep a bit for each sequence number that is still pending. To optimize allocation, we do so in multiple sets allocating them on
-     * demand and cleaning up while completed. This constant controls the size of the sets.
+     * Sequence numbers that are too far ahead of the checkpoint to be tracked by the ring are kept in bit sets of this size, allocated on
+     * demand and cleaned up once the checkpoint gets close enough.
      */
     static final short BIT_SET_SIZE = 1024;
 
     /**
-     * A collection of bit sets representing processed sequence numbers. Each sequence number is mapped to a bit set by dividing by the
-     * bit set size.
+     * Tracks the processed sequence numbers and the processed checkpoint.
      */
-    final Map<Long, CountedBitSet> processedSeqNo = new HashMap<>();
+    final SeqNoRing processed;
 
     /**
-     * A collection of bit sets representing durably persisted sequence numbers. Each sequence number is mapped to a bit set by dividing by
-     * the bit set size.
+     * Tracks the durably persisted sequence numbers and the persisted checkpoint.
      */
-    final Map<Long, CountedBitSet> persistedSeqNo = new HashMap<>();
+    final SeqNoRing persisted;
+
+    /**
+     * A collection of bit sets representing processed sequence numbers beyond the window of {@link #processed}. Each sequence number is
+     * mapped to a bit set by dividing by the bit set size.
+     */
+    final Map<Long, CountedBitSet> processedSeqNo;
+
+    /**
+     * A collection of bit sets representing durably persisted sequence numbers beyond the window of {@link #persisted}. Each sequence
+     * number is mapped to a bit set by dividing by the bit set size.
+     */
+    final Map<Long, CountedBitSet> persistedSeqNo;
 
     /**
      * The current local checkpoint, i.e., all sequence numbers no more than this number have been processed.
      */
-    final AtomicLong processedCheckpoint = new AtomicLong();
+    final AtomicLong processedCheckpoint;
 
     /**
      * The current persisted local checkpoint, i.e., all sequence numbers no more than this number have been durably persisted.
      */
-    final AtomicLong persistedCheckpoint = new AtomicLong();
+    final AtomicLong persistedCheckpoint;
+
+    /**
+     * The number of threads in {@link #waitForProcessedOpsToComplete(long)}, only modified under the monitor of the tracker.
+     */
+    private volatile int waiters;
 
     /**
      * The next available sequence number.
@@ -100,8 +116,12 @@ public class LocalCheckpointTracker {
             );
         }
         nextSeqNo.set(maxSeqNo + 1);
-        processedCheckpoint.set(localCheckpoint);
-        persistedCheckpoint.set(localCheckpoint);
+        processed = new SeqNoRing(localCheckpoint);
+        persisted = new SeqNoRing(localCheckpoint);
+        processedSeqNo = processed.overflow;
+        persistedSeqNo = persisted.overflow;
+        processedCheckpoint = processed.checkpoint;
+        persistedCheckpoint = persisted.checkpoint;
     }
 
     /**
@@ -120,20 +140,17 @@ public class LocalCheckpointTracker {
         nextSeqNo.accumulateAndGet(seqNo + 1, Math::max);
     }
 
-    /**
-     * Checks that the sequence number is in an acceptable range for an update to take place.
-     */
-    private boolean shouldUpdateSeqNo(final long seqNo, final long lowerBound, @Nullable final AtomicLong upperBound) {
-        return !((seqNo <= lowerBound) || (upperBound != null && seqNo > upperBound.get()));
-    }
-
     /**
      * Marks the provided sequence number as processed and updates the processed checkpoint if possible.
      *
      * @param seqNo the sequence number to mark as processed
      */
-    public synchronized void markSeqNoAsProcessed(final long seqNo) {
-        markSeqNo(seqNo, processedCheckpoint, processedSeqNo);
+    public void markSeqNoAsProcessed(final long seqNo) {
+        // make sure we track highest seen sequence number
+        advanceMaxSeqNo(seqNo);
+        if (processed.markSeqNo(seqNo)) {
+            notifyWaiters();
+        }
     }
 
     /**
@@ -141,8 +158,10 @@ public class LocalCheckpointTracker {
      *
      * @param seqNo the sequence number to mark as persisted
      */
-    public synchronized void markSeqNoAsPersisted(final long seqNo) {
-        markSeqNo(seqNo, persistedCheckpoint, persistedSeqNo);
+    public void markSeqNoAsPersisted(final long seqNo) {
+        // make sure we track highest seen sequence number
+        advanceMaxSeqNo(seqNo);
+        persisted.markSeqNo(seqNo);
     }
 
     /**
@@ -150,33 +169,14 @@ public class LocalCheckpointTracker {
      * <p>
      * This method is only used for segment replication since indexing doesn't
      * take place on the replica allowing us to avoid the check that all sequence numbers
-     * are consecutively processed.
+     * are consecutively processed. It must not be called concurrently with {@link #markSeqNoAsProcessed(long)}.
      *
      * @param seqNo the sequence number to mark as processed
      */
-    public synchronized void fastForwardProcessedSeqNo(final long seqNo) {
+    public void fastForwardProcessedSeqNo(final long seqNo) {
         advanceMaxSeqNo(seqNo);
-        final long currentProcessedCheckpoint = processedCheckpoint.get();
-        if (seqNo <= currentProcessedCheckpoint) {
-            return;
-        }
-        processedCheckpoint.compareAndSet(currentProcessedCheckpoint, seqNo);
-    }
-
-    private void markSeqNo(final long seqNo, final AtomicLong checkPoint, final Map<Long, CountedBitSet> bitSetMap) {
-        assert Thread.holdsLock(this);
-        // make sure we track highest seen sequence number
-        advanceMaxSeqNo(seqNo);
-        if (shouldUpdateSeqNo(seqNo, checkPoint.get(), null) == false) {
-            // this is possible during recovery where we might replay an operation that was also replicated
-            return;
-        }
-        final CountedBitSet bitSet = getBitSetForSeqNo(bitSetMap, seqNo);
-        final int offset = seqNoToBitSetOffset(seqNo);
-        bitSet.set(offset);
-        if (seqNo == checkPoint.get() + 1) {
-            updateCheckpoint(checkPoint, bitSetMap);
-        }
+        processed.fastForward(seqNo);
+        notifyWaiters();
     }
 
     /**
@@ -211,8 +211,10 @@ public class LocalCheckpointTracker {
      * <p>
      * This is needed to make sure the persisted local checkpoint and max seq no are consistent
      */
-    public synchronized SeqNoStats getStats(final long globalCheckpoint) {
-        return new SeqNoStats(getMaxSeqNo(), getPersistedCheckpoint(), globalCheckpoint);
+    public SeqNoStats getStats(final long globalCheckpoint) {
+        // the max seq no is advanced before a sequence number is marked, read it last so that it is at least the checkpoint
+        final long persistedCheckpoint = getPersistedCheckpoint();
+        return new SeqNoStats(getMaxSeqNo(), persistedCheckpoint, globalCheckpoint);
     }
 
     /**
@@ -223,9 +225,14 @@ public class LocalCheckpointTracker {
      */
     @SuppressForbidden(reason = "Object#wait")
     public synchronized void waitForProcessedOpsToComplete(final long seqNo) throws InterruptedException {
-        while (processedCheckpoint.get() < seqNo) {
-            // notified by updateCheckpoint
-            this.wait();
+        waiters++;
+        try {
+            while (processedCheckpoint.get() < seqNo) {
+                // notified by notifyWaiters
+                this.wait();
+            }
+        } finally {
+            waiters--;
         }
     }
 
@@ -237,87 +244,21 @@ public class LocalCheckpointTracker {
         if (seqNo >= nextSeqNo.get()) {
             return false;
         }
-        if (seqNo <= processedCheckpoint.get()) {
-            return true;
-        }
-        final long bitSetKey = getBitSetKey(seqNo);
-        final int bitSetOffset = seqNoToBitSetOffset(seqNo);
-        synchronized (this) {
-            // check again under lock
-            if (seqNo <= processedCheckpoint.get()) {
-                return true;
-            }
-            final CountedBitSet bitSet = processedSeqNo.get(bitSetKey);
-            return bitSet != null && bitSet.get(bitSetOffset);
-        }
+        return processed.contains(seqNo);
     }
 
     /**
-     * Moves the checkpoint to the last consecutively processed sequence number. This method assumes that the sequence number
-     * following the current checkpoint is processed.
+     * Wakes up the threads in {@link #waitForProcessedOpsToComplete(long)} after the processed checkpoint advanced. A waiter registers
+     * before it reads the checkpoint and we read the registrations after advancing it, so either the waiter sees the new checkpoint
+     * or we see the waiter.
      */
     @SuppressForbidden(reason = "Object#notifyAll")
-    private void updateCheckpoint(AtomicLong checkPoint, final Map<Long, CountedBitSet> bitSetMap) {
-        assert Thread.holdsLock(this);
-        assert getBitSetForSeqNo(bitSetMap, checkPoint.get() + 1).get(seqNoToBitSetOffset(checkPoint.get() + 1))
-            : "updateCheckpoint is called but the bit following the checkpoint is not set";
-        try {
-            // keep it simple for now, get the checkpoint one by one; in the future we can optimize and read words
-            long bitSetKey = getBitSetKey(checkPoint.get());
-            CountedBitSet current = bitSetMap.get(bitSetKey);
-            if (current == null) {
-                // the bit set corresponding to the checkpoint has already been removed, set ourselves up for the next bit set
-                assert checkPoint.get() % BIT_SET_SIZE == BIT_SET_SIZE - 1;
-                current = bitSetMap.get(++bitSetKey);
+    private void notifyWaiters() {
+        if (waiters > 0) {
+            synchronized (this) {
+                this.notifyAll();
             }
-            do {
-                checkPoint.incrementAndGet();
-                /*
-                 * The checkpoint always falls in the current bit set or we have already cleaned it; if it falls on the last bit of the
-                 * current bit set, we can clean it.
-                 */
-                if (checkPoint.get() == lastSeqNoInBitSet(bitSetKey)) {
-                    assert current != null;
-                    final CountedBitSet removed = bitSetMap.remove(bitSetKey);
-                    assert removed == current;
-                    current = bitSetMap.get(++bitSetKey);
-                }
-            } while (current != null && current.get(seqNoToBitSetOffset(checkPoint.get() + 1)));
-        } finally {
-            // notifies waiters in waitForProcessedOpsToComplete
-            this.notifyAll();
         }
     }
 
-    private static long lastSeqNoInBitSet(final long bitSetKey) {
-        return (1 + bitSetKey) * BIT_SET_SIZE - 1;
-    }
-
-    /**
-     * Return the bit set for the provided sequence number, possibly allocating a new set if needed.
-     *
-     * @param seqNo the sequence number to obtain the bit set for
-     * @return the bit set corresponding to the provided sequence number
-     */
-    private static long getBitSetKey(final long seqNo) {
-        return seqNo / BIT_SET_SIZE;
-    }
-
-    private CountedBitSet getBitSetForSeqNo(final Map<Long, CountedBitSet> bitSetMap, final long seqNo) {
-        assert Thread.holdsLock(this);
-        final long bitSetKey = getBitSetKey(seqNo);
-        return bitSetMap.computeIfAbsent(bitSetKey, k -> new CountedBitSet(BIT_SET_SIZE));
-    }
-
-    /**
-     * Obtain the position in the bit set corresponding to the provided sequence number. The bit set corresponding to the sequence number
-     * can be obtained via {@link #getBitSetForSeqNo(Map, long)}.
-     *
-     * @param seqNo the sequence number to obtain the position for
-     * @return the position in the bit set corresponding to the provided sequence number
-     */
-    private static int seqNoToBitSetOffset(final long seqNo) {
-        return Math.toIntExact(seqNo % BIT_SET_SIZE);
-    }
-
 }
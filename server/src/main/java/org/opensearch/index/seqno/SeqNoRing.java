@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.seqno;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks which sequence numbers above a checkpoint are completed and advances the checkpoint over the completed ones, without
+ * locking for the sequence numbers that fall into a window of {@link #CAPACITY} sequence numbers above the checkpoint.
+ * <p>
+ * The window is a ring of words, each holding one bit per sequence number of a run of {@link #BITS_PER_WORD} sequence numbers
+ * along with the lap around the ring that the bits belong to. The words are reused as the checkpoint moves forward: a word is
+ * only moved to the next lap once all the sequence numbers of its previous lap are at or below the checkpoint, and the first
+ * sequence number marked on the new lap replaces the bits of the previous one. Bits are only set for the lap they belong to, so a
+ * stale marker, for example a duplicate of a sequence number that the checkpoint passed while it was being marked, never
+ * changes a word that moved on. Any thread that marks a sequence number tries to advance the checkpoint afterwards with a
+ * compare-and-set over the completed prefix, so the checkpoint never misses a completed sequence number even if the thread that
+ * completed it loses the race.
+ * <p>
+ * Sequence numbers beyond the window, which are rare as they require more than {@link #CAPACITY} sequence numbers to be in
+ * flight, are kept in {@link CountedBitSet}s under a lock and moved into the ring once the checkpoint moved close enough.
+ *
+ * @opensearch.internal
+ */
+final class SeqNoRing {
+
+    private static final int WORDS = 256;
+    private static final int BITS_PER_WORD = Integer.SIZE;
+    private static final long BITS_MASK = 0xFFFFFFFFL;
+    private static final short BIT_SET_SIZE = LocalCheckpointTracker.BIT_SET_SIZE;
+
+    /**
+     * The number of sequence numbers tracked by the ring. Sequence numbers no more than this far above the checkpoint are tracked
+     * without locking, apart from those sharing a word with a sequence number that is further away.
+     */
+    static final int CAPACITY = WORDS * BITS_PER_WORD;
+
+    /**
+     * All sequence numbers no more than this number are completed.
+     */
+    final AtomicLong checkpoint;
+
+    /**
+     * Completed sequence numbers beyond the window of the ring, keyed by the sequence number divided by
+     * {@link LocalCheckpointTracker#BIT_SET_SIZE}. Guarded by this ring.
+     */
+    final Map<Long, CountedBitSet> overflow = new HashMap<>();
+
+    private final AtomicLongArray words = new AtomicLongArray(WORDS);
+    private volatile boolean hasOverflow;
+
+    SeqNoRing(final long checkpoint) {
+        this.checkpoint = new AtomicLong(checkpoint);
+        assert BIT_SET_SIZE % BITS_PER_WORD == 0 : "the overflow pages must not share words";
+        // all words start out on lap 0 with no sequence number marked, the sequence numbers at or below the checkpoint that share
+        // a word with the sequence numbers after it must be marked
+        for (long seqNo = Math.max(0, (checkpoint + 1) / BITS_PER_WORD * BITS_PER_WORD); seqNo <= checkpoint; seqNo++) {
+            set(seqNo);
+        }
+    }
+
+    /**
+     * Marks the given sequence number as completed and advances the checkpoint if possible.
+     *
+     * @return whether the checkpoint advanced
+     */
+    boolean markSeqNo(final long seqNo) {
+        final long current = checkpoint.get();
+        if (seqNo <= current) {
+            // this is possible during recovery where we might replay an operation that was also replicated
+            return false;
+        }
+        if (seqNo <= windowEnd(current)) {
+            set(seqNo);
+        } else {
+            synchronized (this) {
+                final CountedBitSet bitSet = overflow.computeIfAbsent(seqNo / BIT_SET_SIZE, k -> new CountedBitSet(BIT_SET_SIZE));
+                bitSet.set(Math.toIntExact(seqNo % BIT_SET_SIZE));
+                hasOverflow = true;
+                // the checkpoint may have moved since we read it, and the threads that moved it may have drained before we added
+                drainOverflow();
+            }
+        }
+        return advance();
+    }
+
+    /**
+     * Moves the checkpoint to the given sequence number, regardless of whether the sequence numbers in between were marked. Must
+     * not run concurrently with {@link #markSeqNo(long)}.
+     */
+    synchronized void fastForward(final long seqNo) {
+        final long current = checkpoint.get();
+        if (seqNo <= current) {
+            return;
+        }
+        for (long s = Math.max(current, seqNo - CAPACITY) + 1; s <= seqNo; s++) {
+            set(s);
+        }
+        checkpoint.accumulateAndGet(seqNo, Math::max);
+        if (hasOverflow) {
+            drainOverflow();
+        }
+        advance();
+    }
+
+    /**
+     * Whether the given sequence number was marked as completed.
+     */
+    boolean contains(final long seqNo) {
+        final long current = checkpoint.get();
+        if (seqNo <= current) {
+            return true;
+        }
+        if (isSet(seqNo)) {
+            return true;
+        }
+        if (hasOverflow == false) {
+            return false;
+        }
+        synchronized (this) {
+            final CountedBitSet bitSet = overflow.get(seqNo / BIT_SET_SIZE);
+            if (bitSet != null && bitSet.get(Math.toIntExact(seqNo % BIT_SET_SIZE))) {
+                return true;
+            }
+            // check again, the sequence number may have been moved into the ring
+            return seqNo <= checkpoint.get() || isSet(seqNo);
+        }
+    }
+
+    /**
+     * Advances the checkpoint over the completed sequence numbers that follow it.
+     */
+    private boolean advance() {
+        boolean advanced = false;
+        while (true) {
+            final long current = checkpoint.get();
+            final long next = lastCompletedFrom(current + 1);
+            if (next == current) {
+                return advanced;
+            }
+            if (checkpoint.compareAndSet(current, next)) {
+                advanced = true;
+                if (hasOverflow) {
+                    synchronized (this) {
+                        drainOverflow();
+                    }
+                }
+            }
+            // loop to pick up sequence numbers that completed while we were advancing
+        }
+    }
+
+    /**
+     * The last sequence number of the run of completed sequence numbers that starts at the given sequence number, or the
+     * sequence number before it if it is not completed.
+     */
+    private long lastCompletedFrom(final long from) {
+        long seqNo = from;
+        final long limit = from + CAPACITY;
+        while (seqNo < limit) {
+            final long word = words.get(wordIndex(seqNo));
+            // the bits of a word that is still on a previous lap belong to other sequence numbers
+            final long completed = wordLap(word) == lap(seqNo) ? word & BITS_MASK : 0L;
+            final int bitIndex = (int) (seqNo % BITS_PER_WORD);
+            final int run = Long.numberOfTrailingZeros(~(completed >>> bitIndex));
+            seqNo += Math.min(run, BITS_PER_WORD - bitIndex);
+            if (run < BITS_PER_WORD - bitIndex) {
+                break;
+            }
+        }
+        return Math.min(seqNo, limit) - 1;
+    }
+
+    /**
+     * Moves the sequence numbers of the overflow that fall into the window into the ring.
+     */
+    private void drainOverflow() {
+        assert Thread.holdsLock(this);
+        final long current = checkpoint.get();
+        final long limit = windowEnd(current);
+        final Iterator<Map.Entry<Long, CountedBitSet>> iterator = overflow.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, CountedBitSet> entry = iterator.next();
+            final long first = entry.getKey() * BIT_SET_SIZE;
+            if (first > limit) {
+                continue;
+            }
+            final long last = first + BIT_SET_SIZE - 1;
+            for (long seqNo = Math.max(first, current + 1); seqNo <= Math.min(last, limit); seqNo++) {
+                if (entry.getValue().get((int) (seqNo - first))) {
+                    set(seqNo);
+                }
+            }
+            if (last <= limit) {
+                iterator.remove();
+            }
+        }
+        hasOverflow = overflow.isEmpty() == false;
+    }
+
+    /**
+     * Marks the given sequence number in its word. Must only be called for sequence numbers at or below
+     * {@link #windowEnd(long)} of the checkpoint, so that a word on a previous lap can be moved to the lap of the sequence number.
+     */
+    private void set(final long seqNo) {
+        final int index = wordIndex(seqNo);
+        final int lap = lap(seqNo);
+        final long bit = 1L << (seqNo % BITS_PER_WORD);
+        long word;
+        long updated;
+        do {
+            word = words.get(index);
+            final int wordLap = wordLap(word);
+            if (wordLap == lap) {
+                updated = word | bit;
+            } else if (wordLap - lap < 0) {
+                // the checkpoint passed all the sequence numbers of the previous lap of the word
+                updated = ((long) lap << BITS_PER_WORD) | bit;
+            } else {
+                // the checkpoint passed the sequence number and its word moved on while it was being marked
+                return;
+            }
+        } while (word != updated && words.compareAndSet(index, word, updated) == false);
+    }
+
+    private boolean isSet(final long seqNo) {
+        final long word = words.get(wordIndex(seqNo));
+        return wordLap(word) == lap(seqNo) && (word & (1L << (seqNo % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * The last sequence number that can be marked in the ring for the given checkpoint: the words of the sequence numbers up to
+     * it have no sequence numbers above the checkpoint left on their previous lap.
+     */
+    private static long windowEnd(final long checkpoint) {
+        return (checkpoint + CAPACITY + 1) / BITS_PER_WORD * BITS_PER_WORD - 1;
+    }
+
+    private static int wordIndex(final long seqNo) {
+        return (int) ((seqNo / BITS_PER_WORD) % WORDS);
+    }
+
+    /**
+     * The lap of the given sequence number. Laps are compared by their difference, so they may wrap around.
+     */
+    private static int lap(final long seqNo) {
+        return (int) (seqNo / CAPACITY);
+    }
+
+    private static int wordLap(final long word) {
+        return (int) (word >>> BITS_PER_WORD);
+    }
+}
@@ -191,6 +191,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -4746,6 +4747,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    private volatile TranslogSyncCoordinator translogSyncCoordinator;
+    private volatile TranslogSyncCoordinator.Target translogSyncTarget;
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
@@ -4801,7 +4804,30 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        final TranslogSyncCoordinator.Target coordinatedTarget = translogSyncTarget;
+        if (coordinatedTarget != null) {
+            translogSyncCoordinator.sync(coordinatedTarget, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
+    }
+
+    /**
+     * Routes the location based translog syncs of this shard through the given node level coordinator, which groups them
+     * with the syncs of other shards on the node. Shards with a remote translog keep their own buffered processor.
+     */
+    public void setTranslogSyncCoordinator(TranslogSyncCoordinator translogSyncCoordinator) {
+        if (indexSettings.isAssignedOnRemoteNode()) {
+            return;
+        }
+        this.translogSyncCoordinator = Objects.requireNonNull(translogSyncCoordinator);
+        this.translogSyncTarget = new TranslogSyncCoordinator.Target(shardId, path.getRootDataPath(), locations -> {
+            try {
+                getEngine().translogManager().ensureTranslogSynced(locations);
+            } catch (AlreadyClosedException ex) {
+                // that's fine since we already synced everything on engine close
+            }
+        });
     }
 
     public void sync() throws IOException {
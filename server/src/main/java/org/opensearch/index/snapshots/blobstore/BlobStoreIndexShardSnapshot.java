@@ -35,6 +35,7 @@ package org.opensearch.index.snapshots.blobstore;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Version;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.Strings;
@@ -49,8 +50,10 @@ import org.opensearch.index.store.StoreFileMetadata;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 /**
@@ -72,6 +75,10 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
         private final long partBytes;
         private final int numberOfParts;
         private final StoreFileMetadata metadata;
+        @Nullable
+        private final List<Chunk> chunks;
+        @Nullable
+        private final long[] chunkStarts;
 
         /**
          * Constructs a new instance of file info
@@ -101,9 +108,41 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
 
             this.partSize = partSize;
             this.partBytes = partBytes;
+            this.chunks = null;
+            this.chunkStarts = null;
             assert IntStream.range(0, numberOfParts).mapToLong(this::partBytes).sum() == metadata.length();
         }
 
+        /**
+         * Constructs a new instance of file info for a file that is stored as content-defined chunks, which are shared with the other
+         * files of the shard that contain the same bytes. The parts of the file are its chunks.
+         *
+         * @param name         file name as stored in the blob store, which is only used to identify the file as there is no blob by
+         *                     this name
+         * @param metadata     the files meta data
+         * @param chunks       the chunks of the file in order
+         */
+        public FileInfo(String name, StoreFileMetadata metadata, List<Chunk> chunks) {
+            if (chunks.isEmpty()) {
+                throw new IllegalArgumentException("no chunks for file [" + metadata + "]");
+            }
+            this.name = name;
+            this.metadata = metadata;
+            this.partSize = null;
+            this.partBytes = Long.MAX_VALUE;
+            this.numberOfParts = chunks.size();
+            this.chunks = Collections.unmodifiableList(new ArrayList<>(chunks));
+            this.chunkStarts = new long[chunks.size()];
+            long start = 0;
+            for (int i = 0; i < chunks.size(); i++) {
+                chunkStarts[i] = start;
+                start += chunks.get(i).length();
+            }
+            if (start != metadata.length()) {
+                throw new IllegalArgumentException("chunks of [" + start + "] bytes don't match file [" + metadata + "]");
+            }
+        }
+
         /**
          * Returns the base file name
          *
@@ -120,7 +159,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
          * @return part name
          */
         public String partName(int part) {
-            if (numberOfParts > 1) {
+            if (chunks != null) {
+                return chunks.get(part).name();
+            } else if (numberOfParts > 1) {
                 return name + ".part" + part;
             } else {
                 return name;
@@ -174,6 +215,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
          */
         public long partBytes(int part) {
             assert 0 <= part && part < numberOfParts : part + " vs " + numberOfParts;
+            if (chunks != null) {
+                return chunks.get(part).length();
+            }
             if (numberOfParts == 1) {
                 return length();
             }
@@ -187,6 +231,35 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             return lastPartBytes;
         }
 
+        /**
+         * Returns the position in the file at which the given part starts
+         *
+         * @param part part number
+         * @return the position of the first byte of the part
+         */
+        public long partStart(int part) {
+            assert 0 <= part && part < numberOfParts : part + " vs " + numberOfParts;
+            if (chunks != null) {
+                return chunkStarts[part];
+            }
+            return part * partBytes;
+        }
+
+        /**
+         * Returns the part that holds the given position in the file
+         *
+         * @param position position in the file
+         * @return part number
+         */
+        public int partAt(long position) {
+            assert 0 <= position && position < Math.max(1, length()) : position + " vs " + length();
+            if (chunks != null) {
+                final int index = Arrays.binarySearch(chunkStarts, position);
+                return index >= 0 ? index : -index - 2;
+            }
+            return (int) (position / partBytes);
+        }
+
         /**
          * Returns number of parts
          *
@@ -196,6 +269,16 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             return numberOfParts;
         }
 
+        /**
+         * Returns the content-defined chunks the file is stored as
+         *
+         * @return the chunks of the file, or {@code null} if the file is stored as parts of a fixed size
+         */
+        @Nullable
+        public List<Chunk> chunks() {
+            return chunks;
+        }
+
         /**
          * Returns file md5 checksum provided by {@link org.opensearch.index.store.Store}
          *
@@ -247,6 +330,9 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
                     return false;
                 }
             }
+            if (Objects.equals(chunks, fileInfo.chunks) == false) {
+                return false;
+            }
             return metadata.isSame(fileInfo.metadata);
         }
 
@@ -257,6 +343,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
         static final String PART_SIZE = "part_size";
         static final String WRITTEN_BY = "written_by";
         static final String META_HASH = "meta_hash";
+        static final String CHUNKS = "chunks";
 
         /**
          * Serializes file info into JSON
@@ -283,6 +370,17 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
                 BytesRef br = file.metadata.hash();
                 builder.field(META_HASH, br.bytes, br.offset, br.length);
             }
+
+            if (file.chunks != null) {
+                builder.startArray(CHUNKS);
+                for (Chunk chunk : file.chunks) {
+                    builder.startObject();
+                    builder.field(NAME, chunk.name());
+                    builder.field(LENGTH, chunk.length());
+                    builder.endObject();
+                }
+                builder.endArray();
+            }
             builder.endObject();
         }
 
@@ -302,6 +400,7 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             Version writtenBy = null;
             String writtenByStr = null;
             BytesRef metaHash = new BytesRef();
+            List<Chunk> chunks = null;
             if (token == XContentParser.Token.START_OBJECT) {
                 while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
                     if (token == XContentParser.Token.FIELD_NAME) {
@@ -328,6 +427,11 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
                             } else {
                                 throw new OpenSearchParseException("unknown parameter [{}]", currentFieldName);
                             }
+                        } else if (token == XContentParser.Token.START_ARRAY && CHUNKS.equals(currentFieldName)) {
+                            chunks = new ArrayList<>();
+                            while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                                chunks.add(Chunk.fromXContent(parser));
+                            }
                         } else {
                             throw new OpenSearchParseException("unexpected token  [{}]", token);
                         }
@@ -349,7 +453,11 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
             } else if (checksum == null) {
                 throw new OpenSearchParseException("missing checksum for name [" + name + "]");
             }
-            return new FileInfo(name, new StoreFileMetadata(physicalName, length, checksum, writtenBy, metaHash), partSize);
+            final StoreFileMetadata metadata = new StoreFileMetadata(physicalName, length, checksum, writtenBy, metaHash);
+            if (chunks != null) {
+                return new FileInfo(name, metadata, chunks);
+            }
+            return new FileInfo(name, metadata, partSize);
         }
 
         @Override
@@ -368,6 +476,88 @@ public class BlobStoreIndexShardSnapshot implements ToXContentFragment, IndexSha
         }
     }
 
+    /**
+     * A content-defined chunk of a snapshotted file. Chunks are stored as blobs named after the hash of their contents, so the files
+     * of a shard that contain the same bytes share them.
+     *
+     * @opensearch.internal
+     */
+    public static final class Chunk {
+
+        private final String name;
+        private final long length;
+
+        /**
+         * @param name   blob name of the chunk
+         * @param length length of the chunk in bytes
+         */
+        public Chunk(String name, long length) {
+            this.name = name;
+            this.length = length;
+        }
+
+        /**
+         * Returns the blob name of the chunk
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns the length of the chunk in bytes
+         */
+        public long length() {
+            return length;
+        }
+
+        static Chunk fromXContent(XContentParser parser) throws IOException {
+            XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+            String name = null;
+            long length = -1;
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                XContentParserUtils.ensureExpectedToken(XContentParser.Token.FIELD_NAME, token, parser);
+                final String currentFieldName = parser.currentName();
+                parser.nextToken();
+                if (FileInfo.NAME.equals(currentFieldName)) {
+                    name = parser.text();
+                } else if (FileInfo.LENGTH.equals(currentFieldName)) {
+                    length = parser.longValue();
+                } else {
+                    throw new OpenSearchParseException("unknown parameter [{}]", currentFieldName);
+                }
+            }
+            if (name == null || Strings.validFileName(name) == false) {
+                throw new OpenSearchParseException("missing or invalid chunk name [" + name + "]");
+            } else if (length <= 0) {
+                throw new OpenSearchParseException("missing or invalid chunk length");
+            }
+            return new Chunk(name, length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Chunk chunk = (Chunk) o;
+            return length == chunk.length && name.equals(chunk.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, length);
+        }
+
+        @Override
+        public String toString() {
+            return "[name: " + name + ", length: " + length + "]";
+        }
+    }
+
     /**
      * Snapshot name
      */
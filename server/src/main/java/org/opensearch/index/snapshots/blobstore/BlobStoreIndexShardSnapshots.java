@@ -42,11 +42,14 @@ import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.File
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Collections.unmodifiableMap;
 
@@ -65,6 +68,7 @@ public class BlobStoreIndexShardSnapshots implements Iterable<SnapshotFiles>, To
     private final List<SnapshotFiles> shardSnapshots;
     private final Map<String, FileInfo> files;
     private final Map<String, List<FileInfo>> physicalFiles;
+    private final Set<String> chunks;
 
     public BlobStoreIndexShardSnapshots(List<SnapshotFiles> shardSnapshots) {
         this.shardSnapshots = Collections.unmodifiableList(new ArrayList<>(shardSnapshots));
@@ -97,6 +101,7 @@ public class BlobStoreIndexShardSnapshots implements Iterable<SnapshotFiles>, To
         }
         this.physicalFiles = unmodifiableMap(mapBuilder);
         this.files = unmodifiableMap(newFiles);
+        this.chunks = chunkNames(this.files.values());
     }
 
     private BlobStoreIndexShardSnapshots(Map<String, FileInfo> files, List<SnapshotFiles> shardSnapshots) {
@@ -118,6 +123,19 @@ public class BlobStoreIndexShardSnapshots implements Iterable<SnapshotFiles>, To
             mapBuilder.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
         }
         this.physicalFiles = unmodifiableMap(mapBuilder);
+        this.chunks = chunkNames(files.values());
+    }
+
+    private static Set<String> chunkNames(Collection<FileInfo> files) {
+        Set<String> chunks = new HashSet<>();
+        for (FileInfo fileInfo : files) {
+            if (fileInfo.chunks() != null) {
+                for (BlobStoreIndexShardSnapshot.Chunk chunk : fileInfo.chunks()) {
+                    chunks.add(chunk.name());
+                }
+            }
+        }
+        return Collections.unmodifiableSet(chunks);
     }
 
     /**
@@ -173,6 +191,17 @@ public class BlobStoreIndexShardSnapshots implements Iterable<SnapshotFiles>, To
         return files.get(name);
     }
 
+    /**
+     * Checks whether a content-defined chunk is referenced by a file of any of the snapshots, this is the chunk index of the shard
+     * that files are deduplicated against
+     *
+     * @param name blob name of the chunk
+     * @return true if the chunk is referenced
+     */
+    public boolean containsChunk(String name) {
+        return chunks.contains(name);
+    }
+
     @Override
     public Iterator<SnapshotFiles> iterator() {
         return shardSnapshots.iterator();
@@ -248,6 +248,34 @@ public class RemoteDirectory extends Directory {
         }
     }
 
+    /**
+     * Opens a rate limited stream for reading one block from the existing file, without buffering the block in memory like
+     * {@link #openBlockInput} does. Should be used with a closeable block.
+     * @param name the name of an existing file.
+     * @param position block start position
+     * @param length block length
+     * @return the block stream
+     * @throws IOException in case of I/O error
+     * @throws NoSuchFileException if the file does not exist
+     */
+    public InputStream openBlockStream(String name, long position, long length) throws IOException {
+        InputStream inputStream = null;
+        try {
+            inputStream = blobContainer.readBlob(name, position, length);
+            return downloadRateLimiterProvider.get(name).apply(inputStream);
+        } catch (Exception e) {
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (Exception closeEx) {
+                    e.addSuppressed(closeEx);
+                }
+            }
+            logger.error("Exception while reading blob for file: " + name + " for path " + blobContainer.path());
+            throw e;
+        }
+    }
+
     /**
      * Opens a stream for reading the existing file and returns {@link RemoteIndexInput} enclosing
      * the stream.
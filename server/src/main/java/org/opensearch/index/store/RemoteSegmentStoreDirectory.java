@@ -586,6 +586,24 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
         }
     }
 
+    /**
+     * Opens a stream for reading one block from the existing file.
+     * @param name the name of an existing file.
+     * @param position block start position
+     * @param length block length
+     * @return the block stream
+     * @throws IOException in case of I/O error
+     * @throws NoSuchFileException if the file does not exist
+     */
+    public InputStream openBlockStream(String name, long position, long length) throws IOException {
+        String remoteFilename = getExistingRemoteFilename(name);
+        if (remoteFilename != null) {
+            return remoteDataDirectory.openBlockStream(remoteFilename, position, length);
+        } else {
+            throw new NoSuchFileException(name);
+        }
+    }
+
     /**
      * Copies a file from the source directory to a remote based on multi-stream upload support.
      * If vendor plugin supports uploading multiple parts in parallel, <code>BlobContainer#writeBlobByStreams</code>
@@ -9,24 +9,46 @@
 package org.opensearch.index.store;
 
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.io.Channels;
 import org.opensearch.common.logging.Loggers;
+import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+import com.jcraft.jzlib.JZlib;
 
 /**
  * Helper class to downloads files from a {@link RemoteSegmentStoreDirectory}
@@ -37,6 +59,8 @@ import java.util.concurrent.ExecutionException;
  */
 @PublicApi(since = "2.11.0")
 public final class RemoteStoreFileDownloader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Logger logger;
     private final ThreadPool threadPool;
     private final RecoverySettings recoverySettings;
@@ -62,7 +86,29 @@ public final class RemoteStoreFileDownloader {
         Collection<String> toDownloadSegments,
         ActionListener<Void> listener
     ) {
-        downloadInternal(cancellableThreads, source, destination, null, toDownloadSegments, () -> {}, listener);
+        downloadAsync(cancellableThreads, source, destination, toDownloadSegments, (file, bytes) -> {}, listener);
+    }
+
+    /**
+     * Copies the given segments from the remote segment store to the given
+     * local directory.
+     * @param source The remote directory to copy segment files from
+     * @param destination The local directory to copy segment files to
+     * @param toDownloadSegments The list of segment files to download
+     * @param partProgressTracker Notified of the bytes written of the files that are downloaded in parts, which are written
+     *                            to the local file directly rather than through {@link Directory#copyFrom}. Must be thread
+     *                            safe as the parts of a file are downloaded concurrently.
+     * @param listener Callback listener to be notified upon completion
+     */
+    public void downloadAsync(
+        CancellableThreads cancellableThreads,
+        Directory source,
+        Directory destination,
+        Collection<String> toDownloadSegments,
+        BiConsumer<String, Long> partProgressTracker,
+        ActionListener<Void> listener
+    ) {
+        downloadInternal(cancellableThreads, source, destination, null, toDownloadSegments, () -> {}, partProgressTracker, listener);
     }
 
     /**
@@ -86,7 +132,16 @@ public final class RemoteStoreFileDownloader {
     ) throws InterruptedException, IOException {
         final CancellableThreads cancellableThreads = new CancellableThreads();
         final PlainActionFuture<Void> listener = PlainActionFuture.newFuture();
-        downloadInternal(cancellableThreads, source, destination, secondDestination, toDownloadSegments, onFileCompletion, listener);
+        downloadInternal(
+            cancellableThreads,
+            source,
+            destination,
+            secondDestination,
+            toDownloadSegments,
+            onFileCompletion,
+            (file, bytes) -> {},
+            listener
+        );
         try {
             listener.get();
         } catch (ExecutionException e) {
@@ -112,57 +167,288 @@ public final class RemoteStoreFileDownloader {
         @Nullable Directory secondDestination,
         Collection<String> toDownloadSegments,
         Runnable onFileCompletion,
+        BiConsumer<String, Long> partProgressTracker,
         ActionListener<Void> listener
     ) {
-        final Queue<String> queue = new ConcurrentLinkedQueue<>(toDownloadSegments);
+        final Queue<CheckedRunnable<IOException>> queue = new ConcurrentLinkedQueue<>();
+        final List<RangedDownload> rangedDownloads = new ArrayList<>();
+        try {
+            addDownloadTasks(
+                queue,
+                rangedDownloads,
+                source,
+                destination,
+                secondDestination,
+                toDownloadSegments,
+                onFileCompletion,
+                partProgressTracker
+            );
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
         // Choose the minimum of:
-        // - number of files to download
+        // - number of files and parts of files to download
         // - max thread pool size
         // - "indices.recovery.max_concurrent_remote_store_streams" setting
         final int threads = Math.min(
-            toDownloadSegments.size(),
+            queue.size(),
             Math.min(threadPool.info(ThreadPool.Names.REMOTE_RECOVERY).getMax(), recoverySettings.getMaxConcurrentRemoteStoreStreams())
         );
-        logger.trace("Starting download of {} files with {} threads", queue.size(), threads);
-        final ActionListener<Void> allFilesListener = new GroupedActionListener<>(ActionListener.map(listener, r -> null), threads);
+        logger.trace("Starting download of {} files in {} tasks with {} threads", toDownloadSegments.size(), queue.size(), threads);
+        final ActionListener<Void> cleanUpListener = ActionListener.delegateResponse(listener, (l, e) -> {
+            // no task runs anymore once all threads reported, so the files that were being downloaded in parts can be removed
+            rangedDownloads.forEach(RangedDownload::deleteIfIncomplete);
+            l.onFailure(e);
+        });
+        final ActionListener<Void> allFilesListener = new GroupedActionListener<>(ActionListener.map(cleanUpListener, r -> null), threads);
         for (int i = 0; i < threads; i++) {
-            copyOneFile(cancellableThreads, source, destination, secondDestination, queue, onFileCompletion, allFilesListener);
+            copyOneFile(cancellableThreads, queue, allFilesListener);
         }
     }
 
-    private void copyOneFile(
-        CancellableThreads cancellableThreads,
+    /**
+     * Adds a task per file to the given queue, except for files larger than the download part size, which get a task per part if
+     * the destination is a directory on the local file system that the parts can be written to at their position.
+     */
+    private void addDownloadTasks(
+        Queue<CheckedRunnable<IOException>> queue,
+        List<RangedDownload> rangedDownloads,
         Directory source,
         Directory destination,
         @Nullable Directory secondDestination,
-        Queue<String> queue,
+        Collection<String> toDownloadSegments,
         Runnable onFileCompletion,
+        BiConsumer<String, Long> partProgressTracker
+    ) throws IOException {
+        final long partSize = recoverySettings.getRemoteStoreDownloadPartSize().getBytes();
+        final Directory unwrapped = FilterDirectory.unwrap(destination);
+        final Path localPath = unwrapped instanceof FSDirectory ? ((FSDirectory) unwrapped).getDirectory() : null;
+        for (String file : toDownloadSegments) {
+            final long length = localPath == null ? -1 : source.fileLength(file);
+            if (length > partSize) {
+                final RangedDownload download = new RangedDownload(
+                    source,
+                    destination,
+                    secondDestination,
+                    file,
+                    localPath.resolve(file),
+                    length,
+                    partSize,
+                    onFileCompletion,
+                    partProgressTracker
+                );
+                rangedDownloads.add(download);
+                for (int part = 0; part < download.numParts(); part++) {
+                    final int partIndex = part;
+                    queue.add(() -> download.downloadPart(partIndex));
+                }
+            } else {
+                queue.add(() -> {
+                    logger.trace("Downloading file {}", file);
+                    destination.copyFrom(source, file, file, IOContext.DEFAULT);
+                    logger.trace("Downloaded file {} of size {}", file, destination.fileLength(file));
+                    onFileCompletion.run();
+                    if (secondDestination != null) {
+                        secondDestination.copyFrom(destination, file, file, IOContext.DEFAULT);
+                    }
+                });
+            }
+        }
+    }
+
+    private void copyOneFile(
+        CancellableThreads cancellableThreads,
+        Queue<CheckedRunnable<IOException>> queue,
         ActionListener<Void> listener
     ) {
-        final String file = queue.poll();
-        if (file == null) {
+        final CheckedRunnable<IOException> task = queue.poll();
+        if (task == null) {
             // Queue is empty, so notify listener we are done
             listener.onResponse(null);
         } else {
             threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY).submit(() -> {
-                logger.trace("Downloading file {}", file);
                 try {
-                    cancellableThreads.executeIO(() -> {
-                        destination.copyFrom(source, file, file, IOContext.DEFAULT);
-                        logger.trace("Downloaded file {} of size {}", file, destination.fileLength(file));
-                        onFileCompletion.run();
-                        if (secondDestination != null) {
-                            secondDestination.copyFrom(destination, file, file, IOContext.DEFAULT);
-                        }
-                    });
+                    cancellableThreads.executeIO(task::run);
                 } catch (Exception e) {
                     // Clear the queue to stop any future processing, report the failure, then return
                     queue.clear();
                     listener.onFailure(e);
                     return;
                 }
-                copyOneFile(cancellableThreads, source, destination, secondDestination, queue, onFileCompletion, listener);
+                copyOneFile(cancellableThreads, queue, listener);
             });
         }
     }
+
+    /**
+     * The download of a large file in parts, which are read from the source through ranged reads and written to the local file at
+     * their position, so that they can be downloaded in parallel. The checksum of each part is computed while it is written, and the
+     * checksums of all parts are combined and verified against the checksum in the footer of the file once the last part is written.
+     */
+    private final class RangedDownload {
+        private final Directory source;
+        private final Directory destination;
+        @Nullable
+        private final Directory secondDestination;
+        private final String file;
+        private final Path path;
+        private final long length;
+        private final long partSize;
+        private final Runnable onFileCompletion;
+        private final BiConsumer<String, Long> progressTracker;
+        private final long[] partChecksums;
+        private final AtomicInteger remainingParts;
+        private FileChannel channel;
+        private boolean created;
+        private boolean completed;
+
+        RangedDownload(
+            Directory source,
+            Directory destination,
+            @Nullable Directory secondDestination,
+            String file,
+            Path path,
+            long length,
+            long partSize,
+            Runnable onFileCompletion,
+            BiConsumer<String, Long> progressTracker
+        ) {
+            this.source = source;
+            this.destination = destination;
+            this.secondDestination = secondDestination;
+            this.file = file;
+            this.path = path;
+            this.length = length;
+            this.partSize = partSize;
+            this.onFileCompletion = onFileCompletion;
+            this.progressTracker = progressTracker;
+            this.partChecksums = new long[Math.toIntExact((length + partSize - 1) / partSize)];
+            this.remainingParts = new AtomicInteger(partChecksums.length);
+        }
+
+        int numParts() {
+            return partChecksums.length;
+        }
+
+        void downloadPart(int part) throws IOException {
+            final long position = part * partSize;
+            final long partLength = Math.min(partSize, length - position);
+            final long checksummedLength = checksummedLength(part);
+            logger.trace("Downloading part {} of file {} at position {} of length {}", part, file, position, partLength);
+            final FileChannel channel = channel();
+            final CRC32 checksum = new CRC32();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = openRange(position, partLength)) {
+                long read = 0;
+                while (read < partLength) {
+                    final int n = in.read(buffer, 0, (int) Math.min(buffer.length, partLength - read));
+                    if (n == -1) {
+                        throw new EOFException("read past EOF of part " + part + " of file " + file + " at " + (position + read));
+                    }
+                    if (read < checksummedLength) {
+                        checksum.update(buffer, 0, (int) Math.min(n, checksummedLength - read));
+                    }
+                    Channels.writeToChannel(buffer, 0, n, channel, position + read);
+                    // the parts bypass the copyFrom of the destination that reports the progress of the other files
+                    progressTracker.accept(file, (long) n);
+                    read += n;
+                }
+            }
+            partChecksums[part] = checksum.getValue();
+            if (remainingParts.decrementAndGet() == 0) {
+                onAllPartsDownloaded();
+            }
+        }
+
+        /**
+         * The number of bytes of the given part that the checksum in the footer covers, which are all but the checksum itself.
+         */
+        private long checksummedLength(int part) {
+            final long position = part * partSize;
+            final long partLength = Math.min(partSize, length - position);
+            return Math.max(0, Math.min(partLength, length - Long.BYTES - position));
+        }
+
+        private InputStream openRange(long position, long rangeLength) throws IOException {
+            if (source instanceof RemoteSegmentStoreDirectory) {
+                return ((RemoteSegmentStoreDirectory) source).openBlockStream(file, position, rangeLength);
+            }
+            final IndexInput input = source.openInput(file, IOContext.READONCE);
+            boolean success = false;
+            try {
+                input.seek(position);
+                final InputStream stream = new InputStreamIndexInput(input, rangeLength) {
+                    @Override
+                    public void close() throws IOException {
+                        input.close();
+                    }
+                };
+                success = true;
+                return stream;
+            } finally {
+                if (success == false) {
+                    IOUtils.closeWhileHandlingException(input);
+                }
+            }
+        }
+
+        private synchronized FileChannel channel() throws IOException {
+            if (channel == null) {
+                // create the file through the destination so that its wrappers account for it, then set its final length up front so
+                // that the parts can be written in any order
+                destination.createOutput(file, IOContext.DEFAULT).close();
+                created = true;
+                channel = FileChannel.open(path, StandardOpenOption.WRITE);
+                Channels.writeToChannel(new byte[1], channel, length - 1);
+            }
+            return channel;
+        }
+
+        private void onAllPartsDownloaded() throws IOException {
+            synchronized (this) {
+                channel.close();
+            }
+            long actualChecksum = 0;
+            for (int part = 0; part < partChecksums.length; part++) {
+                actualChecksum = JZlib.crc32_combine(actualChecksum, partChecksums[part], checksummedLength(part));
+            }
+            final long expectedChecksum;
+            try (IndexInput input = destination.openInput(file, IOContext.READONCE)) {
+                expectedChecksum = CodecUtil.retrieveChecksum(input);
+            }
+            if (expectedChecksum != actualChecksum) {
+                throw new CorruptIndexException(
+                    "checksum failed (hardware problem?) : expected="
+                        + Long.toHexString(expectedChecksum)
+                        + " actual="
+                        + Long.toHexString(actualChecksum),
+                    file
+                );
+            }
+            synchronized (this) {
+                completed = true;
+            }
+            logger.trace("Downloaded file {} of size {} in {} parts", file, length, partChecksums.length);
+            onFileCompletion.run();
+            if (secondDestination != null) {
+                secondDestination.copyFrom(destination, file, file, IOContext.DEFAULT);
+            }
+        }
+
+        /**
+         * Closes the file and deletes it unless all parts were downloaded and verified, like {@link Directory#copyFrom} does when the
+         * copy fails.
+         */
+        synchronized void deleteIfIncomplete() {
+            if (created && completed == false) {
+                IOUtils.closeWhileHandlingException(channel);
+                try {
+                    destination.deleteFile(file);
+                } catch (Exception e) {
+                    logger.trace(() -> new ParameterizedMessage("Failed to delete partially downloaded file {}", file), e);
+                }
+            }
+        }
+    }
 }
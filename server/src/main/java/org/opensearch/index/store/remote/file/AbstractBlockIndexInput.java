@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.ref.Cleaner;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -80,6 +81,19 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
      */
     protected int currentBlockId;
 
+    /**
+     * The largest number of blocks that are requested ahead of a sequential read.
+     */
+    static final int MAX_READ_AHEAD_BLOCKS = 4;
+
+    /**
+     * Sequential access detection, see {@link #readAhead(int)}. The ID of the block that was demanded last, or -1 if none, the
+     * number of blocks to request ahead of the current block, and the ID of the block after the last block that was requested.
+     */
+    private int lastDemandedBlockId = -1;
+    private int readAheadWindow;
+    private int readAheadEndBlockId;
+
     private final BlockHolder blockHolder = new BlockHolder();
     protected final Cleaner.Cleanable cleanable;
 
@@ -106,6 +120,13 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Given a blockId, fetch it in the background because a sequential read is likely to demand it soon. Does nothing by default.
+     * @param blockId to fetch for
+     * @param cancelled set once the block is not needed anymore, the fetch must not start after that
+     */
+    protected void prefetchBlock(int blockId, AtomicBoolean cancelled) {}
+
     @Override
     public abstract AbstractBlockIndexInput clone();
 
@@ -132,6 +153,7 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
 
     @Override
     public void close() throws IOException {
+        blockHolder.cancelReadAhead();
         blockHolder.close();
         currentBlockId = 0;
     }
@@ -442,10 +464,46 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         // close the current block before jumping to the new block
         blockHolder.close();
 
+        // request the blocks ahead before fetching this one, so that they download while the read waits for this one
+        readAhead(blockId);
+
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
     }
 
+    /**
+     * Requests the blocks that follow the given block in the background once the blocks are demanded in sequence, like doc values
+     * scans and postings iteration do. The number of blocks requested ahead starts at one and doubles whenever the read reaches the
+     * blocks that were requested last, up to {@link #MAX_READ_AHEAD_BLOCKS}. A jump to a block out of sequence resets the window and
+     * cancels the requests that did not start yet.
+     */
+    private void readAhead(int blockId) {
+        final boolean sequential = lastDemandedBlockId >= 0 && blockId == lastDemandedBlockId + 1;
+        lastDemandedBlockId = blockId;
+        if (sequential == false) {
+            if (readAheadWindow > 0) {
+                readAheadWindow = 0;
+                blockHolder.cancelReadAhead();
+            }
+            return;
+        }
+        final int fromBlockId;
+        if (readAheadWindow == 0) {
+            readAheadWindow = 1;
+            fromBlockId = blockId + 1;
+        } else if (blockId >= readAheadEndBlockId - readAheadWindow) {
+            readAheadWindow = Math.min(readAheadWindow * 2, MAX_READ_AHEAD_BLOCKS);
+            fromBlockId = Math.max(readAheadEndBlockId, blockId + 1);
+        } else {
+            return;
+        }
+        final int toBlockId = Math.min(getBlock(offset + length - 1) + 1, blockId + 1 + readAheadWindow);
+        for (int id = fromBlockId; id < toBlockId; id++) {
+            prefetchBlock(id, blockHolder.readAheadCancelled);
+        }
+        readAheadEndBlockId = toBlockId;
+    }
+
     protected void cloneBlock(AbstractBlockIndexInput other) {
         if (other.blockHolder.block != null) {
             this.blockHolder.set(other.blockHolder.block.clone());
@@ -551,6 +609,16 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
     private static class BlockHolder implements Closeable, Runnable {
         private volatile IndexInput block;
 
+        /**
+         * Set once the blocks that were requested ahead are not needed anymore, replaced by a new flag for the requests that follow.
+         */
+        private volatile AtomicBoolean readAheadCancelled = new AtomicBoolean();
+
+        private void cancelReadAhead() {
+            readAheadCancelled.set(true);
+            readAheadCancelled = new AtomicBoolean();
+        }
+
         private void set(IndexInput block) {
             if (this.block != null) {
                 throw new IllegalStateException("Previous block was not closed!");
@@ -568,6 +636,8 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
 
         @Override
         public void run() {
+            // the owner is unreachable, so the query that read through it ended
+            cancelReadAhead();
             try {
                 close();
             } catch (IOException e) {
@@ -19,6 +19,7 @@ import org.opensearch.index.store.remote.utils.TransferManager;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This is an implementation of {@link AbstractBlockIndexInput} where this class provides the main IndexInput using shard snapshot files.
@@ -48,11 +49,6 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
      */
     protected final String fileName;
 
-    /**
-     * Maximum size in bytes of snapshot file parts.
-     */
-    protected final long partSize;
-
     /**
      * Size of the file, larger than length if it's a slice
      */
@@ -105,15 +101,6 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
         super(builder);
         this.transferManager = transferManager;
         this.fileInfo = fileInfo;
-        if (fileInfo.partSize() != null) {
-            this.partSize = fileInfo.partSize().getBytes();
-        } else {
-            // Repository implementations can define a size at which to split files
-            // into multiple objects in the repository. If partSize() is null, then
-            // no splitting happens, so default to Long.MAX_VALUE here to have the
-            // same effect. See {@code BlobStoreRepository#chunkSize()}.
-            this.partSize = Long.MAX_VALUE;
-        }
         this.fileName = fileInfo.physicalName();
         this.directory = directory;
         this.originalFileSize = fileInfo.length();
@@ -137,6 +124,16 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
         logger.trace("fetchBlock called with blockId -> {}", blockId);
+        return transferManager.fetchBlob(blobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlock(int blockId, AtomicBoolean cancelled) {
+        logger.trace("prefetchBlock called with blockId -> {}", blockId);
+        transferManager.prefetchBlob(blobFetchRequest(blockId), cancelled);
+    }
+
+    private BlobFetchRequest blobFetchRequest(int blockId) {
         final String blockFileName = getBlockFileName(fileName, blockId);
 
         final long blockStart = getBlockStart(blockId);
@@ -152,12 +149,11 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
@@ -166,25 +162,18 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     protected List<BlobFetchRequest.BlobPart> getBlobParts(long blockStart, long blockEnd) {
         // If the snapshot file is chunked, we must account for this by
         // choosing the appropriate file part and updating the position
-        // accordingly.
-        int partNum = (int) (blockStart / partSize);
+        // accordingly. Parts don't have the same size if the file is
+        // stored as content-defined chunks.
+        int partNum = fileInfo.partAt(blockStart);
         long pos = blockStart;
-        long diff = (blockEnd - blockStart);
 
         List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
-        while (diff > 0) {
-            long partStart = pos % partSize;
-            long partEnd;
-            if ((partStart + diff) > partSize) {
-                partEnd = partSize;
-            } else {
-                partEnd = (partStart + diff);
-            }
-            long fetchBytes = partEnd - partStart;
+        while (pos < blockEnd) {
+            long partStart = pos - fileInfo.partStart(partNum);
+            long fetchBytes = Math.min(blockEnd - pos, fileInfo.partBytes(partNum) - partStart);
             blobParts.add(new BlobFetchRequest.BlobPart(fileInfo.partName(partNum), partStart, fetchBytes));
             partNum++;
             pos = pos + fetchBytes;
-            diff = (blockEnd - pos);
         }
         return blobParts;
     }
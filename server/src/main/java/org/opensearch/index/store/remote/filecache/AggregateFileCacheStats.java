@@ -116,6 +116,10 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         return new ByteSizeValue(overallFileCacheStats.getEvicted());
     }
 
+    public ByteSizeValue getRejected() {
+        return new ByteSizeValue(overallFileCacheStats.getRejected());
+    }
+
     public ByteSizeValue getRemoved() {
         return new ByteSizeValue(overallFileCacheStats.getRemoved());
     }
@@ -128,6 +132,10 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         return overallFileCacheStats.getCacheMisses();
     }
 
+    public double getHitRatio() {
+        return overallFileCacheStats.getHitRatio();
+    }
+
     // visible for testing.
     public FileCacheStats getBlockFileCacheStats() {
         return blockFileCacheStats;
@@ -142,11 +150,13 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.USED_IN_BYTES, Fields.USED, getUsed());
         builder.humanReadableField(Fields.PINNED_IN_BYTES, Fields.PINNED, getPinnedUsage());
         builder.humanReadableField(Fields.EVICTIONS_IN_BYTES, Fields.EVICTIONS, getEvicted());
+        builder.humanReadableField(Fields.REJECTIONS_IN_BYTES, Fields.REJECTIONS, getRejected());
         builder.humanReadableField(Fields.REMOVED_IN_BYTES, Fields.REMOVED, getRemoved());
         builder.field(Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.HIT_RATIO, getHitRatio());
         overallFileCacheStats.toXContent(builder, params);
         fullFileCacheStats.toXContent(builder, params);
         blockFileCacheStats.toXContent(builder, params);
@@ -166,6 +176,8 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         static final String PINNED_IN_BYTES = "pinned_in_bytes";
         static final String EVICTIONS = "evictions";
         static final String EVICTIONS_IN_BYTES = "evictions_in_bytes";
+        static final String REJECTIONS = "rejections";
+        static final String REJECTIONS_IN_BYTES = "rejections_in_bytes";
         static final String REMOVED = "removed";
         static final String REMOVED_IN_BYTES = "removed_in_bytes";
         static final String TOTAL = "total";
@@ -176,6 +188,7 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String HIT_RATIO = "hit_ratio";
     }
 
     /**
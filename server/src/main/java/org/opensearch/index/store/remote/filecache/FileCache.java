@@ -257,6 +257,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 overallCacheStats.usage(),
                 overallCacheStats.pinnedUsage(),
                 overallCacheStats.evictionWeight(),
+                overallCacheStats.rejectionWeight(),
                 overallCacheStats.removeWeight(),
                 overallCacheStats.hitCount(),
                 overallCacheStats.missCount(),
@@ -268,6 +269,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 fullFileCacheStats.usage(),
                 fullFileCacheStats.pinnedUsage(),
                 fullFileCacheStats.evictionWeight(),
+                fullFileCacheStats.rejectionWeight(),
                 fullFileCacheStats.removeWeight(),
                 fullFileCacheStats.hitCount(),
                 fullFileCacheStats.missCount(),
@@ -279,6 +281,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 blockFileCacheStats.usage(),
                 blockFileCacheStats.pinnedUsage(),
                 blockFileCacheStats.evictionWeight(),
+                blockFileCacheStats.rejectionWeight(),
                 blockFileCacheStats.removeWeight(),
                 blockFileCacheStats.hitCount(),
                 blockFileCacheStats.missCount(),
@@ -290,6 +293,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 pinnedFileCacheStats.usage(),
                 pinnedFileCacheStats.pinnedUsage(),
                 pinnedFileCacheStats.evictionWeight(),
+                pinnedFileCacheStats.rejectionWeight(),
                 pinnedFileCacheStats.removeWeight(),
                 pinnedFileCacheStats.hitCount(),
                 pinnedFileCacheStats.missCount(),
@@ -44,6 +44,18 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    /**
+     * Creates a file cache whose segments only admit files into their main space that were accessed more often than the files they
+     * would evict, so that scans over files that are read once don't evict the files that are read frequently.
+     */
+    public static FileCache createConcurrentTinyLFUFileCache(long capacity) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).admissionFilter(true).build());
+    }
+
+    public static FileCache createConcurrentTinyLFUFileCache(long capacity, int concurrencyLevel) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).admissionFilter(true).build());
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
@@ -27,7 +27,7 @@ import static org.opensearch.index.store.remote.filecache.AggregateFileCacheStat
  * Statistics for the file cache system that tracks memory usage and performance metrics.
  * Aggregates statistics across all cache segments including:
  * - Memory usage: active and used bytes.
- * - Cache performance: hit counts and eviction counts.
+ * - Cache performance: hit counts, hit ratio and eviction counts, including the evictions the admission policy rejected.
  * - Utilization: active percentage of total used memory.
  * The statistics are exposed as part of {@link AggregateFileCacheStats} and via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
@@ -42,6 +42,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long used;
     private final long pinned;
     private final long evicted;
+    private final long rejected;
     private final long removed;
     private final long hits;
     private final long misses;
@@ -58,12 +59,29 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long hits,
         long misses,
         FileCacheStatsType statsType
+    ) {
+        this(active, total, used, pinned, evicted, 0L, removed, hits, misses, statsType);
+    }
+
+    @InternalApi
+    public FileCacheStats(
+        final long active,
+        long total,
+        final long used,
+        final long pinned,
+        final long evicted,
+        final long rejected,
+        final long removed,
+        final long hits,
+        long misses,
+        FileCacheStatsType statsType
     ) {
         this.active = active;
         this.total = total;
         this.used = used;
         this.pinned = pinned;
         this.evicted = evicted;
+        this.rejected = rejected;
         this.removed = removed;
         this.hits = hits;
         this.misses = misses;
@@ -87,6 +105,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             this.removed = 0L;
             this.misses = 0L;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            this.rejected = in.readLong();
+        } else {
+            this.rejected = 0L;
+        }
     }
 
     @Override
@@ -103,6 +126,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             out.writeLong(removed);
             out.writeLong(misses);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeLong(rejected);
+        }
     }
 
     public long getActive() {
@@ -117,6 +143,14 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return evicted;
     }
 
+    /**
+     * The bytes of the evicted entries that the admission policy rejected in favour of entries that were accessed more often, which
+     * are included in {@link #getEvicted()}.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
     public long getRemoved() {
         return removed;
     }
@@ -149,6 +183,15 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    public double getHitRatio() {
+        return calculateHitRatio(hits, misses);
+    }
+
+    static double calculateHitRatio(long hits, long misses) {
+        final long lookups = hits + misses;
+        return lookups <= 0 ? 0.0 : (double) hits / lookups;
+    }
+
     static final class Fields {
         static final String ACTIVE = "active";
         static final String ACTIVE_IN_BYTES = "active_in_bytes";
@@ -158,11 +201,14 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         static final String PINNED_IN_BYTES = "pinned_in_bytes";
         static final String EVICTIONS = "evictions";
         static final String EVICTIONS_IN_BYTES = "evictions_in_bytes";
+        static final String REJECTIONS = "rejections";
+        static final String REJECTIONS_IN_BYTES = "rejections_in_bytes";
         static final String REMOVED = "removed";
         static final String REMOVED_IN_BYTES = "removed_in_bytes";
         static final String ACTIVE_PERCENT = "active_percent";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String HIT_RATIO = "hit_ratio";
     }
 
     @Override
@@ -176,10 +222,16 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             FileCacheStats.Fields.EVICTIONS,
             new ByteSizeValue(getEvicted())
         );
+        builder.humanReadableField(
+            FileCacheStats.Fields.REJECTIONS_IN_BYTES,
+            FileCacheStats.Fields.REJECTIONS,
+            new ByteSizeValue(getRejected())
+        );
         builder.humanReadableField(FileCacheStats.Fields.REMOVED_IN_BYTES, FileCacheStats.Fields.REMOVED, new ByteSizeValue(getRemoved()));
         builder.field(FileCacheStats.Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(FileCacheStats.Fields.HIT_COUNT, getHits());
         builder.field(FileCacheStats.Fields.MISS_COUNT, getCacheMisses());
+        builder.field(FileCacheStats.Fields.HIT_RATIO, getHitRatio());
         builder.endObject();
         return builder;
     }
@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
@@ -29,6 +30,7 @@ import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -141,6 +143,31 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Downloads the given blob into the file cache in the background ahead of a read, unless the given flag is set by the time the
+     * download would start. The cache entry is released right away, so it may be evicted before it is read.
+     *
+     * @param blobFetchRequest to fetch
+     * @param cancelled set once the blob is not needed anymore
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest, AtomicBoolean cancelled) {
+        try {
+            threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY).execute(() -> {
+                if (cancelled.get()) {
+                    return;
+                }
+                try (IndexInput ignored = fetchBlob(blobFetchRequest)) {
+                    logger.trace("Prefetched blob {}", blobFetchRequest.getFilePath());
+                } catch (Exception e) {
+                    // the read that follows fetches the blob itself and reports the failure
+                    logger.debug(() -> new ParameterizedMessage("Failed to prefetch blob {}", blobFetchRequest.getFilePath()), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.trace(() -> new ParameterizedMessage("Skipped prefetching blob {}", blobFetchRequest.getFilePath()), e);
+        }
+    }
+
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
         try {
             // This local file cache is ref counted and may not strictly enforce configured capacity.
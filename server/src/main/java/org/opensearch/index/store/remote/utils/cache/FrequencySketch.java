@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+/**
+ * A count-min sketch that estimates how often keys were accessed recently, which {@link LRUCache} uses to decide whether an entry
+ * is worth admitting into its main space at the expense of the entry it would evict (TinyLFU).
+ * <p>
+ * Each key maps to one 4-bit counter in each of four rows, and its frequency is the smallest of these counters, so collisions can
+ * only overestimate it. The counters are packed sixteen to a {@code long} and saturate at 15. Once the number of increments reaches
+ * ten times the number of counters per row, all counters are halved so that the sketch follows changes of the access pattern
+ * instead of remembering keys that used to be popular. Not thread safe.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch<K> {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MIN_TABLE_SIZE = 16;
+    private static final int MAX_TABLE_SIZE = 1 << 26;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch() {
+        ensureCapacity(MIN_TABLE_SIZE);
+    }
+
+    /**
+     * Grows the sketch so that it can tell apart the given number of keys, dropping the frequencies counted so far. Does nothing if
+     * the sketch is large enough already.
+     */
+    void ensureCapacity(long maximumSize) {
+        final int maximum = (int) Math.min(Math.max(maximumSize, MIN_TABLE_SIZE), MAX_TABLE_SIZE);
+        if (table != null && table.length >= maximum) {
+            return;
+        }
+        table = new long[1 << (Integer.SIZE - Integer.numberOfLeadingZeros(maximum - 1))];
+        tableMask = table.length - 1;
+        sampleSize = 10 * table.length;
+        size = 0;
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the given key, at most 15.
+     */
+    int frequency(K key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int offset = (start + i) << 2;
+            final int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the given key, and ages all counters once enough accesses were recorded.
+     */
+    void increment(K key) {
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halves all counters. The size is adjusted for the counters that were odd and lost their lowest bit.
+     */
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int h) {
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        return (h >>> 16) ^ h;
+    }
+}
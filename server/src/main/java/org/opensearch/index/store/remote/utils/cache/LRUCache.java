@@ -18,9 +18,12 @@ import org.opensearch.index.store.remote.utils.cache.stats.FileStatsCounter;
 import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
 import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,18 +46,44 @@ import java.util.function.Predicate;
  * <li>Supports Cache Pinning.</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
  * </ul>
+ * Optionally the cache filters which entries it admits into its main space (W-TinyLFU), so that a scan over entries that are
+ * accessed once does not evict entries that are accessed frequently. New entries go into a small window LRU that takes
+ * {@link #WINDOW_PERCENT} percent of the capacity. Entries that overflow the window become candidates for the probation segment of the
+ * main space and are only admitted if a {@link FrequencySketch} estimates that they were accessed more often than the entry they would
+ * evict, otherwise the candidate is evicted instead. The cache may exceed its capacity by up to the size of the window while new
+ * entries are referenced and wait for their admission. Entries of the probation segment that are accessed again are promoted into the
+ * protected segment, which takes up to {@link #PROTECTED_PERCENT} percent of the main space and demotes its least recently used
+ * entries back into probation when it overflows.
  * @see RefCountedCache
  *
  * @opensearch.internal
  */
 class LRUCache<K, V> implements RefCountedCache<K, V> {
     private static final Logger logger = LogManager.getLogger(LRUCache.class);
+
+    static final int WINDOW_PERCENT = 1;
+    static final int PROTECTED_PERCENT = 80;
+
     private final long capacity;
 
     private final HashMap<K, Node<K, V>> data;
 
-    /** the LRU list */
-    private final LinkedHashMap<K, Node<K, V>> lru;
+    /** the LRU list of the window, which holds all evictable entries unless the admission filter is enabled */
+    private final LinkedHashMap<K, Node<K, V>> window;
+
+    /** the LRU lists of the probation and protected segments of the main space, only used with the admission filter */
+    private final LinkedHashMap<K, Node<K, V>> probation;
+    private final LinkedHashMap<K, Node<K, V>> protectedLru;
+
+    /** the frequency filter, or {@code null} if the admission filter is disabled */
+    private final FrequencySketch<K> sketch;
+
+    private final long maxWindowWeight;
+    private final long maxProtectedWeight;
+
+    /** the combined weight of the entries of a region, whether they are evictable or not */
+    private long windowWeight;
+    private long protectedWeight;
 
     private final RemovalListener<K, V> listener;
 
@@ -64,6 +93,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private final ReentrantLock lock;
 
+    enum Region {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
     static class Node<K, V> {
         final K key;
 
@@ -75,12 +110,15 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        Region region;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
             this.weight = weight;
             this.refCount = 0;
             this.pinned = false;
+            this.region = Region.WINDOW;
         }
 
         public boolean evictable() {
@@ -89,14 +127,28 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, listener, weigher, false);
+    }
+
+    public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, boolean admissionFilter) {
         this.capacity = capacity;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
-        this.lru = new LinkedHashMap<>();
+        this.window = new LinkedHashMap<>();
+        this.probation = new LinkedHashMap<>();
+        this.protectedLru = new LinkedHashMap<>();
         this.lock = new ReentrantLock();
         this.statsCounter = new FileStatsCounter<>();
-
+        if (admissionFilter) {
+            this.sketch = new FrequencySketch<>();
+            this.maxWindowWeight = Math.max(1, capacity * WINDOW_PERCENT / 100);
+            this.maxProtectedWeight = (capacity - maxWindowWeight) * PROTECTED_PERCENT / 100;
+        } else {
+            this.sketch = null;
+            this.maxWindowWeight = capacity;
+            this.maxProtectedWeight = 0;
+        }
     }
 
     @Override
@@ -112,6 +164,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             }
             // hit
             incRef(key);
+            recordAccess(node);
             statsCounter.recordHits(key, node.value, node.pinned, 1);
             return node.value;
         } finally {
@@ -206,7 +259,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     public void clear() {
         lock.lock();
         try {
-            lru.clear();
+            window.clear();
+            probation.clear();
+            protectedLru.clear();
+            windowWeight = 0;
+            protectedWeight = 0;
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
@@ -241,7 +298,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    evictionList(node).remove(node.key);
                 }
 
                 node.refCount++;
@@ -263,7 +320,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    evictionList(node).put(node.key, node);
                     evict(); // If cache usage is already overflowing trigger evictions
                 }
 
@@ -295,7 +352,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    evictionList(node).remove(node.key, node);
                 }
 
                 node.pinned = true;
@@ -323,7 +380,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    evictionList(node).put(node.key, node);
                 }
 
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -354,17 +411,20 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
-                if (keyPredicate != null && !keyPredicate.test(node.key)) {
-                    continue;
+            for (LinkedHashMap<K, Node<K, V>> evictionList : List.of(window, probation, protectedLru)) {
+                final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
+                while (iterator.hasNext()) {
+                    final Node<K, V> node = iterator.next();
+                    if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                        continue;
+                    }
+                    iterator.remove();
+                    data.remove(node.key, node);
+                    removeFromRegion(node);
+                    sum += node.weight;
+                    statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+                    listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
                 }
-                iterator.remove();
-                data.remove(node.key, node);
-                sum += node.weight;
-                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
-                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
             }
         } finally {
             lock.unlock();
@@ -444,6 +504,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         final long weight = weigher.weightOf(value);
         Node<K, V> newNode = new Node<>(key, value, weight);
         data.put(key, newNode);
+        windowWeight += weight;
+        if (sketch != null) {
+            sketch.ensureCapacity(data.size());
+            sketch.increment(key);
+        }
         statsCounter.recordUsage(value, weight, pinned, false);
         incRef(key);
         evict();
@@ -457,12 +522,18 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             // update the value and weight
             node.value = newValue;
             node.weight = newWeight;
+            if (node.region == Region.WINDOW) {
+                windowWeight += newWeight - oldWeight;
+            } else if (node.region == Region.PROTECTED) {
+                protectedWeight += newWeight - oldWeight;
+            }
 
             // update stats
             statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
             listener.onRemoval(new RemovalNotification<>(node.key, oldValue, RemovalReason.REPLACED));
         }
         incRef(node.key);
+        recordAccess(node);
         evict();
     }
 
@@ -473,8 +544,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                evictionList(node).remove(node.key);
             }
+            removeFromRegion(node);
 
             if (node.pinned) {
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -490,16 +562,137 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     private void evict() {
+        if (sketch != null) {
+            evictWithAdmission();
+            return;
+        }
         // Attempts to evict entries from the cache if it exceeds the maximum
         // capacity.
-        final Iterator<Node<K, V>> iterator = lru.values().iterator();
+        final Iterator<Node<K, V>> iterator = window.values().iterator();
         while (hasOverflowed() && iterator.hasNext()) {
             final Node<K, V> node = iterator.next();
             iterator.remove();
-            // Notify the listener only if the entry was evicted
-            data.remove(node.key, node);
-            statsCounter.recordEviction(node.value, node.weight);
-            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+            evictNode(node, false);
+        }
+    }
+
+    /**
+     * Moves the entries that overflow the window into probation as candidates, then evicts entries until the cache no longer
+     * overflows. Each candidate is compared with the least recently used entry of the main space, and the one that was accessed
+     * less often is evicted. New entries are referenced until they are released, so they can't be compared before, and the main
+     * space doesn't make room for them while it stays within its share of the capacity and they fit into the window.
+     */
+    private void evictWithAdmission() {
+        final Deque<Node<K, V>> candidates = new ArrayDeque<>();
+        final Iterator<Node<K, V>> windowIterator = window.values().iterator();
+        while (windowWeight > maxWindowWeight && windowIterator.hasNext()) {
+            final Node<K, V> node = windowIterator.next();
+            windowIterator.remove();
+            windowWeight -= node.weight;
+            node.region = Region.PROBATION;
+            probation.put(node.key, node);
+            candidates.add(node);
         }
+
+        while (hasOverflowed()) {
+            final Node<K, V> candidate = candidates.peekFirst();
+            // the candidates are the most recently added entries of probation, so the victim is only a candidate if probation
+            // holds nothing but candidates
+            Node<K, V> victim = first(probation);
+            if (victim == candidate) {
+                victim = first(protectedLru);
+            }
+            if (victim == null) {
+                victim = first(window);
+            }
+
+            if (candidate == null
+                && statsCounter.usage() < capacity + maxWindowWeight
+                && statsCounter.usage() - windowWeight < capacity - maxWindowWeight) {
+                // the overflow is made up of referenced entries of the window, which are compared once they are released
+                break;
+            }
+
+            final Node<K, V> evicted;
+            if (candidate == null || victim == null) {
+                evicted = candidate == null ? victim : candidate;
+            } else {
+                evicted = sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+            }
+            if (evicted == null) {
+                // everything left is referenced or pinned
+                break;
+            }
+            if (evicted == candidate) {
+                candidates.pollFirst();
+            }
+            evictionList(evicted).remove(evicted.key);
+            evictNode(evicted, evicted == candidate && victim != null);
+        }
+    }
+
+    private void evictNode(Node<K, V> node, boolean rejected) {
+        // Notify the listener only if the entry was evicted
+        data.remove(node.key, node);
+        removeFromRegion(node);
+        statsCounter.recordEviction(node.value, node.weight);
+        if (rejected) {
+            statsCounter.recordRejection(node.value, node.weight);
+        }
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+    }
+
+    /**
+     * Records an access of an entry that is in the cache already, promoting it into the protected segment if it was on probation.
+     */
+    private void recordAccess(Node<K, V> node) {
+        if (sketch == null) {
+            return;
+        }
+        sketch.increment(node.key);
+        if (node.region != Region.PROBATION) {
+            return;
+        }
+        if (node.evictable()) {
+            probation.remove(node.key);
+        }
+        node.region = Region.PROTECTED;
+        protectedWeight += node.weight;
+        if (node.evictable()) {
+            protectedLru.put(node.key, node);
+        }
+        // demote the least recently used entries of the protected segment if it overflows
+        final Iterator<Node<K, V>> iterator = protectedLru.values().iterator();
+        while (protectedWeight > maxProtectedWeight && iterator.hasNext()) {
+            final Node<K, V> demoted = iterator.next();
+            iterator.remove();
+            protectedWeight -= demoted.weight;
+            demoted.region = Region.PROBATION;
+            probation.put(demoted.key, demoted);
+        }
+    }
+
+    private LinkedHashMap<K, Node<K, V>> evictionList(Node<K, V> node) {
+        switch (node.region) {
+            case PROBATION:
+                return probation;
+            case PROTECTED:
+                return protectedLru;
+            default:
+                return window;
+        }
+    }
+
+    private void removeFromRegion(Node<K, V> node) {
+        if (node.region == Region.WINDOW) {
+            windowWeight -= node.weight;
+        } else if (node.region == Region.PROTECTED) {
+            protectedWeight -= node.weight;
+        }
+    }
+
+    private static <K, V> Node<K, V> first(LinkedHashMap<K, Node<K, V>> evictionList) {
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
     }
 }
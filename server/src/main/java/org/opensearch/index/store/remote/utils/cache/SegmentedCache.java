@@ -60,7 +60,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher, builder.admissionFilter);
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -302,9 +302,12 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        boolean admissionFilter;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            admissionFilter = false;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -367,6 +370,18 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies whether the segments only admit entries into their main space that were accessed more often than the entries
+         * they would evict (W-TinyLFU), which keeps frequently used entries cached during scans. Disabled by default, in which case
+         * the segments evict the least recently used entries.
+         *
+         * @param admissionFilter whether to filter the entries admitted into the main space by their frequency
+         */
+        public Builder<K, V> admissionFilter(boolean admissionFilter) {
+            this.admissionFilter = admissionFilter;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
@@ -184,6 +184,26 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
         return this.overallCacheStats.evictionWeight();
     }
 
+    /**
+     * Returns the number of evicted entries that the admission policy rejected.
+     *
+     * @return the number of rejected entries
+     */
+    @Override
+    public long rejectionCount() {
+        return this.overallCacheStats.rejectionCount();
+    }
+
+    /**
+     * Returns the sum of weights of evicted entries that the admission policy rejected.
+     *
+     * @return the sum of weights of rejected entries
+     */
+    @Override
+    public long rejectionWeight() {
+        return this.overallCacheStats.rejectionWeight();
+    }
+
     /**
      * Returns the total weight of the cache.
      *
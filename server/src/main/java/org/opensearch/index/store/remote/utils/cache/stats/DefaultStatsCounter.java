@@ -21,6 +21,8 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
     private long replaceCount;
     private long evictionCount;
     private long evictionWeight;
+    private long rejectionCount;
+    private long rejectionWeight;
     /**
      * this tracks cache usage on the system (as long as cache entry is in the cache)
      */
@@ -44,6 +46,8 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
         this.replaceCount = 0L;
         this.evictionCount = 0L;
         this.evictionWeight = 0L;
+        this.rejectionCount = 0L;
+        this.rejectionWeight = 0L;
         this.usage = 0L;
         this.activeUsage = 0L;
     }
@@ -88,6 +92,12 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
         usage -= weight;
     }
 
+    @Override
+    public void recordRejection(V value, long weight) {
+        rejectionCount++;
+        rejectionWeight += weight;
+    }
+
     @Override
     public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
         weight = shouldDecrease ? -1 * weight : weight;
@@ -162,6 +172,8 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
             replaceCount,
             evictionCount,
             evictionWeight,
+            rejectionCount,
+            rejectionWeight,
             usage,
             activeUsage,
             pinnedUsage
@@ -94,6 +94,14 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         else blockFileStatsCounter.recordEviction(value, weight);
     }
 
+    @Override
+    public void recordRejection(V value, long weight) {
+
+        overallStatsCounter.recordRejection(value, weight);
+        if (isFullFile(value)) fullFileStatsCounter.recordRejection(value, weight);
+        else blockFileStatsCounter.recordRejection(value, weight);
+    }
+
     @Override
     public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
 
@@ -100,6 +100,20 @@ public interface IRefCountedCacheStats {
      */
     public long evictionWeight();
 
+    /**
+     * Returns the number of evicted entries that the admission policy rejected in favour of entries that were accessed more often.
+     *
+     * @return the number of rejected entries
+     */
+    public long rejectionCount();
+
+    /**
+     * Returns the sum of weights of evicted entries that the admission policy rejected.
+     *
+     * @return the sum of weights of rejected entries
+     */
+    public long rejectionWeight();
+
     /**
      * Returns the total weight of the cache.
      *
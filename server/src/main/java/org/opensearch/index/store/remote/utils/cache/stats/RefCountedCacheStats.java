@@ -27,6 +27,8 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
     private long replaceCount;
     private long evictionCount;
     private long evictionWeight;
+    private long rejectionCount;
+    private long rejectionWeight;
     private long usage;
     private long activeUsage;
     private long pinnedUsage;
@@ -56,6 +58,42 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         long usage,
         long activeUsage,
         long pinnedUsage
+    ) {
+        this(
+            hitCount,
+            missCount,
+            removeCount,
+            removeWeight,
+            replaceCount,
+            evictionCount,
+            evictionWeight,
+            0,
+            0,
+            usage,
+            activeUsage,
+            pinnedUsage
+        );
+    }
+
+    /**
+     * Constructs a new {@code RefCountedCacheStats} instance that includes the entries the admission policy rejected.
+     *
+     * @param rejectionCount  the number of evicted entries the admission policy rejected
+     * @param rejectionWeight the sum of weights of evicted entries the admission policy rejected
+     */
+    public RefCountedCacheStats(
+        long hitCount,
+        long missCount,
+        long removeCount,
+        long removeWeight,
+        long replaceCount,
+        long evictionCount,
+        long evictionWeight,
+        long rejectionCount,
+        long rejectionWeight,
+        long usage,
+        long activeUsage,
+        long pinnedUsage
     ) {
         if ((hitCount < 0)
             || (missCount < 0)
@@ -63,7 +101,9 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             || (removeWeight < 0)
             || (replaceCount < 0)
             || (evictionCount < 0)
-            || (evictionWeight < 0)) {
+            || (evictionWeight < 0)
+            || (rejectionCount < 0)
+            || (rejectionWeight < 0)) {
             throw new IllegalArgumentException();
         }
         this.hitCount = hitCount;
@@ -73,6 +113,8 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         this.replaceCount = replaceCount;
         this.evictionCount = evictionCount;
         this.evictionWeight = evictionWeight;
+        this.rejectionCount = rejectionCount;
+        this.rejectionWeight = rejectionWeight;
         this.usage = usage;
         this.activeUsage = activeUsage;
         this.pinnedUsage = pinnedUsage;
@@ -195,6 +237,28 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         return evictionWeight;
     }
 
+    /**
+     * Returns the number of evicted entries that the admission policy rejected in favour of entries that were accessed more
+     * often. These entries are included in the {@linkplain #evictionCount() eviction count}.
+     *
+     * @return the number of rejected entries
+     */
+    @Override
+    public long rejectionCount() {
+        return rejectionCount;
+    }
+
+    /**
+     * Returns the sum of weights of evicted entries that the admission policy rejected. These weights are included in the
+     * {@linkplain #evictionWeight() eviction weight}.
+     *
+     * @return the sum of weights of rejected entries
+     */
+    @Override
+    public long rejectionWeight() {
+        return rejectionWeight;
+    }
+
     /**
      * Returns the total weight of the cache.
      *
@@ -246,6 +310,8 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         this.replaceCount += otherStats.replaceCount();
         this.evictionCount += otherStats.evictionCount();
         this.evictionWeight += otherStats.evictionWeight();
+        this.rejectionCount += otherStats.rejectionCount();
+        this.rejectionWeight += otherStats.rejectionWeight();
         this.usage += otherStats.usage();
         this.activeUsage += otherStats.activeUsage();
 
@@ -262,6 +328,8 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             replaceCount,
             evictionCount,
             evictionWeight,
+            rejectionCount,
+            rejectionWeight,
             usage,
             activeUsage
         );
@@ -282,6 +350,8 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             && replaceCount == other.replaceCount
             && evictionCount == other.evictionCount
             && evictionWeight == other.evictionWeight
+            && rejectionCount == other.rejectionCount
+            && rejectionWeight == other.rejectionWeight
             && usage == other.usage
             && activeUsage == other.activeUsage
             && pinnedUsage == other.pinnedUsage;
@@ -312,6 +382,12 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             + "evictionWeight="
             + evictionWeight
             + ", "
+            + "rejectionCount="
+            + rejectionCount
+            + ", "
+            + "rejectionWeight="
+            + rejectionWeight
+            + ", "
             + "usage="
             + usage
             + ", "
@@ -66,6 +66,14 @@ public interface StatsCounter<K, V> {
      */
     void recordEviction(V value, long weight);
 
+    /**
+     * Records that an entry was evicted because the admission policy of the cache rejected it in favour of an entry that was
+     * accessed more often. This should be called in addition to {@link #recordEviction(Object, long)}.
+     *
+     * @param weight the weight of the rejected entry
+     */
+    void recordRejection(V value, long weight);
+
     /**
      * Records the usage of the cache. This should be called when an entry is created/removed/replaced in the cache.
      *
@@ -97,8 +97,13 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
         reusableBuffer.limit(4);
         readBytes(reusableBuffer, position);
         reusableBuffer.flip();
+        return checkSize(reusableBuffer.getInt(), position);
+    }
+
+    /** validates the size of the op written at the given position and returns it including the op size integer itself */
+    protected final int checkSize(int writtenSize, long position) {
         // Add an extra 4 to account for the operation size integer itself
-        final int size = reusableBuffer.getInt() + 4;
+        final int size = writtenSize + 4;
         final long maxSize = sizeInBytes() - position;
         if (size < 0 || size > maxSize) {
             throw new TranslogCorruptedException(
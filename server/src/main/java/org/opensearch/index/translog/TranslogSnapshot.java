@@ -33,6 +33,7 @@ package org.opensearch.index.translog;
 
 import org.opensearch.common.io.Channels;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
+import org.opensearch.core.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
 import java.io.EOFException;
@@ -46,11 +47,18 @@ import java.nio.ByteBuffer;
  */
 final class TranslogSnapshot extends BaseTranslogReader {
 
+    /**
+     * The size of the buffer that operations are read ahead into, operations that are larger are read on their own.
+     */
+    static final int READ_AHEAD_SIZE = 64 * 1024;
+
     private final int totalOperations;
     private final Checkpoint checkpoint;
     protected final long length;
 
     private final ByteBuffer reusableBuffer;
+    private ByteBuffer readAheadBuffer;
+    private long readAheadPosition;
     private long position;
     private int skippedOperations;
     private int readOperations;
@@ -92,18 +100,60 @@ final class TranslogSnapshot extends BaseTranslogReader {
             }
             skippedOperations++;
         }
+        // all operations are read, no need to hold on to the buffer while the snapshots of other generations are read
+        readAheadBuffer = null;
         return null;
     }
 
+    /**
+     * Reads the next operation. The operations are deserialized straight from a buffer that is filled with as many operations as fit,
+     * rather than reading the size and the operation with two separate reads each.
+     */
     private Translog.Operation readOperation() throws IOException {
-        final int opSize = readSize(reusableBuffer, position);
-        reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        final int opSize;
+        if (readAhead(position, Integer.BYTES)) {
+            opSize = checkSize(readAheadBuffer.getInt(Math.toIntExact(position - readAheadPosition)), position);
+        } else {
+            opSize = readSize(reusableBuffer, position);
+        }
+        if (readAhead(position, opSize)) {
+            final int offset = Math.toIntExact(position - readAheadPosition);
+            final ByteBuffer buffer = readAheadBuffer.duplicate();
+            buffer.position(offset).limit(offset + opSize);
+            reuse = new BufferedChecksumStreamInput(new ByteBufferStreamInput(buffer.slice()), path.toString(), reuse);
+        } else {
+            reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
+        }
         Translog.Operation op = read(reuse);
         position += opSize;
         readOperations++;
         return op;
     }
 
+    /**
+     * Whether the given number of bytes at the given position are in the read ahead buffer, refills the buffer from the given position
+     * if they aren't. Returns false if the bytes don't fit into the buffer or aren't within the length of the snapshot, in which case
+     * they need to be read on their own.
+     */
+    private boolean readAhead(long from, int size) throws IOException {
+        if (readAheadBuffer == null) {
+            readAheadBuffer = ByteBuffer.allocate(READ_AHEAD_SIZE);
+            readAheadBuffer.limit(0);
+        }
+        if (from >= readAheadPosition && from + size <= readAheadPosition + readAheadBuffer.limit()) {
+            return true;
+        }
+        if (size > readAheadBuffer.capacity() || from + size > length) {
+            return false;
+        }
+        readAheadBuffer.clear();
+        readAheadBuffer.limit(Math.toIntExact(Math.min(readAheadBuffer.capacity(), length - from)));
+        readBytes(readAheadBuffer, from);
+        readAheadBuffer.flip();
+        readAheadPosition = from;
+        return true;
+    }
+
     public long sizeInBytes() {
         return length;
     }
@@ -32,6 +32,7 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -63,6 +64,12 @@ public class TranslogStats implements Writeable, ToXContentFragment {
      */
     private final RemoteTranslogStats remoteTranslogStats;
 
+    /**
+     * Stats of the node level {@link TranslogSyncCoordinator}, only set on the stats of a node that enabled it
+     */
+    @Nullable
+    private TranslogSyncCoordinatorStats syncCoordinatorStats;
+
     public TranslogStats() {
         remoteTranslogStats = new RemoteTranslogStats();
     }
@@ -90,6 +97,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            syncCoordinatorStats = in.readOptionalWriteable(TranslogSyncCoordinatorStats::new);
+        }
     }
 
     /**
@@ -150,6 +160,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
 
         addRemoteTranslogStats(other.remoteTranslogStats);
+        if (other.syncCoordinatorStats != null) {
+            setSyncCoordinatorStats(
+                syncCoordinatorStats == null ? other.syncCoordinatorStats : syncCoordinatorStats.add(other.syncCoordinatorStats)
+            );
+        }
     }
 
     public long getTranslogSizeInBytes() {
@@ -178,6 +193,15 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return remoteTranslogStats;
     }
 
+    @Nullable
+    public TranslogSyncCoordinatorStats getSyncCoordinatorStats() {
+        return syncCoordinatorStats;
+    }
+
+    public void setSyncCoordinatorStats(TranslogSyncCoordinatorStats syncCoordinatorStats) {
+        this.syncCoordinatorStats = syncCoordinatorStats;
+    }
+
     /**
      * Builder for the {@link TranslogStats} class.
      * Provides a fluent API for constructing a TranslogStats object.
@@ -248,6 +272,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (remoteTranslogStats != null) {
             builder = remoteTranslogStats.toXContent(builder, params);
         }
+        if (syncCoordinatorStats != null) {
+            syncCoordinatorStats.toXContent(builder, params);
+        }
 
         builder.endObject();
 
@@ -269,6 +296,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeOptionalWriteable(syncCoordinatorStats);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Node level coordinator that groups the translog syncs requested by write operations of all local shards.
+ * <p>
+ * Each shard normally fsyncs its translog from the indexing thread that completes a request with
+ * {@code index.translog.durability=request}. With many small shards per node this produces one fsync per shard and
+ * request. Instead, the coordinator buffers pending sync requests for {@link #INDICES_TRANSLOG_SYNC_COORDINATOR_INTERVAL_SETTING}
+ * and then processes the whole batch on the {@link ThreadPool.Names#TRANSLOG_SYNC} pool: requests are coalesced so every
+ * shard syncs at most once per batch, and shards are grouped by the data path they live on so that each device receives
+ * its fsyncs back to back while distinct devices are synced in parallel. Every waiting listener is completed once the
+ * sync of its shard finished, with the failure of that shard only.
+ *
+ * @opensearch.internal
+ */
+public class TranslogSyncCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(TranslogSyncCoordinator.class);
+
+    /**
+     * Enables grouping of request durability translog syncs across all shards on the node.
+     */
+    public static final Setting<Boolean> INDICES_TRANSLOG_SYNC_COORDINATOR_ENABLED_SETTING = Setting.boolSetting(
+        "indices.translog.sync_coordinator.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * The time window during which sync requests are collected into a single batch.
+     */
+    public static final Setting<TimeValue> INDICES_TRANSLOG_SYNC_COORDINATOR_INTERVAL_SETTING = Setting.timeSetting(
+        "indices.translog.sync_coordinator.interval",
+        TimeValue.timeValueMillis(5),
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private static final int QUEUE_SIZE = 102400;
+
+    private final ThreadPool threadPool;
+    private final AsyncIOProcessor<PendingSync> processor;
+    private volatile TimeValue interval;
+
+    private final CounterMetric batches = new CounterMetric();
+    private final CounterMetric syncRequests = new CounterMetric();
+    private final CounterMetric shardSyncs = new CounterMetric();
+    private final CounterMetric failedShardSyncs = new CounterMetric();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    // one counter per bucket of TranslogSyncCoordinatorStats.LATENCY_BUCKETS_MILLIS plus one for everything above
+    private final CounterMetric[] syncLatencyHistogram;
+
+    public TranslogSyncCoordinator(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.interval = INDICES_TRANSLOG_SYNC_COORDINATOR_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_TRANSLOG_SYNC_COORDINATOR_INTERVAL_SETTING, this::setInterval);
+        this.syncLatencyHistogram = new CounterMetric[TranslogSyncCoordinatorStats.LATENCY_BUCKETS_MILLIS.length + 1];
+        for (int i = 0; i < syncLatencyHistogram.length; i++) {
+            syncLatencyHistogram[i] = new CounterMetric();
+        }
+        this.processor = new BufferedAsyncIOProcessor<>(logger, QUEUE_SIZE, threadPool.getThreadContext(), threadPool, () -> interval) {
+            @Override
+            protected void write(List<Tuple<PendingSync, Consumer<Exception>>> candidates) {
+                processBatch(candidates);
+            }
+
+            @Override
+            protected String getBufferProcessThreadPoolName() {
+                return ThreadPool.Names.TRANSLOG_SYNC;
+            }
+        };
+    }
+
+    private void setInterval(TimeValue interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Registers a sync request for the given location. The listener is notified once the translog of the target shard
+     * is durable up to at least that location, or with the exception that prevented it.
+     */
+    public void sync(Target target, Translog.Location location, Consumer<Exception> listener) {
+        Objects.requireNonNull(target, "target must not be null");
+        final PendingSync pendingSync = new PendingSync(target, location);
+        processor.put(pendingSync, e -> listener.accept(e != null ? e : pendingSync.failure));
+    }
+
+    private void processBatch(List<Tuple<PendingSync, Consumer<Exception>>> candidates) {
+        // group by data path first, then by shard, so every shard fsyncs once and a device sees its fsyncs in a row
+        final Map<Path, Map<Target, List<PendingSync>>> byDataPath = new TreeMap<>();
+        for (Tuple<PendingSync, Consumer<Exception>> candidate : candidates) {
+            final PendingSync pendingSync = candidate.v1();
+            byDataPath.computeIfAbsent(pendingSync.target.dataPath, path -> new LinkedHashMap<>())
+                .computeIfAbsent(pendingSync.target, target -> new ArrayList<>())
+                .add(pendingSync);
+        }
+        batches.inc();
+        syncRequests.inc(candidates.size());
+        maxBatchSize.accumulateAndGet(candidates.size(), Math::max);
+
+        final List<Map<Target, List<PendingSync>>> groups = new ArrayList<>(byDataPath.values());
+        final CountDownLatch latch = new CountDownLatch(groups.size() - 1);
+        for (int i = 1; i < groups.size(); i++) {
+            final Map<Target, List<PendingSync>> group = groups.get(i);
+            try {
+                threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(() -> {
+                    try {
+                        syncDataPath(group);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            } catch (Exception e) {
+                logger.debug("failed to fork translog sync, syncing on the current thread", e);
+                try {
+                    syncDataPath(group);
+                } finally {
+                    latch.countDown();
+                }
+            }
+        }
+        // the current thread takes care of the first data path
+        syncDataPath(groups.get(0));
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for translog syncs", e);
+        }
+    }
+
+    private void syncDataPath(Map<Target, List<PendingSync>> syncsByShard) {
+        for (Map.Entry<Target, List<PendingSync>> entry : syncsByShard.entrySet()) {
+            final List<PendingSync> pendingSyncs = entry.getValue();
+            final long startTimeNanos = System.nanoTime();
+            try {
+                entry.getKey().syncer.accept(pendingSyncs.stream().map(pendingSync -> pendingSync.location));
+            } catch (Exception e) {
+                logger.debug(new ParameterizedMessage("failed to sync translog of {}", entry.getKey().shardId), e);
+                failedShardSyncs.inc();
+                for (PendingSync pendingSync : pendingSyncs) {
+                    pendingSync.failure = e;
+                }
+            }
+            shardSyncs.inc();
+            recordSyncLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos));
+        }
+    }
+
+    private void recordSyncLatency(long tookInMillis) {
+        final long[] bounds = TranslogSyncCoordinatorStats.LATENCY_BUCKETS_MILLIS;
+        int bucket = 0;
+        while (bucket < bounds.length && tookInMillis >= bounds[bucket]) {
+            bucket++;
+        }
+        syncLatencyHistogram[bucket].inc();
+    }
+
+    public TranslogSyncCoordinatorStats stats() {
+        final long[] latencyCounts = new long[syncLatencyHistogram.length];
+        for (int i = 0; i < latencyCounts.length; i++) {
+            latencyCounts[i] = syncLatencyHistogram[i].count();
+        }
+        return new TranslogSyncCoordinatorStats(
+            batches.count(),
+            syncRequests.count(),
+            shardSyncs.count(),
+            failedShardSyncs.count(),
+            maxBatchSize.get(),
+            latencyCounts
+        );
+    }
+
+    /**
+     * A shard whose translog can be synced through the coordinator.
+     *
+     * @opensearch.internal
+     */
+    public static final class Target {
+        private final ShardId shardId;
+        private final Path dataPath;
+        private final CheckedConsumer<Stream<Translog.Location>, IOException> syncer;
+
+        /**
+         * @param shardId  the shard owning the translog
+         * @param dataPath the root data path the shard is allocated on, used to group syncs by device
+         * @param syncer   ensures the translog is synced up to all the given locations
+         */
+        public Target(ShardId shardId, Path dataPath, CheckedConsumer<Stream<Translog.Location>, IOException> syncer) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.dataPath = Objects.requireNonNull(dataPath);
+            this.syncer = Objects.requireNonNull(syncer);
+        }
+    }
+
+    private static final class PendingSync {
+        private final Target target;
+        private final Translog.Location location;
+        private volatile Exception failure;
+
+        private PendingSync(Target target, Translog.Location location) {
+            this.target = target;
+            this.location = location;
+        }
+    }
+}
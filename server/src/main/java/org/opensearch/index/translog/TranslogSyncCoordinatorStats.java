@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stats of the node level {@link TranslogSyncCoordinator}: how many sync requests were grouped into how many batches,
+ * and a histogram of the time taken by each shard level translog sync.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.5.0")
+public class TranslogSyncCoordinatorStats implements ToXContentFragment, Writeable {
+
+    /**
+     * Exclusive upper bounds, in milliseconds, of the sync latency histogram buckets. The last bucket holds everything
+     * at or above the last bound.
+     */
+    static final long[] LATENCY_BUCKETS_MILLIS = new long[] { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000 };
+
+    private final long batches;
+    private final long syncRequests;
+    private final long shardSyncs;
+    private final long failedShardSyncs;
+    private final long maxBatchSize;
+    private final long[] syncLatencyHistogram;
+
+    public TranslogSyncCoordinatorStats(
+        long batches,
+        long syncRequests,
+        long shardSyncs,
+        long failedShardSyncs,
+        long maxBatchSize,
+        long[] syncLatencyHistogram
+    ) {
+        assert syncLatencyHistogram.length == LATENCY_BUCKETS_MILLIS.length + 1;
+        this.batches = batches;
+        this.syncRequests = syncRequests;
+        this.shardSyncs = shardSyncs;
+        this.failedShardSyncs = failedShardSyncs;
+        this.maxBatchSize = maxBatchSize;
+        this.syncLatencyHistogram = syncLatencyHistogram;
+    }
+
+    public TranslogSyncCoordinatorStats(StreamInput in) throws IOException {
+        this.batches = in.readVLong();
+        this.syncRequests = in.readVLong();
+        this.shardSyncs = in.readVLong();
+        this.failedShardSyncs = in.readVLong();
+        this.maxBatchSize = in.readVLong();
+        this.syncLatencyHistogram = in.readVLongArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(batches);
+        out.writeVLong(syncRequests);
+        out.writeVLong(shardSyncs);
+        out.writeVLong(failedShardSyncs);
+        out.writeVLong(maxBatchSize);
+        out.writeVLongArray(syncLatencyHistogram);
+    }
+
+    /**
+     * Number of batches processed.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Number of sync requests received from write operations.
+     */
+    public long getSyncRequests() {
+        return syncRequests;
+    }
+
+    /**
+     * Number of shard level translog syncs executed. Lower than {@link #getSyncRequests()} when requests were coalesced.
+     */
+    public long getShardSyncs() {
+        return shardSyncs;
+    }
+
+    public long getFailedShardSyncs() {
+        return failedShardSyncs;
+    }
+
+    /**
+     * Largest number of sync requests handled in a single batch.
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Number of shard syncs per latency bucket, see {@link #LATENCY_BUCKETS_MILLIS}.
+     */
+    public long[] getSyncLatencyHistogram() {
+        return syncLatencyHistogram;
+    }
+
+    /**
+     * Returns the stats of both coordinators combined, e.g. to sum up the stats of several nodes.
+     */
+    public TranslogSyncCoordinatorStats add(TranslogSyncCoordinatorStats other) {
+        final long[] latencyHistogram = new long[syncLatencyHistogram.length];
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            latencyHistogram[i] = syncLatencyHistogram[i] + other.syncLatencyHistogram[i];
+        }
+        return new TranslogSyncCoordinatorStats(
+            batches + other.batches,
+            syncRequests + other.syncRequests,
+            shardSyncs + other.shardSyncs,
+            failedShardSyncs + other.failedShardSyncs,
+            Math.max(maxBatchSize, other.maxBatchSize),
+            latencyHistogram
+        );
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("translog_sync_coordinator");
+        builder.field("batches", batches);
+        builder.field("sync_requests", syncRequests);
+        builder.field("shard_syncs", shardSyncs);
+        builder.field("failed_shard_syncs", failedShardSyncs);
+        builder.field("max_batch_size", maxBatchSize);
+        builder.startArray("sync_latency_histogram");
+        for (int i = 0; i < syncLatencyHistogram.length; i++) {
+            builder.startObject();
+            if (i > 0) {
+                builder.field("ge_millis", LATENCY_BUCKETS_MILLIS[i - 1]);
+            }
+            if (i < LATENCY_BUCKETS_MILLIS.length) {
+                builder.field("lt_millis", LATENCY_BUCKETS_MILLIS[i]);
+            }
+            builder.field("count", syncLatencyHistogram[i]);
+            builder.endObject();
+        }
+        builder.endArray();
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranslogSyncCoordinatorStats that = (TranslogSyncCoordinatorStats) o;
+        return batches == that.batches
+            && syncRequests == that.syncRequests
+            && shardSyncs == that.shardSyncs
+            && failedShardSyncs == that.failedShardSyncs
+            && maxBatchSize == that.maxBatchSize
+            && Arrays.equals(syncLatencyHistogram, that.syncLatencyHistogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batches, syncRequests, shardSyncs, failedShardSyncs, maxBatchSize, Arrays.hashCode(syncLatencyHistogram));
+    }
+}
@@ -34,10 +34,12 @@ package org.opensearch.indices;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.DisjunctionMaxQuery;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.MultiTermQuery;
 import org.apache.lucene.search.Query;
@@ -64,6 +66,7 @@ import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 /**
@@ -123,10 +126,23 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         Property.Dynamic
     );
 
+    // dynamic change the minimum evaluation cost per cached byte for a filter to be cached on a segment, 0 caches regardless of cost
+    public static final Setting<Float> INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE = Setting.floatSetting(
+        "indices.queries.cache.min_cost_per_byte",
+        0f,
+        0f,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    // costly queries visit many terms or points per matching document, see OpenseachUsageTrackingQueryCachingPolicy#isCostly
+    static final int COSTLY_QUERY_COST_FACTOR = 10;
+
     private final LRUQueryCache cache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
     private volatile long sharedRamBytesUsed;
+    private volatile float minCostPerByte;
 
     // This is a hack for the fact that the close listener for the
     // ShardCoreKeyMap will be called before onDocIdSetEviction
@@ -154,9 +170,37 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 logger.warn("clusterSettings is null, so {} is not dynamic", INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR.getKey());
             }
         }
+        minCostPerByte = INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE.get(settings);
+        if (clusterSettings != null) {
+            clusterSettings.addSettingsUpdateConsumer(INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE, this::setMinCostPerByte);
+        }
         sharedRamBytesUsed = 0;
     }
 
+    public void setMinCostPerByte(float minCostPerByte) {
+        logger.debug(
+            "set cluster settings {} {} -> {}",
+            INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE.getKey(),
+            this.minCostPerByte,
+            minCostPerByte
+        );
+        this.minCostPerByte = minCostPerByte;
+    }
+
+    /**
+     * Estimates how much evaluation work caching the given filter on a segment saves per byte of the cache it takes, as the number
+     * of documents the filter visits per byte of its cached doc id set. Filters that are cheap to evaluate but take a lot of memory,
+     * like term queries that match a few percent of a large segment, have a low ratio and are the first to evict the filters of
+     * everyone else when a burst of them gets cached.
+     */
+    static double costPerByte(Query query, long cost, int maxDoc) {
+        // LRUQueryCache caches dense doc id sets as bit sets and sparse ones as roaring doc id sets of about two bytes per document
+        final double bytes = Math.max(1d, cost * 100 >= maxDoc ? maxDoc / 8d : cost * 2d);
+        final boolean costly = OpenseachUsageTrackingQueryCachingPolicy.isCostly(query);
+        final double evaluationCost = costly ? (double) cost * COSTLY_QUERY_COST_FACTOR : cost;
+        return evaluationCost / bytes;
+    }
+
     public void setSkipCacheFactor(float skipCacheFactor) {
         logger.debug(
             "set cluster settings {} {} -> {}",
@@ -210,19 +254,124 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         while (weight instanceof CachingWeightWrapper cachingWeightWrapper) {
             weight = cachingWeightWrapper.in;
         }
-        final Weight in = cache.doCache(weight, policy);
+        final Weight in = cache.doCache(new AdmittedWeight(weight), new CostPerByteCachingPolicy(policy));
         // We wrap the weight to track the readers it sees and map them with
         // the shards they belong to
-        return new CachingWeightWrapper(in);
+        return new CachingWeightWrapper(in, weight);
+    }
+
+    /**
+     * The segment that the caching weight on the current thread is asked for a scorer of. The caching policy is only asked whether
+     * to cache a filter if the filter isn't cached on the segment yet, so the cost of the filter on the segment is only estimated
+     * on a miss, see {@link CostPerByteCachingPolicy}. The scorer supplier built for the estimate is then passed to the cache by
+     * {@link AdmittedWeight} instead of building a second one.
+     */
+    private static final class Admission {
+        private final LeafReaderContext context;
+        private final Weight weight;
+        private ScorerSupplier supplier;
+        private boolean built;
+
+        Admission(LeafReaderContext context, Weight weight) {
+            this.context = context;
+            this.weight = weight;
+        }
+
+        ScorerSupplier supplier() throws IOException {
+            if (built == false) {
+                supplier = weight.scorerSupplier(context);
+                built = true;
+            }
+            return supplier;
+        }
+
+        ScorerSupplier take() throws IOException {
+            final ScorerSupplier supplier = supplier();
+            this.supplier = null;
+            this.built = false;
+            return supplier;
+        }
+    }
+
+    private final ThreadLocal<Admission> admission = new ThreadLocal<>();
+
+    /**
+     * The weight the query cache wraps, reuses the scorer supplier that was built to decide whether the filter is cached.
+     */
+    private class AdmittedWeight extends FilterWeight {
+
+        AdmittedWeight(Weight weight) {
+            super(weight);
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            final Admission admission = IndicesQueryCache.this.admission.get();
+            if (admission != null && admission.weight == in && admission.context == context) {
+                return admission.take();
+            }
+            return in.scorerSupplier(context);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) throws IOException {
+            return in.count(context);
+        }
+    }
+
+    /**
+     * Only caches a filter on a segment if it saves enough evaluation work per byte of the cache it takes, see
+     * {@link #INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE}. The estimate only depends on the filter and the segment, so bypassing the
+     * cache only misses entries that were cached before the setting changed.
+     */
+    private class CostPerByteCachingPolicy implements QueryCachingPolicy {
+        private final QueryCachingPolicy in;
+
+        CostPerByteCachingPolicy(QueryCachingPolicy in) {
+            this.in = in;
+        }
+
+        @Override
+        public void onUse(Query query) {
+            in.onUse(query);
+        }
+
+        @Override
+        public boolean shouldCache(Query query) throws IOException {
+            if (in.shouldCache(query) == false) {
+                return false;
+            }
+            final float minCostPerByte = IndicesQueryCache.this.minCostPerByte;
+            final Admission admission = IndicesQueryCache.this.admission.get();
+            if (minCostPerByte <= 0 || admission == null || admission.weight.getQuery() != query) {
+                return true;
+            }
+            final ScorerSupplier supplier = admission.supplier();
+            if (supplier == null || costPerByte(query, supplier.cost(), admission.context.reader().maxDoc()) >= minCostPerByte) {
+                return true;
+            }
+            onBypass(admission.context);
+            return false;
+        }
+    }
+
+    private void onBypass(LeafReaderContext context) {
+        final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+        final ShardId shardId = cacheHelper == null ? null : shardKeyMap.getShardId(cacheHelper.getKey());
+        if (shardId != null) {
+            shardStats.computeIfAbsent(shardId, Stats::new).bypassCount.increment();
+        }
     }
 
     private class CachingWeightWrapper extends Weight {
 
         private final Weight in;
+        private final Weight uncached;
 
-        protected CachingWeightWrapper(Weight in) {
+        protected CachingWeightWrapper(Weight in, Weight uncached) {
             super(in.getQuery());
             this.in = in;
+            this.uncached = uncached;
         }
 
         @Override
@@ -234,7 +383,16 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.scorerSupplier(context);
+            if (minCostPerByte <= 0) {
+                return in.scorerSupplier(context);
+            }
+            final Admission previous = admission.get();
+            admission.set(new Admission(context, uncached));
+            try {
+                return in.scorerSupplier(context);
+            } finally {
+                admission.set(previous);
+            }
         }
 
         @Override
@@ -290,6 +448,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         volatile long missCount;
         volatile long cacheCount;
         volatile long cacheSize;
+        // counted outside of the lock of the cache
+        final LongAdder bypassCount = new LongAdder();
 
         Stats(ShardId shardId) {
             this.shardId = shardId;
@@ -301,6 +461,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 .missCount(missCount)
                 .cacheCount(cacheCount)
                 .cacheSize(cacheSize)
+                .bypassCount(bypassCount.sum())
                 .build();
         }
 
@@ -318,6 +479,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 + cacheCount
                 + ", cacheSize="
                 + cacheSize
+                + ", bypassCount="
+                + bypassCount.sum()
                 + "}";
         }
     }
@@ -374,12 +537,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
 
         private Stats getOrCreateStats(Object coreKey) {
             final ShardId shardId = shardKeyMap.getShardId(coreKey);
-            Stats stats = shardStats.get(shardId);
-            if (stats == null) {
-                stats = new Stats(shardId);
-                shardStats.put(shardId, stats);
-            }
-            return stats;
+            // bypasses are counted outside of the lock of the cache
+            return shardStats.computeIfAbsent(shardId, Stats::new);
         }
 
         // It's ok to not protect these callbacks by a lock since it is
@@ -494,7 +653,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
          * Given that lucene doesn't give the desired extensibility at this point.
          * Also, we can extend it if needed.
          */
-        private boolean isCostly(Query query) {
+        static boolean isCostly(Query query) {
             return query instanceof MultiTermQuery
                 || query.getClass().getSimpleName().equals("MultiTermQueryConstantScoreBlendedWrapper")
                 || query.getClass().getSimpleName().equals("MultiTermQueryConstantScoreWrapper")
@@ -502,7 +661,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
 
         // Same to Lucene's UsageTrackingQueryCachingPolicy.isPointQuery
-        private boolean isPointQuery(Query query) {
+        private static boolean isPointQuery(Query query) {
             for (Class<?> clazz = query.getClass(); clazz != Query.class; clazz = clazz.getSuperclass()) {
                 final String simpleName = clazz.getSimpleName();
                 if (simpleName.startsWith("Point") && simpleName.endsWith("Query")) {
@@ -151,6 +151,7 @@ import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -422,6 +423,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private volatile int defaultMaxMergeAtOnce;
     private final StatusCounterStats statusCounterStats;
     private final ClusterMergeSchedulerConfig clusterMergeSchedulerConfig;
+    @Nullable
+    private final TranslogSyncCoordinator translogSyncCoordinator;
 
     @Override
     protected void doStart() {
@@ -600,6 +603,11 @@ public class IndicesService extends AbstractLifecycleComponent
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(CLUSTER_DEFAULT_INDEX_MAX_MERGE_AT_ONCE_SETTING, this::onDefaultMaxMergeAtOnceUpdate);
         this.statusCounterStats = new StatusCounterStats();
+        if (TranslogSyncCoordinator.INDICES_TRANSLOG_SYNC_COORDINATOR_ENABLED_SETTING.get(settings)) {
+            this.translogSyncCoordinator = new TranslogSyncCoordinator(settings, clusterService.getClusterSettings(), threadPool);
+        } else {
+            this.translogSyncCoordinator = null;
+        }
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(
                 MergeSchedulerConfig.CLUSTER_MAX_FORCE_MERGE_MB_PER_SEC_SETTING,
@@ -831,6 +839,12 @@ public class IndicesService extends AbstractLifecycleComponent
                 case Flush:
                     commonStats.flush.add(oldShardsStats.flushStats);
                     break;
+                case Translog:
+                    // the coordinator syncs the translogs of all shards, so its stats only exist at the node level
+                    if (translogSyncCoordinator != null) {
+                        commonStats.translog.setSyncCoordinatorStats(translogSyncCoordinator.stats());
+                    }
+                    break;
             }
         }
         if (flags.getIncludeIndicesStatsByLevel()) {
@@ -1323,6 +1337,9 @@ public class IndicesService extends AbstractLifecycleComponent
             referencedSegmentsPublisher
         );
         indexShard.addShardFailureCallback(onShardFailure);
+        if (translogSyncCoordinator != null) {
+            indexShard.setTranslogSyncCoordinator(translogSyncCoordinator);
+        }
         indexShard.startRecovery(recoveryState, recoveryTargetService, recoveryListener, repositoriesService, mapping -> {
             assert recoveryState.getRecoverySource().getType() == RecoverySource.Type.LOCAL_SHARDS
                 : "mapping update consumer only required by local shards recovery";
@@ -152,6 +152,18 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Files larger than this size are downloaded from the remote store in parts of this size, which are fetched in parallel.
+     */
+    public static final Setting<ByteSizeValue> INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_PART_SIZE_SETTING = Setting.byteSizeSetting(
+        "indices.recovery.remote_store_download_part_size",
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(5, ByteSizeUnit.GB),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * how long to wait before retrying after issues cause by cluster state syncing between nodes
      * i.e., local node is not yet known on remote node, remote shard not yet started etc.
@@ -238,6 +250,7 @@ public class RecoverySettings {
     private volatile int maxConcurrentFileChunks;
     private volatile int maxConcurrentOperations;
     private volatile int maxConcurrentRemoteStoreStreams;
+    private volatile ByteSizeValue remoteStoreDownloadPartSize;
     private volatile SimpleRateLimiter recoveryRateLimiter;
     private volatile SimpleRateLimiter replicationRateLimiter;
     private volatile SimpleRateLimiter mergedSegmentReplicationRateLimiter;
@@ -257,6 +270,7 @@ public class RecoverySettings {
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
         this.maxConcurrentRemoteStoreStreams = INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING.get(settings);
+        this.remoteStoreDownloadPartSize = INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_PART_SIZE_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
         // and we want to give the cluster-manager time to remove a faulty node
         this.retryDelayNetwork = INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING.get(settings);
@@ -310,6 +324,10 @@ public class RecoverySettings {
             INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
             this::setMaxConcurrentRemoteStoreStreams
         );
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_RECOVERY_REMOTE_STORE_DOWNLOAD_PART_SIZE_SETTING,
+            this::setRemoteStoreDownloadPartSize
+        );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING, this::setRetryDelayStateSync);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING, this::setRetryDelayNetwork);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING, this::setInternalActionTimeout);
@@ -485,6 +503,14 @@ public class RecoverySettings {
         this.maxConcurrentRemoteStoreStreams = maxConcurrentRemoteStoreStreams;
     }
 
+    public ByteSizeValue getRemoteStoreDownloadPartSize() {
+        return remoteStoreDownloadPartSize;
+    }
+
+    private void setRemoteStoreDownloadPartSize(ByteSizeValue remoteStoreDownloadPartSize) {
+        this.remoteStoreDownloadPartSize = remoteStoreDownloadPartSize;
+    }
+
     public boolean isMergedSegmentReplicationWarmerEnabled() {
         return mergedSegmentReplicationWarmerEnabled;
     }
@@ -149,6 +149,7 @@ public class RemoteStoreReplicationSource implements SegmentReplicationSource {
                         remoteDirectory,
                         new ReplicationStatsDirectoryWrapper(storeDirectory, fileProgressTracker),
                         toDownloadSegmentNames,
+                        fileProgressTracker,
                         ActionListener.map(listener, r -> new GetSegmentFilesResponse(filesToFetch))
                     );
             } else {
@@ -185,6 +186,7 @@ public class RemoteStoreReplicationSource implements SegmentReplicationSource {
                 remoteDirectory,
                 new ReplicationStatsDirectoryWrapper(storeDirectory, fileProgressTracker),
                 toDownloadSegmentNames,
+                fileProgressTracker,
                 ActionListener.wrap(r -> {
                     latch.countDown();
                     notifyOnceListener.onResponse(new GetSegmentFilesResponse(filesToFetch));
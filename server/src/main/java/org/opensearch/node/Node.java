@@ -434,6 +434,16 @@ public class Node implements Closeable {
         Property.NodeScope
     );
 
+    /**
+     * Whether the file cache only admits files that were accessed more often than the files they would evict, instead of evicting
+     * the least recently used files, so that scans over files that are read once don't evict the files that are read frequently.
+     */
+    public static final Setting<Boolean> NODE_SEARCH_CACHE_ADMISSION_FILTER_SETTING = Setting.boolSetting(
+        "node.search.cache.admission_filter.enabled",
+        false,
+        Property.NodeScope
+    );
+
     private static final String CLIENT_TYPE = "node";
 
     /**
@@ -2409,7 +2419,9 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity);
+        this.fileCache = NODE_SEARCH_CACHE_ADMISSION_FILTER_SETTING.get(settings)
+            ? FileCacheFactory.createConcurrentTinyLFUFileCache(capacity)
+            : FileCacheFactory.createConcurrentLRUFileCache(capacity);
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         ForkJoinPool loadFileCacheThreadpool = new ForkJoinPool(
             Runtime.getRuntime().availableProcessors(),
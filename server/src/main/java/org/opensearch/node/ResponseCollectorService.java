@@ -38,6 +38,9 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -48,12 +51,18 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.IntCountsHistogram;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. Response times are additionally recorded in a sliding
+ * window histogram, so that a percentile of the recent response times can be
+ * used for ranking instead of the EWMA, which is slow to react to latency spikes.
  *
  * @opensearch.api
  */
@@ -62,10 +71,49 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * Which estimate of the response time of a node is used to rank its shard copies
+     */
+    public static final Setting<ResponseTimeEstimate> RESPONSE_TIME_ESTIMATE_SETTING = new Setting<>(
+        "cluster.routing.adaptive_replica_selection.response_time",
+        ResponseTimeEstimate.EWMA.toString(),
+        ResponseTimeEstimate::fromString,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The percentile of the recent response times of a node used when ranking by {@link ResponseTimeEstimate#PERCENTILE}
+     */
+    public static final Setting<Double> RESPONSE_TIME_PERCENTILE_SETTING = Setting.doubleSetting(
+        "cluster.routing.adaptive_replica_selection.response_time_percentile",
+        95.0,
+        0.0,
+        100.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    private volatile ResponseTimeEstimate responseTimeEstimate;
+    private volatile double responseTimePercentile;
+
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        this.responseTimeEstimate = clusterSettings.get(RESPONSE_TIME_ESTIMATE_SETTING);
+        this.responseTimePercentile = clusterSettings.get(RESPONSE_TIME_PERCENTILE_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(RESPONSE_TIME_ESTIMATE_SETTING, this::setResponseTimeEstimate);
+        clusterSettings.addSettingsUpdateConsumer(RESPONSE_TIME_PERCENTILE_SETTING, this::setResponseTimePercentile);
+    }
+
+    void setResponseTimeEstimate(ResponseTimeEstimate responseTimeEstimate) {
+        this.responseTimeEstimate = responseTimeEstimate;
+    }
+
+    void setResponseTimePercentile(double responseTimePercentile) {
+        this.responseTimePercentile = responseTimePercentile;
     }
 
     @Override
@@ -82,25 +130,28 @@ public final class ResponseCollectorService implements ClusterStateListener {
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
+        final double percentile = responseTimePercentile;
         nodeIdToStats.compute(nodeId, (id, ns) -> {
             if (ns == null) {
                 ExponentiallyWeightedMovingAverage queueEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, queueSize);
                 ExponentiallyWeightedMovingAverage responseEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
-                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
+                ns = new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
             } else {
                 ns.queueSize.addValue((double) queueSize);
                 ns.responseTime.addValue((double) responseTimeNanos);
                 ns.serviceTime = avgServiceTimeNanos;
-                return ns;
             }
+            ns.responseTimes.record(responseTimeNanos, percentile);
+            return ns;
         });
     }
 
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
+        final ResponseTimeEstimate estimate = responseTimeEstimate;
         // Transform the mutable object internally used for accounting into the computed version
         Map<String, ComputedNodeStats> nodeStats = new HashMap<>(nodeIdToStats.size());
-        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v)); });
+        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v, estimate)); });
         return nodeStats;
     }
 
@@ -117,7 +168,51 @@ public final class ResponseCollectorService implements ClusterStateListener {
      */
     public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId) {
         final int clientNum = nodeIdToStats.size();
-        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
+        final ResponseTimeEstimate estimate = responseTimeEstimate;
+        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns, estimate));
+    }
+
+    /**
+     * Returns the configured percentile of the recent response times of the given node in nanoseconds, regardless of the
+     * {@link ResponseTimeEstimate} used for ranking. Returns an empty {@code OptionalDouble} if no response of the node was
+     * recorded yet.
+     */
+    public OptionalDouble getResponseTimePercentile(final String nodeId) {
+        final NodeStatistics ns = nodeIdToStats.get(nodeId);
+        return ns == null ? OptionalDouble.empty() : OptionalDouble.of(ns.responseTimes.percentile);
+    }
+
+    /**
+     * The estimate of the response time of a node used by the adaptive replica selection formula
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.5.0")
+    public enum ResponseTimeEstimate {
+        /**
+         * The exponentially weighted moving average of the response times
+         */
+        EWMA,
+        /**
+         * A percentile of the response times within a sliding window, see {@link #RESPONSE_TIME_PERCENTILE_SETTING}
+         */
+        PERCENTILE;
+
+        public static ResponseTimeEstimate fromString(String value) {
+            switch (value) {
+                case "ewma":
+                    return EWMA;
+                case "percentile":
+                    return PERCENTILE;
+                default:
+                    throw new IllegalArgumentException("unknown response time estimate [" + value + "], must be [ewma] or [percentile]");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
     }
 
     /**
@@ -150,12 +245,14 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTime;
         }
 
-        ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
+        ComputedNodeStats(int clientNum, NodeStatistics nodeStats, ResponseTimeEstimate responseTimeEstimate) {
             this(
                 nodeStats.nodeId,
                 clientNum,
                 (int) nodeStats.queueSize.getAverage(),
-                nodeStats.responseTime.getAverage(),
+                responseTimeEstimate == ResponseTimeEstimate.PERCENTILE
+                    ? nodeStats.responseTimes.percentile
+                    : nodeStats.responseTime.getAverage(),
                 nodeStats.serviceTime
             );
         }
@@ -195,7 +292,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
             double qBar = queueSize;
             double qHatS = 1 + concurrencyCompensation + qBar;
 
-            // EWMA of response time
+            // EWMA or percentile of response time
             double rS = responseTime / FACTOR;
             // EWMA of service time
             double muBarS = serviceTime / FACTOR;
@@ -235,6 +332,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
         final String nodeId;
         final ExponentiallyWeightedMovingAverage queueSize;
         final ExponentiallyWeightedMovingAverage responseTime;
+        final ResponseTimeWindow responseTimes = new ResponseTimeWindow();
         double serviceTime;
 
         NodeStatistics(
@@ -249,4 +347,40 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.serviceTime = serviceTimeEWMA;
         }
     }
+
+    /**
+     * Sliding window of the response times of a node. Response times are recorded in microseconds into the current histogram
+     * and into one covering the whole window; once the current histogram holds {@link #WINDOW_SIZE} values it replaces the
+     * previous one, whose values are subtracted from the window. The window therefore covers the last {@link #WINDOW_SIZE} to
+     * {@code 2 * WINDOW_SIZE} responses. The percentile is only recomputed every {@link #REFRESH_INTERVAL} responses, it is
+     * read without locking when ranking shard copies. Updates are serialized by the {@code compute} call of the node.
+     */
+    static final class ResponseTimeWindow {
+        static final int WINDOW_SIZE = 512;
+        static final int REFRESH_INTERVAL = 16;
+        private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+        private IntCountsHistogram current = new IntCountsHistogram(SIGNIFICANT_VALUE_DIGITS);
+        private IntCountsHistogram previous = new IntCountsHistogram(SIGNIFICANT_VALUE_DIGITS);
+        private final IntCountsHistogram window = new IntCountsHistogram(SIGNIFICANT_VALUE_DIGITS);
+        private int sinceRefresh;
+        volatile double percentile;
+
+        void record(long responseTimeNanos, double percentileToTrack) {
+            final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0L, responseTimeNanos));
+            current.recordValue(micros);
+            window.recordValue(micros);
+            if (current.getTotalCount() >= WINDOW_SIZE) {
+                window.subtract(previous);
+                final IntCountsHistogram recycled = previous;
+                recycled.reset();
+                previous = current;
+                current = recycled;
+            }
+            if (window.getTotalCount() == 1 || ++sinceRefresh >= REFRESH_INTERVAL) {
+                sinceRefresh = 0;
+                percentile = TimeUnit.MICROSECONDS.toNanos(window.getValueAtPercentile(percentileToTrack));
+            }
+        }
+    }
 }
@@ -79,6 +79,7 @@ import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
 import org.opensearch.common.blobstore.transfer.stream.RateLimitingOffsetRangeInputStream;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.DeflateCompressor;
+import org.opensearch.common.hash.MessageDigests;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
@@ -167,6 +168,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.SoftReference;
 import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -243,6 +245,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private static final String UPLOADED_DATA_BLOB_PREFIX = "__";
 
+    /**
+     * Prefix of the data blobs that hold a content-defined chunk of one or more files, followed by the SHA-256 hash of the chunk.
+     */
+    // Visible for testing
+    static final String CHUNK_DATA_BLOB_PREFIX = UPLOADED_DATA_BLOB_PREFIX + "chunk-";
+
     public static final String INDICES_DIR = "indices";
 
     /**
@@ -471,6 +479,30 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         Setting.Property.NodeScope
     );
 
+    /**
+     * Setting to split large files into content-defined chunks that are stored once per shard and shared by all files and snapshots
+     * that contain them, so that a snapshot only uploads the parts of merged segments that it does not have already. Shard snapshots
+     * taken with this setting can't be restored by nodes of versions that don't support chunked files, so files are only chunked once
+     * the cluster and the repository are on {@link SnapshotsService#CHUNKED_FILES_VERSION} or later.
+     */
+    public static final Setting<Boolean> CHUNK_DEDUPLICATION_SETTING = Setting.boolSetting(
+        "chunk_deduplication",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The average size of the chunks files are split into when {@link #CHUNK_DEDUPLICATION_SETTING} is enabled. Smaller chunks share
+     * more of the contents of files but add more blobs to the repository.
+     */
+    public static final Setting<ByteSizeValue> CHUNK_DEDUPLICATION_AVERAGE_SIZE_SETTING = Setting.byteSizeSetting(
+        "chunk_deduplication_average_size",
+        new ByteSizeValue(4, ByteSizeUnit.MB),
+        new ByteSizeValue(64, ByteSizeUnit.KB),
+        new ByteSizeValue(256, ByteSizeUnit.MB),
+        Setting.Property.NodeScope
+    );
+
     /**
      * Controls the fixed prefix for the snapshot shard blob path.
      */
@@ -487,6 +519,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private volatile Compressor compressor;
 
+    private volatile boolean chunkDeduplication;
+
+    private volatile long chunkDeduplicationAverageSize;
+
     private volatile boolean cacheRepositoryData;
 
     private volatile RateLimiter snapshotRateLimiter;
@@ -665,6 +701,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         compressor = COMPRESS_SETTING.get(metadata.settings())
             ? COMPRESSION_TYPE_SETTING.get(metadata.settings())
             : CompressorRegistry.none();
+        chunkDeduplication = CHUNK_DEDUPLICATION_SETTING.get(metadata.settings());
+        chunkDeduplicationAverageSize = CHUNK_DEDUPLICATION_AVERAGE_SIZE_SETTING.get(metadata.settings()).getBytes();
     }
 
     @Override
@@ -4005,6 +4043,17 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             long indexIncrementalSize = 0;
             long indexTotalFileSize = 0;
             final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new LinkedBlockingQueue<>();
+            // the chunks that none of the files in the repository contain yet, each is uploaded once by the first file that contains it
+            final Set<String> chunksToUpload = ConcurrentHashMap.newKeySet();
+            // files are only chunked once all nodes and all snapshots in the repository are on a version that can read chunked files
+            final boolean chunkFiles = chunkDeduplication && repositoryMetaVersion.onOrAfter(SnapshotsService.CHUNKED_FILES_VERSION);
+            final ContentDefinedChunker chunker = chunkFiles
+                ? new ContentDefinedChunker(
+                    CHUNK_DATA_BLOB_PREFIX,
+                    chunkDeduplicationAverageSize,
+                    chunkSize() == null ? null : chunkSize().getBytes()
+                )
+                : null;
             if (store.indexSettings().isRemoteSnapshot()) {
                 // If the source of the data is another remote snapshot (i.e. searchable snapshot) then no need to snapshot the shard
                 indexCommitPointFiles = List.of();
@@ -4051,7 +4100,26 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     indexTotalFileSize += md.length();
                     indexTotalNumberOfFiles++;
 
-                    if (existingFileInfo == null) {
+                    if (existingFileInfo == null && needsWrite && chunker != null && chunker.shouldChunk(md.length())) {
+                        // the index-N blob is written before the files are uploaded, so the chunks must be known up front
+                        final BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
+                            UPLOADED_DATA_BLOB_PREFIX + UUIDs.randomBase64UUID(),
+                            md,
+                            chunkFile(chunker, store, md, snapshotStatus, shardId, snapshotId)
+                        );
+                        long newChunksSize = 0;
+                        for (BlobStoreIndexShardSnapshot.Chunk chunk : snapshotFileInfo.chunks()) {
+                            if (snapshots.containsChunk(chunk.name()) == false && chunksToUpload.add(chunk.name())) {
+                                newChunksSize += chunk.length();
+                            }
+                        }
+                        indexCommitPointFiles.add(snapshotFileInfo);
+                        if (newChunksSize > 0) {
+                            indexIncrementalFileCount++;
+                            indexIncrementalSize += newChunksSize;
+                            filesToSnapshot.add(snapshotFileInfo);
+                        }
+                    } else if (existingFileInfo == null) {
                         indexIncrementalFileCount++;
                         indexIncrementalSize += md.length();
                         // create a new FileInfo
@@ -4146,7 +4214,16 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), indexIncrementalFileCount);
             final ActionListener<Void> filesListener = fileQueueListener(filesToSnapshot, workers, allFilesUploadedListener);
             for (int i = 0; i < workers; ++i) {
-                executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, filesListener);
+                executeOneFileSnapshot(
+                    store,
+                    snapshotId,
+                    indexId,
+                    snapshotStatus,
+                    filesToSnapshot,
+                    chunksToUpload,
+                    executor,
+                    filesListener
+                );
             }
         } catch (Exception e) {
             listener.onFailure(e);
@@ -4159,6 +4236,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         IndexId indexId,
         IndexShardSnapshotStatus snapshotStatus,
         BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot,
+        Set<String> chunksToUpload,
         Executor executor,
         ActionListener<Void> listener
     ) throws InterruptedException {
@@ -4169,8 +4247,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         } else {
             executor.execute(ActionRunnable.wrap(listener, l -> {
                 try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
-                    snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store);
-                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, executor, l);
+                    snapshotFile(snapshotFileInfo, indexId, shardId, snapshotId, snapshotStatus, store, chunksToUpload);
+                    executeOneFileSnapshot(store, snapshotId, indexId, snapshotStatus, filesToSnapshot, chunksToUpload, executor, l);
                 }
             }));
         }
@@ -4188,6 +4266,35 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         return store::decRef;
     }
 
+    /**
+     * Splits the given file into content-defined chunks, verifying its checksum while reading it.
+     */
+    private static List<BlobStoreIndexShardSnapshot.Chunk> chunkFile(
+        ContentDefinedChunker chunker,
+        Store store,
+        StoreFileMetadata md,
+        IndexShardSnapshotStatus snapshotStatus,
+        ShardId shardId,
+        SnapshotId snapshotId
+    ) {
+        try (
+            Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId);
+            IndexInput indexInput = store.openVerifyingInput(md.name(), IOContext.READONCE, md)
+        ) {
+            final List<BlobStoreIndexShardSnapshot.Chunk> chunks = chunker.chunk(indexInput, () -> {
+                if (snapshotStatus.isAborted()) {
+                    logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId, snapshotId, md.name());
+                    throw new AbortedSnapshotException();
+                }
+            });
+            Store.verify(indexInput);
+            return chunks;
+        } catch (IOException e) {
+            failStoreIfCorrupted(store, e);
+            throw new IndexShardSnapshotFailedException(shardId, "Failed to split [" + md.name() + "] into chunks", e);
+        }
+    }
+
     private static boolean assertFileContentsMatchHash(BlobStoreIndexShardSnapshot.FileInfo fileInfo, Store store) {
         try (IndexInput indexInput = store.openVerifyingInput(fileInfo.physicalName(), IOContext.READONCE, fileInfo.metadata())) {
             final byte[] tmp = new byte[Math.toIntExact(fileInfo.metadata().length())];
@@ -4687,7 +4794,9 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     || (remoteStoreLockManagerFactory != null
                         && extractShallowSnapshotUUID(blob).map(snapshotUUID -> !survivingSnapshotUUIDs.contains(snapshotUUID))
                             .orElse(false))
-                    || (blob.startsWith(UPLOADED_DATA_BLOB_PREFIX) && updatedSnapshots.findNameFile(canonicalName(blob)) == null)
+                    || (blob.startsWith(UPLOADED_DATA_BLOB_PREFIX)
+                        && updatedSnapshots.findNameFile(canonicalName(blob)) == null
+                        && updatedSnapshots.containsChunk(blob) == false)
                     || FsBlobContainer.isTempBlobName(blob)
             )
             .collect(Collectors.toList());
@@ -4798,6 +4907,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     /**
      * Snapshot individual file
      * @param fileInfo file to be snapshotted
+     * @param chunksToUpload the chunks of this snapshot that are not yet in the repository, a chunk is removed once it is uploaded
      */
     private void snapshotFile(
         BlobStoreIndexShardSnapshot.FileInfo fileInfo,
@@ -4805,43 +4915,38 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         ShardId shardId,
         SnapshotId snapshotId,
         IndexShardSnapshotStatus snapshotStatus,
-        Store store
+        Store store,
+        Set<String> chunksToUpload
     ) throws IOException {
         final BlobContainer shardContainer = shardContainer(indexId, shardId);
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.DEFAULT, fileInfo.metadata())) {
+            long uploadedBytes = 0;
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
                 final long partBytes = fileInfo.partBytes(i);
-
-                // Make reads abortable by mutating the snapshotStatus object
-                final InputStream inputStream = new FilterInputStream(
-                    maybeRateLimitSnapshots(new InputStreamIndexInput(indexInput, partBytes))
-                ) {
-                    @Override
-                    public int read() throws IOException {
-                        checkAborted();
-                        return super.read();
-                    }
-
-                    @Override
-                    public int read(byte[] b, int off, int len) throws IOException {
-                        checkAborted();
-                        return super.read(b, off, len);
-                    }
-
-                    private void checkAborted() {
-                        if (snapshotStatus.isAborted()) {
-                            logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId, snapshotId, fileInfo.physicalName());
-                            throw new AbortedSnapshotException();
-                        }
-                    }
-                };
                 final String partName = fileInfo.partName(i);
+                if (fileInfo.chunks() != null && chunksToUpload.remove(partName) == false) {
+                    // the chunk is in the repository already or uploaded by another file, read over it to verify the checksum
+                    indexInput.seek(fileInfo.partStart(i) + partBytes);
+                    continue;
+                }
+                final InputStream inputStream = abortableInputStream(
+                    maybeRateLimitSnapshots(new InputStreamIndexInput(indexInput, partBytes)),
+                    fileInfo,
+                    shardId,
+                    snapshotId,
+                    snapshotStatus
+                );
                 logger.trace(() -> new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
-                shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                if (fileInfo.chunks() != null) {
+                    writeChunk(shardContainer, partName, inputStream, partBytes, shardId);
+                } else {
+                    shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                }
+                uploadedBytes += partBytes;
             }
             Store.verify(indexInput);
-            snapshotStatus.addProcessedFile(fileInfo.length());
+            snapshotStatus.addProcessedFile(uploadedBytes);
         } catch (Exception t) {
             failStoreIfCorrupted(store, t);
             snapshotStatus.addProcessedFile(0);
@@ -4849,6 +4954,130 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Writes a content-defined chunk and checks that its contents still hash to the name of the chunk.
+     */
+    // Visible for testing
+    static void writeChunk(BlobContainer container, String chunkName, InputStream inputStream, long length, ShardId shardId)
+        throws IOException {
+        final DigestingInputStream digestingStream = new DigestingInputStream(inputStream, MessageDigests.sha256());
+        container.writeBlob(chunkName, digestingStream, length, false);
+        if (chunkName.equals(CHUNK_DATA_BLOB_PREFIX + MessageDigests.toHexString(digestingStream.digest())) == false) {
+            // the file changed since it was split into chunks, the blob must not be shared under the name of other contents
+            container.deleteBlobsIgnoringIfNotExists(Collections.singletonList(chunkName));
+            throw new IndexShardSnapshotFailedException(shardId, "contents of chunk [" + chunkName + "] changed since it was hashed");
+        }
+    }
+
+    /**
+     * Hashes the bytes read from a stream. Blob stores may retry a write by resetting the stream to a mark, so the state of the digest
+     * is saved on mark and restored on reset, and every byte of the blob is hashed exactly once.
+     */
+    private static final class DigestingInputStream extends FilterInputStream {
+
+        private MessageDigest digest;
+        private MessageDigest markedDigest;
+
+        DigestingInputStream(InputStream inputStream, MessageDigest digest) {
+            super(inputStream);
+            this.digest = digest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                digest.update((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                digest.update(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // skipped bytes are part of the blob too, so read them through the digest
+            final byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                final int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            super.mark(readlimit);
+            markedDigest = copy(digest);
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            if (markedDigest == null) {
+                // without a mark the stream rewinds to its start
+                digest.reset();
+            } else {
+                digest = copy(markedDigest);
+            }
+        }
+
+        byte[] digest() {
+            return digest.digest();
+        }
+
+        private static MessageDigest copy(MessageDigest digest) {
+            try {
+                return (MessageDigest) digest.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError("SHA-256 digests can be cloned", e);
+            }
+        }
+    }
+
+    /**
+     * Makes reads abortable by mutating the snapshotStatus object
+     */
+    private static InputStream abortableInputStream(
+        InputStream inputStream,
+        BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+        ShardId shardId,
+        SnapshotId snapshotId,
+        IndexShardSnapshotStatus snapshotStatus
+    ) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                checkAborted();
+                return super.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                checkAborted();
+                return super.read(b, off, len);
+            }
+
+            private void checkAborted() {
+                if (snapshotStatus.isAborted()) {
+                    logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId, snapshotId, fileInfo.physicalName());
+                    throw new AbortedSnapshotException();
+                }
+            }
+        };
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
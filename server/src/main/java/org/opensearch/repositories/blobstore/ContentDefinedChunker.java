@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits files into chunks whose boundaries depend on the content of the file rather than on positions in the file, so that a file
+ * that shares most of its bytes with another file, like a segment that was merged from segments that were snapshotted before, is
+ * split into mostly the same chunks. Chunks are named after the SHA-256 hash of their contents.
+ * <p>
+ * The boundaries are found with a gear hash rolling over the last 64 bytes: a chunk ends where the top bits of the hash are all zero,
+ * but never before the minimum size and at the latest at the maximum size. The gear table is derived from a fixed seed, it must never
+ * change as chunks that were cut differently would no longer be shared with the chunks stored before.
+ *
+ * @opensearch.internal
+ */
+final class ContentDefinedChunker {
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // SplitMix64
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < GEAR.length; i++) {
+            long z = (seed += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String blobNamePrefix;
+    private final long minSize;
+    private final long maxSize;
+    private final long mask;
+
+    /**
+     * @param blobNamePrefix the prefix of the blob names of the chunks
+     * @param averageSize    the size the chunks have on average, they are at least a quarter and at most four times as large
+     * @param maxBlobSize    the maximum size of a blob in the repository, or {@code null} if blobs can have any size
+     */
+    ContentDefinedChunker(String blobNamePrefix, long averageSize, Long maxBlobSize) {
+        this.blobNamePrefix = blobNamePrefix;
+        this.maxSize = maxBlobSize == null ? averageSize * 4 : Math.min(averageSize * 4, maxBlobSize);
+        this.minSize = Math.min(averageSize / 4, maxSize);
+        // a boundary follows the minimum size after 2^bits bytes on average
+        final int bits = 63 - Long.numberOfLeadingZeros(Math.max(2, averageSize - minSize));
+        this.mask = -1L << (Long.SIZE - bits);
+    }
+
+    /**
+     * Whether a file of the given length is worth splitting, smaller files are stored as a single blob.
+     */
+    boolean shouldChunk(long length) {
+        return length > maxSize;
+    }
+
+    /**
+     * Reads the given input from its current position to its end and returns its chunks.
+     *
+     * @param checkAborted called before each buffer of the input is read, throws if chunking should stop
+     */
+    List<BlobStoreIndexShardSnapshot.Chunk> chunk(IndexInput input, Runnable checkAborted) throws IOException {
+        final List<BlobStoreIndexShardSnapshot.Chunk> chunks = new ArrayList<>();
+        final MessageDigest digest = MessageDigests.sha256();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = input.length() - input.getFilePointer();
+        long chunkLength = 0;
+        long hash = 0;
+        while (remaining > 0) {
+            checkAborted.run();
+            final int read = (int) Math.min(buffer.length, remaining);
+            input.readBytes(buffer, 0, read);
+            remaining -= read;
+            int chunkStart = 0;
+            for (int i = 0; i < read; i++) {
+                hash = (hash << 1) + GEAR[buffer[i] & 0xff];
+                chunkLength++;
+                if (chunkLength >= maxSize || (chunkLength >= minSize && (hash & mask) == 0)) {
+                    digest.update(buffer, chunkStart, i + 1 - chunkStart);
+                    chunks.add(newChunk(digest, chunkLength));
+                    chunkStart = i + 1;
+                    chunkLength = 0;
+                }
+            }
+            digest.update(buffer, chunkStart, read - chunkStart);
+        }
+        if (chunkLength > 0) {
+            chunks.add(newChunk(digest, chunkLength));
+        }
+        return chunks;
+    }
+
+    private BlobStoreIndexShardSnapshot.Chunk newChunk(MessageDigest digest, long length) {
+        // digest() resets the digest for the next chunk
+        return new BlobStoreIndexShardSnapshot.Chunk(blobNamePrefix + MessageDigests.toHexString(digest.digest()), length);
+    }
+}
@@ -60,6 +60,7 @@ import org.opensearch.search.aggregations.bucket.range.IpRangeAggregationBuilder
 import org.opensearch.search.aggregations.bucket.range.Range;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.sampler.DiversifiedAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.sampler.RandomSamplerAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.sampler.Sampler;
 import org.opensearch.search.aggregations.bucket.sampler.SamplerAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationBuilder;
@@ -215,6 +216,13 @@ public class AggregationBuilders {
         return new DiversifiedAggregationBuilder(name);
     }
 
+    /**
+     * Create a new random {@link Sampler} aggregation with the given name.
+     */
+    public static RandomSamplerAggregationBuilder randomSampler(String name) {
+        return new RandomSamplerAggregationBuilder(name);
+    }
+
     /**
      * Create a new {@link Global} aggregation with the given name.
      */
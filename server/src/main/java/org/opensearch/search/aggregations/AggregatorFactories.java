@@ -268,6 +268,15 @@ public class AggregatorFactories {
         return true;
     }
 
+    public boolean allFactoriesSupportLeafResultCaching() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsLeafResultCaching() == false || factory.getSubFactories().allFactoriesSupportLeafResultCaching() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Create all aggregators so that they can be consumed with multiple
      * buckets.
@@ -124,6 +124,14 @@ public abstract class AggregatorFactory {
         return false;
     }
 
+    /**
+     * Implementation should override this method and return true if the results the Aggregator created by the factory builds for a single
+     * segment only depend on the documents of that segment, such that they can be cached and reduced with the results of other segments
+     */
+    protected boolean supportsLeafResultCaching() {
+        return false;
+    }
+
     public boolean evaluateChildFactories() {
         return factories.allFactoriesSupportConcurrentSearch();
     }
@@ -38,7 +38,20 @@ public class ConcurrentAggregationProcessor implements AggregationProcessor {
                 // update the bucket collector process as there is aggregation in the request
                 context.setBucketCollectorProcessor(bucketCollectorProcessor);
                 if (context.aggregations().factories().hasNonGlobalAggregator()) {
-                    context.queryCollectorManagers().put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManager(context));
+                    AggregationCollectorManager nonGlobalCollectorManager = null;
+                    if (LeafCachingAggCollectorManager.canUseCache(context)) {
+                        final LeafCachingAggCollectorManager leafCachingCollectorManager = new LeafCachingAggCollectorManager(
+                            context,
+                            context.aggregations().leafAggregationCache()
+                        );
+                        if (leafCachingCollectorManager.needsScores() == false) {
+                            nonGlobalCollectorManager = leafCachingCollectorManager;
+                        }
+                    }
+                    if (nonGlobalCollectorManager == null) {
+                        nonGlobalCollectorManager = new NonGlobalAggCollectorManager(context);
+                    }
+                    context.queryCollectorManagers().put(NonGlobalAggCollectorManager.class, nonGlobalCollectorManager);
                 }
                 // initialize global aggregators as well, such that any failure to initialize can be caught before executing the request
                 if (context.aggregations().factories().hasGlobalAggregator()) {
@@ -272,6 +272,23 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
         );
     }
 
+    /**
+     * Scales this aggregation, which was computed over a uniform random sample of the documents that were each picked with the
+     * given probability, up to an estimate of the aggregation over all documents. Values that grow with the number of documents,
+     * like document counts and sums, are scaled by the inverse of the probability. Values that don't, like averages and
+     * percentiles, are estimated by their value over the sample, which is what the default implementation returns.
+     */
+    public InternalAggregation finalizeSampling(double probability) {
+        return this;
+    }
+
+    /**
+     * Scales a count of sampled documents up to an estimate of the count of all documents, see {@link #finalizeSampling(double)}.
+     */
+    protected static long scaleSampledCount(long count, double probability) {
+        return count <= 0 ? count : Math.round(count / probability);
+    }
+
     /**
      * Run a {@linkplain Consumer} over all buckets in this aggregation.
      */
@@ -109,6 +109,17 @@ public final class InternalAggregations extends Aggregations implements Writeabl
         return (List<InternalAggregation>) aggregations;
     }
 
+    /**
+     * Scales all aggregations up from a uniform random sample of the documents, see {@link InternalAggregation#finalizeSampling(double)}.
+     */
+    public InternalAggregations finalizeSampling(double probability) {
+        List<InternalAggregation> scaled = new ArrayList<>(aggregations.size());
+        for (InternalAggregation aggregation : getInternalAggregations()) {
+            scaled.add(aggregation.finalizeSampling(probability));
+        }
+        return from(scaled);
+    }
+
     /**
      * Get value to use when sorting by a descendant of the aggregation containing this.
      */
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Node level cache of the partial aggregation results built for a single segment. Segments are immutable, so the
+ * {@link InternalAggregations} an aggregation tree builds for a segment only change once documents of that segment are deleted,
+ * which gives the segment a new reader cache key. Searches that go through the concurrent segment search path can therefore
+ * reuse the results of the segments they already aggregated and only collect the segments that were added since, reducing the
+ * cached and the freshly built results like the results of different slices.
+ * <p>
+ * Entries are keyed by the reader cache key of the segment and the cache key of the shard request, and hold the serialized
+ * {@link InternalAggregations} since live results may reference arrays that are released with the search context. All the
+ * entries of a segment are invalidated when the segment is closed.
+ *
+ * @opensearch.internal
+ */
+public final class LeafAggregationCache implements RemovalListener<LeafAggregationCache.Key, BytesReference> {
+
+    public static final Setting<Boolean> SEARCH_LEAF_AGGREGATION_CACHE_ENABLED = Setting.boolSetting(
+        "search.aggregations.leaf_cache.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> SEARCH_LEAF_AGGREGATION_CACHE_SIZE = Setting.memorySizeSetting(
+        "search.aggregations.leaf_cache.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final Cache<Key, BytesReference> cache;
+    private final Map<IndexReader.CacheKey, Set<Key>> keysByReader = ConcurrentCollections.newConcurrentMap();
+    private volatile boolean enabled;
+
+    public LeafAggregationCache(Settings settings, ClusterSettings clusterSettings) {
+        this.cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(SEARCH_LEAF_AGGREGATION_CACHE_SIZE.get(settings).getBytes())
+            .weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed())
+            .removalListener(this)
+            .build();
+        this.enabled = SEARCH_LEAF_AGGREGATION_CACHE_ENABLED.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_LEAF_AGGREGATION_CACHE_ENABLED, this::setEnabled);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled == false) {
+            cache.invalidateAll();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the serialized results cached for the given segment and request, or <code>null</code> if there are none or the
+     * segment cannot be cached.
+     */
+    public BytesReference get(LeafReaderContext ctx, BytesReference requestKey) {
+        final IndexReader.CacheHelper cacheHelper = ctx.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        return cache.get(new Key(cacheHelper.getKey(), requestKey));
+    }
+
+    /**
+     * Caches the serialized results built for the given segment and request. Segments without a reader cache key are not cached.
+     */
+    public void put(LeafReaderContext ctx, BytesReference requestKey, BytesReference results) {
+        final IndexReader.CacheHelper cacheHelper = ctx.reader().getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return;
+        }
+        final Key key = new Key(cacheHelper.getKey(), requestKey);
+        keysByReader.computeIfAbsent(key.readerKey, readerKey -> {
+            cacheHelper.addClosedListener(LeafAggregationCache.this::onClose);
+            return ConcurrentCollections.newConcurrentSet();
+        }).add(key);
+        cache.put(key, results);
+    }
+
+    private void onClose(IndexReader.CacheKey readerKey) {
+        final Set<Key> keys = keysByReader.remove(readerKey);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
+        if (notification.getRemovalReason() == RemovalReason.REPLACED) {
+            // the same key is still cached with the new value
+            return;
+        }
+        final Key key = notification.getKey();
+        final Set<Key> keys = keysByReader.get(key.readerKey);
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * The number of cached segment results
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * The memory used by the cached segment results
+     */
+    public long ramBytesUsed() {
+        return cache.weight();
+    }
+
+    /**
+     * Key of a cache entry, the reader cache key of the segment and the cache key of the shard request.
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        private final IndexReader.CacheKey readerKey;
+        private final BytesReference requestKey;
+
+        Key(IndexReader.CacheKey readerKey, BytesReference requestKey) {
+            this.readerKey = Objects.requireNonNull(readerKey);
+            this.requestKey = Objects.requireNonNull(requestKey);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return readerKey.equals(key.readerKey) && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * readerKey.hashCode() + requestKey.hashCode();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.BoostingQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.DisMaxQueryBuilder;
+import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.index.query.IdsQueryBuilder;
+import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
+import org.opensearch.index.query.MatchPhraseQueryBuilder;
+import org.opensearch.index.query.MatchQueryBuilder;
+import org.opensearch.index.query.MultiMatchQueryBuilder;
+import org.opensearch.index.query.NestedQueryBuilder;
+import org.opensearch.index.query.PrefixQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilderVisitor;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.RegexpQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.query.WildcardQueryBuilder;
+import org.opensearch.index.query.functionscore.FunctionScoreQueryBuilder;
+import org.opensearch.index.query.functionscore.ScriptScoreQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.profile.query.CollectorResult;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link org.apache.lucene.search.CollectorManager} for non-global aggregations in case of concurrent segment search that builds the
+ * partial results of every segment separately, such that they can be stored in and served from the {@link LeafAggregationCache}.
+ * Segments with cached results are not collected at all. The partial results of all segments are reduced at shard level, like
+ * {@link NonGlobalAggCollectorManager} reduces the results of its slices.
+ *
+ * @opensearch.internal
+ */
+class LeafCachingAggCollectorManager extends AggregationCollectorManager {
+
+    private final LeafAggregationCache cache;
+    private final BytesReference requestKey;
+    private final Collector template;
+    private final String collectorName;
+
+    LeafCachingAggCollectorManager(SearchContext context, LeafAggregationCache cache) throws IOException {
+        super(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators, CollectorResult.REASON_AGGREGATION);
+        this.cache = cache;
+        this.requestKey = context.request().cacheKey();
+        // only used to report the score mode and to build empty results if no segment was collected
+        this.template = createCollector(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators);
+        this.collectorName = template.toString();
+    }
+
+    /**
+     * Whether the non-global aggregations of the given search can use the {@link LeafAggregationCache}. The partial results of a
+     * segment must only depend on the segment and the cache key of the request, and the whole segment must be collected. Whether
+     * the aggregations need scores, which depend on statistics of the whole reader, is only known once they are created, see
+     * {@link #needsScores()}.
+     */
+    static boolean canUseCache(SearchContext context) {
+        final LeafAggregationCache cache = context.aggregations().leafAggregationCache();
+        return cache != null
+            && cache.isEnabled()
+            && context.shouldUseConcurrentSearch()
+            && context.isStreamSearch() == false
+            && context.getProfilers() == null
+            && context.scrollContext() == null
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && context.minimumScore() == null
+            && context.request() != null
+            && context.getQueryShardContext().isCacheable()
+            && context.aggregations().factories().allFactoriesSupportLeafResultCaching()
+            && matchesDependOnOtherSegments(context.request().source()) == false;
+    }
+
+    /**
+     * Whether the documents the query of the given search matches in a segment may depend on the other segments of the reader. Only
+     * queries known to match by the contents of the segment alone are allowed. Queries that expand to the most frequent terms of the
+     * whole reader, like fuzzy or top_terms rewrites and phrase prefixes, filter on a score, which uses term statistics of the whole
+     * reader, join documents across segments, fetch terms or shapes from other documents, or come from plugins are not.
+     */
+    static boolean matchesDependOnOtherSegments(SearchSourceBuilder source) {
+        if (source == null || source.query() == null) {
+            return false;
+        }
+        final boolean[] dependsOnOtherSegments = new boolean[1];
+        source.query().visit(new QueryBuilderVisitor() {
+            @Override
+            public void accept(QueryBuilder qb) {
+                if (matchesBySegment(qb) == false) {
+                    dependsOnOtherSegments[0] = true;
+                }
+            }
+
+            @Override
+            public QueryBuilderVisitor getChildVisitor(BooleanClause.Occur occur) {
+                return this;
+            }
+        });
+        return dependsOnOtherSegments[0];
+    }
+
+    /**
+     * Whether the given query, not counting the queries it wraps, matches the documents of a segment by the contents of the segment.
+     */
+    private static boolean matchesBySegment(QueryBuilder qb) {
+        if (qb instanceof MatchAllQueryBuilder
+            || qb instanceof MatchNoneQueryBuilder
+            || qb instanceof TermQueryBuilder
+            || qb instanceof RangeQueryBuilder
+            || qb instanceof ExistsQueryBuilder
+            || qb instanceof IdsQueryBuilder
+            || qb instanceof MatchPhraseQueryBuilder
+            || qb instanceof BoolQueryBuilder
+            || qb instanceof ConstantScoreQueryBuilder
+            || qb instanceof DisMaxQueryBuilder
+            || qb instanceof BoostingQueryBuilder
+            || qb instanceof NestedQueryBuilder) {
+            return true;
+        } else if (qb instanceof TermsQueryBuilder terms) {
+            return terms.termsLookup() == null;
+        } else if (qb instanceof MatchQueryBuilder match) {
+            return match.fuzziness() == null;
+        } else if (qb instanceof MultiMatchQueryBuilder multiMatch) {
+            return multiMatch.fuzziness() == null && multiMatch.type() != MultiMatchQueryBuilder.Type.PHRASE_PREFIX;
+        } else if (qb instanceof PrefixQueryBuilder prefix) {
+            return prefix.rewrite() == null;
+        } else if (qb instanceof WildcardQueryBuilder wildcard) {
+            return wildcard.rewrite() == null;
+        } else if (qb instanceof RegexpQueryBuilder regexp) {
+            return regexp.rewrite() == null;
+        } else if (qb instanceof FunctionScoreQueryBuilder functionScore) {
+            return functionScore.getMinScore() == null;
+        } else if (qb instanceof ScriptScoreQueryBuilder scriptScore) {
+            return scriptScore.getMinScore() == null;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the aggregations use the scores of the documents, in which case their partial results depend on the whole reader.
+     */
+    boolean needsScores() {
+        return template.scoreMode().needsScores();
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        return new LeafCachingCollector();
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        final List<InternalAggregations> results = new ArrayList<>();
+        for (Collector collector : collectors) {
+            results.addAll(((LeafCachingCollector) collector).results);
+        }
+        if (results.isEmpty()) {
+            context.bucketCollectorProcessor().processPostCollection(template);
+            results.add(toInternalAggregations(template));
+        }
+        context.aggregations().resetBucketMultiConsumer();
+        return new AggregationReduceableSearchResult(InternalAggregations.reduce(results, context.partialOnShard()));
+    }
+
+    @Override
+    public String getCollectorName() {
+        return collectorName;
+    }
+
+    private InternalAggregations toInternalAggregations(Collector collector) throws IOException {
+        return InternalAggregations.from(context.bucketCollectorProcessor().toInternalAggregations(Collections.singletonList(collector)));
+    }
+
+    private InternalAggregations readResults(BytesReference bytes) throws IOException {
+        final NamedWriteableRegistry registry = context.getQueryShardContext().getWriteableRegistry();
+        try (StreamInput in = new NamedWriteableAwareStreamInput(bytes.streamInput(), registry)) {
+            return InternalAggregations.readFrom(in);
+        }
+    }
+
+    private static BytesReference writeResults(InternalAggregations results) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            results.writeTo(out);
+            return out.copyBytes();
+        }
+    }
+
+    /**
+     * Collector of a single slice that creates a new aggregator tree for every segment it has no cached results for.
+     */
+    private class LeafCachingCollector implements Collector {
+        private final List<InternalAggregations> results = new ArrayList<>();
+        private Weight weight;
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+            final BytesReference cached = cache.get(ctx, requestKey);
+            if (cached != null) {
+                results.add(readResults(cached));
+                throw new CollectionTerminatedException();
+            }
+            final Collector collector = createCollector(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators);
+            if (weight != null) {
+                collector.setWeight(weight);
+            }
+            final LeafCollector leafCollector;
+            try {
+                leafCollector = collector.getLeafCollector(ctx);
+            } catch (CollectionTerminatedException e) {
+                // the aggregators may have answered from the segment metadata without visiting any document
+                onSegmentCollected(ctx, collector);
+                throw e;
+            }
+            // the searcher only calls finish() once the segment was collected without timing out or being cancelled, the results of a
+            // segment whose collection was aborted are dropped
+            return new FilterLeafCollector(leafCollector) {
+                private boolean collected;
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    try {
+                        super.collect(doc);
+                    } catch (CollectionTerminatedException e) {
+                        // the aggregators do not need the remaining documents of the segment, which a multi collector does not tell us
+                        // by calling finish()
+                        finish();
+                        throw e;
+                    }
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    if (collected == false) {
+                        collected = true;
+                        super.finish();
+                        onSegmentCollected(ctx, collector);
+                    }
+                }
+            };
+        }
+
+        private void onSegmentCollected(LeafReaderContext ctx, Collector collector) throws IOException {
+            context.bucketCollectorProcessor().processPostCollection(collector);
+            final InternalAggregations segmentResults = toInternalAggregations(collector);
+            results.add(segmentResults);
+            // be conservative and do not cache results that were built while the search was timing out or being cancelled
+            if (context.isSearchTimedOut() == false && context.isCancelled() == false) {
+                cache.put(ctx, requestKey, writeResults(segmentResults));
+            }
+        }
+
+        @Override
+        public void setWeight(Weight weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return template.scoreMode();
+        }
+    }
+}
@@ -44,13 +44,26 @@ import static org.opensearch.search.aggregations.MultiBucketConsumerService.Mult
 public class SearchContextAggregations {
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
+    private final LeafAggregationCache leafAggregationCache;
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
      */
     public SearchContextAggregations(AggregatorFactories factories, MultiBucketConsumer multiBucketConsumer) {
+        this(factories, multiBucketConsumer, null);
+    }
+
+    /**
+     * Creates a new aggregation context with the parsed aggregator factories and the cache of per segment results
+     */
+    public SearchContextAggregations(
+        AggregatorFactories factories,
+        MultiBucketConsumer multiBucketConsumer,
+        LeafAggregationCache leafAggregationCache
+    ) {
         this.factories = factories;
         this.multiBucketConsumer = multiBucketConsumer;
+        this.leafAggregationCache = leafAggregationCache;
     }
 
     public AggregatorFactories factories() {
@@ -65,6 +78,13 @@ public class SearchContextAggregations {
         return multiBucketConsumer;
     }
 
+    /**
+     * Returns the cache of per segment aggregation results, or <code>null</code> if per segment results cannot be cached
+     */
+    public LeafAggregationCache leafAggregationCache() {
+        return leafAggregationCache;
+    }
+
     void resetBucketMultiConsumer() {
         multiBucketConsumer.reset();
     }
@@ -127,6 +127,11 @@ public abstract class InternalSingleBucketAggregation extends InternalAggregatio
         return newAggregation(getName(), docCount, aggs);
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        return newAggregation(getName(), scaleSampledCount(docCount, probability), aggregations.finalizeSampling(probability));
+    }
+
     /**
      * Amulti-bucket agg needs to first reduce the buckets and *their* pipelines
      * before allowing sibling pipelines to materialize.
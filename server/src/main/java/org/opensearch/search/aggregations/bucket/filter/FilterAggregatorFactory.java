@@ -105,4 +105,9 @@ public class FilterAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsLeafResultCaching() {
+        return true;
+    }
 }
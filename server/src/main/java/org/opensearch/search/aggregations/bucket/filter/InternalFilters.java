@@ -193,6 +193,22 @@ public class InternalFilters extends InternalMultiBucketAggregation<InternalFilt
         return new InternalBucket(prototype.key, prototype.docCount, aggregations, prototype.keyed);
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        List<InternalBucket> scaled = new ArrayList<>(buckets.size());
+        for (InternalBucket bucket : buckets) {
+            scaled.add(
+                new InternalBucket(
+                    bucket.key,
+                    scaleSampledCount(bucket.docCount, probability),
+                    bucket.aggregations.finalizeSampling(probability),
+                    bucket.keyed
+                )
+            );
+        }
+        return create(scaled);
+    }
+
     @Override
     public List<InternalBucket> getBuckets() {
         return buckets;
@@ -154,6 +154,11 @@ public final class DateHistogramAggregatorFactory extends ValuesSourceAggregator
         return true;
     }
 
+    @Override
+    protected boolean supportsLeafResultCaching() {
+        return true;
+    }
+
     public Rounding.DateTimeUnit getRounding() {
         return this.rounding.unit();
     }
@@ -517,6 +517,23 @@ public final class InternalDateHistogram extends InternalMultiBucketAggregation<
         return emptyBucketInfo.rounding.nextRoundingValue(key.longValue() - offset) + offset;
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        List<Bucket> scaled = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            scaled.add(
+                new Bucket(
+                    bucket.key,
+                    scaleSampledCount(bucket.docCount, probability),
+                    bucket.keyed,
+                    bucket.format,
+                    bucket.aggregations.finalizeSampling(probability)
+                )
+            );
+        }
+        return create(scaled);
+    }
+
     @Override
     public InternalAggregation createAggregation(List<MultiBucketsAggregation.Bucket> buckets) {
         // convert buckets to the right type
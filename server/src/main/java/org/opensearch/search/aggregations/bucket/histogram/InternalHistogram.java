@@ -501,6 +501,23 @@ public final class InternalHistogram extends InternalMultiBucketAggregation<Inte
         return new Bucket(key.doubleValue(), docCount, keyed, format, aggregations);
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        List<Bucket> scaled = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            scaled.add(
+                new Bucket(
+                    bucket.key,
+                    scaleSampledCount(bucket.docCount, probability),
+                    bucket.keyed,
+                    bucket.format,
+                    bucket.aggregations.finalizeSampling(probability)
+                )
+            );
+        }
+        return create(scaled);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -128,4 +128,9 @@ public class AbstractRangeAggregatorFactory<R extends Range> extends ValuesSourc
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsLeafResultCaching() {
+        return true;
+    }
 }
@@ -376,6 +376,25 @@ public class InternalRange<B extends InternalRange.Bucket, R extends InternalRan
         return getFactory().createBucket(prototype.key, prototype.from, prototype.to, docCount, aggs, keyed, format);
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        List<B> scaled = new ArrayList<>(ranges.size());
+        for (Bucket range : ranges) {
+            scaled.add(
+                getFactory().createBucket(
+                    range.key,
+                    range.from,
+                    range.to,
+                    scaleSampledCount(range.docCount, probability),
+                    range.aggregations.finalizeSampling(probability),
+                    keyed,
+                    format
+                )
+            );
+        }
+        return getFactory().create(name, scaled, format, keyed, getMetadata());
+    }
+
     @Override
     public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
         if (keyed) {
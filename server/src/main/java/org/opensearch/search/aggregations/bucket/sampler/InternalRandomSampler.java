@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.InternalSingleBucketAggregation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of the random_sampler aggregation. The shards return the counts of the sample, the final reduction scales the doc count and
+ * the results of the sub-aggregations up to estimates for all matching docs, see {@link InternalAggregation#finalizeSampling(double)}.
+ *
+ * @opensearch.internal
+ */
+public class InternalRandomSampler extends InternalSingleBucketAggregation implements Sampler {
+    public static final String NAME = "random_sampler";
+
+    /**
+     * The z-score of the two-sided 95% confidence interval of the doc count.
+     */
+    private static final double Z_95 = 1.96;
+
+    private final long sampledDocCount;
+    private final double probability;
+    private final int seed;
+
+    InternalRandomSampler(
+        String name,
+        long docCount,
+        double probability,
+        int seed,
+        InternalAggregations subAggregations,
+        Map<String, Object> metadata
+    ) {
+        this(name, docCount, docCount, probability, seed, subAggregations, metadata);
+    }
+
+    private InternalRandomSampler(
+        String name,
+        long docCount,
+        long sampledDocCount,
+        double probability,
+        int seed,
+        InternalAggregations subAggregations,
+        Map<String, Object> metadata
+    ) {
+        super(name, docCount, subAggregations, metadata);
+        this.sampledDocCount = sampledDocCount;
+        this.probability = probability;
+        this.seed = seed;
+    }
+
+    /**
+     * Read from a stream.
+     */
+    public InternalRandomSampler(StreamInput in) throws IOException {
+        super(in);
+        sampledDocCount = in.readVLong();
+        probability = in.readDouble();
+        seed = in.readInt();
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        super.doWriteTo(out);
+        out.writeVLong(sampledDocCount);
+        out.writeDouble(probability);
+        out.writeInt(seed);
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    public String getType() {
+        return NAME;
+    }
+
+    /**
+     * The number of docs in the sample, the doc count is the estimated number of matching docs once the results are reduced.
+     */
+    public long getSampledDocCount() {
+        return sampledDocCount;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    public int getSeed() {
+        return seed;
+    }
+
+    @Override
+    protected InternalSingleBucketAggregation newAggregation(String name, long docCount, InternalAggregations subAggregations) {
+        return new InternalRandomSampler(name, docCount, sampledDocCount, probability, seed, subAggregations, metadata);
+    }
+
+    @Override
+    public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+        long sampled = 0L;
+        List<InternalAggregations> subAggregationsList = new ArrayList<>(aggregations.size());
+        for (InternalAggregation aggregation : aggregations) {
+            assert aggregation.getName().equals(getName());
+            sampled += ((InternalRandomSampler) aggregation).sampledDocCount;
+            subAggregationsList.add(((InternalRandomSampler) aggregation).getAggregations());
+        }
+        InternalAggregations subAggregations = InternalAggregations.reduce(subAggregationsList, reduceContext);
+        if (reduceContext.isFinalReduce() == false) {
+            return new InternalRandomSampler(name, sampled, sampled, probability, seed, subAggregations, metadata);
+        }
+        return new InternalRandomSampler(
+            name,
+            scaleSampledCount(sampled, probability),
+            sampled,
+            probability,
+            seed,
+            subAggregations.finalizeSampling(probability),
+            metadata
+        );
+    }
+
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        // random samplers are top level aggregations, so they are never part of another sample
+        return this;
+    }
+
+    @Override
+    public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
+        builder.field(CommonFields.DOC_COUNT.getPreferredName(), getDocCount());
+        builder.field(RandomSamplerAggregationBuilder.PROBABILITY_FIELD.getPreferredName(), probability);
+        builder.field(RandomSamplerAggregationBuilder.SEED_FIELD.getPreferredName(), seed);
+        // the sample size is binomially distributed, its normal approximation bounds the number of matching docs
+        double estimate = sampledDocCount / probability;
+        double error = Z_95 * Math.sqrt(sampledDocCount * (1 - probability)) / probability;
+        builder.startObject("doc_count_interval");
+        builder.field("lower", Math.max(sampledDocCount, Math.round(estimate - error)));
+        builder.field("upper", Math.round(estimate + error));
+        builder.endObject();
+        getAggregations().toXContentInternal(builder, params);
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        if (super.equals(obj) == false) return false;
+        InternalRandomSampler other = (InternalRandomSampler) obj;
+        return sampledDocCount == other.sampledDocCount && probability == other.probability && seed == other.seed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), sampledDocCount, probability, seed);
+    }
+}
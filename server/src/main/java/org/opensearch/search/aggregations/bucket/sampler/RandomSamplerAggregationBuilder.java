@@ -0,0 +1,312 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.ParsingException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.aggregations.AbstractAggregationBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories.Builder;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.PipelineAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.nested.NestedAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.nested.ReverseNestedAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MedianAbsoluteDeviationAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentileRanksAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.StatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.WeightedAvgAggregationBuilder;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Aggregation Builder for random_sampler agg
+ *
+ * @opensearch.internal
+ */
+public class RandomSamplerAggregationBuilder extends AbstractAggregationBuilder<RandomSamplerAggregationBuilder> {
+    public static final String NAME = "random_sampler";
+
+    public static final ParseField PROBABILITY_FIELD = new ParseField("probability");
+    public static final ParseField SEED_FIELD = new ParseField("seed");
+
+    /**
+     * The seed of requests that don't set one, which is fixed so that repeated requests sample the same documents and can be cached.
+     */
+    static final int DEFAULT_SEED = 0;
+
+    /**
+     * The sub-aggregations whose results can be estimated from the sample: those that count docs or sum values are scaled up by the
+     * inverse of the probability, see {@link org.opensearch.search.aggregations.InternalAggregation#finalizeSampling(double)}, and
+     * the others are estimated by their value over the sample. Aggregations like cardinality don't grow linearly with the number of
+     * docs and can't be estimated either way.
+     */
+    private static final Set<String> SUPPORTED_SUB_AGGREGATIONS = Set.of(
+        FilterAggregationBuilder.NAME,
+        FiltersAggregationBuilder.NAME,
+        MissingAggregationBuilder.NAME,
+        NestedAggregationBuilder.NAME,
+        ReverseNestedAggregationBuilder.NAME,
+        TermsAggregationBuilder.NAME,
+        HistogramAggregationBuilder.NAME,
+        DateHistogramAggregationBuilder.NAME,
+        RangeAggregationBuilder.NAME,
+        DateRangeAggregationBuilder.NAME,
+        SumAggregationBuilder.NAME,
+        ValueCountAggregationBuilder.NAME,
+        StatsAggregationBuilder.NAME,
+        ExtendedStatsAggregationBuilder.NAME,
+        AvgAggregationBuilder.NAME,
+        WeightedAvgAggregationBuilder.NAME,
+        MinAggregationBuilder.NAME,
+        MaxAggregationBuilder.NAME,
+        PercentilesAggregationBuilder.NAME,
+        PercentileRanksAggregationBuilder.NAME,
+        MedianAbsoluteDeviationAggregationBuilder.NAME
+    );
+
+    private double probability;
+    private Integer seed;
+
+    public RandomSamplerAggregationBuilder(String name) {
+        super(name);
+    }
+
+    protected RandomSamplerAggregationBuilder(
+        RandomSamplerAggregationBuilder clone,
+        Builder factoriesBuilder,
+        Map<String, Object> metadata
+    ) {
+        super(clone, factoriesBuilder, metadata);
+        this.probability = clone.probability;
+        this.seed = clone.seed;
+    }
+
+    @Override
+    protected AggregationBuilder shallowCopy(Builder factoriesBuilder, Map<String, Object> metadata) {
+        return new RandomSamplerAggregationBuilder(this, factoriesBuilder, metadata);
+    }
+
+    /**
+     * Read from a stream.
+     */
+    public RandomSamplerAggregationBuilder(StreamInput in) throws IOException {
+        super(in);
+        probability = in.readDouble();
+        seed = in.readOptionalInt();
+    }
+
+    @Override
+    protected void doWriteTo(StreamOutput out) throws IOException {
+        out.writeDouble(probability);
+        out.writeOptionalInt(seed);
+    }
+
+    /**
+     * Set the probability with which each matching document is sampled, which must be greater than 0 and at most 1.
+     */
+    public RandomSamplerAggregationBuilder probability(double probability) {
+        if (probability <= 0 || probability > 1) {
+            throw new IllegalArgumentException(
+                "[" + PROBABILITY_FIELD.getPreferredName() + "] must be greater than 0 and at most 1 in [" + name + "]"
+            );
+        }
+        this.probability = probability;
+        return this;
+    }
+
+    /**
+     * Get the probability with which each matching document is sampled.
+     */
+    public double probability() {
+        return probability;
+    }
+
+    /**
+     * Set the seed of the sampling, the same seed samples the same documents as long as the shards don't change.
+     */
+    public RandomSamplerAggregationBuilder seed(int seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Get the seed of the sampling, or {@code null} if it wasn't set and {@link #DEFAULT_SEED} is used.
+     */
+    public Integer seed() {
+        return seed;
+    }
+
+    @Override
+    public BucketCardinality bucketCardinality() {
+        return BucketCardinality.ONE;
+    }
+
+    @Override
+    protected RandomSamplerAggregatorFactory doBuild(
+        QueryShardContext queryShardContext,
+        AggregatorFactory parent,
+        Builder subFactoriesBuilder
+    ) throws IOException {
+        if (parent != null) {
+            throw new IllegalArgumentException("[" + NAME + "] aggregation [" + name + "] must be a top level aggregation");
+        }
+        if (probability == 0) {
+            throw new IllegalArgumentException("[" + PROBABILITY_FIELD.getPreferredName() + "] is required in [" + name + "]");
+        }
+        validateSubAggregations(subFactoriesBuilder.getAggregatorFactories(), subFactoriesBuilder.getPipelineAggregatorFactories());
+        return new RandomSamplerAggregatorFactory(
+            name,
+            probability,
+            seed == null ? DEFAULT_SEED : seed,
+            queryShardContext.getShardId(),
+            queryShardContext,
+            parent,
+            subFactoriesBuilder,
+            metadata
+        );
+    }
+
+    /**
+     * Rejects the sub-aggregations whose results would be computed from counts that weren't scaled up yet: pipeline aggregations and
+     * minimum doc counts act on the counts of the sample on the shards, before the results are scaled once they are reduced.
+     */
+    private void validateSubAggregations(
+        Collection<AggregationBuilder> subAggregations,
+        Collection<PipelineAggregationBuilder> pipelineAggregations
+    ) {
+        if (pipelineAggregations.isEmpty() == false) {
+            PipelineAggregationBuilder pipelineAggregation = pipelineAggregations.iterator().next();
+            throw new IllegalArgumentException(
+                "[" + NAME + "] aggregation [" + name + "] doesn't support pipeline aggregation [" + pipelineAggregation.getName() + "]"
+            );
+        }
+        for (AggregationBuilder subAggregation : subAggregations) {
+            if (SUPPORTED_SUB_AGGREGATIONS.contains(subAggregation.getType()) == false) {
+                throw new IllegalArgumentException(
+                    "[" + NAME + "] aggregation [" + name + "] doesn't support [" + subAggregation.getType() + "] sub-aggregation ["
+                        + subAggregation.getName() + "]"
+                );
+            }
+            if (minDocCount(subAggregation) > 1) {
+                throw new IllegalArgumentException(
+                    "[" + NAME + "] aggregation [" + name + "] doesn't support [min_doc_count] greater than 1 in sub-aggregation ["
+                        + subAggregation.getName() + "]"
+                );
+            }
+            validateSubAggregations(subAggregation.getSubAggregations(), subAggregation.getPipelineAggregations());
+        }
+    }
+
+    private static long minDocCount(AggregationBuilder aggregation) {
+        if (aggregation instanceof TermsAggregationBuilder) {
+            TermsAggregationBuilder terms = (TermsAggregationBuilder) aggregation;
+            return Math.max(terms.minDocCount(), terms.shardMinDocCount());
+        } else if (aggregation instanceof HistogramAggregationBuilder) {
+            return ((HistogramAggregationBuilder) aggregation).minDocCount();
+        } else if (aggregation instanceof DateHistogramAggregationBuilder) {
+            return ((DateHistogramAggregationBuilder) aggregation).minDocCount();
+        }
+        return 0;
+    }
+
+    @Override
+    protected XContentBuilder internalXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(PROBABILITY_FIELD.getPreferredName(), probability);
+        if (seed != null) {
+            builder.field(SEED_FIELD.getPreferredName(), seed);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    public static RandomSamplerAggregationBuilder parse(String aggregationName, XContentParser parser) throws IOException {
+        XContentParser.Token token;
+        String currentFieldName = null;
+        Double probability = null;
+        Integer seed = null;
+
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token == XContentParser.Token.VALUE_NUMBER) {
+                if (PROBABILITY_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    probability = parser.doubleValue();
+                } else if (SEED_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    seed = parser.intValue();
+                } else {
+                    throw new ParsingException(
+                        parser.getTokenLocation(),
+                        "Unsupported property \"" + currentFieldName + "\" for aggregation \"" + aggregationName
+                    );
+                }
+            } else {
+                throw new ParsingException(
+                    parser.getTokenLocation(),
+                    "Unsupported property \"" + currentFieldName + "\" for aggregation \"" + aggregationName
+                );
+            }
+        }
+
+        if (probability == null) {
+            throw new ParsingException(
+                parser.getTokenLocation(),
+                "Missing required property \"" + PROBABILITY_FIELD.getPreferredName() + "\" for aggregation \"" + aggregationName
+            );
+        }
+        RandomSamplerAggregationBuilder factory = new RandomSamplerAggregationBuilder(aggregationName).probability(probability);
+        if (seed != null) {
+            factory.seed(seed);
+        }
+        return factory;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), probability, seed);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        if (super.equals(obj) == false) return false;
+        RandomSamplerAggregationBuilder other = (RandomSamplerAggregationBuilder) obj;
+        return probability == other.probability && Objects.equals(seed, other.seed);
+    }
+
+    @Override
+    public String getType() {
+        return NAME;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.SingleBucketAggregator;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Aggregate a random sample of the docs that match the query. The docs are collected like for any other aggregation, so the searcher
+ * keeps checking for cancellation and timeouts and applies min_score, and only those that a {@link RandomSamplingIterator} lands on
+ * are passed on to the sub-aggregations. The iterator is only advanced once the collected docs pass the doc it is on, so docs that
+ * are skipped over don't cost a random number each. The doc counts and sums of the sub-aggregations are scaled up by the inverse of
+ * the probability once the results are reduced.
+ *
+ * @opensearch.internal
+ */
+public class RandomSamplerAggregator extends BucketsAggregator implements SingleBucketAggregator {
+
+    private final double probability;
+    private final int seed;
+    private final int shardId;
+
+    RandomSamplerAggregator(
+        String name,
+        double probability,
+        int seed,
+        int shardId,
+        AggregatorFactories factories,
+        SearchContext context,
+        Aggregator parent,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, factories, context, parent, CardinalityUpperBound.ONE, metadata);
+        this.probability = probability;
+        this.seed = seed;
+        this.shardId = shardId;
+    }
+
+    @Override
+    protected LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        // the sample of a segment only depends on the seed and the position of the segment within the shard
+        SplittableRandom random = new SplittableRandom(((long) seed << 32 | (shardId & 0xFFFFFFFFL)) * 31 + ctx.ord);
+        DocIdSetIterator sample = new RandomSamplingIterator(ctx.reader().maxDoc(), probability, random);
+        return new LeafBucketCollectorBase(sub, null) {
+            @Override
+            public void collect(int doc, long bucket) throws IOException {
+                if (sample.docID() < doc) {
+                    sample.advance(doc);
+                }
+                if (sample.docID() == doc) {
+                    collectBucket(sub, doc, bucket);
+                }
+            }
+        };
+    }
+
+    @Override
+    public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
+        return buildAggregationsForSingleBucket(
+            owningBucketOrds,
+            (owningBucketOrd, subAggregationResults) -> new InternalRandomSampler(
+                name,
+                bucketDocCount(owningBucketOrd),
+                probability,
+                seed,
+                subAggregationResults,
+                metadata()
+            )
+        );
+    }
+
+    @Override
+    public InternalAggregation buildEmptyAggregation() {
+        return new InternalRandomSampler(name, 0, probability, seed, buildEmptySubAggregations(), metadata());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Aggregation Factory for random_sampler agg
+ *
+ * @opensearch.internal
+ */
+public class RandomSamplerAggregatorFactory extends AggregatorFactory {
+
+    private final double probability;
+    private final int seed;
+    private final int shardId;
+
+    RandomSamplerAggregatorFactory(
+        String name,
+        double probability,
+        int seed,
+        int shardId,
+        QueryShardContext queryShardContext,
+        AggregatorFactory parent,
+        AggregatorFactories.Builder subFactories,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, queryShardContext, parent, subFactories, metadata);
+        this.probability = probability;
+        this.seed = seed;
+        this.shardId = shardId;
+    }
+
+    @Override
+    public Aggregator createInternal(
+        SearchContext searchContext,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        return new RandomSamplerAggregator(name, probability, seed, shardId, factories, searchContext, parent, metadata);
+    }
+
+    @Override
+    protected boolean supportsConcurrentSegmentSearch() {
+        return false;
+    }
+}
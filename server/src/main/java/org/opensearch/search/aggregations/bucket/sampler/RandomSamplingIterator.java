@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.apache.lucene.search.DocIdSetIterator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Iterates over a random sample of the documents of a segment, each document is in the sample with the given probability. Instead of
+ * drawing a random number per document, the iterator draws the number of documents to skip before the next sampled one from the
+ * geometric distribution, so the cost of sampling is proportional to the size of the sample rather than the size of the segment.
+ * Advancing to a target samples the documents from the target on, which keeps the sample uniform when the iterator is intersected with
+ * the iterator of a query.
+ *
+ * @opensearch.internal
+ */
+final class RandomSamplingIterator extends DocIdSetIterator {
+
+    private final int maxDoc;
+    private final double probability;
+    private final double logOneMinusProbability;
+    private final SplittableRandom random;
+    private int doc = -1;
+
+    RandomSamplingIterator(int maxDoc, double probability, SplittableRandom random) {
+        assert probability > 0 && probability <= 1 : probability;
+        this.maxDoc = maxDoc;
+        this.probability = probability;
+        this.logOneMinusProbability = Math.log1p(-probability);
+        this.random = random;
+    }
+
+    @Override
+    public int docID() {
+        return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+        return advance(doc + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+        final long next = (long) target + skip();
+        return doc = next < maxDoc ? (int) next : NO_MORE_DOCS;
+    }
+
+    /**
+     * The number of documents that aren't sampled before the next sampled one.
+     */
+    private long skip() {
+        if (probability >= 1) {
+            return 0;
+        }
+        // 1 - nextDouble() is in (0, 1], so the logarithm is finite
+        return (long) Math.floor(Math.log(1 - random.nextDouble()) / logOneMinusProbability);
+    }
+
+    @Override
+    public long cost() {
+        return Math.max(1, (long) (maxDoc * probability));
+    }
+}
@@ -37,8 +37,10 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -125,6 +127,28 @@ public abstract class InternalMappedTerms<A extends InternalTerms<A, B>, B exten
         return otherDocCount;
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        List<B> scaled = new ArrayList<>(buckets.size());
+        for (B bucket : buckets) {
+            scaled.add(
+                createBucket(
+                    scaleSampledCount(bucket.docCount, probability),
+                    bucket.aggregations.finalizeSampling(probability),
+                    scaleSampledCount(bucket.docCountError, probability),
+                    bucket
+                )
+            );
+        }
+        return create(
+            name,
+            scaled,
+            reduceOrder,
+            scaleSampledCount(docCountError, probability),
+            scaleSampledCount(otherDocCount, probability)
+        );
+    }
+
     @Override
     public List<B> getBuckets() {
         return buckets;
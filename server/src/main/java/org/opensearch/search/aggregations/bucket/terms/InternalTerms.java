@@ -317,7 +317,21 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
+    /**
+     * Merges the key sorted buckets of the provided aggregations with a k-way merge, reducing the buckets that share a key as soon
+     * as the key changes. Once <code>limit</code> reduced buckets with at least <code>minDocCount</code> documents have been
+     * produced, the remaining keys are only drained to sum the documents of those that would have passed <code>minDocCount</code>
+     * if <code>countSkippedDocs</code> is set, or not visited at all otherwise. Their buckets and sub-aggregations are never
+     * reduced, which keeps the memory needed by the reduce bounded by <code>limit</code> rather than by the number of distinct keys.
+     */
+    private MergedBuckets<B> reduceMergeSort(
+        List<InternalAggregation> aggregations,
+        BucketOrder thisReduceOrder,
+        ReduceContext reduceContext,
+        int limit,
+        long minDocCount,
+        boolean countSkippedDocs
+    ) {
         assert isKeyOrder(thisReduceOrder);
         final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
@@ -338,7 +352,8 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         // list of buckets coming from different shards that have the same key
         List<B> currentBuckets = new ArrayList<>();
         B lastBucket = null;
-        while (pq.size() > 0) {
+        int accepted = 0;
+        while (pq.size() > 0 && accepted < limit) {
             final IteratorAndCurrent<B> top = pq.top();
             assert lastBucket == null || cmp.compare(top.current(), lastBucket) >= 0;
 
@@ -346,7 +361,13 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 // the key changes, reduce what we already buffered and reset the buffer for current buckets
                 final B reduced = reduceBucket(currentBuckets, reduceContext);
                 reducedBuckets.add(reduced);
+                if (reduced.getDocCount() >= minDocCount) {
+                    accepted++;
+                }
                 currentBuckets.clear();
+                if (accepted >= limit) {
+                    break;
+                }
             }
 
             lastBucket = top.current();
@@ -361,11 +382,48 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         }
 
-        if (currentBuckets.isEmpty() == false) {
+        if (currentBuckets.isEmpty() == false && accepted < limit) {
             final B reduced = reduceBucket(currentBuckets, reduceContext);
             reducedBuckets.add(reduced);
+            currentBuckets.clear();
         }
-        return reducedBuckets;
+
+        long skippedDocCount = 0;
+        if (countSkippedDocs && pq.size() > 0) {
+            lastBucket = null;
+            long docCount = 0;
+            while (pq.size() > 0) {
+                final IteratorAndCurrent<B> top = pq.top();
+                if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
+                    if (docCount >= minDocCount) {
+                        skippedDocCount += docCount;
+                    }
+                    docCount = 0;
+                    // nothing is allocated for skipped keys, but long drains still check the parent circuit breaker
+                    reduceContext.consumeBucketsAndMaybeBreak(0);
+                }
+                lastBucket = top.current();
+                docCount += lastBucket.getDocCount();
+                if (top.hasNext()) {
+                    top.next();
+                    pq.updateTop();
+                } else {
+                    pq.pop();
+                }
+            }
+            if (lastBucket != null && docCount >= minDocCount) {
+                skippedDocCount += docCount;
+            }
+        }
+        return new MergedBuckets<>(reducedBuckets, skippedDocCount);
+    }
+
+    /**
+     * The buckets reduced by {@link #reduceMergeSort} and the documents of the keys it skipped
+     *
+     * @opensearch.internal
+     */
+    private record MergedBuckets<B>(List<B> buckets, long skippedDocCount) {
     }
 
     private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
@@ -454,7 +512,33 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         if (isKeyOrder(thisReduceOrder)) {
             // extract the primary sort in case this is a compound order.
             thisReduceOrder = InternalOrder.key(isKeyAsc(thisReduceOrder) ? true : false);
-            reducedBuckets = reduceMergeSort(aggregations, thisReduceOrder, reduceContext);
+            int limit = Integer.MAX_VALUE;
+            long minDocCount = 0;
+            boolean countSkippedDocs = false;
+            if (isKeyOrder(order) && isKeyAsc(order) == isKeyAsc(thisReduceOrder)) {
+                /*
+                  The buckets are merged in their final order, so only the first ones need to be reduced: the final reduce keeps
+                  the first required size buckets that pass the min doc count and adds the documents of the following ones to the
+                  other doc count, and the partial reduce prunes the buckets after the required size if none can be filtered out.
+                 */
+                if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
+                    limit = localBucketCountThresholds.getRequiredSize();
+                    minDocCount = localBucketCountThresholds.getMinDocCount();
+                    countSkippedDocs = true;
+                } else if (localBucketCountThresholds.getMinDocCount() == 0) {
+                    limit = localBucketCountThresholds.getRequiredSize();
+                }
+            }
+            final MergedBuckets<B> merged = reduceMergeSort(
+                aggregations,
+                thisReduceOrder,
+                reduceContext,
+                limit,
+                minDocCount,
+                countSkippedDocs
+            );
+            reducedBuckets = merged.buckets();
+            otherDocCount += merged.skippedDocCount();
         } else {
             reducedBuckets = reduceLegacy(aggregations, reduceContext);
         }
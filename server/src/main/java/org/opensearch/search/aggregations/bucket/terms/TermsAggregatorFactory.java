@@ -679,4 +679,11 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsLeafResultCaching() {
+        // the results of a segment are cut to shard_size, which only keeps the reduced buckets and their counts exact when ordered by
+        // key, and to shard_min_doc_count, which only holds for the counts of the whole shard
+        return InternalOrder.isKeyOrder(order) && bucketCountThresholds.getShardMinDocCount() <= 1;
+    }
 }
@@ -133,6 +133,11 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory {
         return true;
     }
 
+    @Override
+    protected boolean supportsLeafResultCaching() {
+        return true;
+    }
+
     private int precision() {
         return precisionThreshold == null
             ? HyperLogLogPlusPlus.DEFAULT_PRECISION
@@ -309,6 +309,22 @@ public class InternalExtendedStats extends InternalStats implements ExtendedStat
         );
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        // scaling the sum of squares along with the count and the sum keeps the variance of the sample
+        return new InternalExtendedStats(
+            name,
+            scaleSampledCount(count, probability),
+            sum / probability,
+            min,
+            max,
+            sumOfSqrs / probability,
+            sigma,
+            format,
+            getMetadata()
+        );
+    }
+
     /**
      * Fields for internal extended stats
      *
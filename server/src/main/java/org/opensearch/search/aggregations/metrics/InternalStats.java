@@ -200,6 +200,12 @@ public class InternalStats extends InternalNumericMetricsAggregation.MultiValue
         return new InternalStats(name, count, kahanSummation.value(), min, max, format, getMetadata());
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        // the minimum and the maximum of the sample are the estimates for all documents, like the average
+        return new InternalStats(name, scaleSampledCount(count, probability), sum / probability, min, max, format, getMetadata());
+    }
+
     /**
      * Fields for stats agg
      *
@@ -98,6 +98,11 @@ public class InternalSum extends InternalNumericMetricsAggregation.SingleValue i
         return new InternalSum(name, kahanSummation.value(), format, getMetadata());
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        return new InternalSum(name, sum / probability, format, getMetadata());
+    }
+
     @Override
     public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
         builder.field(CommonFields.VALUE.getPreferredName(), sum);
@@ -110,6 +110,11 @@ public class InternalValueCount extends InternalNumericMetricsAggregation.Single
         return new InternalValueCount(name, valueCount, getMetadata());
     }
 
+    @Override
+    public InternalAggregation finalizeSampling(double probability) {
+        return new InternalValueCount(name, scaleSampledCount(value, probability), getMetadata());
+    }
+
     @Override
     public XContentBuilder doXContentBody(XContentBuilder builder, Params params) throws IOException {
         builder.field(CommonFields.VALUE.getPreferredName(), value);
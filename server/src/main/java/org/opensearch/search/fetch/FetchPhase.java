@@ -86,6 +86,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -172,11 +173,157 @@ public class FetchPhase {
             }
         }
 
+        boolean hasSequentialDocs = hasSequentialDocs(docs);
+        List<int[]> leafGroups = breakdown == null && canFetchConcurrently(context, processors) ? leafGroups(context, docs) : null;
+        if (leafGroups != null && leafGroups.size() > 1) {
+            fetchConcurrently(
+                context,
+                fetchContext,
+                docs,
+                hits,
+                processors,
+                fieldsVisitor,
+                storedToRequestedFields,
+                hasSequentialDocs,
+                leafGroups
+            );
+        } else {
+            fetchHits(
+                context,
+                fetchContext,
+                docs,
+                0,
+                docs.length,
+                hits,
+                processors,
+                processorProfiles,
+                fieldsVisitor,
+                storedToRequestedFields,
+                hasSequentialDocs,
+                breakdown
+            );
+        }
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+        }
+
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+        if (fetchProfiler != null) {
+            fetchProfiler.endFetchPhase(profileDescription);
+        }
+    }
+
+    /**
+     * Whether the hits of different segments may be fetched concurrently, each segment with its own processors, lookups and
+     * stored fields visitor. Scroll contexts cache their stored fields readers and inner hits share the state of the top hits, so
+     * both are fetched sequentially, as are the hits of sub phases that don't support concurrent fetching.
+     */
+    static boolean canFetchConcurrently(SearchContext context, List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors) {
+        if (context.shouldUseConcurrentSearch() == false
+            || context.scrollContext() != null
+            || context instanceof InnerHitsContext.InnerHitSubContext) {
+            return false;
+        }
+        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+            if (p.v2().supportsConcurrentSegmentSearch() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the given docs, sorted by doc id, into the ranges of docs that belong to the same segment.
+     */
+    static List<int[]> leafGroups(SearchContext context, DocIdToIndex[] docs) {
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        List<int[]> groups = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < leaf.docBase + leaf.reader().maxDoc()) {
+                to++;
+            }
+            groups.add(new int[] { from, to });
+            from = to;
+        }
+        return groups;
+    }
+
+    /**
+     * Fetches the hits of each segment on the executor of the searcher, like concurrent segment search does for the query phase.
+     * The first segment reuses the processors that were already built, the others get their own as processors are bound to a
+     * segment at a time. Every hit is written to its own slot of the hits array, so they come out in the order of the request.
+     */
+    private void fetchConcurrently(
+        SearchContext context,
+        FetchContext fetchContext,
+        DocIdToIndex[] docs,
+        SearchHit[] hits,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        boolean hasSequentialDocs,
+        List<int[]> leafGroups
+    ) {
+        List<Callable<Void>> tasks = new ArrayList<>(leafGroups.size());
+        for (int i = 0; i < leafGroups.size(); i++) {
+            int[] group = leafGroups.get(i);
+            FetchContext groupFetchContext = i == 0 ? fetchContext : new FetchContext(context);
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> groupProcessors = i == 0
+                ? processors
+                : getProcessors(context.shardTarget(), groupFetchContext);
+            Map<String, Set<String>> groupStoredToRequestedFields = i == 0 ? storedToRequestedFields : new HashMap<>();
+            FieldsVisitor groupFieldsVisitor = i == 0 ? fieldsVisitor : createStoredFieldsVisitor(context, groupStoredToRequestedFields);
+            tasks.add(() -> {
+                fetchHits(
+                    context,
+                    groupFetchContext,
+                    docs,
+                    group[0],
+                    group[1],
+                    hits,
+                    groupProcessors,
+                    emptyMap(),
+                    groupFieldsVisitor,
+                    groupStoredToRequestedFields,
+                    hasSequentialDocs,
+                    null
+                );
+                return null;
+            });
+        }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e);
+        }
+    }
+
+    /**
+     * Fetches the hits of the docs in the given range, which are sorted by doc id.
+     */
+    private void fetchHits(
+        SearchContext context,
+        FetchContext fetchContext,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        SearchHit[] hits,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        boolean hasSequentialDocs,
+        FetchProfileBreakdown breakdown
+    ) {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+        for (int index = from; index < to; index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
             }
@@ -247,16 +394,6 @@ public class FetchPhase {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-        }
-
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
-
-        if (fetchProfiler != null) {
-            fetchProfiler.endFetchPhase(profileDescription);
-        }
     }
 
     List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> getProcessors(SearchShardTarget target, FetchContext context) {
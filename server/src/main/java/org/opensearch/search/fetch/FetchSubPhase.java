@@ -108,4 +108,13 @@ public interface FetchSubPhase {
      * implementation should return {@code null}
      */
     FetchSubPhaseProcessor getProcessor(FetchContext fetchContext) throws IOException;
+
+    /**
+     * Whether the fetch phase may fetch the hits of different segments concurrently when concurrent segment search is enabled.
+     * Each segment then gets its own processor, built from its own {@link FetchContext}, so this is safe as long as the
+     * processors don't share mutable state beyond what the {@link FetchContext} holds.
+     */
+    default boolean supportsConcurrentSegmentSearch() {
+        return false;
+    }
 }
@@ -57,6 +57,11 @@ public final class FetchDocValuesPhase implements FetchSubPhase {
     private static final String USE_DEFAULT_FORMAT = "use_field_mapping";
     private static final DeprecationLogger DEPRECATION_LOGGER = DeprecationLogger.getLogger(FetchDocValuesPhase.class);
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext context) {
         FetchDocValuesContext dvContext = context.docValuesContext();
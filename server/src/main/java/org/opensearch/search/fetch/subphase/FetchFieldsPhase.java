@@ -55,6 +55,11 @@ import java.util.Set;
  */
 public final class FetchFieldsPhase implements FetchSubPhase {
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext fetchContext) {
         FetchFieldsContext fetchFieldsContext = fetchContext.fetchFieldsContext();
@@ -51,6 +51,11 @@ import java.io.IOException;
  */
 public class FetchScorePhase implements FetchSubPhase {
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext context) throws IOException {
         if (context.fetchScores() == false) {
@@ -53,6 +53,11 @@ import java.util.Map;
  */
 public final class FetchSourcePhase implements FetchSubPhase {
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext fetchContext) {
         FetchSourceContext fetchSourceContext = fetchContext.fetchSourceContext();
@@ -48,6 +48,11 @@ import java.io.IOException;
  */
 public final class FetchVersionPhase implements FetchSubPhase {
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext context) {
         if (context.version() == false) {
@@ -57,6 +57,11 @@ import java.util.Map;
  */
 public final class MatchedQueriesPhase implements FetchSubPhase {
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext context) throws IOException {
         Map<String, Query> namedQueries = new HashMap<>();
@@ -65,6 +65,11 @@ public class HighlightPhase implements FetchSubPhase {
         this.highlighters = highlighters;
     }
 
+    @Override
+    public boolean supportsConcurrentSegmentSearch() {
+        return true;
+    }
+
     @Override
     public FetchSubPhaseProcessor getProcessor(FetchContext context) {
         if (context.highlight() == null) {
@@ -55,7 +55,7 @@ import java.util.function.Function;
 @PublicApi(since = "1.0.0")
 public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
 
-    private final Map<String, ScriptDocValues<?>> localCacheFieldData = new HashMap<>(4);
+    private final Map<String, FieldValues> localCacheFieldData = new HashMap<>(4);
 
     private final MapperService mapperService;
     private final Function<MappedFieldType, IndexFieldData<?>> fieldDataLookup;
@@ -82,31 +82,37 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
     public ScriptDocValues<?> get(Object key) {
         // assume its a string...
         String fieldName = key.toString();
-        ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
-        if (scriptValues == null) {
+        FieldValues fieldValues = localCacheFieldData.get(fieldName);
+        if (fieldValues == null) {
             final MappedFieldType fieldType = mapperService.fieldType(fieldName);
             if (fieldType == null) {
                 throw new IllegalArgumentException("No field found for [" + fieldName + "] in mapping");
             }
             // load fielddata on behalf of the script: otherwise it would need additional permissions
             // to deal with pagedbytes/ramusagestimator/etc
-            scriptValues = AccessController.doPrivileged(() -> fieldDataLookup.apply(fieldType).load(reader).getScriptValues());
-            localCacheFieldData.put(fieldName, scriptValues);
+            fieldValues = new FieldValues(
+                AccessController.doPrivileged(() -> fieldDataLookup.apply(fieldType).load(reader).getScriptValues())
+            );
+            localCacheFieldData.put(fieldName, fieldValues);
         }
-        try {
-            scriptValues.setNextDocId(docId);
-        } catch (IOException e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
+        if (fieldValues.docId != docId) {
+            // scripts tend to access the same field several times per document, only advance and read the values once
+            try {
+                fieldValues.values.setNextDocId(docId);
+            } catch (IOException e) {
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+            fieldValues.docId = docId;
         }
-        return scriptValues;
+        return fieldValues.values;
     }
 
     @Override
     public boolean containsKey(Object key) {
         // assume its a string...
         String fieldName = key.toString();
-        ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
-        if (scriptValues == null) {
+        FieldValues fieldValues = localCacheFieldData.get(fieldName);
+        if (fieldValues == null) {
             MappedFieldType fieldType = mapperService.fieldType(fieldName);
             if (fieldType == null) {
                 return false;
@@ -164,4 +170,17 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
     public Set<Map.Entry<String, ScriptDocValues<?>>> entrySet() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The script values of a field and the document they are positioned on.
+     */
+    private static final class FieldValues {
+        private final ScriptDocValues<?> values;
+        // not positioned on any document yet, which is different from the initial document of the lookup
+        private int docId = Integer.MIN_VALUE;
+
+        FieldValues(ScriptDocValues<?> values) {
+            this.values = values;
+        }
+    }
 }
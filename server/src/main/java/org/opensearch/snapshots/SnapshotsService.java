@@ -160,6 +160,12 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
 
     public static final String UPDATE_SNAPSHOT_STATUS_ACTION_NAME = "internal:cluster/snapshot/update_snapshot_status";
 
+    /**
+     * Minimum version of the nodes and snapshots in a repository, see {@link #minCompatibleVersion}, for shard snapshots to contain files
+     * that are split into content-defined chunks. Older versions can't parse the chunks of a file.
+     */
+    public static final Version CHUNKED_FILES_VERSION = Version.V_3_5_0;
+
     private final ClusterService clusterService;
 
     private final IndexNameExpressionResolver indexNameExpressionResolver;
@@ -101,6 +101,16 @@ final class CompressibleBytesOutputStream extends StreamOutput {
         stream.write(b, offset, length);
     }
 
+    @Override
+    public void writeSharedBytesReference(BytesReference bytes) throws IOException {
+        if (shouldCompress) {
+            // the bytes have to go through the compressor
+            super.writeSharedBytesReference(bytes);
+        } else {
+            bytesStreamOutput.writeSharedBytesReference(bytes);
+        }
+    }
+
     @Override
     public void flush() throws IOException {
         stream.flush();
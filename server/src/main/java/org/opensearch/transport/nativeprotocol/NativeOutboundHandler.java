@@ -35,7 +35,6 @@ package org.opensearch.transport.nativeprotocol;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.CheckedSupplier;
-import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.io.IOUtils;
@@ -205,7 +204,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
 
         private final NativeOutboundMessage message;
         private final BigArrays bigArrays;
-        private volatile ReleasableBytesStreamOutput bytesStreamOutput;
+        private volatile ZeroCopyBytesStreamOutput bytesStreamOutput;
 
         private MessageSerializer(NativeOutboundMessage message, BigArrays bigArrays) {
             this.message = message;
@@ -214,7 +213,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
 
         @Override
         public BytesReference get() throws IOException {
-            bytesStreamOutput = new ReleasableBytesStreamOutput(bigArrays);
+            bytesStreamOutput = new ZeroCopyBytesStreamOutput(bigArrays);
             return message.serialize(bytesStreamOutput);
         }
 
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport.nativeprotocol;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ReleasableBytesStreamOutput} that does not copy large bytes written through
+ * {@link #writeSharedBytesReference(BytesReference)} into its pages. It keeps a reference to them instead and splices them between
+ * its own pages when its {@link #bytes()} are built, so that the transport writes them to the channel as separate components of a
+ * composite buffer. Shared {@link ReleasableBytesReference}s are retained until this stream is closed, which happens once the message
+ * was sent.
+ * <p>
+ * Positions are logical positions in the spliced output, the stream can only seek to positions before the first shared bytes, which is
+ * all the message serialization needs to write the header.
+ *
+ * @opensearch.internal
+ */
+final class ZeroCopyBytesStreamOutput extends ReleasableBytesStreamOutput {
+
+    /**
+     * Shared bytes below this size are copied, an additional buffer component costs more than copying them.
+     */
+    static final int MIN_SHARED_BYTES = 4 * 1024;
+
+    private final List<Splice> splices = new ArrayList<>();
+    private long sharedLength;
+
+    ZeroCopyBytesStreamOutput(BigArrays bigArrays) {
+        super(bigArrays);
+    }
+
+    @Override
+    public void writeSharedBytesReference(BytesReference bytes) throws IOException {
+        if (bytes == null || bytes.length() < MIN_SHARED_BYTES) {
+            writeBytesReference(bytes);
+            return;
+        }
+        writeVInt(bytes.length());
+        if (bytes instanceof ReleasableBytesReference releasable) {
+            releasable.retain();
+        }
+        splices.add(new Splice(count, bytes));
+        sharedLength += bytes.length();
+    }
+
+    @Override
+    public long position() {
+        return count + sharedLength;
+    }
+
+    @Override
+    public int size() {
+        return Math.toIntExact(position());
+    }
+
+    @Override
+    public void seek(long position) {
+        if (splices.isEmpty() == false && position > splices.get(0).offset) {
+            throw new IllegalStateException("cannot seek to [" + position + "] past shared bytes at [" + splices.get(0).offset + "]");
+        }
+        super.seek(position);
+    }
+
+    @Override
+    public void skip(int length) {
+        super.seek(((long) count) + length);
+    }
+
+    @Override
+    public BytesReference bytes() {
+        if (splices.isEmpty()) {
+            return super.bytes();
+        }
+        final BytesReference own = super.bytes();
+        final List<BytesReference> parts = new ArrayList<>(splices.size() * 2 + 1);
+        int from = 0;
+        for (Splice splice : splices) {
+            if (splice.offset > from) {
+                parts.add(own.slice(from, splice.offset - from));
+            }
+            parts.add(splice.bytes);
+            from = splice.offset;
+        }
+        if (count > from) {
+            parts.add(own.slice(from, count - from));
+        }
+        return CompositeBytesReference.of(parts.toArray(new BytesReference[0]));
+    }
+
+    @Override
+    public BytesReference copyBytes() {
+        return new BytesArray(BytesReference.toBytes(bytes()));
+    }
+
+    @Override
+    public void reset() {
+        releaseSplices();
+        super.reset();
+    }
+
+    @Override
+    public void close() {
+        try {
+            releaseSplices();
+        } finally {
+            super.close();
+        }
+    }
+
+    private void releaseSplices() {
+        final List<ReleasableBytesReference> toRelease = new ArrayList<>();
+        for (Splice splice : splices) {
+            if (splice.bytes instanceof ReleasableBytesReference releasable) {
+                toRelease.add(releasable);
+            }
+        }
+        splices.clear();
+        sharedLength = 0;
+        Releasables.close(toRelease);
+    }
+
+    /**
+     * Shared bytes and the offset within the pages of this stream they are spliced at
+     */
+    private record Splice(int offset, BytesReference bytes) {
+    }
+}
@@ -41,6 +41,7 @@ import org.opensearch.common.UUIDs;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.set.Sets;
@@ -63,6 +64,7 @@ import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.InternalAggregationTestCase;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.Transport;
@@ -75,8 +77,11 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
@@ -914,6 +919,282 @@ public class AbstractSearchAsyncActionTests extends OpenSearchTestCase {
         };
     }
 
+    public void testHedgedRequestLosesToFirstRequest() {
+        final HedgingHarness harness = new HedgingHarness();
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(true),
+            shard(0, "n1", "n2")
+        );
+        action.run();
+        assertEquals(Set.of("0/n1"), harness.requests.keySet());
+        harness.fireTimers();
+        assertEquals(Set.of("0/n1", "0/n2"), harness.requests.keySet());
+
+        harness.respond(0, "n1", null);
+        assertTrue(harness.phaseDone.get());
+        final ShardSearchContextId loserContext = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        harness.respond(0, "n2", loserContext);
+        assertEquals(Set.of(loserContext), releasedContexts);
+        assertNull(harness.failure.get());
+    }
+
+    public void testHedgedRequestWins() {
+        final HedgingHarness harness = new HedgingHarness();
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(true),
+            shard(0, "n1", "n2", "n3")
+        );
+        action.run();
+        harness.fireTimers();
+        assertEquals(Set.of("0/n1", "0/n2"), harness.requests.keySet());
+
+        harness.respond(0, "n2", null);
+        assertTrue(harness.phaseDone.get());
+        final ShardSearchContextId loserContext = new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong());
+        harness.respond(0, "n1", loserContext);
+        assertEquals(Set.of(loserContext), releasedContexts);
+        // the third copy is never asked
+        assertTrue(harness.requests.isEmpty());
+        assertNull(harness.failure.get());
+    }
+
+    public void testHedgedAndFirstRequestFail() {
+        final HedgingHarness harness = new HedgingHarness();
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(true),
+            shard(0, "n1", "n2", "n3")
+        );
+        action.run();
+        harness.fireTimers();
+        final boolean firstFailsFirst = randomBoolean();
+        harness.fail(0, firstFailsFirst ? "n1" : "n2");
+        assertEquals(Set.of(firstFailsFirst ? "0/n2" : "0/n1"), harness.requests.keySet());
+        harness.fail(0, firstFailsFirst ? "n2" : "n1");
+        // fails over to the last copy like without hedging
+        assertEquals(Set.of("0/n3"), harness.requests.keySet());
+        assertFalse(harness.phaseDone.get());
+        harness.respond(0, "n3", null);
+        assertTrue(harness.phaseDone.get());
+        assertNull(harness.failure.get());
+    }
+
+    public void testAllCopiesFailWithHedging() {
+        final HedgingHarness harness = new HedgingHarness();
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(true),
+            shard(0, "n1", "n2")
+        );
+        action.run();
+        harness.fireTimers();
+        harness.fail(0, randomFrom("n1", "n2"));
+        assertNull(harness.failure.get());
+        final String lastNode = harness.requests.keySet().iterator().next().substring(2);
+        harness.fail(0, lastNode);
+        assertThat(harness.failure.get(), instanceOf(SearchPhaseExecutionException.class));
+        final ShardSearchFailure[] shardFailures = ((SearchPhaseExecutionException) harness.failure.get()).shardFailures();
+        assertEquals(1, shardFailures.length);
+        // reported for the copy that failed last, which is not necessarily the first copy
+        assertEquals(lastNode, shardFailures[0].shard().getNodeId());
+        assertFalse(harness.phaseDone.get());
+    }
+
+    public void testFailureIsClearedByWinningHedgedRequest() {
+        final HedgingHarness harness = new HedgingHarness();
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(false),
+            shard(0, "n1", "n2")
+        );
+        action.run();
+        harness.fireTimers();
+        harness.fail(0, "n1");
+        assertEquals(1, action.buildShardFailures().length);
+        harness.respond(0, "n2", null);
+        assertEquals(0, action.buildShardFailures().length);
+        assertTrue(harness.phaseDone.get());
+        assertNull(harness.failure.get());
+    }
+
+    public void testFailureAfterHedgedRequestWonIsDropped() {
+        final HedgingHarness harness = new HedgingHarness();
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(false),
+            shard(0, "n1", "n2")
+        );
+        action.run();
+        harness.fireTimers();
+        harness.respond(0, "n2", null);
+        assertTrue(harness.phaseDone.get());
+        harness.fail(0, "n1");
+        // the shard succeeded, so it must not report a failure too
+        assertEquals(0, action.buildShardFailures().length);
+        assertNull(harness.failure.get());
+    }
+
+    public void testHedgeDueBeforeFirstRequestWasSent() {
+        final HedgingHarness harness = new HedgingHarness();
+        harness.fireTimersOnSend.set(true);
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            new SearchRequest().allowPartialSearchResults(true),
+            shard(0, "n1", "n2")
+        );
+        action.run();
+        // the delay passed while the first request was sent, the request is hedged once it was sent
+        assertEquals(Set.of("0/n1", "0/n2"), harness.requests.keySet());
+        harness.respond(0, "n2", null);
+        assertTrue(harness.phaseDone.get());
+        harness.respond(0, "n1", null);
+        assertNull(harness.failure.get());
+    }
+
+    public void testHedgedRequestWaitsForPermit() {
+        final HedgingHarness harness = new HedgingHarness();
+        final SearchRequest request = new SearchRequest().allowPartialSearchResults(true);
+        request.setMaxConcurrentShardRequests(1);
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = createHedgingAction(
+            harness,
+            request,
+            shard(0, "n1", "n2"),
+            shard(1, "n2", "n1")
+        );
+        action.run();
+        assertEquals(Set.of("0/n1", "1/n2"), harness.requests.keySet());
+        harness.fireTimers();
+        // both nodes have a request in flight already
+        assertEquals(Set.of("0/n1", "1/n2"), harness.requests.keySet());
+
+        harness.respond(1, "n2", null);
+        assertEquals(Set.of("0/n1", "0/n2"), harness.requests.keySet());
+        harness.respond(0, "n1", null);
+        // the hedged request of shard 1 got its permit after shard 1 completed, it is not sent anymore
+        assertEquals(Set.of("0/n2"), harness.requests.keySet());
+        assertTrue(harness.phaseDone.get());
+        harness.respond(0, "n2", null);
+        assertNull(harness.failure.get());
+    }
+
+    private static SearchShardIterator shard(int id, String... nodeIds) {
+        return new SearchShardIterator(null, new ShardId("index", "index-uuid", id), List.of(nodeIds), null, null, null);
+    }
+
+    /**
+     * Keeps the requests sent by an action with hedging enabled and its hedging timers, so that tests decide when they complete.
+     */
+    private static final class HedgingHarness {
+        // keyed by shard id and node id
+        final Map<String, SearchActionListener<SearchPhaseResult>> requests = new ConcurrentHashMap<>();
+        final List<Runnable> timers = new CopyOnWriteArrayList<>();
+        final AtomicBoolean fireTimersOnSend = new AtomicBoolean();
+        final AtomicBoolean phaseDone = new AtomicBoolean();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        void fireTimers() {
+            final List<Runnable> due = new ArrayList<>(timers);
+            timers.clear();
+            due.forEach(Runnable::run);
+        }
+
+        void respond(int shardId, String nodeId, ShardSearchContextId contextId) {
+            requests.remove(shardId + "/" + nodeId).onResponse(new PhaseResult(contextId));
+        }
+
+        void fail(int shardId, String nodeId) {
+            requests.remove(shardId + "/" + nodeId).onFailure(new IllegalStateException("simulated failure on [" + nodeId + "]"));
+        }
+    }
+
+    private AbstractSearchAsyncAction<SearchPhaseResult> createHedgingAction(
+        HedgingHarness harness,
+        SearchRequest request,
+        SearchShardIterator... shards
+    ) {
+        final AbstractSearchAsyncAction<SearchPhaseResult> action = new AbstractSearchAsyncAction<SearchPhaseResult>(
+            "test",
+            logger,
+            null,
+            (cluster, node) -> null,
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            OpenSearchExecutors.newDirectExecutorService(),
+            request,
+            ActionListener.wrap(response -> {}, harness.failure::set),
+            new GroupShardsIterator<>(Arrays.asList(shards)),
+            new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(), System::nanoTime),
+            ClusterState.EMPTY_STATE,
+            null,
+            new ArraySearchPhaseResults<>(shards.length),
+            request.getMaxConcurrentShardRequests(),
+            SearchResponse.Clusters.EMPTY,
+            new SearchRequestContext(
+                new SearchRequestOperationsListener.CompositeListener(List.of(), LogManager.getLogger()),
+                request,
+                () -> null
+            ),
+            NoopTracer.INSTANCE
+        ) {
+            @Override
+            protected SearchPhase getNextPhase(final SearchPhaseResults<SearchPhaseResult> results, SearchPhaseContext context) {
+                return new SearchPhase("next") {
+                    @Override
+                    public void run() {
+                        assertTrue(harness.phaseDone.compareAndSet(false, true));
+                    }
+                };
+            }
+
+            @Override
+            protected void executePhaseOnShard(
+                final SearchShardIterator shardIt,
+                final SearchShardTarget shard,
+                final SearchActionListener<SearchPhaseResult> listener
+            ) {
+                assertNull(harness.requests.put(shard.getShardId().id() + "/" + shard.getNodeId(), listener));
+                if (harness.fireTimersOnSend.get()) {
+                    harness.fireTimers();
+                }
+            }
+
+            @Override
+            public void sendReleaseSearchContext(
+                ShardSearchContextId contextId,
+                Transport.Connection connection,
+                OriginalIndices originalIndices
+            ) {
+                releasedContexts.add(contextId);
+            }
+        };
+        action.setHedgedRequests(new HedgedRequests(null, null, TimeValue.ZERO) {
+            @Override
+            TimeValue delay(String nodeId) {
+                return TimeValue.ZERO;
+            }
+
+            @Override
+            Scheduler.Cancellable schedule(Runnable command, TimeValue delay) {
+                harness.timers.add(command);
+                return new Scheduler.Cancellable() {
+                    @Override
+                    public boolean cancel() {
+                        return harness.timers.remove(command);
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return harness.timers.contains(command) == false;
+                    }
+                };
+            }
+        });
+        return action;
+    }
+
     private FetchSearchPhase createFetchSearchPhase() {
         SearchPhaseController controller = new SearchPhaseController(
             writableRegistry(),
@@ -57,6 +57,7 @@ import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
 import org.opensearch.cluster.routing.allocation.allocator.ShardsAllocator;
 import org.opensearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.ConcurrentRebalanceAllocationDecider;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.index.shard.ShardId;
@@ -714,6 +715,28 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
         );
     }
 
+    public void testShardBalanceWithManyIndices() {
+        /* Tests balance with many indices, most of which are skipped once they are balanced */
+        final int manyIndices = 256 + between(0, 64);
+        final float balanceThreshold = 1.0f;
+
+        Settings.Builder settings = Settings.builder();
+        settings.put(
+            ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+            ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString()
+        );
+        settings.put(BalancedShardsAllocator.THRESHOLD_SETTING.getKey(), balanceThreshold);
+        settings.put(ConcurrentRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_CLUSTER_CONCURRENT_REBALANCE_SETTING.getKey(), -1);
+
+        AllocationService strategy = createAllocationService(settings.build(), new TestGatewayAllocator());
+
+        ClusterState clusterState = initCluster(strategy, manyIndices, 3, 1, 0);
+        assertShardBalance(clusterState.getRoutingNodes(), 3, manyIndices, 0, 1, balanceThreshold);
+
+        clusterState = addNodes(clusterState, strategy, 2);
+        assertShardBalance(clusterState.getRoutingNodes(), 5, manyIndices, 0, 1, balanceThreshold);
+    }
+
     private ClusterState initCluster(AllocationService strategy) {
         return initCluster(strategy, numberOfIndices, numberOfNodes, numberOfShards, numberOfReplicas);
     }
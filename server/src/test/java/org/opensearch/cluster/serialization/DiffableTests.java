@@ -41,12 +41,18 @@ import org.opensearch.common.util.set.Sets;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
@@ -283,6 +289,36 @@ public class DiffableTests extends OpenSearchTestCase {
         };
     }
 
+    public void testApplyInParallel() {
+        Map<Integer, TestDiffable> before = new HashMap<>();
+        Map<Integer, TestDiffable> after = new HashMap<>();
+        int size = randomIntBetween(DiffableUtils.MIN_DIFFS_PER_TASK * 2, DiffableUtils.MIN_DIFFS_PER_TASK * 20);
+        for (int i = 0; i < size; i++) {
+            before.put(i, new TestDiffable(String.valueOf(i)));
+            if (randomInt(9) > 0) {
+                after.put(i, new TestDiffable(String.valueOf(i + 1)));
+            }
+        }
+        after.put(size, new TestDiffable(String.valueOf(size)));
+        MapDiff<Integer, TestDiffable, Map<Integer, TestDiffable>> diff = DiffableUtils.diff(
+            before,
+            after,
+            DiffableUtils.getIntKeySerializer()
+        );
+
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            assertThat(diff.apply(before, threadPool.generic()), equalTo(after));
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+        // the calling thread applies all diffs itself if the executor rejects the tasks or doesn't run them in time
+        assertThat(diff.apply(before, task -> { throw new RejectedExecutionException(); }), equalTo(after));
+        List<Runnable> delayed = new ArrayList<>();
+        assertThat(diff.apply(before, delayed::add), equalTo(after));
+        delayed.forEach(Runnable::run);
+    }
+
     private static <K> DiffableUtils.NonDiffableValueSerializer<K, String> nonDiffableValueSerializer() {
         return new DiffableUtils.NonDiffableValueSerializer<K, String>() {
             @Override
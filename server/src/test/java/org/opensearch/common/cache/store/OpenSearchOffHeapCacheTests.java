@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.common.cache.store.settings.OpenSearchOffHeapCacheSettings.SLAB_SIZE_KEY;
+
+public class OpenSearchOffHeapCacheTests extends OpenSearchTestCase {
+    private final static int valueSize = 100;
+    private final static List<String> dimensionNames = List.of("dim1");
+
+    public void testPutAndGet() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        OpenSearchOffHeapCache<String, BytesReference> cache = getCache(1024 * 1024, 4096, 1, listener);
+        int numKeys = between(10, 30);
+        List<ICacheKey<String>> keys = new ArrayList<>();
+        List<BytesReference> values = new ArrayList<>();
+        for (int i = 0; i < numKeys; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            BytesReference value = randomValue();
+            cache.put(key, value);
+            keys.add(key);
+            values.add(value);
+        }
+        assertEquals(numKeys, cache.count());
+        for (int i = 0; i < numKeys; i++) {
+            assertEquals(values.get(i), cache.get(keys.get(i)));
+        }
+        assertNull(cache.get(getICacheKey(UUID.randomUUID().toString())));
+        assertEquals(numKeys, cache.stats().getTotalHits());
+        assertEquals(1, cache.stats().getTotalMisses());
+        assertEquals(numKeys, cache.stats().getTotalItems());
+        assertEquals(numKeys * valueSize, cache.stats().getTotalSizeInBytes());
+        assertTrue(listener.notifications.isEmpty());
+    }
+
+    public void testEvictsOldestSlab() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        int valuesPerSlab = 10;
+        int numSlabs = 4;
+        OpenSearchOffHeapCache<String, BytesReference> cache = getCache(
+            (long) numSlabs * valuesPerSlab * valueSize,
+            valuesPerSlab * valueSize,
+            1,
+            listener
+        );
+        List<ICacheKey<String>> keys = new ArrayList<>();
+        for (int i = 0; i < numSlabs * valuesPerSlab; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            cache.put(key, randomValue());
+            keys.add(key);
+        }
+        assertEquals(numSlabs * valuesPerSlab, cache.count());
+        assertTrue(listener.notifications.isEmpty());
+
+        // one more value needs a new slab, which reclaims the first one
+        ICacheKey<String> extra = getICacheKey(UUID.randomUUID().toString());
+        cache.put(extra, randomValue());
+        assertEquals((numSlabs - 1) * valuesPerSlab + 1, cache.count());
+        assertEquals(valuesPerSlab, listener.notifications.size());
+        for (int i = 0; i < valuesPerSlab; i++) {
+            assertNull(cache.get(keys.get(i)));
+            assertEquals(RemovalReason.EVICTED, listener.notifications.get(i).getRemovalReason());
+            assertEquals(keys.get(i), listener.notifications.get(i).getKey());
+        }
+        for (int i = valuesPerSlab; i < keys.size(); i++) {
+            assertNotNull(cache.get(keys.get(i)));
+        }
+        assertNotNull(cache.get(extra));
+        assertEquals(valuesPerSlab, cache.stats().getTotalEvictions());
+        assertEquals(cache.count(), cache.stats().getTotalItems());
+    }
+
+    public void testReplacedAndInvalidatedEntriesAreNotEvictedAgain() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        OpenSearchOffHeapCache<String, BytesReference> cache = getCache(3 * valueSize, valueSize, 1, listener);
+        ICacheKey<String> key1 = getICacheKey("key1");
+        ICacheKey<String> key2 = getICacheKey("key2");
+        cache.put(key1, randomValue());
+        BytesReference newValue = randomValue();
+        cache.put(key1, newValue);
+        assertEquals(1, listener.notifications.size());
+        assertEquals(RemovalReason.REPLACED, listener.notifications.get(0).getRemovalReason());
+        assertEquals(newValue, cache.get(key1));
+
+        cache.put(key2, randomValue());
+        cache.invalidate(key2);
+        assertEquals(2, listener.notifications.size());
+        assertEquals(RemovalReason.INVALIDATED, listener.notifications.get(1).getRemovalReason());
+        assertEquals(1, cache.count());
+
+        // slab holding the stale copy of key1 is reclaimed without notifying for it a second time
+        cache.put(getICacheKey("key3"), randomValue());
+        assertEquals(2, listener.notifications.size());
+        assertEquals(newValue, cache.get(key1));
+    }
+
+    public void testValuesLargerThanSlabAreNotCached() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        OpenSearchOffHeapCache<String, BytesReference> cache = getCache(1024 * 1024, valueSize - 1, 1, listener);
+        ICacheKey<String> key = getICacheKey("key");
+        cache.put(key, randomValue());
+        assertNull(cache.get(key));
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.stats().getTotalItems());
+    }
+
+    public void testComputeIfAbsent() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        OpenSearchOffHeapCache<String, BytesReference> cache = getCache(1024 * 1024, 4096, randomIntBetween(1, 8), listener);
+        ICacheKey<String> key = getICacheKey("key");
+        LoadAwareCacheLoader<ICacheKey<String>, BytesReference> loader = getLoadAwareCacheLoader();
+        BytesReference value = cache.computeIfAbsent(key, loader);
+        assertTrue(loader.isLoaded());
+        LoadAwareCacheLoader<ICacheKey<String>, BytesReference> secondLoader = getLoadAwareCacheLoader();
+        assertEquals(value, cache.computeIfAbsent(key, secondLoader));
+        assertFalse(secondLoader.isLoaded());
+        assertEquals(1, cache.stats().getTotalHits());
+        assertEquals(1, cache.stats().getTotalMisses());
+    }
+
+    public void testInvalidateAllAndKeys() throws Exception {
+        MockRemovalListener listener = new MockRemovalListener();
+        OpenSearchOffHeapCache<String, BytesReference> cache = getCache(1024 * 1024, 4096, randomIntBetween(1, 8), listener);
+        Set<ICacheKey<String>> keys = new HashSet<>();
+        int numKeys = between(10, 50);
+        for (int i = 0; i < numKeys; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            cache.put(key, randomValue());
+            keys.add(key);
+        }
+        Set<ICacheKey<String>> cachedKeys = new HashSet<>();
+        for (ICacheKey<String> key : cache.keys()) {
+            cachedKeys.add(key);
+        }
+        assertEquals(keys, cachedKeys);
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(numKeys, listener.notifications.size());
+        assertEquals(0, cache.stats().getTotalItems());
+        cache.close();
+    }
+
+    public void testFactoryUsesSettingsAndConfig() {
+        long maxSizeFromSetting = between(10000, 20000);
+        long maxSizeFromConfig = between(30000, 40000);
+        Settings settings = Settings.builder()
+            .put(
+                OpenSearchOffHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE)
+                    .get(MAXIMUM_SIZE_IN_BYTES_KEY)
+                    .getKey(),
+                maxSizeFromSetting + "b"
+            )
+            .put(
+                OpenSearchOffHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE).get(SLAB_SIZE_KEY).getKey(),
+                "8kb"
+            )
+            .build();
+        OpenSearchOffHeapCache<String, BytesReference> cache = createFromFactory(settings, 0);
+        assertEquals(maxSizeFromSetting, cache.getMaximumWeight());
+        assertEquals(8192, cache.getSlabSize());
+
+        cache = createFromFactory(settings, maxSizeFromConfig);
+        assertEquals(maxSizeFromConfig, cache.getMaximumWeight());
+    }
+
+    @SuppressWarnings("unchecked")
+    private OpenSearchOffHeapCache<String, BytesReference> createFromFactory(Settings settings, long maxSizeInConfig) {
+        CacheConfig<String, BytesReference> config = new CacheConfig.Builder<String, BytesReference>().setKeyType(String.class)
+            .setValueType(BytesReference.class)
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setWeigher((k, v) -> v.length())
+            .setRemovalListener(new MockRemovalListener())
+            .setSettings(settings)
+            .setDimensionNames(dimensionNames)
+            .setMaxSizeInBytes(maxSizeInConfig)
+            .build();
+        ICache.Factory factory = new OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory();
+        return (OpenSearchOffHeapCache<String, BytesReference>) factory.create(config, CacheType.INDICES_REQUEST_CACHE, null);
+    }
+
+    private OpenSearchOffHeapCache<String, BytesReference> getCache(
+        long maxSizeInBytes,
+        int slabSize,
+        int numberOfSegments,
+        MockRemovalListener listener
+    ) {
+        OpenSearchOffHeapCache.Builder<String, BytesReference> builder = new OpenSearchOffHeapCache.Builder<String, BytesReference>()
+            .setDimensionNames(dimensionNames)
+            .setValueSerializer(new BytesReferenceSerializer())
+            .setSlabSize(slabSize);
+        builder.setMaximumWeightInBytes(maxSizeInBytes)
+            .setNumberOfSegments(numberOfSegments)
+            .setWeigher((k, v) -> v.length())
+            .setRemovalListener(listener);
+        return (OpenSearchOffHeapCache<String, BytesReference>) builder.build();
+    }
+
+    private BytesReference randomValue() {
+        return new BytesArray(randomByteArrayOfLength(valueSize));
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+
+    private LoadAwareCacheLoader<ICacheKey<String>, BytesReference> getLoadAwareCacheLoader() {
+        return new LoadAwareCacheLoader<>() {
+            boolean isLoaded = false;
+
+            @Override
+            public BytesReference load(ICacheKey<String> key) {
+                isLoaded = true;
+                return randomValue();
+            }
+
+            @Override
+            public boolean isLoaded() {
+                return isLoaded;
+            }
+        };
+    }
+
+    private static class MockRemovalListener implements RemovalListener<ICacheKey<String>, BytesReference> {
+        final List<RemovalNotification<ICacheKey<String>, BytesReference>> notifications = new ArrayList<>();
+
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<String>, BytesReference> notification) {
+            notifications.add(notification);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.warmer.ShardIndexWarmerService;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GlobalOrdinalsWarmerTests extends OpenSearchTestCase {
+
+    private final ShardId shardId = new ShardId(new Index("test", "_na_"), 0);
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Tuple<String, DirectoryReader>> loaded = new ArrayList<>();
+    private final AtomicLong fieldDataUsed = new AtomicLong();
+    private final AtomicLong nowInMillis = new AtomicLong();
+    private final List<MappedFieldType> mappedFields = new ArrayList<>();
+    private IndexSettings indexSettings;
+    private IndexFieldDataService fieldDataService;
+    private IndexShard indexShard;
+    private GlobalOrdinalsWarmer warmer;
+    private Directory directory;
+    private IndexWriter writer;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        indexSettings = IndexSettingsModule.newIndexSettings(
+            shardId.getIndex(),
+            Settings.builder().put(GlobalOrdinalsWarmer.INDEX_BACKGROUND_GLOBAL_ORDINALS_WARMING_SETTING.getKey(), true).build(),
+            Settings.builder().put(GlobalOrdinalsWarmer.GLOBAL_ORDINALS_WARMING_BUDGET_SETTING.getKey(), "1kb").build()
+        );
+        final ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(executor).execute(any());
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(ThreadPool.Names.GLOBAL_ORDINALS_WARMER)).thenReturn(executor);
+        when(threadPool.relativeTimeInMillis()).thenAnswer(invocation -> nowInMillis.get());
+        final CircuitBreaker breaker = mock(CircuitBreaker.class);
+        when(breaker.getUsed()).thenAnswer(invocation -> fieldDataUsed.get());
+        final CircuitBreakerService circuitBreakerService = mock(CircuitBreakerService.class);
+        when(circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA)).thenReturn(breaker);
+        fieldDataService = mock(IndexFieldDataService.class);
+        when(fieldDataService.index()).thenReturn(shardId.getIndex());
+
+        final MapperService mapperService = mock(MapperService.class);
+        when(mapperService.fieldTypes()).thenReturn(mappedFields);
+        when(mapperService.fieldType(anyString())).thenAnswer(
+            invocation -> mappedFields.stream().filter(f -> f.name().equals(invocation.getArgument(0))).findFirst().orElse(null)
+        );
+        indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(indexShard.state()).thenReturn(IndexShardState.STARTED);
+        when(indexShard.mapperService()).thenReturn(mapperService);
+        when(indexShard.warmerService()).thenReturn(new ShardIndexWarmerService(shardId, indexSettings));
+
+        warmer = new GlobalOrdinalsWarmer(indexSettings, threadPool, fieldDataService, circuitBreakerService);
+        directory = newDirectory();
+        writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        writer.close();
+        directory.close();
+        super.tearDown();
+    }
+
+    private static List<String> names(List<MappedFieldType> fieldTypes) {
+        return fieldTypes.stream().map(MappedFieldType::name).collect(Collectors.toList());
+    }
+
+    private void mapField(String name, boolean eager) {
+        final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType(name);
+        fieldType.setEagerGlobalOrdinals(eager);
+        final IndexOrdinalsFieldData fieldData = mock(IndexOrdinalsFieldData.class);
+        doAnswer(invocation -> {
+            loaded.add(Tuple.tuple(name, invocation.getArgument(0)));
+            return null;
+        }).when(fieldData).loadGlobal(any());
+        doReturn(fieldData).when(fieldDataService).getForField(eq(fieldType), anyString(), any());
+        mappedFields.add(fieldType);
+    }
+
+    /**
+     * Opens a reader with a new segment in addition to the segments of the previous readers.
+     */
+    private OpenSearchDirectoryReader openReader() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            final Document document = new Document();
+            document.add(new StringField("field", "value", Field.Store.NO));
+            writer.addDocument(document);
+            writer.flush();
+        }
+        return OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+    }
+
+    private void runTasks() {
+        final List<Runnable> due = new ArrayList<>(tasks);
+        tasks.clear();
+        due.forEach(Runnable::run);
+    }
+
+    public void testEagerFieldsFirstThenByAccessCount() {
+        MappedFieldType eager = new KeywordFieldMapper.KeywordFieldType("eager");
+        eager.setEagerGlobalOrdinals(true);
+        MappedFieldType rare = new KeywordFieldMapper.KeywordFieldType("rare");
+        MappedFieldType frequent = new KeywordFieldMapper.KeywordFieldType("frequent");
+        MappedFieldType unused = new KeywordFieldMapper.KeywordFieldType("unused");
+
+        List<MappedFieldType> fields = GlobalOrdinalsWarmer.fieldsToWarm(
+            List.of(rare, unused, frequent, eager),
+            Map.of("rare", 1L, "frequent", 10L)
+        );
+        assertEquals(List.of("eager", "frequent", "rare"), names(fields));
+    }
+
+    public void testSkipsFieldsWithoutGlobalOrdinals() {
+        // no doc values, so the field cannot be aggregated on
+        MappedFieldType noDocValues = new KeywordFieldMapper.KeywordFieldType("field", true, false, Collections.emptyMap());
+        assertEquals(List.of(), GlobalOrdinalsWarmer.fieldsToWarm(List.of(noDocValues), Map.of("field", 5L)));
+    }
+
+    public void testWarmsInTheBackground() throws IOException {
+        mapField("rare", false);
+        mapField("eager", true);
+        mapField("frequent", false);
+        mapField("unused", false);
+        warmer.onFieldDataAccess("rare");
+        warmer.onFieldDataAccess("frequent");
+        warmer.onFieldDataAccess("frequent");
+
+        try (OpenSearchDirectoryReader reader = openReader()) {
+            assertSame(IndexWarmer.TerminationHandle.NO_WAIT, warmer.warmReader(indexShard, reader));
+            assertEquals(List.of(), loaded);
+            // the reader is kept open until the build stopped
+            assertEquals(2, reader.getRefCount());
+
+            runTasks();
+            assertEquals(List.of(Tuple.tuple("eager", reader), Tuple.tuple("frequent", reader), Tuple.tuple("rare", reader)), loaded);
+            assertEquals(1, reader.getRefCount());
+        }
+    }
+
+    public void testStopsWarmingOverBudget() throws IOException {
+        mapField("eager", true);
+        mapField("accessed", false);
+        warmer.onFieldDataAccess("accessed");
+        fieldDataUsed.set(2048);
+
+        try (OpenSearchDirectoryReader reader = openReader()) {
+            warmer.warmReader(indexShard, reader);
+            runTasks();
+            // eager global ordinals are built regardless of the budget
+            assertEquals(List.of(Tuple.tuple("eager", reader)), loaded);
+            assertEquals(1, reader.getRefCount());
+        }
+    }
+
+    public void testNewerReaderCancelsWarming() throws IOException {
+        mapField("eager", true);
+
+        try (OpenSearchDirectoryReader first = openReader(); OpenSearchDirectoryReader second = openReader()) {
+            warmer.warmReader(indexShard, first);
+            warmer.warmReader(indexShard, second);
+            assertEquals(2, tasks.size());
+            runTasks();
+            assertEquals(List.of(Tuple.tuple("eager", second)), loaded);
+            assertEquals(1, first.getRefCount());
+            assertEquals(1, second.getRefCount());
+        }
+    }
+
+    public void testClosedShardStopsWarming() throws IOException {
+        mapField("eager", true);
+
+        try (OpenSearchDirectoryReader reader = openReader()) {
+            warmer.warmReader(indexShard, reader);
+            warmer.onShardClosed(shardId);
+            runTasks();
+            assertEquals(List.of(), loaded);
+            assertEquals(1, reader.getRefCount());
+        }
+    }
+
+    public void testDropsUnusedAndUnmappedAccessCounts() throws IOException {
+        mapField("field", false);
+        warmer.onFieldDataAccess("field");
+        warmer.onFieldDataAccess("unmapped");
+
+        try (OpenSearchDirectoryReader reader = openReader()) {
+            warmer.warmReader(indexShard, reader);
+            assertEquals(Map.of("field", 1L), warmer.accessCounts());
+            nowInMillis.addAndGet(GlobalOrdinalsWarmer.ACCESS_COUNT_HALF_LIFE.millis());
+            warmer.warmReader(indexShard, reader);
+            assertEquals(Map.of(), warmer.accessCounts());
+            runTasks();
+        }
+    }
+
+    public void testRefreshesOfOtherShardsDoNotConsumeAccessCounts() throws IOException {
+        mapField("field", false);
+        for (int i = 0; i < 8; i++) {
+            warmer.onFieldDataAccess("field");
+        }
+        final IndexShard otherShard = mock(IndexShard.class);
+        when(otherShard.shardId()).thenReturn(new ShardId(shardId.getIndex(), 1));
+        when(otherShard.state()).thenReturn(IndexShardState.STARTED);
+        when(otherShard.mapperService()).thenReturn(indexShard.mapperService());
+        when(otherShard.warmerService()).thenReturn(indexShard.warmerService());
+
+        try (OpenSearchDirectoryReader reader = openReader()) {
+            final int refreshes = randomIntBetween(2, 5);
+            for (int i = 0; i < refreshes; i++) {
+                warmer.warmReader(otherShard, reader);
+            }
+            assertEquals(Map.of("field", 8L), warmer.accessCounts());
+            warmer.warmReader(indexShard, reader);
+            runTasks();
+            // the latest reader of each shard is warmed
+            assertEquals(List.of(Tuple.tuple("field", reader), Tuple.tuple("field", reader)), loaded);
+        }
+    }
+
+    public void testAccessCountsDecayWithTime() throws IOException {
+        mapField("field", false);
+        for (int i = 0; i < 8; i++) {
+            warmer.onFieldDataAccess("field");
+        }
+
+        try (OpenSearchDirectoryReader reader = openReader()) {
+            nowInMillis.addAndGet(GlobalOrdinalsWarmer.ACCESS_COUNT_HALF_LIFE.millis() - 1);
+            warmer.warmReader(indexShard, reader);
+            assertEquals(Map.of("field", 8L), warmer.accessCounts());
+            nowInMillis.addAndGet(1);
+            warmer.warmReader(indexShard, reader);
+            assertEquals(Map.of("field", 4L), warmer.accessCounts());
+            // two half-lives halve the counts twice, however often shards refresh in between
+            nowInMillis.addAndGet(2 * GlobalOrdinalsWarmer.ACCESS_COUNT_HALF_LIFE.millis());
+            warmer.warmReader(indexShard, reader);
+            warmer.warmReader(indexShard, reader);
+            assertEquals(Map.of("field", 1L), warmer.accessCounts());
+            runTasks();
+        }
+    }
+}
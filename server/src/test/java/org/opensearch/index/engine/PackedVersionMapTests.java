@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+public class PackedVersionMapTests extends OpenSearchTestCase {
+
+    public void testBehavesLikeAMap() {
+        PackedVersionMap map = new PackedVersionMap(1 << between(0, 4));
+        Map<BytesRef, VersionValue> expected = new HashMap<>();
+        List<BytesRef> uids = new ArrayList<>();
+        int numUids = between(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 30)));
+        }
+        int numOps = between(1000, 20000);
+        for (int i = 0; i < numOps; i++) {
+            BytesRef uid = randomFrom(uids);
+            if (rarely()) {
+                assertEquals(expected.remove(uid), map.remove(uid));
+            } else {
+                IndexVersionValue value = randomIndexVersionValue();
+                assertEquals(expected.put(uid, value), map.put(uid, value));
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(uid), map.get(uid));
+        }
+        for (BytesRef uid : uids) {
+            assertEquals(expected.get(uid), map.get(uid));
+        }
+        assertEquals(expected, map.toMap());
+    }
+
+    public void testRemovedUidsAreCompacted() {
+        PackedVersionMap map = new PackedVersionMap(1);
+        int rounds = between(5, 20);
+        for (int round = 0; round < rounds; round++) {
+            List<BytesRef> uids = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                BytesRef uid = new BytesRef(round + "_" + i);
+                uids.add(uid);
+                map.put(uid, randomIndexVersionValue());
+            }
+            for (BytesRef uid : uids) {
+                assertNotNull(map.remove(uid));
+            }
+            assertTrue(map.isEmpty());
+        }
+        IndexVersionValue value = randomIndexVersionValue();
+        map.put(new BytesRef("last"), value);
+        assertEquals(value, map.get(new BytesRef("last")));
+        assertEquals(1, map.toMap().size());
+    }
+
+    public void testUidWithOffset() {
+        PackedVersionMap map = new PackedVersionMap();
+        byte[] bytes = "xxuidyy".getBytes(StandardCharsets.UTF_8);
+        IndexVersionValue value = randomIndexVersionValue();
+        map.put(new BytesRef(bytes, 2, 3), value);
+        assertEquals(value, map.get(new BytesRef("uid")));
+        assertNull(map.get(new BytesRef("xxu")));
+    }
+
+    public void testConcurrentAccess() throws Exception {
+        PackedVersionMap map = new PackedVersionMap();
+        int numThreads = between(2, 6);
+        int uidsPerThread = between(100, 2000);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Thread[] threads = new Thread[numThreads];
+        List<Map<BytesRef, IndexVersionValue>> perThread = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            final int thread = t;
+            final Map<BytesRef, IndexVersionValue> values = new HashMap<>();
+            perThread.add(values);
+            threads[t] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < uidsPerThread; i++) {
+                    BytesRef uid = new BytesRef(thread + "_" + i);
+                    IndexVersionValue value = new IndexVersionValue(null, i, i, thread);
+                    map.put(uid, value);
+                    values.put(uid, value);
+                    if (i % 7 == 0) {
+                        map.remove(uid);
+                        values.remove(uid);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        int expectedSize = 0;
+        for (Map<BytesRef, IndexVersionValue> values : perThread) {
+            expectedSize += values.size();
+            for (Map.Entry<BytesRef, IndexVersionValue> entry : values.entrySet()) {
+                assertEquals(entry.getValue(), map.get(entry.getKey()));
+            }
+        }
+        assertEquals(expectedSize, map.size());
+    }
+
+    private IndexVersionValue randomIndexVersionValue() {
+        Translog.Location location = randomBoolean()
+            ? null
+            : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomIntBetween(0, Integer.MAX_VALUE));
+        return new IndexVersionValue(location, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+}
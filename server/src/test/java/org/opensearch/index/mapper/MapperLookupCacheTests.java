@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.io.IOException;
+
+public class MapperLookupCacheTests extends MapperServiceTestCase {
+
+    private DocumentMapper createLogsMapper(String dynamic) throws IOException {
+        return createDocumentMapper(topMapping(b -> {
+            b.field("dynamic", dynamic);
+            b.startObject("properties");
+            {
+                b.startObject("message").field("type", "text").endObject();
+                b.startObject("status").field("type", "integer").endObject();
+                b.startObject("host");
+                {
+                    b.startObject("properties");
+                    b.startObject("name").field("type", "keyword").endObject();
+                    b.endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+        }));
+    }
+
+    public void testLookupsAreReusedAcrossDocuments() throws IOException {
+        DocumentMapper mapper = createLogsMapper("strict");
+        MapperLookupCache cache = mapper.mapperLookupCache();
+        assertEquals(0, cache.size());
+
+        ParsedDocument first = mapper.parse(source(b -> {
+            b.field("message", "hello world");
+            b.field("status", 200);
+            b.field("host.name", "node-1");
+        }));
+        int entries = cache.size();
+        assertTrue(entries > 0);
+
+        int numDocs = between(5, 20);
+        for (int i = 0; i < numDocs; i++) {
+            final int status = 200 + i;
+            ParsedDocument doc = mapper.parse(source(b -> {
+                b.field("message", "hello world");
+                b.field("status", status);
+                b.field("host.name", "node-1");
+            }));
+            assertNotNull(doc.rootDoc().getField("status"));
+            assertEquals(first.rootDoc().getField("host.name").binaryValue(), doc.rootDoc().getField("host.name").binaryValue());
+        }
+        assertEquals(entries, cache.size());
+    }
+
+    public void testUnmappedFieldsAreResolvedAgainAfterMappingUpdate() throws IOException {
+        MapperService mapperService = createMapperService(topMapping(b -> b.field("dynamic", "true")));
+        DocumentMapper mapper = mapperService.documentMapper();
+        ParsedDocument doc = mapper.parse(source(b -> b.field("new_field", "value")));
+        assertNotNull(doc.dynamicMappingsUpdate());
+        // the same mapper keeps reporting the dynamic update, the cached lookup does not hide it
+        doc = mapper.parse(source(b -> b.field("new_field", "value")));
+        assertNotNull(doc.dynamicMappingsUpdate());
+
+        merge(mapperService, mapping(b -> b.startObject("new_field").field("type", "keyword").endObject()));
+        DocumentMapper updated = mapperService.documentMapper();
+        assertNotSame(mapper, updated);
+        assertNotSame(mapper.mapperLookupCache(), updated.mapperLookupCache());
+        doc = updated.parse(source(b -> b.field("new_field", "value")));
+        assertNull(doc.dynamicMappingsUpdate());
+        assertNotNull(doc.rootDoc().getField("new_field"));
+    }
+
+    public void testDynamicallyCreatedObjectsAreNotCached() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(topMapping(b -> b.field("dynamic", "true")));
+        MapperLookupCache cache = mapper.mapperLookupCache();
+        mapper.parse(source(b -> b.startObject("obj").field("a", 1).field("b", 2).endObject()));
+        int entries = cache.size();
+        // parsing the same document again resolves obj's children against a freshly created object mapper
+        mapper.parse(source(b -> b.startObject("obj").field("a", 1).field("b", 2).endObject()));
+        assertEquals(entries, cache.size());
+    }
+
+    public void testSizeIsBounded() throws IOException {
+        DocumentMapper mapper = createLogsMapper("false");
+        MapperLookupCache cache = mapper.mapperLookupCache();
+        int numDocs = between(3, 6);
+        int fieldsPerDoc = MapperLookupCache.MAX_ENTRIES / 4;
+        for (int d = 0; d < numDocs; d++) {
+            final int doc = d;
+            mapper.parse(source(b -> {
+                for (int f = 0; f < fieldsPerDoc; f++) {
+                    b.field("unmapped_" + doc + "_" + f, f);
+                }
+                b.field("status", doc);
+            }));
+        }
+        assertTrue(cache.size() <= MapperLookupCache.MAX_ENTRIES);
+        ParsedDocument doc = mapper.parse(source(b -> b.field("status", 42)));
+        assertNotNull(doc.rootDoc().getField("status"));
+    }
+}
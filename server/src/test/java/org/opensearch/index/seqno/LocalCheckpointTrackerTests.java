@@ -48,6 +48,7 @@ import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.opensearch.index.seqno.LocalCheckpointTracker.BIT_SET_SIZE;
 import static org.hamcrest.Matchers.equalTo;
@@ -160,7 +161,8 @@ public class LocalCheckpointTrackerTests extends OpenSearchTestCase {
     public void testSimpleOverFlow() {
         List<Long> seqNoList = new ArrayList<>();
         final boolean aligned = randomBoolean();
-        final int maxOps = BIT_SET_SIZE * randomIntBetween(1, 5) + (aligned ? 0 : randomIntBetween(1, BIT_SET_SIZE - 1));
+        // shuffled, most sequence numbers start out beyond the window of the ring
+        final int maxOps = SeqNoRing.CAPACITY * randomIntBetween(1, 3) + (aligned ? 0 : randomIntBetween(1, BIT_SET_SIZE - 1));
 
         for (long i = 0; i < maxOps; i++) {
             seqNoList.add(i);
@@ -170,10 +172,7 @@ public class LocalCheckpointTrackerTests extends OpenSearchTestCase {
             tracker.markSeqNoAsProcessed(seqNo);
         }
         assertThat(tracker.processedCheckpoint.get(), equalTo(maxOps - 1L));
-        assertThat(tracker.processedSeqNo.size(), equalTo(aligned ? 0 : 1));
-        if (aligned == false) {
-            assertThat(tracker.processedSeqNo.keySet().iterator().next(), equalTo(tracker.processedCheckpoint.get() / BIT_SET_SIZE));
-        }
+        assertThat(tracker.processedSeqNo.size(), equalTo(0));
         assertThat(tracker.hasProcessed(randomFrom(seqNoList)), equalTo(true));
         final long notCompletedSeqNo = randomValueOtherThanMany(seqNoList::contains, OpenSearchTestCase::randomNonNegativeLong);
         assertThat(tracker.hasProcessed(notCompletedSeqNo), equalTo(false));
@@ -350,4 +349,89 @@ public class LocalCheckpointTrackerTests extends OpenSearchTestCase {
         assertThat(tracker.getProcessedCheckpoint(), equalTo(0L));
         assertThat(tracker.hasProcessed(0L), equalTo(true));
     }
+
+    public void testReusesRingAcrossLaps() {
+        final long localCheckpoint = randomLongBetween(0, 10 * SeqNoRing.CAPACITY);
+        final LocalCheckpointTracker tracker = new LocalCheckpointTracker(localCheckpoint, localCheckpoint);
+        final int numOps = between(1, 3 * SeqNoRing.CAPACITY);
+        final List<Long> seqNos = LongStream.rangeClosed(localCheckpoint + 1, localCheckpoint + numOps)
+            .boxed()
+            .collect(Collectors.toList());
+        final long unfinished = randomFrom(seqNos);
+        Randomness.shuffle(seqNos);
+        for (long seqNo : seqNos) {
+            if (seqNo != unfinished) {
+                tracker.markSeqNoAsProcessed(seqNo);
+            }
+        }
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(unfinished - 1));
+        assertThat(tracker.hasProcessed(unfinished), equalTo(false));
+        if (unfinished < localCheckpoint + numOps) {
+            assertThat(tracker.hasProcessed(randomLongBetween(unfinished + 1, localCheckpoint + numOps)), equalTo(true));
+        }
+
+        tracker.markSeqNoAsProcessed(unfinished);
+        final long checkpoint = localCheckpoint + numOps;
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(checkpoint));
+        assertThat(tracker.processedSeqNo.size(), equalTo(0));
+        // bits reused from earlier laps must not read as processed
+        assertThat(tracker.processed.contains(randomLongBetween(checkpoint + 1, checkpoint + SeqNoRing.CAPACITY)), equalTo(false));
+        tracker.markSeqNoAsProcessed(checkpoint + 1);
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(checkpoint + 1));
+    }
+
+    /**
+     * Replays operations while the checkpoint moves over several laps of the ring, so that some of the replays are marked after the
+     * checkpoint passed them and their words were reused. They must neither hide nor fake the completion of later sequence numbers.
+     */
+    public void testConcurrentStaleMarkersAcrossLaps() throws InterruptedException {
+        final Thread[] threads = new Thread[randomIntBetween(2, 5)];
+        final int opsPerThread = randomIntBetween(2, 4) * SeqNoRing.CAPACITY;
+        final int maxOps = opsPerThread * threads.length;
+        final CyclicBarrier barrier = new CyclicBarrier(threads.length);
+        for (int t = 0; t < threads.length; t++) {
+            final int threadId = t;
+            // the random generator of the test is not available on other threads
+            final int[] replayDistances = IntStream.range(0, opsPerThread).map(i -> randomIntBetween(0, 2 * SeqNoRing.CAPACITY)).toArray();
+            threads[t] = new Thread(new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    throw new OpenSearchException("failure in background thread", e);
+                }
+
+                @Override
+                protected void doRun() throws Exception {
+                    barrier.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        final long seqNo = tracker.generateSeqNo();
+                        tracker.markSeqNoAsProcessed(seqNo);
+                        tracker.markSeqNoAsProcessed(Math.max(0, seqNo - replayDistances[i]));
+                    }
+                }
+            }, "testConcurrentStaleMarkersAcrossLaps_" + threadId);
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(maxOps - 1L));
+        for (int i = 0; i < 100; i++) {
+            assertThat(tracker.processed.contains(randomLongBetween(maxOps, maxOps + 2L * SeqNoRing.CAPACITY)), equalTo(false));
+        }
+        tracker.markSeqNoAsProcessed(maxOps + 1L);
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(maxOps - 1L));
+        tracker.markSeqNoAsProcessed(maxOps);
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(maxOps + 1L));
+    }
+
+    public void testFastForwardAcrossLaps() {
+        final long seqNo = randomLongBetween(0, 3 * SeqNoRing.CAPACITY);
+        tracker.markSeqNoAsProcessed(seqNo + 2);
+        tracker.fastForwardProcessedSeqNo(seqNo);
+        // the sequence number marked ahead of the fast forwarded checkpoint is picked up
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(seqNo));
+        assertThat(tracker.processed.contains(randomLongBetween(seqNo + 3, seqNo + 2 + SeqNoRing.CAPACITY)), equalTo(false));
+        tracker.markSeqNoAsProcessed(seqNo + 1);
+        assertThat(tracker.getProcessedCheckpoint(), equalTo(seqNo + 2));
+    }
 }
@@ -46,6 +46,8 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -193,4 +195,63 @@ public class FileInfoTests extends OpenSearchTestCase {
             assertEquals(numBytes, metadata.length());
         }
     }
+
+    public void testChunkedToFromXContent() throws IOException {
+        final List<BlobStoreIndexShardSnapshot.Chunk> chunks = new ArrayList<>();
+        long length = 0;
+        for (int i = randomIntBetween(1, 10); i > 0; i--) {
+            final long chunkLength = randomLongBetween(1, 1000);
+            chunks.add(new BlobStoreIndexShardSnapshot.Chunk("__chunk-" + randomAlphaOfLength(10), chunkLength));
+            length += chunkLength;
+        }
+        StoreFileMetadata meta = new StoreFileMetadata("foobar", length, randomAlphaOfLengthBetween(1, 10), Version.LATEST);
+        BlobStoreIndexShardSnapshot.FileInfo info = new BlobStoreIndexShardSnapshot.FileInfo("__foobar", meta, chunks);
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(MediaTypeRegistry.JSON);
+        BlobStoreIndexShardSnapshot.FileInfo.toXContent(info, builder, ToXContent.EMPTY_PARAMS);
+        byte[] xcontent = BytesReference.toBytes(BytesReference.bytes(shuffleXContent(builder)));
+
+        final BlobStoreIndexShardSnapshot.FileInfo parsedInfo;
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, xcontent)) {
+            parser.nextToken();
+            parsedInfo = BlobStoreIndexShardSnapshot.FileInfo.fromXContent(parser);
+        }
+        assertThat(parsedInfo.chunks(), equalTo(chunks));
+        assertThat(parsedInfo.numberOfParts(), equalTo(chunks.size()));
+        for (int i = 0; i < chunks.size(); i++) {
+            assertThat(parsedInfo.partName(i), equalTo(chunks.get(i).name()));
+            assertThat(parsedInfo.partBytes(i), equalTo(chunks.get(i).length()));
+        }
+        assertThat(parsedInfo.isSame(info), is(true));
+        assertThat(parsedInfo.isSame(new BlobStoreIndexShardSnapshot.FileInfo("__foobar", meta, (ByteSizeValue) null)), is(false));
+    }
+
+    public void testChunkedPartPositions() {
+        BlobStoreIndexShardSnapshot.FileInfo info = new BlobStoreIndexShardSnapshot.FileInfo(
+            "__foo",
+            new StoreFileMetadata("foo", 36, "666", MIN_SUPPORTED_LUCENE_VERSION),
+            List.of(
+                new BlobStoreIndexShardSnapshot.Chunk("__chunk-a", 10),
+                new BlobStoreIndexShardSnapshot.Chunk("__chunk-b", 20),
+                new BlobStoreIndexShardSnapshot.Chunk("__chunk-c", 6)
+            )
+        );
+        assertEquals(0L, info.partStart(0));
+        assertEquals(10L, info.partStart(1));
+        assertEquals(30L, info.partStart(2));
+        assertEquals(0, info.partAt(0));
+        assertEquals(0, info.partAt(9));
+        assertEquals(1, info.partAt(10));
+        assertEquals(1, info.partAt(29));
+        assertEquals(2, info.partAt(30));
+        assertEquals(2, info.partAt(35));
+
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new BlobStoreIndexShardSnapshot.FileInfo(
+                "__foo",
+                new StoreFileMetadata("foo", 36, "666", MIN_SUPPORTED_LUCENE_VERSION),
+                List.of(new BlobStoreIndexShardSnapshot.Chunk("__chunk-a", 10))
+            )
+        );
+    }
 }
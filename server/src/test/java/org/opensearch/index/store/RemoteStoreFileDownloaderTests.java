@@ -8,6 +8,8 @@
 
 package org.opensearch.index.store;
 
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
@@ -29,6 +31,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 import org.junit.Before;
 
+import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
@@ -37,11 +40,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class RemoteStoreFileDownloaderTests extends OpenSearchTestCase {
 
     private ThreadPool threadPool;
@@ -212,6 +226,103 @@ public class RemoteStoreFileDownloaderTests extends OpenSearchTestCase {
         assertTrue(latch.await(10, TimeUnit.SECONDS));
     }
 
+    public void testDownloadLargeFileInParts() throws IOException, InterruptedException {
+        writeLargeFile("large_file", false);
+        final AtomicInteger counter = new AtomicInteger(0);
+        partDownloader().download(source, destination, secondDestination, List.of("large_file"), counter::incrementAndGet);
+        assertEquals(1, counter.get());
+        final long expectedChecksum;
+        try (IndexInput input = source.openInput("large_file", IOContext.DEFAULT)) {
+            expectedChecksum = CodecUtil.checksumEntireFile(input);
+        }
+        for (Directory directory : List.of(destination, secondDestination)) {
+            assertEquals(source.fileLength("large_file"), directory.fileLength("large_file"));
+            try (IndexInput input = directory.openInput("large_file", IOContext.DEFAULT)) {
+                assertEquals(expectedChecksum, CodecUtil.checksumEntireFile(input));
+            }
+        }
+    }
+
+    public void testReportsProgressOfLargeFileInParts() throws IOException {
+        writeLargeFile("large_file", false);
+        final Map<String, Long> progress = new ConcurrentHashMap<>();
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        partDownloader().downloadAsync(
+            new CancellableThreads(),
+            source,
+            destination,
+            List.of("large_file"),
+            (file, bytes) -> progress.merge(file, bytes, Long::sum),
+            future
+        );
+        future.actionGet();
+        assertEquals(Map.of("large_file", source.fileLength("large_file")), progress);
+    }
+
+    public void testDownloadLargeFileInPartsFromRemoteStore() throws IOException {
+        writeLargeFile("large_file", false);
+        final byte[] content;
+        try (IndexInput input = source.openInput("large_file", IOContext.DEFAULT)) {
+            content = new byte[(int) input.length()];
+            input.readBytes(content, 0, content.length);
+        }
+        final RemoteSegmentStoreDirectory remoteSource = mock(RemoteSegmentStoreDirectory.class);
+        when(remoteSource.fileLength("large_file")).thenReturn((long) content.length);
+        when(remoteSource.openBlockStream(eq("large_file"), anyLong(), anyLong())).thenAnswer(invocation -> {
+            final long position = invocation.getArgument(1);
+            final long length = invocation.getArgument(2);
+            return new ByteArrayInputStream(content, Math.toIntExact(position), Math.toIntExact(length));
+        });
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        partDownloader().downloadAsync(new CancellableThreads(), remoteSource, destination, List.of("large_file"), future);
+        future.actionGet();
+
+        // 1mb parts
+        verify(remoteSource, times((content.length + (1 << 20) - 1) >> 20)).openBlockStream(eq("large_file"), anyLong(), anyLong());
+        verify(remoteSource, never()).openInput(anyString(), any());
+        try (IndexInput input = destination.openInput("large_file", IOContext.DEFAULT)) {
+            final byte[] downloaded = new byte[(int) input.length()];
+            input.readBytes(downloaded, 0, downloaded.length);
+            assertArrayEquals(content, downloaded);
+        }
+    }
+
+    public void testDownloadCorruptedLargeFileInParts() throws IOException {
+        writeLargeFile("large_file", true);
+        final RemoteStoreFileDownloader downloader = partDownloader();
+        expectThrows(CorruptIndexException.class, () -> downloader.download(source, destination, null, List.of("large_file"), () -> {}));
+        assertFalse(Set.of(destination.listAll()).contains("large_file"));
+    }
+
+    private RemoteStoreFileDownloader partDownloader() {
+        final RecoverySettings recoverySettings = new RecoverySettings(
+            Settings.builder()
+                .put("indices.recovery.max_concurrent_remote_store_streams", randomIntBetween(1, 8))
+                .put("indices.recovery.remote_store_download_part_size", "1mb")
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        return new RemoteStoreFileDownloader(ShardId.fromString("[RemoteStoreFileDownloaderTests][0]"), threadPool, recoverySettings);
+    }
+
+    /**
+     * Writes a file of a few parts with a footer like Lucene writes it, but with a wrong checksum if the file should be corrupted.
+     */
+    private void writeLargeFile(String name, boolean corrupted) throws IOException {
+        try (IndexOutput output = source.createOutput(name, IOContext.DEFAULT)) {
+            CodecUtil.writeHeader(output, "test", 0);
+            final byte[] bytes = randomByteArrayOfLength(randomIntBetween(2 * 1024 * 1024, 4 * 1024 * 1024));
+            output.writeBytes(bytes, bytes.length);
+            if (corrupted) {
+                CodecUtil.writeBEInt(output, CodecUtil.FOOTER_MAGIC);
+                CodecUtil.writeBEInt(output, 0);
+                CodecUtil.writeBELong(output, output.getChecksum() ^ 1);
+            } else {
+                CodecUtil.writeFooter(output);
+            }
+        }
+    }
+
     private static void assertContent(Map<String, Integer> expected, Directory destination) throws IOException {
         // Note that Lucene will randomly write extra files (see org.apache.lucene.tests.mockfile.ExtraFS)
         // so we just need to check that all the expected files are present but not that _only_ the expected
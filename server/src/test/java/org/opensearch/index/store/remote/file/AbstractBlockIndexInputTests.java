@@ -17,7 +17,11 @@ import org.junit.Assert;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Unit tests for {@link AbstractBlockIndexInput} covering all static methods,
@@ -195,6 +199,53 @@ public class AbstractBlockIndexInputTests extends OpenSearchTestCase {
         assertEquals(1023, AbstractBlockIndexInput.getBlockOffset(1023, 10));
     }
 
+    public void testReadAheadOnSequentialReads() throws IOException {
+        try (ReadAheadIndexInput indexInput = new ReadAheadIndexInput()) {
+            final byte[] buffer = new byte[randomIntBetween(1, 2048)];
+            while (indexInput.getFilePointer() < indexInput.length()) {
+                indexInput.readBytes(buffer, 0, (int) Math.min(buffer.length, indexInput.length() - indexInput.getFilePointer()));
+                final int aheadOfCurrentBlock = indexInput.prefetched.isEmpty()
+                    ? 0
+                    : indexInput.prefetched.get(indexInput.prefetched.size() - 1) - indexInput.getCurrentBlockId();
+                assertTrue(aheadOfCurrentBlock <= AbstractBlockIndexInput.MAX_READ_AHEAD_BLOCKS);
+            }
+            // the read ahead starts once the second block is demanded in sequence, and requests every following block exactly once
+            assertEquals(IntStream.range(2, ReadAheadIndexInput.NUM_BLOCKS).boxed().collect(Collectors.toList()), indexInput.prefetched);
+            assertFalse(indexInput.cancelled.get(0).get());
+        }
+    }
+
+    public void testRandomAccessCancelsReadAhead() throws IOException {
+        try (ReadAheadIndexInput indexInput = new ReadAheadIndexInput()) {
+            for (int blockId = 0; blockId < 3; blockId++) {
+                indexInput.seek(AbstractBlockIndexInput.getBlockStart(blockId, ReadAheadIndexInput.BLOCK_SIZE_SHIFT));
+            }
+            assertEquals(List.of(2, 3, 4), indexInput.prefetched);
+            assertFalse(indexInput.cancelled.get(0).get());
+
+            indexInput.seek(AbstractBlockIndexInput.getBlockStart(10, ReadAheadIndexInput.BLOCK_SIZE_SHIFT));
+            assertEquals(List.of(2, 3, 4), indexInput.prefetched);
+            assertTrue(indexInput.cancelled.stream().allMatch(AtomicBoolean::get));
+
+            // sequential reads after the jump start over with a single block
+            indexInput.seek(AbstractBlockIndexInput.getBlockStart(11, ReadAheadIndexInput.BLOCK_SIZE_SHIFT));
+            assertEquals(List.of(2, 3, 4, 12), indexInput.prefetched);
+            final AtomicBoolean cancelled = indexInput.cancelled.get(3);
+            assertFalse(cancelled.get());
+            indexInput.close();
+            assertTrue(cancelled.get());
+        }
+    }
+
+    public void testNoReadAheadOnRandomAccess() throws IOException {
+        try (ReadAheadIndexInput indexInput = new ReadAheadIndexInput()) {
+            for (int blockId : List.of(5, 2, 9, 0, 15, 14)) {
+                indexInput.seek(AbstractBlockIndexInput.getBlockStart(blockId, ReadAheadIndexInput.BLOCK_SIZE_SHIFT));
+            }
+            assertEquals(List.of(), indexInput.prefetched);
+        }
+    }
+
     private TestAbstractBlockIndexInput createTestIndexInput() {
         return new TestAbstractBlockIndexInput(false);
     }
@@ -245,4 +296,51 @@ public class AbstractBlockIndexInputTests extends OpenSearchTestCase {
             return currentBlockId;
         }
     }
+
+    /**
+     * Records the blocks that are requested ahead of the reads.
+     */
+    private static class ReadAheadIndexInput extends AbstractBlockIndexInput {
+        private static final int BLOCK_SIZE_SHIFT = 10;
+        private static final int NUM_BLOCKS = 16;
+
+        private final List<Integer> prefetched = new ArrayList<>();
+        private final List<AtomicBoolean> cancelled = new ArrayList<>();
+
+        ReadAheadIndexInput() {
+            super(
+                builder().blockSizeShift(BLOCK_SIZE_SHIFT)
+                    .offset(0)
+                    .length(NUM_BLOCKS << BLOCK_SIZE_SHIFT)
+                    .isClone(false)
+                    .resourceDescription(ReadAheadIndexInput.class.getName())
+            );
+            cleanable.clean();
+        }
+
+        @Override
+        protected IndexInput fetchBlock(int blockId) {
+            return new ByteArrayIndexInput("", new byte[blockSize]);
+        }
+
+        @Override
+        protected void prefetchBlock(int blockId, AtomicBoolean cancelled) {
+            this.prefetched.add(blockId);
+            this.cancelled.add(cancelled);
+        }
+
+        @Override
+        public ReadAheadIndexInput clone() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected AbstractBlockIndexInput buildSlice(String sliceDescription, long offset, long length) {
+            throw new UnsupportedOperationException();
+        }
+
+        private int getCurrentBlockId() {
+            return currentBlockId;
+        }
+    }
 }
@@ -24,6 +24,7 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         final long used = randomLongBetween(100000, BYTES_IN_GB);
         final long pinned = randomLongBetween(100000, BYTES_IN_GB);
         final long evicted = randomLongBetween(0, active);
+        final long rejected = randomLongBetween(0, evicted);
         final long removed = randomLongBetween(0, 10);
         final long hits = randomLongBetween(0, 10);
         final long misses = randomLongBetween(0, 10);
@@ -34,6 +35,7 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             used,
             pinned,
             evicted,
+            rejected,
             removed,
             hits,
             misses,
@@ -45,10 +47,12 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(expected.getActive(), actual.getActive());
         assertEquals(expected.getUsed(), actual.getUsed());
         assertEquals(expected.getEvicted(), actual.getEvicted());
+        assertEquals(expected.getRejected(), actual.getRejected());
         assertEquals(expected.getRemoved(), actual.getRemoved());
         assertEquals(expected.getHits(), actual.getHits());
         assertEquals(expected.getCacheMisses(), actual.getCacheMisses());
         assertEquals(expected.getActivePercent(), actual.getActivePercent());
+        assertEquals(expected.getHitRatio(), actual.getHitRatio(), 0.0);
     }
 
     public void testFullFileCacheStatsSerialization() throws IOException {
@@ -62,4 +66,10 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         }
 
     }
+
+    public void testHitRatio() {
+        assertEquals(0.0, FileCacheStats.calculateHitRatio(0, 0), 0.0);
+        assertEquals(0.75, FileCacheStats.calculateHitRatio(3, 1), 0.0);
+        assertEquals(1.0, FileCacheStats.calculateHitRatio(5, 0), 0.0);
+    }
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -336,6 +337,29 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         assertEquals(Optional.of(1), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
     }
 
+    public void testPrefetchBlob() throws Exception {
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder().fileName("file").directory(directory).blobParts(blobParts).build();
+        transferManager.prefetchBlob(blobFetchRequest, new AtomicBoolean());
+        // the prefetched blob is cached but not referenced anymore
+        assertBusy(() -> MatcherAssert.assertThat(fileCache.usage(), equalTo((long) EIGHT_MB)));
+        assertBusy(() -> MatcherAssert.assertThat(fileCache.activeUsage(), equalTo(0L)));
+        try (IndexInput i = fetchBlobWithName("file")) {
+            assertIndexInputIsFunctional(i);
+        }
+    }
+
+    public void testCancelledPrefetchBlob() throws Exception {
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder().fileName("file").directory(directory).blobParts(blobParts).build();
+        transferManager.prefetchBlob(blobFetchRequest, new AtomicBoolean(true));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        MatcherAssert.assertThat(fileCache.usage(), equalTo(0L));
+    }
+
     protected abstract void initializeTransferManager() throws IOException;
 
     protected abstract void mockExceptionWhileReading() throws IOException;
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testIncrementSaturates() {
+        FrequencySketch<String> sketch = new FrequencySketch<>();
+        assertEquals(0, sketch.frequency("key"));
+        for (int i = 1; i <= 15; i++) {
+            sketch.increment("key");
+            assertEquals(i, sketch.frequency("key"));
+        }
+        sketch.increment("key");
+        assertEquals(15, sketch.frequency("key"));
+    }
+
+    public void testTellsFrequentKeysFromRareKeys() {
+        FrequencySketch<String> sketch = new FrequencySketch<>();
+        sketch.ensureCapacity(512);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("hot");
+        }
+        for (int i = 0; i < 256; i++) {
+            sketch.increment("cold-" + i);
+        }
+        assertThat(sketch.frequency("hot"), greaterThan(sketch.frequency("cold-" + randomIntBetween(0, 255))));
+    }
+
+    public void testAgesCounters() {
+        FrequencySketch<String> sketch = new FrequencySketch<>();
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hot");
+        }
+        // enough distinct keys to reach the sample size of the smallest sketch, which halves all counters
+        for (int i = 0; i < 16 * 10; i++) {
+            sketch.increment("key-" + i);
+        }
+        assertThat(sketch.frequency("hot"), lessThan(15));
+        assertThat(sketch.frequency("hot"), greaterThan(0));
+    }
+
+    public void testEnsureCapacityDropsFrequencies() {
+        FrequencySketch<String> sketch = new FrequencySketch<>();
+        sketch.increment("key");
+        sketch.ensureCapacity(8);
+        assertEquals(1, sketch.frequency("key"));
+        sketch.ensureCapacity(1024);
+        assertEquals(0, sketch.frequency("key"));
+    }
+}
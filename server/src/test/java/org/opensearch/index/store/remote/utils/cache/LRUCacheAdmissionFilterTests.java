@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class LRUCacheAdmissionFilterTests extends OpenSearchTestCase {
+    private static final int CAPACITY = 100;
+    private static final int HOT_KEYS = 50;
+
+    public void testScanDoesNotEvictFrequentlyUsedEntries() {
+        LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, true);
+        accessHotAndScan(cache);
+        for (int i = 0; i < HOT_KEYS; i++) {
+            assertNotNull("hot-" + i, cache.getRef("hot-" + i));
+        }
+        assertThat(cache.stats().rejectionCount(), greaterThan(0L));
+        assertThat(cache.stats().evictionCount(), greaterThanOrEqualTo(cache.stats().rejectionCount()));
+        assertThat(cache.usage(), lessThanOrEqualTo((long) CAPACITY));
+    }
+
+    public void testScanEvictsFrequentlyUsedEntriesWithoutAdmissionFilter() {
+        LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, false);
+        accessHotAndScan(cache);
+        for (int i = 0; i < HOT_KEYS; i++) {
+            assertNull("hot-" + i, cache.getRef("hot-" + i));
+        }
+        assertEquals(0L, cache.stats().rejectionCount());
+    }
+
+    public void testFrequentlyUsedEntryIsAdmitted() {
+        LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, true);
+        for (int i = 0; i < 10; i++) {
+            access(cache, "cold-" + i, 10L);
+        }
+        access(cache, "new", 10L);
+        access(cache, "other", 10L);
+        // the first access did not beat the entry it would have evicted, but the repeated access does
+        assertNull(cache.getRef("new"));
+        access(cache, "new", 10L);
+        access(cache, "other", 10L);
+        assertNotNull(cache.getRef("new"));
+    }
+
+    public void testReferencedAndPinnedEntriesAreNotEvicted() {
+        LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, true);
+        cache.put("referenced", 10L);
+        cache.put("pinned", 10L);
+        cache.pin("pinned");
+        cache.decRef("pinned");
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            access(cache, "key-" + i);
+        }
+        assertNotNull(cache.getRef("referenced"));
+        assertNotNull(cache.getRef("pinned"));
+        assertEquals(10L, cache.pinnedUsage());
+        assertThat(cache.usage(), lessThanOrEqualTo((long) CAPACITY));
+
+        cache.decRef("referenced");
+        cache.unpin("pinned");
+        assertThat(cache.prune(), greaterThanOrEqualTo(20L));
+        assertEquals(0L, cache.usage());
+    }
+
+    private static void accessHotAndScan(LRUCache<String, Long> cache) {
+        for (int i = 0; i < CAPACITY; i++) {
+            access(cache, "cold-" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < HOT_KEYS; i++) {
+                access(cache, "hot-" + i);
+            }
+        }
+        for (int i = 0; i < CAPACITY * 10; i++) {
+            access(cache, "scan-" + i);
+        }
+    }
+
+    private static void access(LRUCache<String, Long> cache, String key) {
+        access(cache, key, 1L);
+    }
+
+    private static void access(LRUCache<String, Long> cache, String key, long weight) {
+        if (cache.get(key) == null) {
+            cache.put(key, weight);
+        }
+        cache.decRef(key);
+    }
+}
@@ -701,6 +701,23 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSnapshotReadsOperationsAcrossReadAheadBuffer() throws IOException {
+        ArrayList<Translog.Operation> ops = new ArrayList<>();
+        int numOps = randomIntBetween(10, 100);
+        for (int i = 0; i < numOps; i++) {
+            // mix operations that span the boundaries of the read ahead buffer and operations that don't fit into it
+            byte[] source = new byte[randomFrom(1, randomIntBetween(1, TranslogSnapshot.READ_AHEAD_SIZE * 2))];
+            random().nextBytes(source);
+            addToTranslogAndList(translog, ops, new Translog.Index(Integer.toString(i), i, primaryTerm.get(), source));
+            if (rarely()) {
+                translog.rollGeneration();
+            }
+        }
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            assertThat(snapshot, SnapshotMatchers.containsOperationsInAnyOrder(ops));
+        }
+    }
+
     public void testReadLocation() throws IOException {
         ArrayList<Translog.Operation> ops = new ArrayList<>();
         ArrayList<Translog.Location> locs = new ArrayList<>();
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TranslogSyncCoordinatorTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TranslogSyncCoordinator coordinator;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+        Settings settings = Settings.builder()
+            .put(TranslogSyncCoordinator.INDICES_TRANSLOG_SYNC_COORDINATOR_INTERVAL_SETTING.getKey(), "50ms")
+            .build();
+        coordinator = new TranslogSyncCoordinator(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    public void testCoalescesSyncsPerShard() throws Exception {
+        int numShards = between(2, 6);
+        int syncsPerShard = between(5, 20);
+        AtomicInteger[] syncCalls = new AtomicInteger[numShards];
+        AtomicLong[] syncedUpTo = new AtomicLong[numShards];
+        TranslogSyncCoordinator.Target[] targets = new TranslogSyncCoordinator.Target[numShards];
+        Path[] dataPaths = new Path[] { createTempDir(), createTempDir() };
+        for (int i = 0; i < numShards; i++) {
+            final int shard = i;
+            syncCalls[i] = new AtomicInteger();
+            syncedUpTo[i] = new AtomicLong(-1);
+            targets[i] = new TranslogSyncCoordinator.Target(
+                new ShardId("index", "_na_", i),
+                dataPaths[i % dataPaths.length],
+                locations -> {
+                    syncCalls[shard].incrementAndGet();
+                    syncedUpTo[shard].accumulateAndGet(
+                        locations.mapToLong(location -> location.translogLocation).max().orElse(-1),
+                        Math::max
+                    );
+                }
+            );
+        }
+
+        CountDownLatch latch = new CountDownLatch(numShards * syncsPerShard);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        for (int offset = 0; offset < syncsPerShard; offset++) {
+            for (int shard = 0; shard < numShards; shard++) {
+                coordinator.sync(targets[shard], new Translog.Location(1, offset, 1), e -> {
+                    if (e != null) {
+                        failures.add(e);
+                    }
+                    latch.countDown();
+                });
+            }
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertTrue(failures.isEmpty());
+        long totalShardSyncs = 0;
+        for (int shard = 0; shard < numShards; shard++) {
+            assertEquals(syncsPerShard - 1, syncedUpTo[shard].get());
+            assertTrue(syncCalls[shard].get() >= 1);
+            totalShardSyncs += syncCalls[shard].get();
+        }
+
+        TranslogSyncCoordinatorStats stats = coordinator.stats();
+        assertEquals(numShards * syncsPerShard, stats.getSyncRequests());
+        assertEquals(totalShardSyncs, stats.getShardSyncs());
+        assertTrue(stats.getShardSyncs() < stats.getSyncRequests());
+        assertTrue(stats.getBatches() >= 1);
+        assertTrue(stats.getMaxBatchSize() > 1);
+        assertEquals(0, stats.getFailedShardSyncs());
+        assertEquals(totalShardSyncs, Arrays.stream(stats.getSyncLatencyHistogram()).sum());
+    }
+
+    public void testFailureOnlyAffectsFailingShard() throws Exception {
+        Path dataPath = createTempDir();
+        IOException failure = new IOException("simulated");
+        TranslogSyncCoordinator.Target failing = new TranslogSyncCoordinator.Target(
+            new ShardId("index", "_na_", 0),
+            dataPath,
+            locations -> { throw failure; }
+        );
+        TranslogSyncCoordinator.Target healthy = new TranslogSyncCoordinator.Target(
+            new ShardId("index", "_na_", 1),
+            dataPath,
+            locations -> {}
+        );
+
+        int numSyncs = between(1, 10);
+        CountDownLatch latch = new CountDownLatch(2 * numSyncs);
+        List<Exception> failingResults = new CopyOnWriteArrayList<>();
+        AtomicInteger healthySuccesses = new AtomicInteger();
+        for (int i = 0; i < numSyncs; i++) {
+            coordinator.sync(failing, new Translog.Location(1, i, 1), e -> {
+                failingResults.add(e);
+                latch.countDown();
+            });
+            coordinator.sync(healthy, new Translog.Location(1, i, 1), e -> {
+                if (e == null) {
+                    healthySuccesses.incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertEquals(numSyncs, failingResults.size());
+        for (Exception e : failingResults) {
+            assertSame(failure, e);
+        }
+        assertEquals(numSyncs, healthySuccesses.get());
+        assertTrue(coordinator.stats().getFailedShardSyncs() >= 1);
+    }
+
+    public void testStatsAreAddedToTranslogStats() throws IOException {
+        TranslogSyncCoordinatorStats first = randomStats();
+        TranslogSyncCoordinatorStats second = randomStats();
+        TranslogStats nodeStats = new TranslogStats();
+        nodeStats.setSyncCoordinatorStats(first);
+
+        TranslogStats copy = copyWriteable(nodeStats, writableRegistry(), TranslogStats::new);
+        assertEquals(first, copy.getSyncCoordinatorStats());
+        // the stats of shards never carry coordinator stats
+        copy.add(new TranslogStats());
+        assertEquals(first, copy.getSyncCoordinatorStats());
+
+        TranslogStats otherNodeStats = new TranslogStats();
+        otherNodeStats.setSyncCoordinatorStats(second);
+        copy.add(otherNodeStats);
+        TranslogSyncCoordinatorStats total = copy.getSyncCoordinatorStats();
+        assertEquals(first.getBatches() + second.getBatches(), total.getBatches());
+        assertEquals(first.getSyncRequests() + second.getSyncRequests(), total.getSyncRequests());
+        assertEquals(first.getShardSyncs() + second.getShardSyncs(), total.getShardSyncs());
+        assertEquals(first.getFailedShardSyncs() + second.getFailedShardSyncs(), total.getFailedShardSyncs());
+        assertEquals(Math.max(first.getMaxBatchSize(), second.getMaxBatchSize()), total.getMaxBatchSize());
+        for (int i = 0; i < total.getSyncLatencyHistogram().length; i++) {
+            assertEquals(first.getSyncLatencyHistogram()[i] + second.getSyncLatencyHistogram()[i], total.getSyncLatencyHistogram()[i]);
+        }
+    }
+
+    private static TranslogSyncCoordinatorStats randomStats() {
+        long[] latencyHistogram = new long[TranslogSyncCoordinatorStats.LATENCY_BUCKETS_MILLIS.length + 1];
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            latencyHistogram[i] = randomNonNegativeInt();
+        }
+        return new TranslogSyncCoordinatorStats(
+            randomNonNegativeInt(),
+            randomNonNegativeInt(),
+            randomNonNegativeInt(),
+            randomNonNegativeInt(),
+            randomNonNegativeInt(),
+            latencyHistogram
+        );
+    }
+}
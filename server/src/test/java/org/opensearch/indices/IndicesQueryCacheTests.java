@@ -419,6 +419,7 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         private final int randCount = randomIntBetween(0, Integer.MAX_VALUE);
         private boolean scorerCalled;
         private boolean scorerSupplierCalled;
+        private int scorerSupplierCount;
         private boolean countCalled;
 
         DummyWeight(Weight weight) {
@@ -434,6 +435,7 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             scorerSupplierCalled = true;
+            scorerSupplierCount++;
             return weight.scorerSupplier(context);
         }
 
@@ -511,6 +513,100 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close();
     }
 
+    public void testMinCostPerByte() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE.getKey(), 1f)
+            .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        s.setQueryCache(cache);
+
+        // the dummy query costs nothing to evaluate, so it is not worth any memory
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(0L, cache.getStats(shard).getCacheSize());
+        assertEquals(1L, cache.getStats(shard).getBypassCount());
+
+        cache.setMinCostPerByte(0f);
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1L, cache.getStats(shard).getCacheSize());
+
+        // filters that are cached already are served from the cache
+        cache.setMinCostPerByte(1f);
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1L, cache.getStats(shard).getHitCount());
+        assertEquals(1L, cache.getStats(shard).getBypassCount());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testMinCostPerByteOnlyEstimatesMisses() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_MIN_COST_PER_BYTE.getKey(), 1f)
+            .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        final DummyWeight weight = new DummyWeight(s.createWeight(s.rewrite(new DummyQuery(0)), ScoreMode.COMPLETE_NO_SCORES, 1f));
+        final Weight cached = cache.doCache(weight, alwaysCachePolicy());
+        final LeafReaderContext leaf = s.getIndexReader().leaves().get(0);
+
+        // the scorer supplier that was built for the estimate is used to evaluate the filter
+        assertEquals(0, cached.scorerSupplier(leaf).get(Long.MAX_VALUE).iterator().nextDoc());
+        assertEquals(1, weight.scorerSupplierCount);
+        assertEquals(1L, cache.getStats(shard).getBypassCount());
+
+        // and to cache it
+        cache.setMinCostPerByte(0f);
+        assertEquals(0, cached.scorerSupplier(leaf).get(Long.MAX_VALUE).iterator().nextDoc());
+        assertEquals(2, weight.scorerSupplierCount);
+        assertEquals(1L, cache.getStats(shard).getCacheSize());
+
+        // hits don't build a scorer supplier
+        cache.setMinCostPerByte(1f);
+        assertEquals(0, cached.scorerSupplier(leaf).get(Long.MAX_VALUE).iterator().nextDoc());
+        assertEquals(2, weight.scorerSupplierCount);
+        assertEquals(1L, cache.getStats(shard).getHitCount());
+        assertEquals(1L, cache.getStats(shard).getBypassCount());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testCostPerByte() {
+        final int maxDoc = 80_000;
+        final Query termQuery = new TermQuery(new Term("field", "value"));
+        // dense filters are cached as bit sets of maxDoc / 8 bytes
+        assertEquals(4d, IndicesQueryCache.costPerByte(termQuery, maxDoc / 2, maxDoc), 0d);
+        assertEquals(0.08d, IndicesQueryCache.costPerByte(termQuery, maxDoc / 100, maxDoc), 0.0001d);
+        // sparse filters are cached as roaring doc id sets
+        assertEquals(0.5d, IndicesQueryCache.costPerByte(termQuery, 10, maxDoc), 0d);
+        assertEquals(0d, IndicesQueryCache.costPerByte(termQuery, 0, maxDoc), 0d);
+        // costly filters are worth more memory for the same number of documents
+        final Query rangeQuery = IntPoint.newRangeQuery("age", 1, 9999);
+        assertEquals(0.8d, IndicesQueryCache.costPerByte(rangeQuery, maxDoc / 100, maxDoc), 0.0001d);
+    }
+
     public void testDynamicChangeSettings() throws IOException {
         Directory dir = newDirectory();
         IndexWriterConfig conf = newIndexWriterConfig();
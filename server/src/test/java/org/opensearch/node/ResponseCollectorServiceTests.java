@@ -50,9 +50,13 @@ import org.junit.Before;
 
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ResponseCollectorServiceTests extends OpenSearchTestCase {
 
@@ -87,6 +91,67 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertThat(nodeStats.get("node1").serviceTime, equalTo(10.0));
     }
 
+    public void testPercentileResponseTime() {
+        final long fast = TimeUnit.MILLISECONDS.toNanos(1);
+        final long slow = TimeUnit.SECONDS.toNanos(1);
+        // the percentile is refreshed on the first and then on every 16th response
+        for (int i = 0; i < 97; i++) {
+            collector.addNodeStatistics("node1", 1, i < 10 ? slow : fast, 10);
+        }
+        assertThat(collector.getNodeStatistics("node1").get().responseTime, lessThan((double) slow));
+
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder()
+                    .put(ResponseCollectorService.RESPONSE_TIME_ESTIMATE_SETTING.getKey(), "percentile")
+                    .put(ResponseCollectorService.RESPONSE_TIME_PERCENTILE_SETTING.getKey(), 99.0)
+                    .build()
+            );
+        for (int i = 0; i < 16; i++) {
+            collector.addNodeStatistics("node1", 1, fast, 10);
+        }
+        assertThat(collector.getNodeStatistics("node1").get().responseTime, closeTo(slow, slow * 0.01));
+        assertThat(collector.getAllNodeStatistics().get("node1").responseTime, closeTo(slow, slow * 0.01));
+        assertThat(collector.getResponseTimePercentile("node1").getAsDouble(), closeTo(slow, slow * 0.01));
+        assertFalse(collector.getResponseTimePercentile("node2").isPresent());
+
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder()
+                    .put(ResponseCollectorService.RESPONSE_TIME_ESTIMATE_SETTING.getKey(), "percentile")
+                    .put(ResponseCollectorService.RESPONSE_TIME_PERCENTILE_SETTING.getKey(), 50.0)
+                    .build()
+            );
+        for (int i = 0; i < 16; i++) {
+            collector.addNodeStatistics("node1", 1, fast, 10);
+        }
+        assertThat(collector.getNodeStatistics("node1").get().responseTime, closeTo(fast, fast * 0.01));
+    }
+
+    public void testPercentileOnlyCoversRecentResponses() {
+        final int windowSize = ResponseCollectorService.ResponseTimeWindow.WINDOW_SIZE;
+        final long fast = TimeUnit.MILLISECONDS.toNanos(1);
+        final long slow = TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < 2 * windowSize; i++) {
+            collector.addNodeStatistics("node1", 1, slow, 10);
+        }
+        assertThat(collector.getResponseTimePercentile("node1").getAsDouble(), closeTo(slow, slow * 0.01));
+        for (int i = 0; i < 2 * windowSize; i++) {
+            collector.addNodeStatistics("node1", 1, fast, 10);
+        }
+        assertThat(collector.getResponseTimePercentile("node1").getAsDouble(), closeTo(fast, fast * 0.01));
+    }
+
+    public void testInvalidResponseTimeEstimate() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> ResponseCollectorService.RESPONSE_TIME_ESTIMATE_SETTING.get(
+                Settings.builder().put(ResponseCollectorService.RESPONSE_TIME_ESTIMATE_SETTING.getKey(), "median").build()
+            )
+        );
+        assertThat(e.getMessage(), containsString("unknown response time estimate [median]"));
+    }
+
     /*
      * Test that concurrently adding values and removing nodes does not cause exceptions
      */
@@ -42,14 +42,19 @@ import org.opensearch.common.Priority;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
+import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.DeleteResult;
+import org.opensearch.common.blobstore.fs.FsBlobContainer;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.hash.MessageDigests;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.index.Index;
+import org.opensearch.core.index.snapshots.IndexShardSnapshotFailedException;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
@@ -75,6 +80,9 @@ import org.opensearch.snapshots.SnapshotState;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.transport.client.Client;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -96,6 +104,7 @@ import org.mockito.Mockito;
 
 import static org.opensearch.repositories.RepositoryDataTests.generateRandomRepoData;
 import static org.opensearch.repositories.blobstore.BlobStoreRepository.calculateMaxWithinIntLimit;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
@@ -827,4 +836,58 @@ public class BlobStoreRepositoryTests extends BlobStoreRepositoryHelperTests {
         // then
         assertEquals(maxSafeArraySize, expectedThreshold);
     }
+
+    public void testWriteChunkHashesEachByteOnceWhenTheBlobStoreRewindsTheStream() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        final String chunkName = chunkName(bytes);
+        final Path path = createTempDir();
+        final BlobContainer container = new RewindingBlobContainer(new FsBlobStore(1024, path, false), path);
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+
+        BlobStoreRepository.writeChunk(container, chunkName, new ByteArrayInputStream(bytes), bytes.length, shardId);
+
+        try (InputStream inputStream = container.readBlob(chunkName)) {
+            assertArrayEquals(bytes, inputStream.readAllBytes());
+        }
+    }
+
+    public void testWriteChunkFailsAndDeletesTheBlobWhenTheContentsChanged() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        final byte[] otherBytes = bytes.clone();
+        otherBytes[randomIntBetween(0, otherBytes.length - 1)]++;
+        final String chunkName = chunkName(bytes);
+        final Path path = createTempDir();
+        final BlobContainer container = new RewindingBlobContainer(new FsBlobStore(1024, path, false), path);
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+
+        IndexShardSnapshotFailedException e = expectThrows(
+            IndexShardSnapshotFailedException.class,
+            () -> BlobStoreRepository.writeChunk(container, chunkName, new ByteArrayInputStream(otherBytes), otherBytes.length, shardId)
+        );
+        assertThat(e.getMessage(), containsString("contents of chunk [" + chunkName + "] changed since it was hashed"));
+        assertFalse(container.blobExists(chunkName));
+    }
+
+    private static String chunkName(byte[] bytes) {
+        return BlobStoreRepository.CHUNK_DATA_BLOB_PREFIX + MessageDigests.toHexString(MessageDigests.sha256().digest(bytes));
+    }
+
+    /**
+     * Reads part of every blob before it rewinds the stream and writes the blob, like a blob store that retries a failed request.
+     */
+    private static class RewindingBlobContainer extends FsBlobContainer {
+
+        RewindingBlobContainer(FsBlobStore blobStore, Path path) {
+            super(blobStore, BlobPath.cleanPath(), path);
+        }
+
+        @Override
+        public void writeBlob(String blobName, InputStream inputStream, long blobSize, boolean failIfAlreadyExists) throws IOException {
+            assertTrue(inputStream.markSupported());
+            inputStream.mark(Integer.MAX_VALUE);
+            inputStream.readNBytes(randomIntBetween(1, Math.toIntExact(blobSize)));
+            inputStream.reset();
+            super.writeBlob(blobName, inputStream, blobSize, failIfAlreadyExists);
+        }
+    }
 }
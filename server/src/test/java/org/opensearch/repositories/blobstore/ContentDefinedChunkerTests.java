@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.blobstore;
+
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.Chunk;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class ContentDefinedChunkerTests extends OpenSearchTestCase {
+    private static final int AVERAGE_SIZE = 4096;
+
+    public void testChunksCoverInputWithinSizeBounds() throws IOException {
+        final ContentDefinedChunker chunker = new ContentDefinedChunker("__chunk-", AVERAGE_SIZE, null);
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(AVERAGE_SIZE * 10, AVERAGE_SIZE * 50));
+        final List<Chunk> chunks = chunk(chunker, bytes);
+        long length = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            final Chunk chunk = chunks.get(i);
+            assertThat(chunk.name(), startsWith("__chunk-"));
+            assertThat(chunk.length(), lessThanOrEqualTo(AVERAGE_SIZE * 4L));
+            if (i < chunks.size() - 1) {
+                assertThat(chunk.length(), greaterThanOrEqualTo(AVERAGE_SIZE / 4L));
+            }
+            length += chunk.length();
+        }
+        assertEquals(bytes.length, length);
+        assertEquals(chunks, chunk(chunker, bytes));
+    }
+
+    public void testMaxBlobSizeLimitsChunks() throws IOException {
+        final ContentDefinedChunker chunker = new ContentDefinedChunker("__chunk-", AVERAGE_SIZE, AVERAGE_SIZE / 2L);
+        // all zeros never hit a boundary, so every chunk is cut at the maximum size
+        final List<Chunk> chunks = chunk(chunker, new byte[AVERAGE_SIZE * 4]);
+        assertEquals(8, chunks.size());
+        for (Chunk chunk : chunks) {
+            assertEquals(AVERAGE_SIZE / 2L, chunk.length());
+            assertEquals(chunks.get(0).name(), chunk.name());
+        }
+        assertFalse(chunker.shouldChunk(AVERAGE_SIZE / 2L));
+        assertTrue(chunker.shouldChunk(AVERAGE_SIZE / 2L + 1));
+    }
+
+    public void testBoundariesRealignAfterInsertion() throws IOException {
+        final ContentDefinedChunker chunker = new ContentDefinedChunker("__chunk-", AVERAGE_SIZE, null);
+        final byte[] original = randomByteArrayOfLength(AVERAGE_SIZE * 100);
+        final byte[] inserted = randomByteArrayOfLength(randomIntBetween(1, 100));
+        final int offset = randomIntBetween(0, original.length);
+        final byte[] modified = new byte[original.length + inserted.length];
+        System.arraycopy(original, 0, modified, 0, offset);
+        System.arraycopy(inserted, 0, modified, offset, inserted.length);
+        System.arraycopy(original, offset, modified, offset + inserted.length, original.length - offset);
+
+        final List<Chunk> originalChunks = chunk(chunker, original);
+        final Set<Chunk> shared = new HashSet<>(chunk(chunker, modified));
+        shared.retainAll(originalChunks);
+        // only the chunks around the insertion differ, unlike with fixed size parts that would all shift
+        assertThat(shared.size(), greaterThan(originalChunks.size() - 4));
+    }
+
+    private static List<Chunk> chunk(ContentDefinedChunker chunker, byte[] bytes) throws IOException {
+        try (ByteArrayIndexInput input = new ByteArrayIndexInput("test", bytes)) {
+            return chunker.chunk(input, () -> {});
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class LeafAggregationCacheTests extends OpenSearchTestCase {
+
+    private static final BytesReference REQUEST = new BytesArray("request");
+    private static final BytesReference RESULTS = new BytesArray("results");
+
+    private LeafAggregationCache newCache(ClusterSettings clusterSettings) {
+        Settings settings = Settings.builder().put(LeafAggregationCache.SEARCH_LEAF_AGGREGATION_CACHE_ENABLED.getKey(), true).build();
+        return new LeafAggregationCache(settings, clusterSettings);
+    }
+
+    private static IndexWriter newWriter(Directory dir) throws IOException {
+        // keep one segment per commit
+        return new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+    }
+
+    private static void addDoc(IndexWriter writer, String id) throws IOException {
+        Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.NO));
+        writer.addDocument(doc);
+        writer.commit();
+    }
+
+    public void testResultsAreCachedPerSegmentAndRequest() throws IOException {
+        LeafAggregationCache cache = newCache(new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        assertTrue(cache.isEnabled());
+        try (Directory dir = newDirectory(); IndexWriter writer = newWriter(dir)) {
+            addDoc(writer, "1");
+            addDoc(writer, "2");
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(2, reader.leaves().size());
+                LeafReaderContext first = reader.leaves().get(0);
+                LeafReaderContext second = reader.leaves().get(1);
+                assertNull(cache.get(first, REQUEST));
+                cache.put(first, REQUEST, RESULTS);
+                assertEquals(RESULTS, cache.get(first, REQUEST));
+                assertNull(cache.get(second, REQUEST));
+                assertNull(cache.get(first, new BytesArray("other request")));
+                assertEquals(1, cache.count());
+                assertTrue(cache.ramBytesUsed() > 0);
+            }
+        }
+        // closing the segments drops their results
+        assertEquals(0, cache.count());
+    }
+
+    public void testDeletesInvalidateTheSegmentResults() throws IOException {
+        LeafAggregationCache cache = newCache(new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        try (Directory dir = newDirectory(); IndexWriter writer = newWriter(dir)) {
+            addDoc(writer, "1");
+            addDoc(writer, "2");
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                cache.put(reader.leaves().get(0), REQUEST, RESULTS);
+                cache.put(reader.leaves().get(1), REQUEST, RESULTS);
+                writer.deleteDocuments(new Term("id", "1"));
+                try (DirectoryReader newReader = DirectoryReader.openIfChanged(reader)) {
+                    assertNotNull(newReader);
+                    int hits = 0;
+                    for (LeafReaderContext ctx : newReader.leaves()) {
+                        if (cache.get(ctx, REQUEST) != null) {
+                            hits++;
+                        }
+                    }
+                    // only the segment without deletes is shared with the previous reader
+                    assertEquals(1, hits);
+                }
+            }
+        }
+        assertEquals(0, cache.count());
+    }
+
+    public void testDisablingClearsTheCache() throws IOException {
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        LeafAggregationCache cache = newCache(clusterSettings);
+        try (Directory dir = newDirectory(); IndexWriter writer = newWriter(dir)) {
+            addDoc(writer, "1");
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                cache.put(reader.leaves().get(0), REQUEST, RESULTS);
+                assertEquals(1, cache.count());
+                clusterSettings.applySettings(
+                    Settings.builder().put(LeafAggregationCache.SEARCH_LEAF_AGGREGATION_CACHE_ENABLED.getKey(), false).build()
+                );
+                assertFalse(cache.isEnabled());
+                assertEquals(0, cache.count());
+                assertNull(cache.get(reader.leaves().get(0), REQUEST));
+            }
+        }
+    }
+}
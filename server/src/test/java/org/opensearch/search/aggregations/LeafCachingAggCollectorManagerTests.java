@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.opensearch.common.unit.Fuzziness;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.query.WrapperQueryBuilder;
+import org.opensearch.indices.TermsLookup;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LeafCachingAggCollectorManagerTests extends OpenSearchTestCase {
+
+    private static boolean matchesDependOnOtherSegments(QueryBuilder query) {
+        return LeafCachingAggCollectorManager.matchesDependOnOtherSegments(new SearchSourceBuilder().query(query));
+    }
+
+    public void testQueriesThatMatchBySegment() {
+        assertFalse(LeafCachingAggCollectorManager.matchesDependOnOtherSegments(null));
+        assertFalse(LeafCachingAggCollectorManager.matchesDependOnOtherSegments(new SearchSourceBuilder()));
+        assertFalse(matchesDependOnOtherSegments(QueryBuilders.matchAllQuery()));
+        assertFalse(
+            matchesDependOnOtherSegments(
+                QueryBuilders.boolQuery()
+                    .must(QueryBuilders.termQuery("field", "value"))
+                    .filter(QueryBuilders.rangeQuery("number").gte(1))
+                    .should(QueryBuilders.matchQuery("text", "some words"))
+                    .mustNot(QueryBuilders.existsQuery("other"))
+            )
+        );
+        assertFalse(matchesDependOnOtherSegments(QueryBuilders.constantScoreQuery(QueryBuilders.termsQuery("field", "a", "b"))));
+        assertFalse(matchesDependOnOtherSegments(QueryBuilders.functionScoreQuery(QueryBuilders.prefixQuery("field", "pre"))));
+    }
+
+    public void testQueriesThatDependOnOtherSegments() {
+        assertTrue(matchesDependOnOtherSegments(QueryBuilders.matchQuery("text", "word").fuzziness(Fuzziness.AUTO)));
+        assertTrue(matchesDependOnOtherSegments(QueryBuilders.moreLikeThisQuery(new String[] { "some text" })));
+        assertTrue(matchesDependOnOtherSegments(QueryBuilders.prefixQuery("field", "pre").rewrite("top_terms_10")));
+        assertTrue(matchesDependOnOtherSegments(QueryBuilders.functionScoreQuery(QueryBuilders.matchAllQuery()).setMinScore(1f)));
+        assertTrue(matchesDependOnOtherSegments(new TermsQueryBuilder("field", new TermsLookup("index", "id", "path"))));
+        // queries the allowlist doesn't know of, like those of plugins, are assumed to depend on other segments
+        assertTrue(matchesDependOnOtherSegments(new WrapperQueryBuilder("{\"match_all\":{}}")));
+        // a single clause that depends on other segments is enough
+        assertTrue(
+            matchesDependOnOtherSegments(
+                QueryBuilders.boolQuery()
+                    .filter(QueryBuilders.termQuery("field", "value"))
+                    .filter(QueryBuilders.constantScoreQuery(QueryBuilders.fuzzyQuery("text", "word")))
+            )
+        );
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.Histogram;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.Range;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Avg;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Stats;
+import org.opensearch.search.aggregations.metrics.StatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.pipeline.MaxBucketPipelineAggregationBuilder;
+
+import java.io.IOException;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class RandomSamplerAggregatorTests extends AggregatorTestCase {
+
+    private static final int NUM_DOCS = 2000;
+
+    private final MappedFieldType numberFieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+    private final MappedFieldType keywordFieldType = new KeywordFieldMapper.KeywordFieldType("keyword");
+
+    public void testProbabilityOneAggregatesAllDocs() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(1)
+            .subAggregation(new SumAggregationBuilder("sum").field("number"))
+            .subAggregation(new TermsAggregationBuilder("terms").field("keyword"));
+        testCase(builder, sampler -> {
+            assertEquals(NUM_DOCS, sampler.getDocCount());
+            assertEquals(NUM_DOCS, sampler.getSampledDocCount());
+            Sum sum = sampler.getAggregations().get("sum");
+            assertEquals(2 * NUM_DOCS, sum.getValue(), 0);
+            Terms terms = sampler.getAggregations().get("terms");
+            assertEquals(NUM_DOCS / 2, terms.getBucketByKey("even").getDocCount());
+            assertEquals(NUM_DOCS / 2, terms.getBucketByKey("odd").getDocCount());
+        });
+    }
+
+    public void testScalesCountsAndSums() throws IOException {
+        double probability = randomDoubleBetween(0.2, 0.8, true);
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(probability)
+            .subAggregation(new SumAggregationBuilder("sum").field("number"))
+            .subAggregation(new AvgAggregationBuilder("avg").field("number"))
+            .subAggregation(new TermsAggregationBuilder("terms").field("keyword"));
+        testCase(builder, sampler -> {
+            assertThat(sampler.getSampledDocCount(), lessThan((long) NUM_DOCS));
+            assertEquals(Math.round(sampler.getSampledDocCount() / probability), sampler.getDocCount());
+            // the estimate is off by more than ten standard deviations with a negligible probability
+            double standardDeviation = Math.sqrt(NUM_DOCS * (1 - probability) / probability);
+            assertThat((double) sampler.getDocCount(), closeTo(NUM_DOCS, 10 * standardDeviation));
+            Sum sum = sampler.getAggregations().get("sum");
+            assertEquals(2 * sampler.getSampledDocCount() / probability, sum.getValue(), 1e-6);
+            Avg avg = sampler.getAggregations().get("avg");
+            assertEquals(2, avg.getValue(), 0);
+            Terms terms = sampler.getAggregations().get("terms");
+            long scaledBuckets = 0;
+            for (Terms.Bucket bucket : terms.getBuckets()) {
+                scaledBuckets += bucket.getDocCount();
+            }
+            assertThat((double) scaledBuckets, closeTo(sampler.getDocCount(), terms.getBuckets().size()));
+        });
+    }
+
+    public void testScalesBucketAndStatsAggregations() throws IOException {
+        double probability = randomDoubleBetween(0.2, 0.8, true);
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(probability)
+            .subAggregation(new HistogramAggregationBuilder("histogram").field("number").interval(1))
+            .subAggregation(new RangeAggregationBuilder("range").field("number").addRange(0, 10))
+            .subAggregation(new FiltersAggregationBuilder("filters", new MatchAllQueryBuilder()))
+            .subAggregation(new StatsAggregationBuilder("stats").field("number"))
+            .subAggregation(new ExtendedStatsAggregationBuilder("extended_stats").field("number"));
+        testCase(builder, sampler -> {
+            // every doc has the same number, so all of them fall into the same bucket of each aggregation
+            Histogram histogram = sampler.getAggregations().get("histogram");
+            assertEquals(1, histogram.getBuckets().size());
+            assertEquals(sampler.getDocCount(), histogram.getBuckets().get(0).getDocCount());
+            Range range = sampler.getAggregations().get("range");
+            assertEquals(sampler.getDocCount(), range.getBuckets().get(0).getDocCount());
+            Filters filters = sampler.getAggregations().get("filters");
+            assertEquals(sampler.getDocCount(), filters.getBuckets().get(0).getDocCount());
+            Stats stats = sampler.getAggregations().get("stats");
+            assertEquals(sampler.getDocCount(), stats.getCount());
+            assertEquals(2 * sampler.getSampledDocCount() / probability, stats.getSum(), 1e-6);
+            assertEquals(2, stats.getMin(), 0);
+            assertEquals(2, stats.getMax(), 0);
+            ExtendedStats extendedStats = sampler.getAggregations().get("extended_stats");
+            assertEquals(sampler.getDocCount(), extendedStats.getCount());
+            assertEquals(4 * sampler.getSampledDocCount() / probability, extendedStats.getSumOfSquares(), 1e-6);
+            // only off by the rounding of the scaled count
+            assertEquals(0, extendedStats.getVariance(), 1e-2);
+        });
+    }
+
+    public void testQueryLimitsSample() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(1);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < NUM_DOCS; i++) {
+                    Document document = new Document();
+                    document.add(new SortedSetDocValuesField("keyword", new BytesRef(i % 2 == 0 ? "even" : "odd")));
+                    document.add(new StringField("keyword", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+                    iw.addDocument(document);
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                InternalRandomSampler sampler = searchAndReduce(
+                    new IndexSearcher(reader),
+                    new TermQuery(new Term("keyword", "even")),
+                    builder,
+                    keywordFieldType
+                );
+                // the docs are collected through the query like for any other aggregation
+                assertEquals(NUM_DOCS / 2, sampler.getDocCount());
+            }
+        }
+    }
+
+    public void testRejectsUnsupportedSubAggregation() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(0.5)
+            .subAggregation(
+                new TermsAggregationBuilder("terms").field("keyword")
+                    .subAggregation(new CardinalityAggregationBuilder("cardinality").field("keyword"))
+            );
+        assertRejected(builder, "[random_sampler] aggregation [sampler] doesn't support [cardinality] sub-aggregation [cardinality]");
+    }
+
+    public void testRejectsPipelineAggregation() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(0.5)
+            .subAggregation(new TermsAggregationBuilder("terms").field("keyword"))
+            .subAggregation(new MaxBucketPipelineAggregationBuilder("max_bucket", "terms>_count"));
+        assertRejected(builder, "[random_sampler] aggregation [sampler] doesn't support pipeline aggregation [max_bucket]");
+    }
+
+    public void testRejectsMinDocCount() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(0.5)
+            .subAggregation(new TermsAggregationBuilder("terms").field("keyword").minDocCount(randomIntBetween(2, 10)));
+        assertRejected(
+            builder,
+            "[random_sampler] aggregation [sampler] doesn't support [min_doc_count] greater than 1 in sub-aggregation [terms]"
+        );
+    }
+
+    public void testSameSeedSamplesSameDocs() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(0.1).seed(randomInt());
+        testCase(builder, (searcher, sampler) -> {
+            InternalRandomSampler again = searchAndReduce(searcher, new MatchAllDocsQuery(), builder, numberFieldType, keywordFieldType);
+            assertEquals(sampler.getSampledDocCount(), again.getSampledDocCount());
+        });
+    }
+
+    public void testUnsetSeedIsFixed() throws IOException {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler").probability(0.1);
+        RandomSamplerAggregationBuilder other = new RandomSamplerAggregationBuilder("sampler").probability(0.1);
+        assertNull(builder.seed());
+        assertEquals(builder, other);
+        assertEquals(builder.hashCode(), other.hashCode());
+        assertEquals(builder, copyWriteable(builder, new NamedWriteableRegistry(emptyList()), RandomSamplerAggregationBuilder::new));
+        assertEquals("{\"sampler\":{\"random_sampler\":{\"probability\":0.1}}}", Strings.toString(MediaTypeRegistry.JSON, builder));
+
+        RandomSamplerAggregationBuilder defaultSeed = new RandomSamplerAggregationBuilder("sampler").probability(0.1)
+            .seed(RandomSamplerAggregationBuilder.DEFAULT_SEED);
+        testCase(builder, (searcher, sampler) -> {
+            InternalRandomSampler again = searchAndReduce(
+                searcher,
+                new MatchAllDocsQuery(),
+                defaultSeed,
+                numberFieldType,
+                keywordFieldType
+            );
+            assertEquals(RandomSamplerAggregationBuilder.DEFAULT_SEED, sampler.getSeed());
+            assertEquals(sampler.getSampledDocCount(), again.getSampledDocCount());
+        });
+    }
+
+    public void testMustBeTopLevel() throws IOException {
+        FilterAggregationBuilder builder = new FilterAggregationBuilder("filter", new MatchAllQueryBuilder()).subAggregation(
+            new RandomSamplerAggregationBuilder("sampler").probability(0.5)
+        );
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                iw.addDocument(new Document());
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IllegalArgumentException e = expectThrows(
+                    IllegalArgumentException.class,
+                    () -> searchAndReduce(new IndexSearcher(reader), new MatchAllDocsQuery(), builder)
+                );
+                assertEquals("[random_sampler] aggregation [sampler] must be a top level aggregation", e.getMessage());
+            }
+        }
+    }
+
+    public void testInvalidProbability() {
+        RandomSamplerAggregationBuilder builder = new RandomSamplerAggregationBuilder("sampler");
+        expectThrows(IllegalArgumentException.class, () -> builder.probability(0));
+        expectThrows(IllegalArgumentException.class, () -> builder.probability(1.5));
+    }
+
+    private void assertRejected(AggregationBuilder builder, String message) throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                iw.addDocument(new Document());
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IllegalArgumentException e = expectThrows(
+                    IllegalArgumentException.class,
+                    () -> searchAndReduce(new IndexSearcher(reader), new MatchAllDocsQuery(), builder, numberFieldType, keywordFieldType)
+                );
+                assertEquals(message, e.getMessage());
+            }
+        }
+    }
+
+    private void testCase(RandomSamplerAggregationBuilder builder, CheckedConsumer<InternalRandomSampler, IOException> verify)
+        throws IOException {
+        testCase(builder, (searcher, sampler) -> verify.accept(sampler));
+    }
+
+    private void testCase(
+        RandomSamplerAggregationBuilder builder,
+        CheckedBiConsumer<IndexSearcher, InternalRandomSampler, IOException> verify
+    ) throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < NUM_DOCS; i++) {
+                    Document document = new Document();
+                    document.add(new SortedNumericDocValuesField("number", 2));
+                    document.add(new SortedSetDocValuesField("keyword", new BytesRef(i % 2 == 0 ? "even" : "odd")));
+                    iw.addDocument(document);
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                InternalRandomSampler sampler = searchAndReduce(
+                    searcher,
+                    new MatchAllDocsQuery(),
+                    builder,
+                    numberFieldType,
+                    keywordFieldType
+                );
+                verify.accept(searcher, sampler);
+            }
+        }
+    }
+}
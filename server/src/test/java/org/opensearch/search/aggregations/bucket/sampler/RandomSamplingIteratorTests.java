@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.sampler;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.SplittableRandom;
+
+import static org.hamcrest.Matchers.closeTo;
+
+public class RandomSamplingIteratorTests extends OpenSearchTestCase {
+
+    public void testProbabilityOneIteratesAllDocs() {
+        int maxDoc = randomIntBetween(1, 1000);
+        RandomSamplingIterator iterator = new RandomSamplingIterator(maxDoc, 1, new SplittableRandom(randomLong()));
+        for (int doc = 0; doc < maxDoc; doc++) {
+            assertEquals(doc, iterator.nextDoc());
+        }
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.nextDoc());
+    }
+
+    public void testSamplesWithProbability() {
+        int maxDoc = 100_000;
+        double probability = randomDoubleBetween(0.001, 0.5, true);
+        RandomSamplingIterator iterator = new RandomSamplingIterator(maxDoc, probability, new SplittableRandom(randomLong()));
+        int sampled = 0;
+        int previous = -1;
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            assertTrue(doc > previous);
+            assertTrue(doc < maxDoc);
+            previous = doc;
+            sampled++;
+        }
+        // the sample size is off by more than ten standard deviations with a negligible probability
+        double standardDeviation = Math.sqrt(maxDoc * probability * (1 - probability));
+        assertThat((double) sampled, closeTo(maxDoc * probability, 10 * standardDeviation));
+    }
+
+    public void testAdvanceSamplesFromTarget() {
+        RandomSamplingIterator iterator = new RandomSamplingIterator(1000, 0.5, new SplittableRandom(randomLong()));
+        int target = randomIntBetween(0, 999);
+        int doc = iterator.advance(target);
+        assertTrue(doc == DocIdSetIterator.NO_MORE_DOCS || doc >= target);
+        assertEquals(doc, iterator.docID());
+    }
+}
@@ -34,17 +34,23 @@ package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.search.DocValueFormat;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.ParsedMultiBucketAggregation;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 public class StringTermsTests extends InternalTermsTestCase {
     @Override
@@ -241,4 +247,70 @@ public class StringTermsTests extends InternalTermsTestCase {
             bucketCountThresholds
         );
     }
+
+    public void testKeyOrderedReduceOnlyReducesRequiredBuckets() {
+        boolean asc = randomBoolean();
+        BucketOrder order = BucketOrder.key(asc);
+        int requiredSize = randomIntBetween(1, 30);
+        long minDocCount = randomIntBetween(0, 30);
+        int numKeys = randomIntBetween(1, 200);
+        TreeMap<BytesRef, Long> expectedCounts = new TreeMap<>(asc ? Comparator.naturalOrder() : Comparator.reverseOrder());
+        List<InternalAggregation> shards = new ArrayList<>();
+        long expectedOtherDocCount = 0;
+        int numShards = randomIntBetween(1, 10);
+        for (int s = 0; s < numShards; s++) {
+            List<StringTerms.Bucket> buckets = new ArrayList<>();
+            for (int k = 0; k < numKeys; k++) {
+                if (randomBoolean()) {
+                    BytesRef key = new BytesRef(String.format(Locale.ROOT, "key_%03d", k));
+                    long docCount = randomIntBetween(1, 20);
+                    expectedCounts.merge(key, docCount, Long::sum);
+                    buckets.add(new StringTerms.Bucket(key, docCount, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+                }
+            }
+            buckets.sort(order.comparator());
+            long otherDocCount = randomIntBetween(0, 10);
+            expectedOtherDocCount += otherDocCount;
+            shards.add(
+                new StringTerms(
+                    "terms",
+                    order,
+                    order,
+                    null,
+                    DocValueFormat.RAW,
+                    requiredSize,
+                    false,
+                    otherDocCount,
+                    buckets,
+                    0,
+                    new TermsAggregator.BucketCountThresholds(minDocCount, 0, requiredSize, requiredSize)
+                )
+            );
+        }
+        List<BytesRef> expectedKeys = new ArrayList<>();
+        for (Map.Entry<BytesRef, Long> entry : expectedCounts.entrySet()) {
+            if (entry.getValue() >= minDocCount) {
+                if (expectedKeys.size() < requiredSize) {
+                    expectedKeys.add(entry.getKey());
+                } else {
+                    expectedOtherDocCount += entry.getValue();
+                }
+            }
+        }
+
+        InternalAggregation.ReduceContext finalReduce = InternalAggregation.ReduceContext.forFinalReduction(
+            BigArrays.NON_RECYCLING_INSTANCE,
+            null,
+            b -> {},
+            PipelineAggregator.PipelineTree.EMPTY
+        );
+        StringTerms reduced = (StringTerms) shards.get(0).reduce(shards, finalReduce);
+        List<BytesRef> reducedKeys = new ArrayList<>();
+        for (StringTerms.Bucket bucket : reduced.getBuckets()) {
+            reducedKeys.add(bucket.termBytes);
+            assertEquals((long) expectedCounts.get(bucket.termBytes), bucket.getDocCount());
+        }
+        assertEquals(expectedKeys, reducedKeys);
+        assertEquals(expectedOtherDocCount, reduced.getSumOfOtherDocCounts());
+    }
 }
@@ -32,27 +32,46 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -170,4 +189,130 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertEquals("cancelled task with reason: test reason", ex.getMessage());
     }
 
+    public void testConcurrentFetchKeepsHitsInOrder() throws Exception {
+        assertFetchAcrossSegments(true);
+    }
+
+    public void testSequentialFetchWithoutConcurrentSubPhases() throws Exception {
+        assertFetchAcrossSegments(false);
+    }
+
+    private void assertFetchAcrossSegments(boolean concurrentSubPhase) throws Exception {
+        final int numSegments = randomIntBetween(2, 5);
+        final int docsPerSegment = randomIntBetween(1, 20);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < numSegments; segment++) {
+                    for (int i = 0; i < docsPerSegment; i++) {
+                        w.addDocument(new Document());
+                    }
+                    w.flush();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertEquals(numSegments, reader.leaves().size());
+                List<Integer> shuffled = new ArrayList<>();
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    shuffled.add(doc);
+                }
+                Collections.shuffle(shuffled, random());
+                int[] docIds = shuffled.stream().mapToInt(Integer::intValue).toArray();
+
+                SearchContext context = mockContextForFetch(docIds);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    reader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    false,
+                    executor,
+                    context
+                );
+                when(context.searcher()).thenReturn(searcher);
+
+                RecordingSubPhase subPhase = new RecordingSubPhase(concurrentSubPhase);
+                new FetchPhase(List.of(subPhase)).execute(context);
+
+                SearchHit[] hits = context.fetchResult().hits().getHits();
+                assertEquals(docIds.length, hits.length);
+                for (int i = 0; i < docIds.length; i++) {
+                    assertEquals(docIds[i], hits[i].docId());
+                    assertEquals(docIds[i], (int) hits[i].getScore());
+                }
+                if (concurrentSubPhase) {
+                    // every segment got its own processor
+                    assertEquals(numSegments, subPhase.readersPerProcessor.size());
+                    for (List<LeafReaderContext> readers : subPhase.readersPerProcessor) {
+                        assertEquals(1, readers.size());
+                    }
+                } else {
+                    assertEquals(1, subPhase.readersPerProcessor.size());
+                    assertEquals(numSegments, subPhase.readersPerProcessor.get(0).size());
+                }
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static SearchContext mockContextForFetch(int[] docIds) {
+        SearchContext context = mock(SearchContext.class);
+        when(context.docIdsToLoadSize()).thenReturn(docIds.length);
+        when(context.docIdsToLoad()).thenReturn(docIds);
+        when(context.docIdsToLoadFrom()).thenReturn(0);
+        when(context.isCancelled()).thenReturn(false);
+        when(context.shouldUseConcurrentSearch()).thenReturn(true);
+        when(context.storedFieldsContext()).thenReturn(StoredFieldsContext.fromList(List.of(StoredFieldsContext._NONE_)));
+        when(context.mapperService()).thenReturn(mock(MapperService.class));
+
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(queryShardContext.newFetchLookup()).thenAnswer(invocation -> new SearchLookup(mock(MapperService.class), (ft, sl) -> null));
+        when(context.getQueryShardContext()).thenReturn(queryShardContext);
+        when(context.shardTarget()).thenReturn(new SearchShardTarget("node", new ShardId("index", "uuid", 0), null, OriginalIndices.NONE));
+
+        QuerySearchResult queryResult = new QuerySearchResult();
+        ScoreDoc[] scoreDocs = new ScoreDoc[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            scoreDocs[i] = new ScoreDoc(docIds[i], 1f);
+        }
+        TopDocs topDocs = new TopDocs(new TotalHits(docIds.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+        queryResult.topDocs(new TopDocsAndMaxScore(topDocs, 1f), null);
+        when(context.queryResult()).thenReturn(queryResult);
+        when(context.fetchResult()).thenReturn(new FetchSearchResult());
+        return context;
+    }
+
+    private static class RecordingSubPhase implements FetchSubPhase {
+        private final boolean supportsConcurrentSegmentSearch;
+        private final List<List<LeafReaderContext>> readersPerProcessor = new CopyOnWriteArrayList<>();
+
+        RecordingSubPhase(boolean supportsConcurrentSegmentSearch) {
+            this.supportsConcurrentSegmentSearch = supportsConcurrentSegmentSearch;
+        }
+
+        @Override
+        public boolean supportsConcurrentSegmentSearch() {
+            return supportsConcurrentSegmentSearch;
+        }
+
+        @Override
+        public FetchSubPhaseProcessor getProcessor(FetchContext fetchContext) {
+            List<LeafReaderContext> readers = new ArrayList<>();
+            readersPerProcessor.add(readers);
+            return new FetchSubPhaseProcessor() {
+                @Override
+                public void setNextReader(LeafReaderContext readerContext) {
+                    readers.add(readerContext);
+                }
+
+                @Override
+                public void process(HitContext hitContext) throws IOException {
+                    assertSame(readers.get(readers.size() - 1), hitContext.readerContext());
+                    hitContext.hit().score(hitContext.hit().docId());
+                }
+            };
+        }
+    }
 }
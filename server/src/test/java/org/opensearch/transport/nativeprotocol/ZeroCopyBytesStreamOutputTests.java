@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport.nativeprotocol;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ZeroCopyBytesStreamOutputTests extends OpenSearchTestCase {
+
+    public void testSameBytesAsCopyingStream() throws IOException {
+        try (
+            ZeroCopyBytesStreamOutput zeroCopy = new ZeroCopyBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE);
+            BytesStreamOutput copying = new BytesStreamOutput()
+        ) {
+            int iterations = between(1, 20);
+            for (int i = 0; i < iterations; i++) {
+                int value = randomInt();
+                zeroCopy.writeInt(value);
+                copying.writeInt(value);
+                BytesReference bytes = randomBoolean() ? null : new BytesArray(randomByteArrayOfLength(between(0, 3 * 4096)));
+                zeroCopy.writeSharedBytesReference(bytes);
+                copying.writeSharedBytesReference(bytes);
+                assertEquals(copying.position(), zeroCopy.position());
+            }
+            assertEquals(copying.size(), zeroCopy.size());
+            assertEquals(copying.bytes(), zeroCopy.bytes());
+            assertEquals(copying.bytes(), zeroCopy.copyBytes());
+        }
+    }
+
+    public void testLargeBytesAreNotCopied() throws IOException {
+        byte[] source = randomByteArrayOfLength(ZeroCopyBytesStreamOutput.MIN_SHARED_BYTES + between(0, 4096));
+        try (ZeroCopyBytesStreamOutput out = new ZeroCopyBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.writeString("header");
+            out.writeSharedBytesReference(new BytesArray(source));
+            out.writeString("trailer");
+
+            boolean found = false;
+            BytesRefIterator iterator = out.bytes().iterator();
+            BytesRef slice;
+            while ((slice = iterator.next()) != null) {
+                found |= slice.bytes == source;
+            }
+            assertTrue("shared bytes should be a component of the output", found);
+
+            StreamInput in = out.bytes().streamInput();
+            assertEquals("header", in.readString());
+            assertEquals(new BytesArray(source), in.readBytesReference());
+            assertEquals("trailer", in.readString());
+        }
+    }
+
+    public void testSeekBeforeSharedBytes() throws IOException {
+        try (ZeroCopyBytesStreamOutput out = new ZeroCopyBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.skip(Integer.BYTES);
+            out.writeSharedBytesReference(new BytesArray(randomByteArrayOfLength(ZeroCopyBytesStreamOutput.MIN_SHARED_BYTES)));
+            BytesReference bytes = out.bytes();
+            long end = out.position();
+            expectThrows(IllegalStateException.class, () -> out.seek(end));
+            // like the message header, the skipped bytes can be written once the message is serialized
+            out.seek(0);
+            out.writeInt(42);
+            assertEquals(42, bytes.streamInput().readInt());
+        }
+    }
+
+    public void testReleasableBytesAreRetainedUntilClose() throws IOException {
+        AtomicBoolean released = new AtomicBoolean();
+        ReleasableBytesReference bytes = new ReleasableBytesReference(
+            new BytesArray(randomByteArrayOfLength(ZeroCopyBytesStreamOutput.MIN_SHARED_BYTES)),
+            () -> released.set(true)
+        );
+        ZeroCopyBytesStreamOutput out = new ZeroCopyBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE);
+        out.writeSharedBytesReference(bytes);
+        bytes.close();
+        assertFalse(released.get());
+        out.close();
+        assertTrue(released.get());
+    }
+}
@@ -33,34 +33,69 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MockFsAsyncBlobContainer extends FsBlobContainer implements AsyncMultiStreamBlobContainer {
 
     private static final int TRANSFER_TIMEOUT_MILLIS = 30000;
 
     private final boolean triggerDataIntegrityFailure;
+    private final SimulatedRemoteConditions conditions;
+    private final int uploadParts;
 
     public MockFsAsyncBlobContainer(FsBlobStore blobStore, BlobPath blobPath, Path path, boolean triggerDataIntegrityFailure) {
+        this(blobStore, blobPath, path, triggerDataIntegrityFailure, SimulatedRemoteConditions.NONE, 10);
+    }
+
+    public MockFsAsyncBlobContainer(
+        FsBlobStore blobStore,
+        BlobPath blobPath,
+        Path path,
+        boolean triggerDataIntegrityFailure,
+        SimulatedRemoteConditions conditions,
+        int uploadParts
+    ) {
         super(blobStore, blobPath, path);
         this.triggerDataIntegrityFailure = triggerDataIntegrityFailure;
+        this.conditions = conditions;
+        this.uploadParts = uploadParts;
+    }
+
+    @Override
+    public InputStream readBlob(String name) throws IOException {
+        conditions.onRequest("read", name);
+        return conditions.throttle(super.readBlob(name));
+    }
+
+    @Override
+    public InputStream readBlob(String blobName, long position, long length) throws IOException {
+        conditions.onRequest("read", blobName);
+        return conditions.throttle(super.readBlob(blobName, position, length));
+    }
+
+    @Override
+    public void writeBlob(String blobName, InputStream inputStream, long blobSize, boolean failIfAlreadyExists) throws IOException {
+        conditions.onRequest("write", blobName);
+        super.writeBlob(blobName, conditions.throttle(inputStream), blobSize, failIfAlreadyExists);
     }
 
     @Override
     public void asyncBlobUpload(WriteContext writeContext, ActionListener<Void> completionListener) throws IOException {
 
-        int nParts = 10;
-        long partSize = writeContext.getFileSize() / nParts;
+        long partSize = writeContext.getFileSize() / uploadParts;
         StreamContext streamContext = writeContext.getStreamProvider(partSize);
         final Path file = path.resolve(writeContext.getFileName());
         byte[] buffer = new byte[(int) writeContext.getFileSize()];
         AtomicLong totalContentRead = new AtomicLong();
+        AtomicReference<Exception> partFailure = new AtomicReference<>();
         CountDownLatch latch = new CountDownLatch(streamContext.getNumberOfParts());
         for (int partIdx = 0; partIdx < streamContext.getNumberOfParts(); partIdx++) {
             int finalPartIdx = partIdx;
             Thread thread = new Thread(() -> {
                 try {
+                    conditions.onRequest("upload part [" + finalPartIdx + "]", writeContext.getFileName());
                     InputStreamContainer inputStreamContainer = streamContext.provideStream(finalPartIdx);
-                    InputStream inputStream = inputStreamContainer.getInputStream();
+                    InputStream inputStream = conditions.throttle(inputStreamContainer.getInputStream());
                     long remainingContentLength = inputStreamContainer.getContentLength();
                     long offset = partSize * finalPartIdx;
                     while (remainingContentLength > 0) {
@@ -71,7 +106,13 @@ public class MockFsAsyncBlobContainer extends FsBlobContainer implements AsyncMu
                     }
                     inputStream.close();
                 } catch (IOException e) {
-                    completionListener.onFailure(e);
+                    partFailure.accumulateAndGet(e, (first, other) -> {
+                        if (first == null) {
+                            return other;
+                        }
+                        first.addSuppressed(other);
+                        return first;
+                    });
                 } finally {
                     latch.countDown();
                 }
@@ -85,6 +126,11 @@ public class MockFsAsyncBlobContainer extends FsBlobContainer implements AsyncMu
         } catch (InterruptedException e) {
             throw new IOException("Await interrupted on CountDownLatch, transfer failed for " + writeContext.getFileName());
         }
+        if (partFailure.get() != null) {
+            // like a failed multipart upload, none of the parts become visible
+            completionListener.onFailure(partFailure.get());
+            return;
+        }
         try (OutputStream outputStream = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW)) {
             outputStream.write(buffer);
         }
@@ -124,13 +170,18 @@ public class MockFsAsyncBlobContainer extends FsBlobContainer implements AsyncMu
     public void readBlobAsync(String blobName, ActionListener<ReadContext> listener) {
         new Thread(() -> {
             try {
+                conditions.onRequest("read", blobName);
                 long contentLength = listBlobs().get(blobName).length();
                 long partSize = contentLength / 10;
                 int numberOfParts = (int) ((contentLength % partSize) == 0 ? contentLength / partSize : (contentLength / partSize) + 1);
                 List<ReadContext.StreamPartCreator> blobPartStreams = new ArrayList<>();
                 for (int partNumber = 0; partNumber < numberOfParts; partNumber++) {
                     long offset = partNumber * partSize;
-                    InputStreamContainer blobPartStream = new InputStreamContainer(readBlob(blobName, offset, partSize), partSize, offset);
+                    InputStreamContainer blobPartStream = new InputStreamContainer(
+                        conditions.throttle(super.readBlob(blobName, offset, partSize)),
+                        partSize,
+                        offset
+                    );
                     blobPartStreams.add(() -> CompletableFuture.completedFuture(blobPartStream));
                 }
                 ReadContext blobReadContext = new ReadContext.Builder(contentLength, blobPartStreams).build();
@@ -19,16 +19,31 @@ import java.nio.file.Path;
 public class MockFsBlobStore extends FsBlobStore {
 
     private final boolean triggerDataIntegrityFailure;
+    private final SimulatedRemoteConditions conditions;
+    private final int uploadParts;
 
     public MockFsBlobStore(int bufferSizeInBytes, Path path, boolean readonly, boolean triggerDataIntegrityFailure) throws IOException {
+        this(bufferSizeInBytes, path, readonly, triggerDataIntegrityFailure, SimulatedRemoteConditions.NONE, 10);
+    }
+
+    public MockFsBlobStore(
+        int bufferSizeInBytes,
+        Path path,
+        boolean readonly,
+        boolean triggerDataIntegrityFailure,
+        SimulatedRemoteConditions conditions,
+        int uploadParts
+    ) throws IOException {
         super(bufferSizeInBytes, path, readonly);
         this.triggerDataIntegrityFailure = triggerDataIntegrityFailure;
+        this.conditions = conditions;
+        this.uploadParts = uploadParts;
     }
 
     @Override
     public BlobContainer blobContainer(BlobPath path) {
         try {
-            return new MockFsAsyncBlobContainer(this, path, buildAndCreate(path), triggerDataIntegrityFailure);
+            return new MockFsAsyncBlobContainer(this, path, buildAndCreate(path), triggerDataIntegrityFailure, conditions, uploadParts);
         } catch (IOException ex) {
             throw new OpenSearchException("failed to create blob container", ex);
         }
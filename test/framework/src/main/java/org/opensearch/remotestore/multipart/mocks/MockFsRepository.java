@@ -13,6 +13,8 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.fs.FsBlobStore;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.indices.recovery.RecoverySettings;
@@ -25,7 +27,20 @@ public class MockFsRepository extends FsRepository {
         false
     );
 
+    public static Setting<TimeValue> REQUEST_LATENCY = Setting.timeSetting("mock_fs_repository.request_latency", TimeValue.ZERO);
+
+    public static Setting<ByteSizeValue> MAX_BYTES_PER_SEC = Setting.byteSizeSetting(
+        "mock_fs_repository.max_bytes_per_sec",
+        ByteSizeValue.ZERO
+    );
+
+    public static Setting<Double> FAILURE_PROBABILITY = Setting.doubleSetting("mock_fs_repository.failure_probability", 0d, 0d, 1d);
+
+    public static Setting<Integer> UPLOAD_PARTS = Setting.intSetting("mock_fs_repository.upload_parts", 10, 1);
+
     private final boolean triggerDataIntegrityFailure;
+    private final SimulatedRemoteConditions conditions;
+    private final int uploadParts;
 
     public MockFsRepository(
         RepositoryMetadata metadata,
@@ -36,11 +51,31 @@ public class MockFsRepository extends FsRepository {
     ) {
         super(metadata, environment, namedXContentRegistry, clusterService, recoverySettings);
         triggerDataIntegrityFailure = TRIGGER_DATA_INTEGRITY_FAILURE.get(metadata.settings());
+        conditions = new SimulatedRemoteConditions(
+            REQUEST_LATENCY.get(metadata.settings()),
+            MAX_BYTES_PER_SEC.get(metadata.settings()),
+            FAILURE_PROBABILITY.get(metadata.settings())
+        );
+        uploadParts = UPLOAD_PARTS.get(metadata.settings());
+    }
+
+    /**
+     * The simulated conditions of the remote store that all blob containers of this repository share.
+     */
+    public SimulatedRemoteConditions conditions() {
+        return conditions;
     }
 
     @Override
     protected BlobStore createBlobStore() throws Exception {
         FsBlobStore fsBlobStore = (FsBlobStore) super.createBlobStore();
-        return new MockFsBlobStore(fsBlobStore.bufferSizeInBytes(), fsBlobStore.path(), isReadOnly(), triggerDataIntegrityFailure);
+        return new MockFsBlobStore(
+            fsBlobStore.bufferSizeInBytes(),
+            fsBlobStore.path(),
+            isReadOnly(),
+            triggerDataIntegrityFailure,
+            conditions,
+            uploadParts
+        );
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.remotestore.multipart.mocks;
+
+import org.apache.lucene.store.RateLimiter;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.snapshots.blobstore.RateLimitingInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Models the conditions of a remote object store on top of the local filesystem, so that remote store uploads and downloads can be
+ * evaluated without a real object store. Every request is delayed by a fixed latency and may fail with the given probability, and the
+ * bytes of all requests together are throttled to the given bandwidth.
+ */
+public class SimulatedRemoteConditions {
+
+    public static final SimulatedRemoteConditions NONE = new SimulatedRemoteConditions(TimeValue.ZERO, ByteSizeValue.ZERO, 0d);
+
+    private final TimeValue requestLatency;
+    private final RateLimiter rateLimiter;
+    private final double failureProbability;
+    private final Random random = new Random(Randomness.get().nextLong());
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong throttledNanos = new AtomicLong();
+
+    /**
+     * @param requestLatency the time every request takes before it transfers any bytes
+     * @param maxBytesPerSec the bandwidth shared by all requests, unlimited if zero
+     * @param failureProbability the probability with which a request fails
+     */
+    public SimulatedRemoteConditions(TimeValue requestLatency, ByteSizeValue maxBytesPerSec, double failureProbability) {
+        if (failureProbability < 0 || failureProbability > 1) {
+            throw new IllegalArgumentException("failure probability must be in [0, 1] but was [" + failureProbability + "]");
+        }
+        this.requestLatency = requestLatency;
+        this.rateLimiter = maxBytesPerSec.getBytes() > 0 ? new RateLimiter.SimpleRateLimiter(maxBytesPerSec.getMbFrac()) : null;
+        this.failureProbability = failureProbability;
+    }
+
+    /**
+     * Waits for the latency of a request and fails it with the failure probability.
+     */
+    public void onRequest(String operation, String blobName) throws IOException {
+        requests.incrementAndGet();
+        if (requestLatency.nanos() > 0) {
+            try {
+                Thread.sleep(requestLatency.millis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while simulating the latency of [" + operation + "] for [" + blobName + "]", e);
+            }
+        }
+        if (failureProbability > 0 && random.nextDouble() < failureProbability) {
+            failedRequests.incrementAndGet();
+            throw new IOException("simulated failure of [" + operation + "] for [" + blobName + "]");
+        }
+    }
+
+    /**
+     * Throttles the bytes read from the given stream to the bandwidth.
+     */
+    public InputStream throttle(InputStream inputStream) {
+        if (rateLimiter == null) {
+            return inputStream;
+        }
+        return new RateLimitingInputStream(inputStream, () -> rateLimiter, throttledNanos::addAndGet);
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long failedRequests() {
+        return failedRequests.get();
+    }
+
+    public long throttledNanos() {
+        return throttledNanos.get();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.remotestore.multipart.mocks;
+
+import org.opensearch.common.StreamContext;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.stream.write.WriteContext;
+import org.opensearch.common.blobstore.stream.write.WritePriority;
+import org.opensearch.common.io.InputStreamContainer;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.containsString;
+
+public class MockFsAsyncBlobContainerTests extends OpenSearchTestCase {
+
+    private static final String BLOB_NAME = "_0.cfe";
+    private static final int UPLOAD_PARTS = 4;
+
+    public void testUploadWritesBlob() throws IOException {
+        Path path = createTempDir();
+        byte[] bytes = randomByteArrayOfLength(100);
+        AtomicBoolean finalized = new AtomicBoolean();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicBoolean succeeded = new AtomicBoolean();
+        container(path, SimulatedRemoteConditions.NONE).asyncBlobUpload(
+            writeContext(bytes, -1, finalized),
+            ActionListener.wrap(r -> succeeded.set(true), failure::set)
+        );
+        assertNull(failure.get());
+        assertTrue(succeeded.get());
+        assertTrue(finalized.get());
+        assertArrayEquals(bytes, Files.readAllBytes(path.resolve(BLOB_NAME)));
+    }
+
+    public void testFailedPartFailsUploadWithoutCreatingBlob() throws IOException {
+        Path path = createTempDir();
+        AtomicBoolean finalized = new AtomicBoolean();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicBoolean succeeded = new AtomicBoolean();
+        container(path, SimulatedRemoteConditions.NONE).asyncBlobUpload(
+            writeContext(randomByteArrayOfLength(100), randomIntBetween(0, UPLOAD_PARTS - 1), finalized),
+            ActionListener.wrap(r -> succeeded.set(true), failure::set)
+        );
+        assertFalse(succeeded.get());
+        assertFalse(finalized.get());
+        assertNotNull(failure.get());
+        assertThat(failure.get().getMessage(), containsString("failed to provide part"));
+        assertFalse(Files.exists(path.resolve(BLOB_NAME)));
+    }
+
+    public void testSimulatedFailureFailsUploadWithoutCreatingBlob() throws IOException {
+        Path path = createTempDir();
+        SimulatedRemoteConditions conditions = new SimulatedRemoteConditions(TimeValue.ZERO, ByteSizeValue.ZERO, 1d);
+        AtomicBoolean finalized = new AtomicBoolean();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicBoolean succeeded = new AtomicBoolean();
+        container(path, conditions).asyncBlobUpload(
+            writeContext(randomByteArrayOfLength(100), -1, finalized),
+            ActionListener.wrap(r -> succeeded.set(true), failure::set)
+        );
+        assertFalse(succeeded.get());
+        assertFalse(finalized.get());
+        assertNotNull(failure.get());
+        assertThat(failure.get().getMessage(), containsString("simulated failure of [upload part"));
+        assertEquals(UPLOAD_PARTS, conditions.failedRequests());
+        assertFalse(Files.exists(path.resolve(BLOB_NAME)));
+    }
+
+    private MockFsAsyncBlobContainer container(Path path, SimulatedRemoteConditions conditions) throws IOException {
+        MockFsBlobStore blobStore = new MockFsBlobStore(1024, path, false, false, conditions, UPLOAD_PARTS);
+        return new MockFsAsyncBlobContainer(blobStore, BlobPath.cleanPath(), path, false, conditions, UPLOAD_PARTS);
+    }
+
+    /**
+     * Builds the context of an upload of the given bytes whose part with the given number fails to be read, if any.
+     */
+    private static WriteContext writeContext(byte[] bytes, int failingPart, AtomicBoolean finalized) {
+        return new WriteContext.Builder().fileName(BLOB_NAME)
+            .streamContextSupplier(partSize -> new StreamContext((partNumber, size, position) -> {
+                if (partNumber == failingPart) {
+                    throw new IOException("failed to provide part [" + partNumber + "]");
+                }
+                return new InputStreamContainer(new ByteArrayInputStream(bytes, position.intValue(), size.intValue()), size, position);
+            }, partSize, bytes.length - partSize * (UPLOAD_PARTS - 1), UPLOAD_PARTS))
+            .fileSize(bytes.length)
+            .failIfAlreadyExists(true)
+            .writePriority(WritePriority.NORMAL)
+            .uploadFinalizer(finalized::set)
+            .doRemoteDataIntegrityCheck(false)
+            .build();
+    }
+}
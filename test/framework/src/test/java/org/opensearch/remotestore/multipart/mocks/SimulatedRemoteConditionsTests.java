@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.remotestore.multipart.mocks;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class SimulatedRemoteConditionsTests extends OpenSearchTestCase {
+
+    public void testNoneDoesNotDelayFailOrThrottle() throws IOException {
+        SimulatedRemoteConditions conditions = new SimulatedRemoteConditions(TimeValue.ZERO, ByteSizeValue.ZERO, 0d);
+        conditions.onRequest("read", "blob");
+        InputStream inputStream = new ByteArrayInputStream(new byte[1024]);
+        assertSame(inputStream, conditions.throttle(inputStream));
+        assertEquals(1, conditions.requests());
+        assertEquals(0, conditions.failedRequests());
+        assertEquals(0, conditions.throttledNanos());
+    }
+
+    public void testFailureProbabilityOneFailsEveryRequest() {
+        SimulatedRemoteConditions conditions = new SimulatedRemoteConditions(TimeValue.ZERO, ByteSizeValue.ZERO, 1d);
+        int numRequests = randomIntBetween(1, 10);
+        for (int i = 0; i < numRequests; i++) {
+            IOException e = expectThrows(IOException.class, () -> conditions.onRequest("write", "blob"));
+            assertThat(e.getMessage(), containsString("simulated failure of [write] for [blob]"));
+        }
+        assertEquals(numRequests, conditions.requests());
+        assertEquals(numRequests, conditions.failedRequests());
+    }
+
+    public void testRejectsInvalidFailureProbability() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new SimulatedRemoteConditions(TimeValue.ZERO, ByteSizeValue.ZERO, randomBoolean() ? -0.1d : 1.1d)
+        );
+    }
+
+    public void testLatencyDelaysRequest() throws IOException {
+        TimeValue latency = TimeValue.timeValueMillis(50);
+        SimulatedRemoteConditions conditions = new SimulatedRemoteConditions(latency, ByteSizeValue.ZERO, 0d);
+        long start = System.nanoTime();
+        conditions.onRequest("read", "blob");
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(latency.nanos()));
+        assertEquals(1, conditions.requests());
+        assertEquals(0, conditions.failedRequests());
+    }
+
+    public void testThrottledStreamAccumulatesThrottledNanos() throws IOException {
+        SimulatedRemoteConditions conditions = new SimulatedRemoteConditions(TimeValue.ZERO, new ByteSizeValue(1, ByteSizeUnit.MB), 0d);
+        byte[] bytes = randomByteArrayOfLength(100 * 1024);
+        try (InputStream inputStream = conditions.throttle(new ByteArrayInputStream(bytes))) {
+            assertArrayEquals(bytes, inputStream.readAllBytes());
+        }
+        // 100kb at 1mb/s take about 100ms
+        assertThat(conditions.throttledNanos(), greaterThan(0L));
+    }
+}